@@ -0,0 +1,29 @@
+package com.studysync.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local durability: the CHECKPOINT SYNC plus file freshness check behind every save.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DriveBenchmarks {
+
+    /** Dirties one row first so each checkpoint has something to write. */
+    @Benchmark
+    public boolean saveLocally(SeededDatabase db) {
+        db.jdbcTemplate.update("UPDATE tasks SET points = points + 1 WHERE id = 'task-0'");
+        return db.googleDriveService.saveLocally();
+    }
+}
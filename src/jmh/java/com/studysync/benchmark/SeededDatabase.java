@@ -0,0 +1,207 @@
+package com.studysync.benchmark;
+
+import com.studysync.config.SchemaMigrator;
+import com.studysync.domain.entity.DailyStats;
+import com.studysync.domain.entity.MaintenanceWatermark;
+import com.studysync.domain.entity.StudyGoal;
+import com.studysync.domain.entity.StudySession;
+import com.studysync.domain.entity.Task;
+import com.studysync.domain.event.DomainEventBus;
+import com.studysync.domain.service.CategoryService;
+import com.studysync.domain.service.DateTimeService;
+import com.studysync.domain.service.StudyService;
+import com.studysync.domain.service.TaskService;
+import com.studysync.integration.drive.GoogleDriveService;
+import com.studysync.integration.drive.GoogleDriveSettings;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * H2 file database seeded at realistic sizes, shared by every benchmark in a trial.
+ *
+ * <p>The database lives under {@code studysync.benchmark.dir} (set by the Gradle
+ * {@code jmh} task) and is keyed by the seed sizes, so repeated runs reuse it instead
+ * of re-seeding. Services are wired by hand exactly like the persistence tests do.</p>
+ */
+@State(Scope.Benchmark)
+public class SeededDatabase {
+
+    /** Fixed "today" so date-relative queries hit the same rows on every run. */
+    static final LocalDate TODAY = LocalDate.of(2026, 6, 15);
+    private static final int HISTORY_DAYS = 3 * 365;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param("10000")
+    public int tasks;
+
+    @Param("50000")
+    public int sessions;
+
+    /** Goal attempts; every goal has one missed attempt followed by a retry. */
+    @Param("100000")
+    public int goalAttempts;
+
+    HikariDataSource dataSource;
+    JdbcTemplate jdbcTemplate;
+    GoogleDriveService googleDriveService;
+    TaskService taskService;
+    StudyService studyService;
+
+    @Setup(Level.Trial)
+    public void open() throws Exception {
+        Path directory = Path.of(System.getProperty("studysync.benchmark.dir", "build/jmh-db"));
+        Files.createDirectories(directory);
+        Path databaseBase = directory.resolve("studysync-" + tasks + "-" + sessions + "-" + goalAttempts)
+                .toAbsolutePath();
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:file:" + databaseBase + ";DB_CLOSE_DELAY=-1;CACHE_SIZE=65536");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMaximumPoolSize(4);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        new SchemaMigrator(dataSource).migrate();
+        Integer existingTasks = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Integer.class);
+        if (existingTasks == null || existingTasks == 0) {
+            seed();
+        }
+
+        Task.setJdbcTemplate(jdbcTemplate);
+        StudySession.setJdbcTemplate(jdbcTemplate);
+        StudyGoal.setJdbcTemplate(jdbcTemplate);
+        DailyStats.setJdbcTemplate(jdbcTemplate);
+        MaintenanceWatermark.setJdbcTemplate(jdbcTemplate);
+        if (!DailyStats.matchesSourceCounts()) {
+            // Seeded rows bypass the services, so the rollup is built in one pass.
+            DailyStats.rebuild();
+        }
+
+        DateTimeService dateTimeService = mock(DateTimeService.class);
+        when(dateTimeService.getCurrentDate()).thenReturn(TODAY);
+        DomainEventBus eventBus = new DomainEventBus();
+        googleDriveService = new GoogleDriveService(
+                GoogleDriveSettings.disabled(Path.of(databaseBase + ".mv.db")), null, null, dataSource);
+        taskService = new TaskService(new CategoryService(eventBus), googleDriveService, dateTimeService, eventBus);
+        studyService = new StudyService(googleDriveService, dateTimeService, taskService, eventBus);
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        googleDriveService.shutdownDurabilityWriter();
+        Task.setJdbcTemplate(null);
+        StudySession.setJdbcTemplate(null);
+        StudyGoal.setJdbcTemplate(null);
+        DailyStats.setJdbcTemplate(null);
+        MaintenanceWatermark.setJdbcTemplate(null);
+        dataSource.close();
+    }
+
+    private void seed() {
+        Random random = new Random(42);
+        LocalDate firstDay = TODAY.minusDays(HISTORY_DAYS);
+        String[] categories = {"Study", "Project", "Reading", "Exam", "Admin"};
+        String[] statuses = {"OPEN", "OPEN", "IN_PROGRESS", "COMPLETED", "COMPLETED", "DELAYED", "POSTPONED"};
+
+        List<Object[]> taskRows = new ArrayList<>();
+        List<String> taskIds = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            String id = "task-" + i;
+            taskIds.add(id);
+            boolean recurring = i % 10 == 0;
+            LocalDate created = firstDay.plusDays(random.nextInt(HISTORY_DAYS));
+            taskRows.add(new Object[] {
+                id, "Task " + i, "Seeded task " + i, categories[i % categories.length],
+                1 + random.nextInt(5),
+                recurring ? null : Date.valueOf(created.plusDays(random.nextInt(60))),
+                recurring ? "OPEN" : statuses[random.nextInt(statuses.length)],
+                recurring ? (1 + random.nextInt(2)) + ":" + (1 + random.nextInt(7)) + "," + (1 + random.nextInt(7)) : null,
+                recurring ? Date.valueOf(created) : null,
+                Timestamp.valueOf(created.atStartOfDay())
+            });
+        }
+        batch("""
+            INSERT INTO tasks (id, title, description, category, priority, deadline, status,
+                               recurring_pattern, start_date, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """, taskRows);
+
+        List<Object[]> sessionRows = new ArrayList<>();
+        for (int i = 0; i < sessions; i++) {
+            LocalDate date = firstDay.plusDays(random.nextInt(HISTORY_DAYS + 1));
+            LocalDateTime start = date.atTime(8 + random.nextInt(12), random.nextInt(60));
+            int minutes = 15 + random.nextInt(120);
+            sessionRows.add(new Object[] {
+                "session-" + i, Date.valueOf(date), Timestamp.valueOf(start),
+                Timestamp.valueOf(start.plusMinutes(minutes)), minutes, 1 + random.nextInt(5),
+                "Seeded notes " + i, taskIds.get(random.nextInt(taskIds.size()))
+            });
+        }
+        batch("""
+            INSERT INTO study_sessions (id, date, start_time, end_time, duration_minutes, completed,
+                                        focus_level, notes, task_id)
+            VALUES (?, ?, ?, ?, ?, TRUE, ?, ?, ?)
+            """, sessionRows);
+
+        int goals = goalAttempts / 2;
+        List<Object[]> goalRows = new ArrayList<>();
+        List<Object[]> attemptRows = new ArrayList<>();
+        for (int i = 0; i < goals; i++) {
+            String goalId = "goal-" + i;
+            LocalDate missedOn = firstDay.plusDays(random.nextInt(HISTORY_DAYS));
+            LocalDate retryOn = missedOn.plusDays(1 + random.nextInt(7));
+            boolean achieved = retryOn.isBefore(TODAY) || random.nextBoolean();
+            String taskId = i % 3 == 0 ? taskIds.get(random.nextInt(taskIds.size())) : null;
+            goalRows.add(new Object[] {
+                goalId, Date.valueOf(missedOn), "Seeded goal " + i, achieved, taskId,
+                achieved ? "ACHIEVED" : "ACTIVE", achieved ? goalId + "-2" : null,
+                Timestamp.valueOf(missedOn.atStartOfDay())
+            });
+            attemptRows.add(new Object[] {
+                goalId + "-1", goalId, Date.valueOf(missedOn), null, "MISSED", 1, 1,
+                Timestamp.valueOf(missedOn.atStartOfDay())
+            });
+            attemptRows.add(new Object[] {
+                goalId + "-2", goalId, Date.valueOf(retryOn), goalId + "-1", achieved ? "ACHIEVED" : "PENDING", 2, 1,
+                Timestamp.valueOf(missedOn.atTime(12, 0))
+            });
+        }
+        batch("""
+            INSERT INTO study_goals (id, date, description, achieved, task_id, status, achieved_attempt_id, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """, goalRows);
+        batch("""
+            INSERT INTO study_goal_attempts (id, goal_id, planned_for_date, replanned_from_attempt_id, outcome,
+                                             attempt_number, missed_attempt_count, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """, attemptRows);
+        jdbcTemplate.execute("CHECKPOINT SYNC");
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.studysync.benchmark;
+
+import com.studysync.domain.entity.StudyGoal;
+import com.studysync.domain.entity.StudySession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Goal attempt view and session history reads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudyBenchmarks {
+
+    @Benchmark
+    public List<StudyGoal> goalsByDate(SeededDatabase db) {
+        return StudyGoal.findByDate(SeededDatabase.TODAY.minusDays(30));
+    }
+
+    /** The profile view's heat map window: one year of sessions grouped per day. */
+    @Benchmark
+    public Map<LocalDate, List<StudySession>> sessionsGroupedByDate(SeededDatabase db) {
+        return db.studyService.getSessionsGroupedByDate(365);
+    }
+}
@@ -0,0 +1,42 @@
+package com.studysync.benchmark;
+
+import com.studysync.domain.entity.Task;
+import com.studysync.domain.service.MissedOccurrence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task read paths: raw row mapping of the whole table and the planner queries
+ * built on top of it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskBenchmarks {
+
+    /** Every row through {@code Task}'s RowMapper, bypassing the service cache. */
+    @Benchmark
+    public List<Task> findAllRowMapping(SeededDatabase db) {
+        return Task.findAll();
+    }
+
+    @Benchmark
+    public List<Task> tasksForDate(SeededDatabase db) {
+        return db.taskService.getTasksForDate(SeededDatabase.TODAY);
+    }
+
+    @Benchmark
+    public List<MissedOccurrence> missedRecurringOccurrences(SeededDatabase db) {
+        return db.taskService.getMissedRecurringOccurrences(SeededDatabase.TODAY);
+    }
+}
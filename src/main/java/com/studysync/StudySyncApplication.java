@@ -2,6 +2,9 @@ package com.studysync;
 
 import com.studysync.application.StudySyncJavaFXApp;
 import com.studysync.bootstrap.PendingDownloadApplier;
+import com.studysync.bootstrap.StartupTimeline;
+import com.studysync.config.ActiveRecordConfig;
+import com.studysync.domain.service.SearchService;
 import com.studysync.integration.drive.GoogleDriveBootstrap;
 import com.studysync.integration.drive.GoogleDriveSettings;
 import com.studysync.integration.drive.GoogleDriveSettingsLoader;
@@ -9,6 +12,7 @@ import javafx.application.Application;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
@@ -16,13 +20,17 @@ import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Main entry point for the StudySync desktop application.
  * 
  * <p>This class serves as the bridge between Spring Boot's dependency injection
- * framework and JavaFX's application lifecycle. It initializes the Spring context
- * first, then launches the JavaFX application with access to Spring-managed beans.</p>
+ * framework and JavaFX's application lifecycle. JavaFX is launched right away so the
+ * window and splash screen paint immediately, while a background thread prepares the
+ * database file and starts the Spring context; the UI attaches to Spring-managed beans
+ * once {@link #getSpringContextFuture()} completes. Each phase is recorded on a
+ * {@link StartupTimeline} that is logged once the main window is up.</p>
  * 
  * <p>The application follows a clean architecture pattern with distinct layers:
  * <ul>
@@ -42,7 +50,11 @@ public class StudySyncApplication {
     public static final int RESTART_EXIT_CODE = 75;
     
     /** The Spring application context instance shared across the application. */
-    private static ConfigurableApplicationContext springContext;
+    private static volatile ConfigurableApplicationContext springContext;
+    private static final CompletableFuture<ConfigurableApplicationContext> springContextFuture =
+            new CompletableFuture<>();
+    private static final StartupTimeline startupTimeline = new StartupTimeline();
+    private static volatile boolean shutdownRequested;
     private static volatile int requestedExitCode = 0;
 
     /** File lock held for the lifetime of the process to enforce single-instance. */
@@ -66,24 +78,16 @@ public class StudySyncApplication {
         // Disable Spring Boot's automatic shutdown when main method ends
         System.setProperty("java.awt.headless", "false");
 
-        GoogleDriveSettings driveSettings = GoogleDriveSettingsLoader.load();
-        PendingDownloadApplier.applyIfPresent(driveSettings.localDatabasePath());
-
-        // Attempt to initialize Google Drive hosted data (if configured) before Spring initializes the database
-        GoogleDriveBootstrap.initialize(driveSettings);
-
-        // Configure Spring Boot for faster startup
-        SpringApplication app = new SpringApplication(StudySyncApplication.class);
-
-        // Enable lazy initialization for faster startup
-        app.setLazyInitialization(true);
-
-        // Reduce startup output
-        app.setLogStartupInfo(false);
-        app.setBannerMode(org.springframework.boot.Banner.Mode.OFF);
-
-        // Start Spring Boot application context
-        springContext = app.run(args);
+        // The backend starts while the JavaFX toolkit boots and paints the splash screen
+        Thread backend = new Thread(() -> {
+            try {
+                springContextFuture.complete(startBackend(args));
+            } catch (Throwable e) {
+                springContextFuture.completeExceptionally(e);
+            }
+        }, "studysync-startup");
+        backend.setDaemon(true);
+        backend.start();
 
         // Launch JavaFX application
         Application.launch(StudySyncJavaFXApp.class, args);
@@ -93,6 +97,46 @@ public class StudySyncApplication {
         }
     }
 
+    /**
+     * Prepares the database file, starts the Spring context and warms up the beans
+     * the main window needs, so none of it runs on the FX thread.
+     */
+    private static ConfigurableApplicationContext startBackend(String[] args) {
+        startupTimeline.phase("Drive settings", () -> {
+            GoogleDriveSettings settings = GoogleDriveSettingsLoader.load();
+            // A staged download must replace the database file before H2 opens it
+            PendingDownloadApplier.applyIfPresent(settings.localDatabasePath());
+            // Publishes the settings to the Spring configuration through GoogleDriveContextHolder
+            GoogleDriveBootstrap.initialize(settings);
+        });
+
+        ConfigurableApplicationContext context = startupTimeline.phase("Spring context", () -> {
+            SpringApplication app = new SpringApplication(StudySyncApplication.class);
+            // Beans are created on first use; the warm-up below picks the ones startup needs
+            app.setLazyInitialization(true);
+            app.setLogStartupInfo(false);
+            app.setBannerMode(org.springframework.boot.Banner.Mode.OFF);
+            return app.run(args);
+        });
+
+        // Opens the datasource (applying pending schema migrations) and builds the services, so
+        // the FX thread only has to build the panels. Runs before the FX toolkit may be up, so
+        // service constructors must not create JavaFX objects.
+        startupTimeline.phase("Database and services", () -> {
+            context.getBean(ActiveRecordConfig.class);
+            context.getBeansWithAnnotation(Service.class);
+        });
+        // Not waited for: a search typed before it finishes filters without the index
+        context.getBean(SearchService.class).buildIndexAsync();
+
+        springContext = context;
+        if (shutdownRequested) {
+            // The window was closed before startup finished
+            shutdown();
+        }
+        return context;
+    }
+
     public static void requestRestart() {
         requestedExitCode = RESTART_EXIT_CODE;
     }
@@ -134,8 +178,8 @@ public class StudySyncApplication {
      * Provides access to the Spring application context for JavaFX components.
      * 
      * <p>This method allows JavaFX components to access Spring-managed beans
-     * and services. It should be called only after the Spring context has been
-     * initialized in the main method.</p>
+     * and services. It should be called only after {@link #getSpringContextFuture()}
+     * has completed.</p>
      * 
      * @return the configured Spring application context
      * @throws IllegalStateException if called before Spring context initialization
@@ -146,6 +190,19 @@ public class StudySyncApplication {
         }
         return springContext;
     }
+
+    /**
+     * Completes with the Spring context once the background startup has created it
+     * and warmed up the services, or exceptionally if startup failed.
+     */
+    public static CompletableFuture<ConfigurableApplicationContext> getSpringContextFuture() {
+        return springContextFuture;
+    }
+
+    /** Per-phase startup timings shared by the startup thread and the JavaFX application. */
+    public static StartupTimeline getStartupTimeline() {
+        return startupTimeline;
+    }
     
     /**
      * Gracefully shuts down the Spring application context.
@@ -156,7 +213,8 @@ public class StudySyncApplication {
      * 
      * <p>The method is idempotent and safe to call multiple times.</p>
      */
-    public static void shutdown() {
+    public static synchronized void shutdown() {
+        shutdownRequested = true;
         if (springContext != null && springContext.isActive()) {
             springContext.close();
             springContext = null;
@@ -1,15 +1,22 @@
 package com.studysync.application;
 
 import com.studysync.StudySyncApplication;
+import com.studysync.bootstrap.StartupTimeline;
+import com.studysync.integration.drive.DriveAutoSyncScheduler;
 import com.studysync.integration.drive.GoogleDriveService;
 import com.studysync.presentation.ui.StudySyncUI;
 import javafx.application.Application;
 import javafx.application.Platform;
+import javafx.geometry.Pos;
 import javafx.scene.Cursor;
 import javafx.scene.Parent;
+import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonBar;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
 import org.slf4j.Logger;
@@ -23,19 +30,23 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * JavaFX Application class that integrates with Spring Boot dependency injection.
+ *
+ * <p>The stage opens on a splash screen while the Spring context is still starting
+ * on a background thread; the main UI replaces it once the context is ready.</p>
  */
 public class StudySyncJavaFXApp extends Application {
 
     private static final Logger logger = LoggerFactory.getLogger(StudySyncJavaFXApp.class);
 
+    private final StartupTimeline startupTimeline = StudySyncApplication.getStartupTimeline();
+    /** Set on the FX thread once the backend has started; null while the splash is showing. */
     private ConfigurableApplicationContext springContext;
     private volatile boolean shutdownInProgress;
 
     @Override
     public void init() {
         logger.info("Initializing JavaFX application with Spring integration");
-        this.springContext = StudySyncApplication.getSpringContext();
-        loadCustomFonts();
+        startupTimeline.phase("Fonts", this::loadCustomFonts);
     }
 
     private void loadCustomFonts() {
@@ -69,22 +80,24 @@ public class StudySyncJavaFXApp extends Application {
             logger.info("Starting StudySync JavaFX application");
 
             primaryStage.setTitle("📚 StudySync - Loading...");
+            primaryStage.setScene(createSplashScene());
             primaryStage.setWidth(800);
             primaryStage.setHeight(600);
             primaryStage.centerOnScreen();
             primaryStage.show();
+            logger.info("Splash screen shown after {} ms", startupTimeline.elapsedMs());
 
-            Platform.runLater(() -> {
-                try {
-                    final StudySyncUI studySyncUI = springContext.getBean(StudySyncUI.class);
-                    studySyncUI.start(primaryStage);
-                    logger.info("StudySync application started successfully");
-                } catch (final Exception e) {
-                    logger.error("Failed to initialize StudySync UI", e);
-                    Platform.exit();
-                    StudySyncApplication.shutdown();
-                }
-            });
+            StudySyncApplication.getSpringContextFuture()
+                    .whenComplete((context, error) -> Platform.runLater(() -> {
+                        startupTimeline.setPhaseListener(null);
+                        if (error != null) {
+                            logger.error("Failed to start StudySync backend", error);
+                            Platform.exit();
+                            StudySyncApplication.shutdown();
+                            return;
+                        }
+                        showMainWindow(primaryStage, context);
+                    }));
 
             primaryStage.setOnCloseRequest(event -> {
                 logger.info("Application close requested, initiating shutdown check");
@@ -98,10 +111,48 @@ public class StudySyncJavaFXApp extends Application {
         }
     }
 
+    private Scene createSplashScene() {
+        Label title = new Label("📚 StudySync");
+        title.setStyle("-fx-font-size: 28px; -fx-font-weight: bold; -fx-text-fill: #2c3e50;");
+        ProgressIndicator progress = new ProgressIndicator();
+        progress.setMaxSize(48, 48);
+        Label status = new Label("Starting…");
+        status.setStyle("-fx-text-fill: #7f8c8d;");
+        startupTimeline.setPhaseListener(phase -> Platform.runLater(() -> status.setText(phase + "…")));
+
+        VBox splash = new VBox(18, title, progress, status);
+        splash.setAlignment(Pos.CENTER);
+        splash.setStyle("-fx-background-color: #f8f9fa;");
+        return new Scene(splash);
+    }
+
+    private void showMainWindow(Stage primaryStage, ConfigurableApplicationContext context) {
+        try {
+            this.springContext = context;
+            startupTimeline.phase("Main window", () -> {
+                final StudySyncUI studySyncUI = context.getBean(StudySyncUI.class);
+                studySyncUI.start(primaryStage);
+            });
+            startupTimeline.logSummary("StudySync application started");
+            // Nothing on screen needs the account email yet; fetch it off the startup path
+            context.getBean(GoogleDriveService.class).refreshAccountEmailAsync();
+            context.getBean(DriveAutoSyncScheduler.class).start();
+        } catch (final Exception e) {
+            logger.error("Failed to initialize StudySync UI", e);
+            Platform.exit();
+            StudySyncApplication.shutdown();
+        }
+    }
+
     private void handleCloseRequest(Stage primaryStage) {
         if (shutdownInProgress) {
             return;
         }
+        if (springContext == null) {
+            // Still on the splash screen: nothing has been edited yet
+            Platform.exit();
+            return;
+        }
 
         try {
             GoogleDriveService driveService = springContext.getBean(GoogleDriveService.class);
@@ -154,6 +205,16 @@ public class StudySyncJavaFXApp extends Application {
     }
 
     private void uploadToDriveAndExit(Stage primaryStage, GoogleDriveService driveService) {
+        if (!driveService.isLocalDbDirty()) {
+            // Background auto-sync already uploaded every edit; only the local checkpoint is left.
+            logger.info("Drive copy is current; skipping the exit upload");
+            if (driveService.saveLocally()) {
+                Platform.exit();
+            } else {
+                showErrorAlert(primaryStage, "Local save failed. StudySync will stay open so you can retry.");
+            }
+            return;
+        }
         shutdownInProgress = true;
         setRootDisabled(primaryStage, true);
 
@@ -167,7 +228,10 @@ public class StudySyncJavaFXApp extends Application {
 
         // The timeout backstop guarantees whenComplete fires even if the upload
         // hangs, so the disabled UI and button-less progress alert always recover.
-        CompletableFuture.supplyAsync(driveService::uploadDatabaseSnapshot)
+        CompletableFuture.supplyAsync(() -> driveService.uploadDatabaseSnapshot((uploaded, total) ->
+                        Platform.runLater(() -> progressAlert.setContentText(String.format(
+                                "StudySync will close after the upload completes. %d%% uploaded.",
+                                total > 0 ? uploaded * 100 / total : 100)))))
                 .orTimeout(3, TimeUnit.MINUTES)
                 .whenComplete((result, error) -> Platform.runLater(() -> {
                     progressAlert.close();
@@ -1,11 +1,15 @@
 package com.studysync.bootstrap;
 
+import com.studysync.integration.drive.CompressedSnapshot;
 import com.studysync.integration.drive.PendingDownloadMetadata;
 import com.studysync.integration.drive.PendingDownloadSupport;
+import com.studysync.integration.drive.ResumableUploadSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -14,6 +18,12 @@ import java.time.Instant;
 
 /**
  * Applies a staged Google Drive database download before Spring or H2 starts.
+ *
+ * <p>Swapping the database in also discards any interrupted upload: its snapshot holds
+ * the replaced database, and resuming it would overwrite the newer Drive copy.</p>
+ *
+ * <p>A compressed download is decompressed next to the live database, its checksum checked
+ * on the way, and the live database it replaces is backed up compressed as well.</p>
  */
 public final class PendingDownloadApplier {
 
@@ -46,6 +56,11 @@ public final class PendingDownloadApplier {
             return;
         }
 
+        if (metadata.compressed()) {
+            applyCompressed(stagedPath, metadataPath, metadata, livePath);
+            return;
+        }
+
         try {
             if (!stagedFileMatches(stagedPath, metadata)) {
                 logger.error("Pending download integrity check failed for {}", stagedPath);
@@ -53,8 +68,9 @@ public final class PendingDownloadApplier {
                 return;
             }
 
-            createBackupIfPresent(livePath);
+            createBackupIfPresent(livePath, false);
             PendingDownloadSupport.moveReplacing(stagedPath, livePath);
+            ResumableUploadSupport.deleteSnapshot(livePath);
             Files.deleteIfExists(metadataPath);
             PendingDownloadSupport.pruneBackups(livePath, MAX_BACKUPS, BACKUP_MAX_AGE);
             logger.info("Applied staged Google Drive database download to {}", livePath);
@@ -64,11 +80,55 @@ public final class PendingDownloadApplier {
         }
     }
 
+    private static void applyCompressed(Path stagedPath, Path metadataPath, PendingDownloadMetadata metadata,
+                                        Path livePath) {
+        Path decompressedPath = null;
+        try {
+            Files.createDirectories(livePath.getParent());
+            decompressedPath = Files.createTempFile(livePath.getParent(), "studysync-apply-", ".tmp");
+            CompressedSnapshot.Trailer trailer;
+            try (InputStream input = Files.newInputStream(stagedPath);
+                 OutputStream output = Files.newOutputStream(decompressedPath)) {
+                trailer = CompressedSnapshot.decompress(input, output);
+            } catch (IOException e) {
+                logger.error("Pending download integrity check failed for {}: {}", stagedPath, e.getMessage());
+                PendingDownloadSupport.renameMarkerToFailed(metadataPath);
+                return;
+            }
+            if (trailer.sizeBytes() != metadata.sizeBytes() || !trailer.sha256().equals(metadata.sha256())) {
+                logger.error("Pending download integrity check failed for {}", stagedPath);
+                PendingDownloadSupport.renameMarkerToFailed(metadataPath);
+                return;
+            }
+
+            createBackupIfPresent(livePath, true);
+            PendingDownloadSupport.moveReplacing(decompressedPath, livePath);
+            decompressedPath = null;
+            ResumableUploadSupport.deleteSnapshot(livePath);
+            Files.deleteIfExists(stagedPath);
+            Files.deleteIfExists(metadataPath);
+            PendingDownloadSupport.pruneBackups(livePath, MAX_BACKUPS, BACKUP_MAX_AGE);
+            logger.info("Applied compressed Google Drive database download to {}", livePath);
+        } catch (Exception e) {
+            logger.error("Failed to apply staged Google Drive database download", e);
+            PendingDownloadSupport.renameMarkerToFailed(metadataPath);
+        } finally {
+            if (decompressedPath != null) {
+                try {
+                    Files.deleteIfExists(decompressedPath);
+                } catch (IOException e) {
+                    logger.warn("Failed to delete {}: {}", decompressedPath, e.getMessage());
+                }
+            }
+        }
+    }
+
     private static void handleMissingStagedFile(Path metadataPath, PendingDownloadMetadata metadata, Path livePath) {
         try {
             if (Files.exists(livePath)
                     && Files.size(livePath) == metadata.sizeBytes()
                     && PendingDownloadSupport.sha256Hex(livePath).equals(metadata.sha256())) {
+                ResumableUploadSupport.deleteSnapshot(livePath);
                 Files.deleteIfExists(metadataPath);
                 logger.info("Pending download marker cleared after detecting an already-applied database swap");
                 return;
@@ -86,14 +146,19 @@ public final class PendingDownloadApplier {
                 && PendingDownloadSupport.sha256Hex(stagedPath).equals(metadata.sha256());
     }
 
-    private static void createBackupIfPresent(Path livePath) throws IOException {
+    private static void createBackupIfPresent(Path livePath, boolean compressed) throws IOException {
         if (!Files.exists(livePath)) {
             return;
         }
         Path backupDir = PendingDownloadSupport.backupsDirectory(livePath);
         Files.createDirectories(backupDir);
         Path backupPath = PendingDownloadSupport.timestampedBackupPath(livePath, Instant.now());
-        Files.copy(livePath, backupPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+        if (compressed) {
+            backupPath = backupPath.resolveSibling(backupPath.getFileName() + CompressedSnapshot.FILE_SUFFIX);
+            CompressedSnapshot.compress(livePath, backupPath);
+        } else {
+            Files.copy(livePath, backupPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+        }
         logger.info("Created pre-download backup at {}", backupPath);
     }
 
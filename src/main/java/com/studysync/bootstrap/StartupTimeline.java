@@ -0,0 +1,80 @@
+package com.studysync.bootstrap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Records how long each startup phase took and on which thread, so the log shows
+ * where time to first paint goes when phases run in parallel.
+ *
+ * <p>Offsets are measured from the moment the timeline was created (the start of
+ * {@code main}) with {@link System#nanoTime()}. Phases may be recorded from any
+ * thread.</p>
+ */
+public final class StartupTimeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimeline.class);
+
+    private record Phase(String name, String thread, long startNanos, long endNanos) {
+    }
+
+    private final long originNanos = System.nanoTime();
+    private final List<Phase> phases = new ArrayList<>();
+    private volatile Consumer<String> phaseListener = name -> { };
+
+    /** Called with each phase name as it starts, e.g. to update a splash screen. */
+    public void setPhaseListener(Consumer<String> listener) {
+        this.phaseListener = listener != null ? listener : name -> { };
+    }
+
+    public void phase(String name, Runnable work) {
+        phase(name, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public <T> T phase(String name, Supplier<T> work) {
+        phaseListener.accept(name);
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            long end = System.nanoTime();
+            synchronized (phases) {
+                phases.add(new Phase(name, Thread.currentThread().getName(), start, end));
+            }
+            logger.debug("Startup phase '{}' took {} ms", name, TimeUnit.NANOSECONDS.toMillis(end - start));
+        }
+    }
+
+    /** Milliseconds since the timeline was created. */
+    public long elapsedMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - originNanos);
+    }
+
+    /** Logs every recorded phase in start order, with its offset, duration and thread. */
+    public void logSummary(String milestone) {
+        List<Phase> snapshot;
+        synchronized (phases) {
+            snapshot = new ArrayList<>(phases);
+        }
+        snapshot.sort(Comparator.comparingLong(Phase::startNanos));
+        StringBuilder summary = new StringBuilder();
+        for (Phase phase : snapshot) {
+            summary.append(String.format("%n  +%5d ms  %6d ms  %-22s [%s]",
+                    TimeUnit.NANOSECONDS.toMillis(phase.startNanos() - originNanos),
+                    TimeUnit.NANOSECONDS.toMillis(phase.endNanos() - phase.startNanos()),
+                    phase.name(), phase.thread()));
+        }
+        logger.info("{} after {} ms; startup timeline (offset, duration, phase, thread):{}",
+                milestone, elapsedMs(), summary);
+    }
+}
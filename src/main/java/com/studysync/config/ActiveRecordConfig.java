@@ -7,7 +7,9 @@ import com.studysync.domain.entity.TaskReschedule;
 import com.studysync.domain.entity.Project;
 import com.studysync.domain.entity.StudyGoal;
 import com.studysync.domain.entity.DailyReflection;
+import com.studysync.domain.entity.DailyStats;
 import com.studysync.domain.entity.Category;
+import com.studysync.domain.entity.MaintenanceWatermark;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -45,7 +47,9 @@ public class ActiveRecordConfig {
         Project.setJdbcTemplate(jdbcTemplate);
         StudyGoal.setJdbcTemplate(jdbcTemplate);
         DailyReflection.setJdbcTemplate(jdbcTemplate);
+        DailyStats.setJdbcTemplate(jdbcTemplate);
         Category.setJdbcTemplate(jdbcTemplate);
+        MaintenanceWatermark.setJdbcTemplate(jdbcTemplate);
         logger.info("Active Record entities initialized successfully with JdbcTemplate");
     }
 }
\ No newline at end of file
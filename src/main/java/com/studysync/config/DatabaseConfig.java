@@ -1,11 +1,19 @@
 package com.studysync.config;
 
+import com.studysync.integration.drive.GoogleDriveSettings;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -16,19 +24,94 @@ import javax.sql.DataSource;
 /**
  * Database configuration for the StudySync application.
  * Configures HikariCP connection pool and transaction management.
+ *
+ * <p>{@code app.datasource.profile} selects how the pool is set up:</p>
+ * <ul>
+ *   <li>{@code embedded} (default): {@link EmbeddedDatabaseTuning}, sized for one
+ *       desktop user; only the URL and credentials come from {@code spring.datasource}.</li>
+ *   <li>{@code custom}: every {@code spring.datasource.hikari.*} setting applies as written.</li>
+ * </ul>
+ * <p>{@code app.datasource.measure: true} adds {@link PoolLatencyRecorder} in either profile.</p>
  */
 @Configuration
 @EnableTransactionManagement
 public class DatabaseConfig {
     
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseConfig.class);
     
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, GoogleDriveSettings driveSettings,
+                                 Environment environment,
+                                 @Value("${app.datasource.profile:embedded}") String profile,
+                                 @Value("${app.datasource.measure:false}") boolean measure,
+                                 @Value("${app.datasource.report-interval-minutes:5}") long reportIntervalMinutes) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("studysync-db");
+        config.setDriverClassName(properties.determineDriverClassName());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        String url = properties.determineUrl();
+        
+        if ("custom".equalsIgnoreCase(profile)) {
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(config));
+            config.setJdbcUrl(url);
+            logger.info("Using custom datasource settings (pool size {})", config.getMaximumPoolSize());
+        } else {
+            EmbeddedDatabaseTuning tuning = EmbeddedDatabaseTuning.forHeap(
+                    Runtime.getRuntime().maxMemory(), driveSettings.localSaveMaxDelayMs());
+            config.setJdbcUrl(tuning.applyTo(url));
+            config.setMaximumPoolSize(tuning.poolSize());
+            config.setMinimumIdle(tuning.poolSize());
+            // Embedded connections never go stale; retiring them would only drop H2's statement caches.
+            config.setMaxLifetime(0);
+            config.setIdleTimeout(0);
+            // Active Record statements outside a service transaction commit on their own.
+            config.setAutoCommit(true);
+            logger.info("Using embedded datasource profile: pool {}, page cache {} KB, write delay {} ms",
+                    tuning.poolSize(), tuning.cacheSizeKb(), tuning.writeDelayMs());
+        }
+        
+        if (measure) {
+            config.setMetricsTrackerFactory(new PoolLatencyRecorder(reportIntervalMinutes));
+            if (config.getLeakDetectionThreshold() == 0) {
+                config.setLeakDetectionThreshold(60_000);
+            }
+            logger.info("Datasource measurement mode on; logging pool latency every {} min", reportIntervalMinutes);
+        }
+        return new HikariDataSource(config);
+    }
+    
+    /**
+     * Brings the schema up to date before anything queries it. Replaces
+     * {@code spring.sql.init}, which re-ran the whole schema on every launch.
+     */
+    @Bean
+    public SchemaMigrator schemaMigrator(DataSource dataSource) {
+        SchemaMigrator migrator = new SchemaMigrator(dataSource);
+        migrator.migrate();
+        return migrator;
+    }
+    
+    /**
+     * Per-statement timings for the diagnostics window; on unless
+     * {@code app.datasource.query-stats} is {@code false}.
+     */
+    @Bean
+    public QueryStatistics queryStatistics(@Value("${app.datasource.query-stats:true}") boolean enabled) {
+        return new QueryStatistics(enabled);
+    }
     
     /**
-     * Configure JdbcTemplate with the data source.
+     * Configure JdbcTemplate with the data source. This is the template the Active
+     * Record entities share, so instrumenting it covers every entity query.
      */
     @Bean
-    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
-        return new JdbcTemplate(dataSource);
+    @DependsOn("schemaMigrator")
+    public JdbcTemplate jdbcTemplate(DataSource dataSource, QueryStatistics queryStatistics) {
+        return queryStatistics.isEnabled()
+                ? new InstrumentedJdbcTemplate(dataSource, queryStatistics)
+                : new JdbcTemplate(dataSource);
     }
     
     /**
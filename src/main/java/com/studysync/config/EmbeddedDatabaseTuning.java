@@ -0,0 +1,72 @@
+package com.studysync.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Pool and H2 settings for the "embedded" datasource profile: one user, one process,
+ * a local database file.
+ *
+ * <ul>
+ *   <li>A small fixed pool: the FX thread, the two panel loaders and the background
+ *       maintenance/durability threads are the only clients, and H2 serializes
+ *       writes anyway.</li>
+ *   <li>{@code QUERY_CACHE_SIZE}: H2 caches parsed statements per connection; with a
+ *       fixed pool the cache survives for the whole session.</li>
+ *   <li>{@code CACHE_SIZE}: the MVStore page cache, sized from the heap rather than
+ *       fixed, so small heaps are not squeezed and large ones are used.</li>
+ *   <li>{@code WRITE_DELAY}: the durability writer in {@code GoogleDriveService} runs a
+ *       {@code CHECKPOINT SYNC} at most {@code local-save-max-delay-ms} after each
+ *       commit, so H2's own background flush is stretched to that window instead of
+ *       writing every commit separately.</li>
+ * </ul>
+ */
+public record EmbeddedDatabaseTuning(int poolSize, int cacheSizeKb, int queryCacheSize, int writeDelayMs) {
+
+    static final int POOL_SIZE = 4;
+    static final int QUERY_CACHE_SIZE = 64;
+    static final int MIN_CACHE_SIZE_KB = 16 * 1024;
+    static final int MAX_CACHE_SIZE_KB = 128 * 1024;
+    /** H2's default; used when the durability writer flushes immediately. */
+    static final int DEFAULT_WRITE_DELAY_MS = 500;
+
+    private static final Set<String> MANAGED_SETTINGS = Set.of("CACHE_SIZE", "QUERY_CACHE_SIZE", "WRITE_DELAY");
+
+    /**
+     * @param maxHeapBytes        {@link Runtime#maxMemory()}
+     * @param localSaveMaxDelayMs the durability writer's coalescing window
+     */
+    public static EmbeddedDatabaseTuning forHeap(long maxHeapBytes, int localSaveMaxDelayMs) {
+        long sixteenthKb = maxHeapBytes / 16 / 1024;
+        int cacheSizeKb = (int) Math.max(MIN_CACHE_SIZE_KB, Math.min(MAX_CACHE_SIZE_KB, sixteenthKb));
+        int writeDelayMs = localSaveMaxDelayMs > 0 ? localSaveMaxDelayMs : DEFAULT_WRITE_DELAY_MS;
+        return new EmbeddedDatabaseTuning(POOL_SIZE, cacheSizeKb, QUERY_CACHE_SIZE, writeDelayMs);
+    }
+
+    /**
+     * Returns {@code url} with this tuning's settings, replacing any of them already
+     * present and keeping every other setting (e.g. {@code DB_CLOSE_DELAY}).
+     */
+    public String applyTo(String url) {
+        String[] parts = url.split(";");
+        List<String> kept = new ArrayList<>();
+        kept.add(parts[0]);
+        for (int i = 1; i < parts.length; i++) {
+            String setting = parts[i].trim();
+            if (setting.isEmpty()) {
+                continue;
+            }
+            int eq = setting.indexOf('=');
+            String key = (eq < 0 ? setting : setting.substring(0, eq)).trim().toUpperCase(Locale.ROOT);
+            if (!MANAGED_SETTINGS.contains(key)) {
+                kept.add(setting);
+            }
+        }
+        kept.add("CACHE_SIZE=" + cacheSizeKb);
+        kept.add("QUERY_CACHE_SIZE=" + queryCacheSize);
+        kept.add("WRITE_DELAY=" + writeDelayMs);
+        return String.join(";", kept);
+    }
+}
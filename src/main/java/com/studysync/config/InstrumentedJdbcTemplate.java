@@ -0,0 +1,114 @@
+package com.studysync.config;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.StatementCallback;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link JdbcTemplate} that times every statement and records it in {@link QueryStatistics}.
+ *
+ * <p>All of {@code JdbcTemplate}'s query, update and batch methods funnel into the two
+ * {@code execute} overloads overridden here, so the Active Record entities are covered
+ * without changes. Rows are counted from the result: list size for queries, affected
+ * rows for updates.</p>
+ *
+ * <p>The caller is the innermost StudySync method outside the entities and this
+ * package, e.g. {@code CalendarService.getMonthSnapshot}; the entity method that ran the
+ * statement is appended after an arrow.</p>
+ */
+public class InstrumentedJdbcTemplate extends JdbcTemplate {
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final String APP_PACKAGE = "com.studysync.";
+    private static final String ENTITY_PACKAGE = "com.studysync.domain.entity.";
+    private static final String CONFIG_PACKAGE = "com.studysync.config.";
+
+    private final QueryStatistics statistics;
+
+    public InstrumentedJdbcTemplate(DataSource dataSource, QueryStatistics statistics) {
+        super(dataSource);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public <T> T execute(StatementCallback<T> action) throws DataAccessException {
+        long start = System.nanoTime();
+        T result = super.execute(action);
+        statistics.record(sqlOf(action), caller(), System.nanoTime() - start, rowsIn(result));
+        return result;
+    }
+
+    @Override
+    public <T> T execute(PreparedStatementCreator psc, PreparedStatementCallback<T> action)
+            throws DataAccessException {
+        long start = System.nanoTime();
+        T result = super.execute(psc, action);
+        statistics.record(sqlOf(psc), caller(), System.nanoTime() - start, rowsIn(result));
+        return result;
+    }
+
+    private static String sqlOf(Object source) {
+        return source instanceof SqlProvider provider ? provider.getSql() : null;
+    }
+
+    static long rowsIn(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                sum += Math.max(0, count);
+            }
+            return sum;
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+
+    private static String caller() {
+        return STACK_WALKER.walk(frames -> {
+            String entityMethod = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                // Skips Spring proxies and lambdas; the real method is the next frame down.
+                if (!className.startsWith(APP_PACKAGE) || className.startsWith(CONFIG_PACKAGE)
+                        || className.contains("$$")) {
+                    continue;
+                }
+                String method = simpleName(className) + "." + frame.getMethodName();
+                if (className.startsWith(ENTITY_PACKAGE)) {
+                    if (entityMethod == null) {
+                        entityMethod = method;
+                    }
+                    continue;
+                }
+                return entityMethod == null ? method : method + " → " + entityMethod;
+            }
+            return entityMethod != null ? entityMethod : "<outside StudySync>";
+        });
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
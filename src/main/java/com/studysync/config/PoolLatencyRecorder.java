@@ -0,0 +1,125 @@
+package com.studysync.config;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measurement mode for the datasource ({@code app.datasource.measure: true}): records
+ * how long callers wait for a pooled connection and how long they hold it, and logs
+ * percentiles of both every few minutes and when the pool closes.
+ *
+ * <p>The hold time covers a whole unit of work on the connection (one statement
+ * outside a transaction, every statement of a {@code @Transactional} method inside
+ * one), which is the latency a caller of the services sees.</p>
+ */
+public final class PoolLatencyRecorder implements MetricsTrackerFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(PoolLatencyRecorder.class);
+    /** Only the most recent samples are kept, so a long session still reports current behaviour. */
+    private static final int WINDOW = 4096;
+
+    private final long reportIntervalMinutes;
+
+    public PoolLatencyRecorder(long reportIntervalMinutes) {
+        this.reportIntervalMinutes = reportIntervalMinutes;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return new Tracker(poolName, poolStats, reportIntervalMinutes);
+    }
+
+    /** Fixed-size ring of the latest samples, in microseconds. */
+    static final class SampleWindow {
+        private final long[] samples;
+        private long count;
+
+        SampleWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void add(long micros) {
+            samples[(int) (count++ % samples.length)] = micros;
+        }
+
+        /** {@code [count, p50, p95, p99, max]} over the window, all zero when empty. */
+        synchronized long[] percentiles() {
+            int size = (int) Math.min(count, samples.length);
+            if (size == 0) {
+                return new long[5];
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return new long[] {count, at(sorted, 0.50), at(sorted, 0.95), at(sorted, 0.99), sorted[size - 1]};
+        }
+
+        private static long at(long[] sorted, double quantile) {
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+        }
+    }
+
+    private static final class Tracker implements IMetricsTracker {
+        private final String poolName;
+        private final PoolStats poolStats;
+        private final SampleWindow acquireWait = new SampleWindow(WINDOW);
+        private final SampleWindow usage = new SampleWindow(WINDOW);
+        private final ScheduledExecutorService reporter;
+        private long timeouts;
+
+        Tracker(String poolName, PoolStats poolStats, long reportIntervalMinutes) {
+            this.poolName = poolName;
+            this.poolStats = poolStats;
+            this.reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "studysync-pool-metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            reporter.scheduleAtFixedRate(this::report, reportIntervalMinutes, reportIntervalMinutes, TimeUnit.MINUTES);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquireWait.add(TimeUnit.NANOSECONDS.toMicros(elapsedAcquiredNanos));
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usage.add(TimeUnit.MILLISECONDS.toMicros(elapsedBorrowedMillis));
+        }
+
+        @Override
+        public synchronized void recordConnectionTimeout() {
+            timeouts++;
+        }
+
+        @Override
+        public void close() {
+            reporter.shutdownNow();
+            report();
+        }
+
+        private void report() {
+            long[] wait = acquireWait.percentiles();
+            long[] held = usage.percentiles();
+            long timeoutCount;
+            synchronized (this) {
+                timeoutCount = timeouts;
+            }
+            logger.info("{}: connection wait n={} p50={}us p95={}us p99={}us max={}us; "
+                            + "connection held n={} p50={}ms p95={}ms p99={}ms max={}ms; "
+                            + "timeouts={} active={} idle={} waiting={}",
+                    poolName, wait[0], wait[1], wait[2], wait[3], wait[4],
+                    held[0], held[1] / 1000, held[2] / 1000, held[3] / 1000, held[4] / 1000,
+                    timeoutCount, poolStats.getActiveConnections(), poolStats.getIdleConnections(),
+                    poolStats.getPendingThreads());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.studysync.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-statement latency and row counts recorded by {@link InstrumentedJdbcTemplate},
+ * grouped by SQL text and by the application method that issued it.
+ *
+ * <p>Latencies go into power-of-two microsecond buckets, so recording is a few atomic
+ * increments and percentiles are accurate to within a factor of two. A statement that
+ * shows a high call count from one caller (e.g. one query per calendar day) is the
+ * N+1 pattern this is meant to surface.</p>
+ */
+public final class QueryStatistics {
+
+    /** Buckets cover 1 µs .. ~35 min; slower statements land in the last one. */
+    private static final int BUCKETS = 32;
+    private static final DateTimeFormatter REPORT_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private record Key(String sql, String caller) {
+    }
+
+    /** Totals for one statement from one caller. */
+    public record Summary(String sql, String caller, long calls, long rows, long totalMicros,
+                          long p50Micros, long p95Micros, long maxMicros) {
+        public double meanMicros() {
+            return calls == 0 ? 0 : (double) totalMicros / calls;
+        }
+    }
+
+    private static final class Stats {
+        final LongAdder calls = new LongAdder();
+        final LongAdder rows = new LongAdder();
+        final LongAdder totalMicros = new LongAdder();
+        final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        volatile long maxMicros;
+
+        void record(long micros, long rowCount) {
+            calls.increment();
+            rows.add(rowCount);
+            totalMicros.add(micros);
+            buckets.incrementAndGet(bucketOf(micros));
+            if (micros > maxMicros) {
+                synchronized (this) {
+                    maxMicros = Math.max(maxMicros, micros);
+                }
+            }
+        }
+
+        Summary summarize(Key key) {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            return new Summary(key.sql(), key.caller(), calls.sum(), rows.sum(), totalMicros.sum(),
+                    percentile(counts, total, 0.50), percentile(counts, total, 0.95), maxMicros);
+        }
+    }
+
+    private final boolean enabled;
+    private final ConcurrentMap<Key, Stats> statements = new ConcurrentHashMap<>();
+    private volatile long sinceMillis = System.currentTimeMillis();
+
+    public QueryStatistics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /** Whether statements are being recorded ({@code app.datasource.query-stats}). */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    void record(String sql, String caller, long elapsedNanos, long rows) {
+        statements.computeIfAbsent(new Key(normalize(sql), caller), key -> new Stats())
+                .record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), Math.max(0, rows));
+    }
+
+    /** Every recorded statement, most total time first. */
+    public List<Summary> snapshot() {
+        List<Summary> summaries = new ArrayList<>();
+        statements.forEach((key, stats) -> summaries.add(stats.summarize(key)));
+        summaries.sort(Comparator.comparingLong(Summary::totalMicros).reversed());
+        return summaries;
+    }
+
+    public void reset() {
+        statements.clear();
+        sinceMillis = System.currentTimeMillis();
+    }
+
+    /** When recording started, or the last {@link #reset()}. */
+    public long sinceMillis() {
+        return sinceMillis;
+    }
+
+    /** Writes {@link #formatReport()} to {@code file}, replacing it. */
+    public void writeReport(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(file, formatReport(), StandardCharsets.UTF_8);
+    }
+
+    /** Plain-text table of {@link #snapshot()}. */
+    public String formatReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("StudySync query statistics, ")
+                .append(REPORT_TIME.format(LocalDateTime.now()))
+                .append(String.format(" (%d s of recording)%n%n",
+                        TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - sinceMillis)));
+        report.append(String.format("%8s %10s %10s %9s %9s %9s  %s%n",
+                "calls", "rows", "total ms", "p50 ms", "p95 ms", "max ms", "caller / statement"));
+        for (Summary summary : snapshot()) {
+            report.append(String.format("%8d %10d %10.1f %9.2f %9.2f %9.2f  %s%n%69s%s%n",
+                    summary.calls(), summary.rows(), summary.totalMicros() / 1000.0,
+                    summary.p50Micros() / 1000.0, summary.p95Micros() / 1000.0, summary.maxMicros() / 1000.0,
+                    summary.caller(), "", summary.sql()));
+        }
+        return report.toString();
+    }
+
+    /** Collapses whitespace so the same statement written across lines groups together. */
+    static String normalize(String sql) {
+        return sql == null ? "<unknown>" : sql.strip().replaceAll("\\s+", " ");
+    }
+
+    static int bucketOf(long micros) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, micros)));
+    }
+
+    /** Upper bound of the bucket holding the given quantile. */
+    static long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i == 0 ? 0 : 1L << i;
+            }
+        }
+        return 1L << (counts.length - 1);
+    }
+}
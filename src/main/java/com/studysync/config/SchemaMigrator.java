@@ -0,0 +1,211 @@
+package com.studysync.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ScriptException;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Applies the numbered scripts under {@code db/migration} exactly once per database.
+ *
+ * <p>Scripts are named {@code V<version>__<description>.sql}. Each applied script is
+ * recorded in {@code schema_version} with a SHA-256 checksum of its contents; when
+ * every script is already recorded the migrator runs no DDL at all, so startup does
+ * not re-scan the goal tables for backfills that have already happened.</p>
+ *
+ * <p>Databases created before versioning have no {@code schema_version} table and run
+ * every script once; the scripts are idempotent for that reason. A script is recorded
+ * only after it ran to completion (H2 commits DDL implicitly, so a script cannot be
+ * rolled back as a whole); one that fails midway is retried on the next launch.</p>
+ */
+public class SchemaMigrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaMigrator.class);
+    private static final String DEFAULT_LOCATION = "classpath*:db/migration/V*__*.sql";
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    /** One migration script found on the classpath. */
+    public record Migration(int version, String description, Resource script, String checksum) {
+    }
+
+    /** Outcome of {@link #migrate()}. */
+    public record MigrationResult(int schemaVersion, int appliedCount) {
+    }
+
+    private final DataSource dataSource;
+    private final String location;
+
+    public SchemaMigrator(DataSource dataSource) {
+        this(dataSource, DEFAULT_LOCATION);
+    }
+
+    SchemaMigrator(DataSource dataSource, String location) {
+        this.dataSource = dataSource;
+        this.location = location;
+    }
+
+    /**
+     * Applies every script not yet recorded in {@code schema_version}, in version order.
+     *
+     * @throws IllegalStateException if a script fails; the database keeps every
+     *                               version applied before it
+     */
+    public MigrationResult migrate() {
+        List<Migration> migrations = findMigrations();
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            boolean versioned = hasVersionTable(connection);
+            Map<Integer, String> applied = versioned ? readAppliedChecksums(connection) : Map.of();
+
+            List<Migration> pending = new ArrayList<>();
+            for (Migration migration : migrations) {
+                String recordedChecksum = applied.get(migration.version());
+                if (recordedChecksum == null) {
+                    pending.add(migration);
+                } else if (!recordedChecksum.equals(migration.checksum())) {
+                    // Applied scripts are history; editing one changes nothing on this database.
+                    logger.warn("Schema migration V{} ({}) changed after it was applied; "
+                            + "add a new migration instead of editing it", migration.version(), migration.description());
+                }
+            }
+
+            int schemaVersion = applied.keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+            if (pending.isEmpty()) {
+                logger.debug("Database schema is current at version {}", schemaVersion);
+                return new MigrationResult(schemaVersion, 0);
+            }
+
+            if (!versioned) {
+                createVersionTable(connection);
+                logger.info("Database has no schema version; applying all {} migration(s)", pending.size());
+            }
+            for (Migration migration : pending) {
+                apply(connection, migration);
+                schemaVersion = Math.max(schemaVersion, migration.version());
+            }
+            logger.info("Migrated database schema to version {} ({} script(s) in {} ms)",
+                    schemaVersion, pending.size(), (System.nanoTime() - start) / 1_000_000);
+            return new MigrationResult(schemaVersion, pending.size());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Schema migration failed: " + e.getMessage(), e);
+        }
+    }
+
+    /** Migration scripts on the classpath, in version order. */
+    public List<Migration> findMigrations() {
+        Resource[] resources;
+        try {
+            resources = new PathMatchingResourcePatternResolver(getClass().getClassLoader()).getResources(location);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot list schema migrations at " + location, e);
+        }
+
+        Map<Integer, Migration> byVersion = new TreeMap<>();
+        for (Resource resource : resources) {
+            String fileName = resource.getFilename();
+            Matcher matcher = fileName != null ? SCRIPT_NAME.matcher(fileName) : null;
+            if (matcher == null || !matcher.matches()) {
+                logger.warn("Ignoring schema migration with an unexpected name: {}", fileName);
+                continue;
+            }
+            int version = Integer.parseInt(matcher.group(1));
+            Migration migration = new Migration(version, matcher.group(2).replace('_', ' '), resource,
+                    checksum(resource));
+            Migration duplicate = byVersion.putIfAbsent(version, migration);
+            if (duplicate != null) {
+                throw new IllegalStateException("Two schema migrations share version " + version + ": "
+                        + duplicate.script().getFilename() + " and " + fileName);
+            }
+        }
+        return List.copyOf(byVersion.values());
+    }
+
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(migration.script(), StandardCharsets.UTF_8));
+        } catch (ScriptException e) {
+            throw new IllegalStateException("Schema migration V" + migration.version() + " ("
+                    + migration.description() + ") failed: " + e.getMessage(), e);
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO schema_version (version, description, checksum, execution_ms)
+                VALUES (?, ?, ?, ?)
+                """)) {
+            insert.setInt(1, migration.version());
+            insert.setString(2, migration.description());
+            insert.setString(3, migration.checksum());
+            insert.setLong(4, elapsedMs);
+            insert.executeUpdate();
+        }
+        logger.info("Applied schema migration V{} ({}) in {} ms", migration.version(), migration.description(), elapsedMs);
+    }
+
+    private static boolean hasVersionTable(Connection connection) throws SQLException {
+        try (ResultSet tables = connection.getMetaData().getTables(null, null, "SCHEMA_VERSION", new String[] {"TABLE"})) {
+            return tables.next();
+        }
+    }
+
+    private static void createVersionTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE IF NOT EXISTS schema_version (
+                    version INTEGER PRIMARY KEY,
+                    description VARCHAR(200) NOT NULL,
+                    checksum VARCHAR(64) NOT NULL,
+                    execution_ms BIGINT NOT NULL,
+                    installed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+        }
+    }
+
+    private static Map<Integer, String> readAppliedChecksums(Connection connection) throws SQLException {
+        Map<Integer, String> applied = new TreeMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT version, checksum FROM schema_version")) {
+            while (rows.next()) {
+                applied.put(rows.getInt("version"), rows.getString("checksum"));
+            }
+        }
+        return applied;
+    }
+
+    /** SHA-256 of the script text, ignoring line-ending differences between checkouts. */
+    private static String checksum(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            String text = new String(in.readAllBytes(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read schema migration " + resource.getFilename(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.studysync.domain.entity;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Shared JDBC batching for the entities' {@code saveAll} methods: one prepared
+ * statement, flushed every {@link #BATCH_SIZE} rows.
+ */
+final class BatchWriter {
+
+    static final int BATCH_SIZE = 500;
+
+    private BatchWriter() {
+    }
+
+    static void execute(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+}
@@ -138,6 +138,7 @@ public class DailyReflection {
             this.completedSessions, this.totalGoalsAchieved, this.notes, this.reflectionText, this.deserveReward
         );
         
+        EntityChanges.changed(DailyReflection.class, this.id);
         logger.debug("DailyReflection saved: {} for date: {}", this.id, this.date);
         return this;
     }
@@ -153,6 +154,7 @@ public class DailyReflection {
         String sql = "DELETE FROM daily_reflections WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, this.id);
         boolean deleted = rowsAffected > 0;
+        EntityChanges.changed(DailyReflection.class, this.id);
         
         if (deleted) {
             logger.info("DailyReflection deleted: {} for date: {}", this.id, this.date);
@@ -259,6 +261,7 @@ public class DailyReflection {
         String sql = "DELETE FROM daily_reflections WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, reflectionId);
         boolean deleted = rowsAffected > 0;
+        EntityChanges.changed(DailyReflection.class, reflectionId);
         
         if (deleted) {
             logger.info("DailyReflection deleted: {}", reflectionId);
@@ -280,6 +283,9 @@ public class DailyReflection {
         String sql = "DELETE FROM daily_reflections WHERE date = ?";
         int rowsAffected = jdbcTemplate.update(sql, date);
         boolean deleted = rowsAffected > 0;
+        if (deleted) {
+            EntityChanges.changed(DailyReflection.class, null); // the id is not known here
+        }
         
         if (deleted) {
             logger.info("DailyReflection deleted for date: {}", date);
@@ -0,0 +1,268 @@
+package com.studysync.domain.entity;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Per-day rollup of study activity: sessions, minutes, points, focus, goal
+ * attempt outcomes and completed tasks for one date.
+ *
+ * <p>The session and goal columns are derived from {@code study_sessions} and
+ * {@code study_goal_attempts} and can always be recomputed with {@link #refresh}
+ * or {@link #rebuild()}. Tasks carry no completion date, so
+ * {@code tasks_completed} is recorded when a task is completed (see
+ * {@link #recordTaskCompletion}) and is kept as-is by a rebuild.</p>
+ *
+ * <p>Uses Active Record pattern - handles its own database operations.</p>
+ */
+public class DailyStats {
+    private static final Logger logger = LoggerFactory.getLogger(DailyStats.class);
+    private static JdbcTemplate jdbcTemplate;
+
+    public static void setJdbcTemplate(JdbcTemplate template) {
+        jdbcTemplate = template;
+    }
+
+    /**
+     * Aggregates sessions and goal attempts per date. The two {@code %s} slots take
+     * an optional filter on {@code study_sessions.date} and
+     * {@code study_goal_attempts.planned_for_date}. An attempt counts as missed when
+     * it was missed or its goal was abandoned, as in {@link StudyGoal#isFailed()}.
+     */
+    private static final String MERGE_AGGREGATES = """
+        MERGE INTO daily_stats (stat_date, session_count, total_minutes, total_points, focus_total,
+                                goal_attempts, goals_achieved, goals_missed, updated_at)
+        KEY (stat_date)
+        SELECT stat_date, SUM(session_count), SUM(total_minutes), SUM(total_points), SUM(focus_total),
+               SUM(goal_attempts), SUM(goals_achieved), SUM(goals_missed), CURRENT_TIMESTAMP
+        FROM (
+            SELECT s.date AS stat_date,
+                   COUNT(*) AS session_count,
+                   SUM(COALESCE(s.duration_minutes, 0)) AS total_minutes,
+                   SUM(COALESCE(s.points_earned, 0)) AS total_points,
+                   SUM(COALESCE(s.focus_level, 0)) AS focus_total,
+                   0 AS goal_attempts, 0 AS goals_achieved, 0 AS goals_missed
+            FROM study_sessions s
+            %s
+            GROUP BY s.date
+            UNION ALL
+            SELECT a.planned_for_date AS stat_date,
+                   0, 0, 0, 0,
+                   COUNT(*),
+                   SUM(CASE WHEN a.outcome = 'ACHIEVED' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN a.outcome = 'MISSED' OR g.status = 'ABANDONED' THEN 1 ELSE 0 END)
+            FROM study_goal_attempts a
+            JOIN study_goals g ON g.id = a.goal_id
+            %s
+            GROUP BY a.planned_for_date
+        ) per_source
+        GROUP BY stat_date
+        """;
+
+    /** Zeroes the derived columns; {@code tasks_completed} is not derivable and stays. */
+    private static final String CLEAR_AGGREGATES = """
+        UPDATE daily_stats
+        SET session_count = 0, total_minutes = 0, total_points = 0, focus_total = 0,
+            goal_attempts = 0, goals_achieved = 0, goals_missed = 0, updated_at = CURRENT_TIMESTAMP
+        """;
+
+    private LocalDate date;
+    private int sessionCount;
+    private int totalMinutes;
+    private int totalPoints;
+    private int focusTotal;
+    private int goalAttempts;
+    private int goalsAchieved;
+    private int goalsMissed;
+    private int tasksCompleted;
+
+    public DailyStats() {
+    }
+
+    /**
+     * Recomputes the session and goal columns of the given dates from the source
+     * tables. Dates whose sessions or attempts were all deleted drop back to zero.
+     */
+    public static void refresh(Collection<LocalDate> dates) {
+        requireJdbcTemplate();
+        List<LocalDate> distinct = dates == null ? List.of()
+                : dates.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.isEmpty()) {
+            return;
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(distinct.size(), "?"));
+        Object[] args = distinct.toArray();
+        jdbcTemplate.update(CLEAR_AGGREGATES + " WHERE stat_date IN (" + placeholders + ")", args);
+
+        Object[] mergeArgs = new Object[args.length * 2];
+        System.arraycopy(args, 0, mergeArgs, 0, args.length);
+        System.arraycopy(args, 0, mergeArgs, args.length, args.length);
+        jdbcTemplate.update(MERGE_AGGREGATES.formatted(
+                "WHERE s.date IN (" + placeholders + ")",
+                "WHERE a.planned_for_date IN (" + placeholders + ")"), mergeArgs);
+        logger.debug("Daily stats refreshed for {}", distinct);
+    }
+
+    public static void refresh(LocalDate date) {
+        refresh(date == null ? List.of() : List.of(date));
+    }
+
+    /**
+     * Recomputes every date from the source tables and drops rows left empty.
+     *
+     * @return number of dates in the rollup afterwards
+     */
+    public static int rebuild() {
+        requireJdbcTemplate();
+        jdbcTemplate.update(CLEAR_AGGREGATES);
+        jdbcTemplate.update(MERGE_AGGREGATES.formatted("", ""));
+        jdbcTemplate.update("""
+            DELETE FROM daily_stats
+            WHERE session_count = 0 AND goal_attempts = 0 AND tasks_completed = 0
+            """);
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM daily_stats", Integer.class);
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * Cheap drift check: whether the rollup accounts for exactly the sessions and
+     * goal attempts in the source tables. Rows written by a client that predates
+     * the rollup (e.g. a database restored from Drive) show up as a mismatch.
+     */
+    public static boolean matchesSourceCounts() {
+        requireJdbcTemplate();
+        Boolean matches = jdbcTemplate.queryForObject("""
+            SELECT (SELECT COUNT(*) FROM study_sessions)
+                       = (SELECT COALESCE(SUM(session_count), 0) FROM daily_stats)
+               AND (SELECT COUNT(*) FROM study_goal_attempts)
+                       = (SELECT COALESCE(SUM(goal_attempts), 0) FROM daily_stats)
+            """, Boolean.class);
+        return Boolean.TRUE.equals(matches);
+    }
+
+    /**
+     * Adds {@code delta} (usually {@code +1} or {@code -1}) to the tasks completed
+     * on {@code date}, never going below zero.
+     */
+    public static void recordTaskCompletion(LocalDate date, int delta) {
+        requireJdbcTemplate();
+        if (date == null || delta == 0) {
+            return;
+        }
+        jdbcTemplate.update("MERGE INTO daily_stats (stat_date) KEY (stat_date) VALUES (?)", date);
+        jdbcTemplate.update("""
+            UPDATE daily_stats
+            SET tasks_completed = GREATEST(tasks_completed + ?, 0), updated_at = CURRENT_TIMESTAMP
+            WHERE stat_date = ?
+            """, delta, date);
+    }
+
+    /**
+     * Rollup rows in {@code [from, to]}, keyed by date in ascending order. Dates
+     * without activity have no entry.
+     */
+    public static Map<LocalDate, DailyStats> findInRange(LocalDate from, LocalDate to) {
+        requireJdbcTemplate();
+        String sql = "SELECT * FROM daily_stats WHERE stat_date BETWEEN ? AND ? ORDER BY stat_date";
+        Map<LocalDate, DailyStats> byDate = new LinkedHashMap<>();
+        for (DailyStats stats : jdbcTemplate.query(sql, getRowMapper(), from, to)) {
+            byDate.put(stats.date, stats);
+        }
+        return byDate;
+    }
+
+    /**
+     * Sums every row of the rollup. The result has no date.
+     */
+    public static DailyStats totals() {
+        requireJdbcTemplate();
+        String sql = """
+            SELECT CAST(NULL AS DATE) AS stat_date,
+                   COALESCE(SUM(session_count), 0) AS session_count,
+                   COALESCE(SUM(total_minutes), 0) AS total_minutes,
+                   COALESCE(SUM(total_points), 0) AS total_points,
+                   COALESCE(SUM(focus_total), 0) AS focus_total,
+                   COALESCE(SUM(goal_attempts), 0) AS goal_attempts,
+                   COALESCE(SUM(goals_achieved), 0) AS goals_achieved,
+                   COALESCE(SUM(goals_missed), 0) AS goals_missed,
+                   COALESCE(SUM(tasks_completed), 0) AS tasks_completed
+            FROM daily_stats
+            """;
+        return jdbcTemplate.queryForObject(sql, getRowMapper());
+    }
+
+    private static void requireJdbcTemplate() {
+        if (jdbcTemplate == null) {
+            throw new IllegalStateException("JdbcTemplate not initialized");
+        }
+    }
+
+    private static RowMapper<DailyStats> getRowMapper() {
+        return (rs, rowNum) -> {
+            DailyStats stats = new DailyStats();
+            stats.date = rs.getDate("stat_date") != null ? rs.getDate("stat_date").toLocalDate() : null;
+            stats.sessionCount = rs.getInt("session_count");
+            stats.totalMinutes = rs.getInt("total_minutes");
+            stats.totalPoints = rs.getInt("total_points");
+            stats.focusTotal = rs.getInt("focus_total");
+            stats.goalAttempts = rs.getInt("goal_attempts");
+            stats.goalsAchieved = rs.getInt("goals_achieved");
+            stats.goalsMissed = rs.getInt("goals_missed");
+            stats.tasksCompleted = rs.getInt("tasks_completed");
+            return stats;
+        };
+    }
+
+    /** Average session focus level, or {@code 0} without sessions. */
+    public double getAverageFocus() {
+        return sessionCount == 0 ? 0 : (double) focusTotal / sessionCount;
+    }
+
+    // Getters
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    public int getTotalMinutes() {
+        return totalMinutes;
+    }
+
+    public int getTotalPoints() {
+        return totalPoints;
+    }
+
+    public int getFocusTotal() {
+        return focusTotal;
+    }
+
+    public int getGoalAttempts() {
+        return goalAttempts;
+    }
+
+    public int getGoalsAchieved() {
+        return goalsAchieved;
+    }
+
+    public int getGoalsMissed() {
+        return goalsMissed;
+    }
+
+    public int getTasksCompleted() {
+        return tasksCompleted;
+    }
+}
@@ -0,0 +1,35 @@
+package com.studysync.domain.entity;
+
+/**
+ * Static change feed for the Active Record entities, registered the same way the
+ * entities receive their {@code JdbcTemplate}.
+ *
+ * <p>{@code save()} and the delete methods report the id they wrote; a {@code null}
+ * id means rows of that type changed that the caller cannot name (bulk deletes).
+ * Notifications fire inside the caller's transaction, so listeners that read the
+ * row back must defer until it completes.</p>
+ */
+public final class EntityChanges {
+
+    /** Receives every reported change; must be cheap and must not throw. */
+    @FunctionalInterface
+    public interface Listener {
+        void changed(Class<?> entityType, String id);
+    }
+
+    private static volatile Listener listener;
+
+    private EntityChanges() {
+    }
+
+    public static void setListener(Listener changeListener) {
+        listener = changeListener;
+    }
+
+    static void changed(Class<?> entityType, String id) {
+        Listener current = listener;
+        if (current != null) {
+            current.changed(entityType, id);
+        }
+    }
+}
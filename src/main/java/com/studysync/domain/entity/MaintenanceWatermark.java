@@ -0,0 +1,62 @@
+package com.studysync.domain.entity;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Last date a daily maintenance job completed. Stored in the database rather than
+ * in memory, so a restart on the same day, or on another device sharing the
+ * database through Drive, does not repeat the pass.
+ *
+ * <p>Uses Active Record pattern - handles its own database operations.</p>
+ */
+public final class MaintenanceWatermark {
+    private static final Logger logger = LoggerFactory.getLogger(MaintenanceWatermark.class);
+    private static JdbcTemplate jdbcTemplate;
+
+    public static void setJdbcTemplate(JdbcTemplate template) {
+        jdbcTemplate = template;
+    }
+
+    private MaintenanceWatermark() {
+    }
+
+    /** The last date {@code job} completed, if it ever did. */
+    public static Optional<LocalDate> lastRun(String job) {
+        requireJdbcTemplate();
+        List<LocalDate> dates = jdbcTemplate.queryForList(
+                "SELECT last_run_date FROM maintenance_watermarks WHERE job_name = ?", LocalDate.class, job);
+        return dates.stream().findFirst();
+    }
+
+    /** Whether {@code job} already completed on {@code date} or later. */
+    public static boolean isCurrent(String job, LocalDate date) {
+        return lastRun(job).map(last -> !last.isBefore(date)).orElse(false);
+    }
+
+    /** Records that {@code job} completed on {@code date}. The watermark never moves backwards. */
+    public static void advance(String job, LocalDate date) {
+        requireJdbcTemplate();
+        jdbcTemplate.update("""
+            MERGE INTO maintenance_watermarks t
+            USING (VALUES (CAST(? AS VARCHAR(50)), CAST(? AS DATE))) s(job_name, last_run_date)
+            ON (t.job_name = s.job_name)
+            WHEN MATCHED AND t.last_run_date < s.last_run_date THEN
+                UPDATE SET last_run_date = s.last_run_date, updated_at = CURRENT_TIMESTAMP
+            WHEN NOT MATCHED THEN
+                INSERT (job_name, last_run_date) VALUES (s.job_name, s.last_run_date)
+            """, job, date);
+        logger.debug("Maintenance job '{}' watermark at {}", job, date);
+    }
+
+    private static void requireJdbcTemplate() {
+        if (jdbcTemplate == null) {
+            throw new IllegalStateException("JdbcTemplate not initialized");
+        }
+    }
+}
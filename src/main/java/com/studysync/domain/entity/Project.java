@@ -11,6 +11,8 @@ import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -23,6 +25,13 @@ import java.util.UUID;
 public class Project {
     private static final Logger logger = LoggerFactory.getLogger(Project.class);
     private static JdbcTemplate jdbcTemplate;
+
+    private static final String MERGE_SQL = """
+        MERGE INTO projects (id, title, description, category, status, priority, start_date, 
+                           deadline, completion_date, progress_percentage, estimated_hours, 
+                           actual_hours, notes, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+    """;
     
     public static void setJdbcTemplate(JdbcTemplate template) {
         jdbcTemplate = template;
@@ -274,14 +283,35 @@ public class Project {
             throw new IllegalStateException("JdbcTemplate not initialized. Make sure Spring context is loaded.");
         }
         
-        this.updatedAt = LocalDateTime.now();
+        jdbcTemplate.update(MERGE_SQL, prepareMerge());
+        EntityChanges.changed(Project.class, this.id);
         
-        String sql = """
-            MERGE INTO projects (id, title, description, category, status, priority, start_date, 
-                               deadline, completion_date, progress_percentage, estimated_hours, 
-                               actual_hours, notes, created_at, updated_at)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
-        """;
+        logger.debug("Project saved: {} - {}", this.id, this.title);
+        return this;
+    }
+
+    /**
+     * Save several projects as one JDBC batch of the same {@code MERGE} that {@link #save()} issues.
+     */
+    public static void saveAll(Collection<Project> projects) {
+        if (jdbcTemplate == null) {
+            throw new IllegalStateException("JdbcTemplate not initialized. Make sure Spring context is loaded.");
+        }
+        if (projects == null || projects.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            rows.add(project.prepareMerge());
+        }
+        BatchWriter.execute(jdbcTemplate, MERGE_SQL, rows);
+        projects.forEach(project -> EntityChanges.changed(Project.class, project.id));
+        logger.debug("Saved {} projects in batch", rows.size());
+    }
+
+    /** Stamps {@code updatedAt} and returns the {@link #MERGE_SQL} parameters. */
+    private Object[] prepareMerge() {
+        this.updatedAt = LocalDateTime.now();
         
         // Calculate completion date if project is completed
         LocalDate completionDate = this.status == ProjectStatus.COMPLETED ? 
@@ -293,17 +323,14 @@ public class Project {
         // Convert total minutes to hours for storage
         int actualHours = this.totalMinutesWorked / 60;
         
-        jdbcTemplate.update(sql,
+        return new Object[] {
             this.id, this.title, this.description, this.category,
             this.status.name(), this.priority != null ? this.priority.stars() : 1,
             this.startDate, this.targetEndDate, completionDate,
             progressPercentage, null, // estimated_hours can be null for now
             actualHours, this.description, // using description as notes for now
             this.createdAt
-        );
-        
-        logger.debug("Project saved: {} - {}", this.id, this.title);
-        return this;
+        };
     }
     
     /**
@@ -317,6 +344,7 @@ public class Project {
         String sql = "DELETE FROM projects WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, this.id);
         boolean deleted = rowsAffected > 0;
+        EntityChanges.changed(Project.class, this.id);
         
         if (deleted) {
             logger.info("Project deleted: {} - {}", this.id, this.title);
@@ -488,6 +516,7 @@ public class Project {
         String sql = "DELETE FROM projects WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, projectId);
         boolean deleted = rowsAffected > 0;
+        EntityChanges.changed(Project.class, projectId);
         
         if (deleted) {
             logger.info("Project deleted: {}", projectId);
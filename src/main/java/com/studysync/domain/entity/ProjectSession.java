@@ -10,6 +10,8 @@ import org.slf4j.LoggerFactory;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,13 @@ import java.util.Optional;
 public class ProjectSession {
     private static final Logger logger = LoggerFactory.getLogger(ProjectSession.class);
     private static JdbcTemplate jdbcTemplate;
+
+    private static final String MERGE_SQL = """
+        MERGE INTO project_sessions (id, project_id, date, start_time, end_time, duration_minutes, 
+                                    completed, session_title, objectives, progress, next_steps, 
+                                    challenges, notes, points_earned)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+    """;
     
     public static void setJdbcTemplate(JdbcTemplate template) {
         jdbcTemplate = template;
@@ -153,22 +162,37 @@ public class ProjectSession {
             throw new IllegalStateException("JdbcTemplate not initialized. Make sure Spring context is loaded.");
         }
         
-        String sql = """
-            MERGE INTO project_sessions (id, project_id, date, start_time, end_time, duration_minutes, 
-                                        completed, session_title, objectives, progress, next_steps, 
-                                        challenges, notes, points_earned)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-        """;
+        jdbcTemplate.update(MERGE_SQL, mergeArgs());
         
-        jdbcTemplate.update(sql,
+        logger.debug("Project session saved: {}", this.id);
+    }
+
+    /**
+     * Save several project sessions as one JDBC batch of the same {@code MERGE} that {@link #save()} issues.
+     */
+    public static void saveAll(Collection<ProjectSession> sessions) {
+        if (jdbcTemplate == null) {
+            throw new IllegalStateException("JdbcTemplate not initialized. Make sure Spring context is loaded.");
+        }
+        if (sessions == null || sessions.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(sessions.size());
+        for (ProjectSession session : sessions) {
+            rows.add(session.mergeArgs());
+        }
+        BatchWriter.execute(jdbcTemplate, MERGE_SQL, rows);
+        logger.debug("Saved {} project sessions in batch", rows.size());
+    }
+
+    private Object[] mergeArgs() {
+        return new Object[] {
             this.id, this.projectId, this.date, this.startTime, 
             this.endTime, this.durationMinutes, this.completed, 
             this.sessionTitle, this.objectives, this.progress, 
             this.nextSteps, this.challenges, this.notes, 
             this.pointsEarned
-        );
-        
-        logger.debug("Project session saved: {}", this.id);
+        };
     }
     
     /**
@@ -58,23 +58,43 @@ public class StudyGoal {
             a.outcome_at,
             a.created_at AS attempt_created_at,
             a.updated_at AS attempt_updated_at,
-            (
-                SELECT COUNT(*)
-                FROM study_goal_attempts x
-                WHERE x.goal_id = g.id
-                  AND (x.created_at < a.created_at OR (x.created_at = a.created_at AND x.id <= a.id))
-            ) AS attempt_number,
-            (
-                SELECT COUNT(*)
-                FROM study_goal_attempts m
-                WHERE m.goal_id = g.id
-                  AND m.outcome = 'MISSED'
-                  AND (m.created_at < a.created_at OR (m.created_at = a.created_at AND m.id <= a.id))
-            ) AS missed_attempt_count
+            a.attempt_number,
+            a.missed_attempt_count
         FROM study_goals g
         JOIN study_goal_attempts a ON a.goal_id = g.id
         """;
 
+    /**
+     * Recomputes the materialized {@code attempt_number} / {@code missed_attempt_count}
+     * columns from attempt order ({@code created_at, id}). Callers append a WHERE clause
+     * on {@code goal_id} to scope the pass; migration V4 runs the same statement unscoped
+     * as the backfill.
+     */
+    private static final String ATTEMPT_COUNTERS = """
+        SELECT id,
+               ROW_NUMBER() OVER (PARTITION BY goal_id ORDER BY created_at, id) AS expected_attempt_number,
+               SUM(CASE WHEN outcome = 'MISSED' THEN 1 ELSE 0 END) OVER (
+                   PARTITION BY goal_id ORDER BY created_at, id
+                   ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW
+               ) AS expected_missed_attempt_count,
+               attempt_number,
+               missed_attempt_count
+        FROM study_goal_attempts
+        """;
+
+    private static final String RECOUNT_ATTEMPTS_PREFIX = """
+        MERGE INTO study_goal_attempts t
+        USING (
+        """ + ATTEMPT_COUNTERS;
+
+    private static final String RECOUNT_ATTEMPTS_SUFFIX = """
+        ) s ON (t.id = s.id)
+        WHEN MATCHED AND (t.attempt_number <> s.expected_attempt_number
+                          OR t.missed_attempt_count <> s.expected_missed_attempt_count) THEN
+            UPDATE SET attempt_number = s.expected_attempt_number,
+                       missed_attempt_count = s.expected_missed_attempt_count
+        """;
+
     private String id;
     private LocalDate date;
     private String description;
@@ -299,6 +319,8 @@ public class StudyGoal {
 
         upsertParent();
         upsertAttempt();
+        recountAttempts(id);
+        EntityChanges.changed(StudyGoal.class, id);
         logger.debug("StudyGoal saved: {} - {}", id, description);
         return this;
     }
@@ -347,6 +369,18 @@ public class StudyGoal {
         return jdbcTemplate.query(sql, getAttemptViewMapper());
     }
 
+    /**
+     * The {@code limit} most recent attempts, newest planned date first.
+     */
+    public static List<StudyGoal> findLatest(int limit) {
+        requireJdbcTemplate();
+        String sql = SELECT_ATTEMPT_VIEW + """
+            ORDER BY a.planned_for_date DESC, a.attempt_number DESC, a.created_at DESC
+            LIMIT ?
+            """;
+        return jdbcTemplate.query(sql, getAttemptViewMapper(), Math.max(0, limit));
+    }
+
     public static Optional<StudyGoal> findById(String goalId) {
         if (jdbcTemplate == null || goalId == null) {
             return Optional.empty();
@@ -389,6 +423,27 @@ public class StudyGoal {
         return jdbcTemplate.query(sql, getAttemptViewMapper(), date);
     }
 
+    /**
+     * Range variant of {@link #findAllByDate}: every attempt planned between
+     * {@code rangeStart} and {@code rangeEnd} (inclusive) in a single query.
+     * Rows are ordered by planned date first, then with the same per-day
+     * ordering as {@link #findAllByDate}, so grouping by {@link #getDate()}
+     * yields the same lists as the per-day finder.
+     */
+    public static List<StudyGoal> findAllInDateRange(LocalDate rangeStart, LocalDate rangeEnd) {
+        if (jdbcTemplate == null || rangeStart == null || rangeEnd == null) {
+            return List.of();
+        }
+        String sql = SELECT_ATTEMPT_VIEW + """
+            WHERE a.planned_for_date BETWEEN ? AND ?
+            ORDER BY
+                a.planned_for_date ASC,
+                CASE a.outcome WHEN 'PENDING' THEN 0 WHEN 'ACHIEVED' THEN 1 ELSE 2 END,
+                g.created_at ASC
+            """;
+        return jdbcTemplate.query(sql, getAttemptViewMapper(), rangeStart, rangeEnd);
+    }
+
     public static List<StudyGoal> findByDateIncludingDelayed(LocalDate date) {
         return findByDate(date);
     }
@@ -413,6 +468,7 @@ public class StudyGoal {
         jdbcTemplate.update("DELETE FROM study_goal_attempts WHERE goal_id = ?", goalId);
         int rowsAffected = jdbcTemplate.update("DELETE FROM study_goals WHERE id = ?", goalId);
         boolean deleted = rowsAffected > 0;
+        EntityChanges.changed(StudyGoal.class, goalId);
         if (deleted) {
             logger.info("StudyGoal deleted: {}", goalId);
         }
@@ -644,10 +700,53 @@ public class StudyGoal {
         return jdbcTemplate.query(sql, getAttemptViewMapper());
     }
 
+    /**
+     * Distinct planned dates of a goal's attempts, for refreshing per-day rollups
+     * around a change to the goal.
+     */
+    public static List<LocalDate> findAttemptDates(String goalId) {
+        if (jdbcTemplate == null || goalId == null) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT planned_for_date FROM study_goal_attempts WHERE goal_id = ?",
+                LocalDate.class, goalId);
+    }
+
+    /**
+     * Distinct planned dates of the attempts {@link #markPendingAttemptsBefore} would mark missed.
+     */
+    public static List<LocalDate> findPendingAttemptDatesBefore(LocalDate today) {
+        if (jdbcTemplate == null || today == null) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList("""
+            SELECT DISTINCT planned_for_date FROM study_goal_attempts
+            WHERE outcome = 'PENDING' AND planned_for_date < ?
+            """, LocalDate.class, today);
+    }
+
     public static int markPendingAttemptsBefore(LocalDate today) {
         if (jdbcTemplate == null || today == null) {
             return 0;
         }
+        // A newly missed attempt bumps its own missed count and that of every
+        // later attempt of the same goal; adjust counters before the outcome flips.
+        jdbcTemplate.update("""
+            UPDATE study_goal_attempts t
+            SET missed_attempt_count = missed_attempt_count + (
+                SELECT COUNT(*)
+                FROM study_goal_attempts p
+                WHERE p.goal_id = t.goal_id
+                  AND p.outcome = 'PENDING'
+                  AND p.planned_for_date < ?
+                  AND p.attempt_number <= t.attempt_number
+            )
+            WHERE t.goal_id IN (
+                SELECT goal_id FROM study_goal_attempts
+                WHERE outcome = 'PENDING' AND planned_for_date < ?
+            )
+            """, today, today);
         String sql = """
             UPDATE study_goal_attempts
             SET outcome = 'MISSED', outcome_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP
@@ -695,6 +794,7 @@ public class StudyGoal {
             )
             VALUES (?, ?, ?, ?, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
             """, attemptId, goalId, plannedForDate, latestAttemptId);
+        recountAttempts(goalId);
         jdbcTemplate.update("""
             UPDATE study_goals
             SET status = 'ACTIVE', achieved_attempt_id = NULL, updated_at = CURRENT_TIMESTAMP
@@ -718,6 +818,9 @@ public class StudyGoal {
                 updated_at = CURRENT_TIMESTAMP
             WHERE id = ?
             """, reasonIfNot, goal.attemptId);
+        if (goal.attemptOutcome == AttemptOutcome.MISSED) {
+            recountAttempts(goalId);
+        }
         jdbcTemplate.update("""
             UPDATE study_goals
             SET status = 'ACHIEVED', achieved_attempt_id = ?, achieved = TRUE, failed = FALSE,
@@ -769,6 +872,11 @@ public class StudyGoal {
                 SET outcome = 'MISSED', outcome_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP
                 WHERE id = ?
                 """, goal.attemptId);
+            jdbcTemplate.update("""
+                UPDATE study_goal_attempts
+                SET missed_attempt_count = missed_attempt_count + 1
+                WHERE goal_id = ? AND attempt_number >= ?
+                """, goalId, goal.attemptNumber);
         }
         int rows = jdbcTemplate.update("""
             UPDATE study_goals
@@ -779,6 +887,38 @@ public class StudyGoal {
         return rows > 0;
     }
 
+    /**
+     * Consistency check for the materialized attempt counters.
+     *
+     * @return ids of attempts whose stored {@code attempt_number} or
+     *         {@code missed_attempt_count} differs from the value implied by attempt order
+     */
+    public static List<String> findAttemptsWithStaleCounters() {
+        if (jdbcTemplate == null) {
+            return List.of();
+        }
+        String sql = "SELECT id FROM (" + ATTEMPT_COUNTERS + """
+            ) c
+            WHERE c.attempt_number <> c.expected_attempt_number
+               OR c.missed_attempt_count <> c.expected_missed_attempt_count
+            """;
+        return jdbcTemplate.queryForList(sql, String.class);
+    }
+
+    /**
+     * Rewrites every stale attempt counter from attempt order.
+     *
+     * @return number of attempt rows corrected
+     */
+    public static int repairAttemptCounters() {
+        requireJdbcTemplate();
+        return jdbcTemplate.update(RECOUNT_ATTEMPTS_PREFIX + RECOUNT_ATTEMPTS_SUFFIX);
+    }
+
+    private static void recountAttempts(String goalId) {
+        jdbcTemplate.update(RECOUNT_ATTEMPTS_PREFIX + "WHERE goal_id = ?\n" + RECOUNT_ATTEMPTS_SUFFIX, goalId);
+    }
+
     private static RowMapper<StudyGoal> getAttemptViewMapper() {
         return (rs, rowNum) -> new StudyGoal(
                 rs.getString("id"),
@@ -10,6 +10,8 @@ import org.slf4j.LoggerFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -23,6 +25,15 @@ public class StudySession {
     
     private static final Logger logger = LoggerFactory.getLogger(StudySession.class);
     private static JdbcTemplate jdbcTemplate;
+
+    private static final String MERGE_SQL = """
+        MERGE INTO study_sessions (id, date, start_time, end_time, duration_minutes, completed,
+                                  focus_level, confidence_level, notes, subject, topic, location,
+                                  outcome_expected, actual_work, what_helped, what_distracted,
+                                  improvement_note, points_earned, session_text, goal_id, task_id,
+                                  is_active, last_update_time, current_elapsed_minutes, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+        """;
     
     private String id;
     private LocalDate date;
@@ -121,17 +132,9 @@ public class StudySession {
         if (jdbcTemplate == null) {
             throw new IllegalStateException("JdbcTemplate not initialized. Make sure Spring context is loaded.");
         }
-        
-        String sql = """
-            MERGE INTO study_sessions (id, date, start_time, end_time, duration_minutes, completed,
-                                      focus_level, confidence_level, notes, subject, topic, location,
-                                      outcome_expected, actual_work, what_helped, what_distracted,
-                                      improvement_note, points_earned, session_text, goal_id, task_id,
-                                      is_active, last_update_time, current_elapsed_minutes, updated_at)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
-            """;
+
         try {
-            executeSaveMerge(sql);
+            jdbcTemplate.update(MERGE_SQL, mergeArgs());
         } catch (DataIntegrityViolationException e) {
             if (this.goalId == null && this.taskId == null) {
                 throw e;
@@ -148,20 +151,49 @@ public class StudySession {
             if (this.taskId != null && !rowExists("tasks", this.taskId)) {
                 this.taskId = null;
             }
-            executeSaveMerge(sql);
+            jdbcTemplate.update(MERGE_SQL, mergeArgs());
         }
 
+        EntityChanges.changed(StudySession.class, this.id);
         logger.debug("Study session saved: {}", this.id);
     }
 
+    /**
+     * Save several sessions as one JDBC batch of the same {@code MERGE} that {@link #save()} issues.
+     * If a row hits a dead goal/task link the sessions are re-saved one by one, which drops
+     * such links exactly like {@code save()} does; {@code MERGE} makes the replay idempotent.
+     */
+    public static void saveAll(Collection<StudySession> sessions) {
+        if (jdbcTemplate == null) {
+            throw new IllegalStateException("JdbcTemplate not initialized. Make sure Spring context is loaded.");
+        }
+        if (sessions == null || sessions.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(sessions.size());
+        for (StudySession session : sessions) {
+            rows.add(session.mergeArgs());
+        }
+        try {
+            BatchWriter.execute(jdbcTemplate, MERGE_SQL, rows);
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Batch save of {} study sessions hit a constraint; saving individually ({})",
+                    rows.size(), e.getMessage());
+            sessions.forEach(StudySession::save);
+            return;
+        }
+        sessions.forEach(session -> EntityChanges.changed(StudySession.class, session.id));
+        logger.debug("Saved {} study sessions in batch", rows.size());
+    }
+
     private static boolean rowExists(String table, String id) {
         Integer count = jdbcTemplate.queryForObject(
                 "SELECT COUNT(*) FROM " + table + " WHERE id = ?", Integer.class, id);
         return count != null && count > 0;
     }
 
-    private void executeSaveMerge(String sql) {
-        jdbcTemplate.update(sql,
+    private Object[] mergeArgs() {
+        return new Object[] {
             this.id, this.date, this.startTime, this.endTime,
             this.durationMinutes, this.completed, this.focusLevel,
             this.confidenceLevel, this.notes, this.subject,
@@ -170,7 +202,7 @@ public class StudySession {
             this.improvementNote, this.pointsEarned, this.sessionText,
             this.goalId, this.taskId,
             this.isActive, this.lastUpdateTime, this.currentElapsedMinutes
-        );
+        };
     }
     
     /**
@@ -184,6 +216,7 @@ public class StudySession {
         String sql = "DELETE FROM study_sessions WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, this.id);
         boolean deleted = rowsAffected > 0;
+        EntityChanges.changed(StudySession.class, this.id);
         
         if (deleted) {
             logger.info("Study session deleted: {}", this.id);
@@ -302,6 +335,7 @@ public class StudySession {
         String sql = "DELETE FROM study_sessions WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, sessionId);
         boolean deleted = rowsAffected > 0;
+        EntityChanges.changed(StudySession.class, sessionId);
         
         if (deleted) {
             logger.info("Study session deleted: {}", sessionId);
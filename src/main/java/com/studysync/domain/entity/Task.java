@@ -1,5 +1,6 @@
 package com.studysync.domain.entity;
 
+import com.studysync.domain.valueobject.RecurrenceRule;
 import com.studysync.domain.valueobject.TaskPriority;
 import com.studysync.domain.valueobject.TaskStatus;
 import jakarta.validation.constraints.*;
@@ -12,6 +13,8 @@ import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -25,6 +28,11 @@ import java.util.stream.Collectors;
 public class Task {
     private static final Logger logger = LoggerFactory.getLogger(Task.class);
     private static JdbcTemplate jdbcTemplate;
+
+    private static final String MERGE_SQL = """
+        MERGE INTO tasks (id, title, description, category, priority, deadline, status, points, recurring_pattern, start_date, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+        """;
     
     public static void setJdbcTemplate(JdbcTemplate template) {
         jdbcTemplate = template;
@@ -64,6 +72,12 @@ public class Task {
      */
     private String recurringPattern;
 
+    /**
+     * {@link #recurringPattern} parsed once whenever it is set, so date matching
+     * never re-parses the string. NULL when non-recurring or the pattern is malformed.
+     */
+    private RecurrenceRule recurrenceRule;
+
     /**
      * Start date for recurring tasks.  Acts as:
      * <ul>
@@ -115,6 +129,7 @@ public class Task {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
         this.recurringPattern = recurringPattern;
+        this.recurrenceRule = parseRecurrenceRule(recurringPattern);
         this.startDate = startDate;
         
         // Validation
@@ -164,6 +179,21 @@ public class Task {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Returns a detached copy of this task, timestamps included, so callers
+     * can mutate it without affecting shared (e.g. cached) instances.
+     */
+    public Task copy() {
+        Task copy = new Task(id, title, description, category, priority, deadline,
+                status, points, null, startDate);
+        // Share the already-parsed rule rather than re-parsing the pattern.
+        copy.recurringPattern = this.recurringPattern;
+        copy.recurrenceRule = this.recurrenceRule;
+        copy.createdAt = this.createdAt;
+        copy.updatedAt = this.updatedAt;
+        return copy;
+    }
+
     // Getters and setters
     public String getId() {
         return id;
@@ -269,6 +299,7 @@ public class Task {
      */
     public void setRecurringPattern(String recurringPattern) {
         this.recurringPattern = recurringPattern;
+        this.recurrenceRule = parseRecurrenceRule(recurringPattern);
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -313,28 +344,26 @@ public class Task {
      */
     public String getRecurringSummary() {
         if (!isRecurring()) return "Not recurring";
+        return recurrenceRule != null ? recurrenceRule.summary() : recurringPattern;
+    }
+
+    /**
+     * Gets the parsed recurrence rule.
+     * @return the rule, or null if non-recurring or the stored pattern is malformed
+     */
+    public RecurrenceRule getRecurrenceRule() {
+        return recurrenceRule;
+    }
+
+    private RecurrenceRule parseRecurrenceRule(String pattern) {
+        if (pattern == null || pattern.isBlank()) {
+            return null;
+        }
         try {
-            String[] parts = recurringPattern.split(":");
-            int interval = Integer.parseInt(parts[0]);
-            String[] dayNums = parts[1].split(",");
-            String[] dayNames = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
-            StringBuilder sb = new StringBuilder();
-            sb.append(interval == 1 ? "Every week" : "Every " + interval + " weeks");
-            sb.append(" on ");
-            boolean firstDayAppended = false;
-            for (int i = 0; i < dayNums.length; i++) {
-                int dayIdx = Integer.parseInt(dayNums[i].trim()) - 1;
-                if (dayIdx >= 0 && dayIdx < 7) {
-                    if (firstDayAppended) {
-                        sb.append(", ");
-                    }
-                    sb.append(dayNames[dayIdx]);
-                    firstDayAppended = true;
-                }
-            }
-            return sb.toString();
-        } catch (Exception e) {
-            return recurringPattern;
+            return RecurrenceRule.parse(pattern);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid recurring pattern '{}' for task '{}'", pattern, title);
+            return null;
         }
     }
 
@@ -350,17 +379,40 @@ public class Task {
             throw new IllegalStateException("JdbcTemplate not initialized. Make sure Spring context is loaded.");
         }
         
-        String id = (this.id == null || this.id.isBlank()) ? UUID.randomUUID().toString() : this.id;
-        this.id = id;
-        this.updatedAt = LocalDateTime.now();
-        
-        String sql = """
-            MERGE INTO tasks (id, title, description, category, priority, deadline, status, points, recurring_pattern, start_date, created_at)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
-            """;
+        jdbcTemplate.update(MERGE_SQL, prepareMerge());
+        EntityChanges.changed(Task.class, id);
         
-        jdbcTemplate.update(sql,
-            id,
+        logger.debug("Task saved: {} - {}", id, this.title);
+        return this;
+    }
+
+    /**
+     * Save several tasks as one JDBC batch of the same {@code MERGE} that {@link #save()} issues.
+     */
+    public static void saveAll(Collection<Task> tasks) {
+        if (jdbcTemplate == null) {
+            throw new IllegalStateException("JdbcTemplate not initialized. Make sure Spring context is loaded.");
+        }
+        if (tasks == null || tasks.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            rows.add(task.prepareMerge());
+        }
+        BatchWriter.execute(jdbcTemplate, MERGE_SQL, rows);
+        tasks.forEach(task -> EntityChanges.changed(Task.class, task.id));
+        logger.debug("Saved {} tasks in batch", rows.size());
+    }
+
+    /** Assigns an id if needed and returns the {@link #MERGE_SQL} parameters. */
+    private Object[] prepareMerge() {
+        if (this.id == null || this.id.isBlank()) {
+            this.id = UUID.randomUUID().toString();
+        }
+        this.updatedAt = LocalDateTime.now();
+        return new Object[] {
+            this.id,
             this.title,
             this.description,
             this.category,
@@ -370,10 +422,7 @@ public class Task {
             this.points,
             this.recurringPattern,
             this.startDate
-        );
-        
-        logger.debug("Task saved: {} - {}", id, this.title);
-        return this;
+        };
     }
     
     /**
@@ -387,6 +436,7 @@ public class Task {
         String sql = "DELETE FROM tasks WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, this.id);
         boolean deleted = rowsAffected > 0;
+        EntityChanges.changed(Task.class, this.id);
         
         if (deleted) {
             logger.info("Task deleted: {} - {}", this.id, this.title);
@@ -469,6 +519,31 @@ public class Task {
         return jdbcTemplate.query(sql, getRowMapper(), date);
     }
     
+    /**
+     * Open or in-progress tasks whose deadline is before {@code date}: the
+     * candidates of the daily DELAYED pass. Served by {@code idx_tasks_status_deadline}.
+     */
+    public static List<Task> findDelayCandidates(LocalDate date) {
+        if (jdbcTemplate == null) {
+            throw new IllegalStateException("JdbcTemplate not initialized");
+        }
+
+        String sql = "SELECT * FROM tasks WHERE status IN ('OPEN', 'IN_PROGRESS') AND deadline < ? ORDER BY deadline ASC";
+        return jdbcTemplate.query(sql, getRowMapper(), date);
+    }
+
+    /**
+     * Postponed tasks whose resume date (their deadline) is on or before {@code date}.
+     */
+    public static List<Task> findPostponedResumingBy(LocalDate date) {
+        if (jdbcTemplate == null) {
+            throw new IllegalStateException("JdbcTemplate not initialized");
+        }
+
+        String sql = "SELECT * FROM tasks WHERE status = 'POSTPONED' AND deadline <= ? ORDER BY deadline ASC";
+        return jdbcTemplate.query(sql, getRowMapper(), date);
+    }
+
     /**
      * Get overdue tasks.
      */
@@ -542,6 +617,7 @@ public class Task {
         String sql = "DELETE FROM tasks WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, taskId);
         boolean deleted = rowsAffected > 0;
+        EntityChanges.changed(Task.class, taskId);
         
         if (deleted) {
             logger.info("Task deleted: {}", taskId);
@@ -638,6 +714,7 @@ public class Task {
         
         String sql = "DELETE FROM tasks WHERE id = ?";
         int[] results = jdbcTemplate.batchUpdate(sql, validIds);
+        validIds.forEach(id -> EntityChanges.changed(Task.class, (String) id[0]));
         return java.util.Arrays.stream(results).sum();
     }
     
@@ -0,0 +1,8 @@
+package com.studysync.domain.event;
+
+/**
+ * A category was renamed. Category pickers and filters list the new name; tasks
+ * filed under the old name keep it.
+ */
+public record CategoryRenamed(String oldName, String newName) implements DomainEvent {
+}
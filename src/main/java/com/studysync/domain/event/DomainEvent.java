@@ -0,0 +1,9 @@
+package com.studysync.domain.event;
+
+/**
+ * A committed change to the study data, published on {@link DomainEventBus} by
+ * the services so views can refresh only what the change touched.
+ */
+public sealed interface DomainEvent
+        permits TaskChanged, GoalAttemptChanged, SessionEnded, ProjectChanged, CategoryRenamed, ReflectionChanged {
+}
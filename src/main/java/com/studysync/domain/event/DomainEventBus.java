@@ -0,0 +1,70 @@
+package com.studysync.domain.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process bus for {@link DomainEvent}s.
+ *
+ * <p>Events published inside a transaction are delivered after it commits and dropped
+ * on rollback, so listeners never see a change that did not happen. Delivery runs on
+ * the publishing thread; UI listeners hop to the FX thread themselves.</p>
+ */
+@Component
+public class DomainEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomainEventBus.class);
+
+    private record Subscription<E extends DomainEvent>(Class<E> type, Consumer<? super E> listener) {
+        void deliver(DomainEvent event) {
+            if (type.isInstance(event)) {
+                listener.accept(type.cast(event));
+            }
+        }
+    }
+
+    private final List<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registers {@code listener} for events of {@code type} (use {@code DomainEvent.class}
+     * for all of them).
+     *
+     * @return unsubscribes the listener when run
+     */
+    public <E extends DomainEvent> Runnable subscribe(Class<E> type, Consumer<? super E> listener) {
+        Subscription<E> subscription = new Subscription<>(type, listener);
+        subscriptions.add(subscription);
+        return () -> subscriptions.remove(subscription);
+    }
+
+    /** Delivers {@code event} once the surrounding transaction commits, or now if there is none. */
+    public void publish(DomainEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(event);
+                }
+            });
+        } else {
+            deliver(event);
+        }
+    }
+
+    private void deliver(DomainEvent event) {
+        for (Subscription<?> subscription : subscriptions) {
+            try {
+                subscription.deliver(event);
+            } catch (RuntimeException e) {
+                logger.warn("Listener failed for {}", event, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.studysync.domain.event;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Study goals or their attempts were added, completed, missed, re-planned or deleted.
+ *
+ * @param dates the planned dates whose goal lists changed; empty when not known
+ */
+public record GoalAttemptChanged(Set<LocalDate> dates) implements DomainEvent {
+
+    public GoalAttemptChanged {
+        dates = Set.copyOf(dates);
+    }
+
+    public static GoalAttemptChanged on(LocalDate date) {
+        return new GoalAttemptChanged(date != null ? Set.of(date) : Set.of());
+    }
+
+    public static GoalAttemptChanged on(Collection<LocalDate> dates) {
+        return new GoalAttemptChanged(Set.copyOf(dates));
+    }
+}
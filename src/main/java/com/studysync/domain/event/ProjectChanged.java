@@ -0,0 +1,9 @@
+package com.studysync.domain.event;
+
+/**
+ * A project or one of its work sessions changed.
+ *
+ * @param projectId the project, or {@code null} when several changed
+ */
+public record ProjectChanged(String projectId) implements DomainEvent {
+}
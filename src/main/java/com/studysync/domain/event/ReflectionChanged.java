@@ -0,0 +1,9 @@
+package com.studysync.domain.event;
+
+import java.time.LocalDate;
+
+/**
+ * The daily reflection for {@code date} was saved or deleted.
+ */
+public record ReflectionChanged(LocalDate date) implements DomainEvent {
+}
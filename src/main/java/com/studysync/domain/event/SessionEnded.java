@@ -0,0 +1,12 @@
+package com.studysync.domain.event;
+
+import java.time.LocalDate;
+
+/**
+ * A study session was ended or deleted, changing the day's totals.
+ *
+ * @param sessionId the session
+ * @param date the day the session counts towards
+ */
+public record SessionEnded(String sessionId, LocalDate date) implements DomainEvent {
+}
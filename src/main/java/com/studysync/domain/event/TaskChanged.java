@@ -0,0 +1,24 @@
+package com.studysync.domain.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Tasks were created, edited, re-statused or deleted.
+ *
+ * @param taskIds the tasks written; empty when the writer cannot name them
+ */
+public record TaskChanged(Set<String> taskIds) implements DomainEvent {
+
+    public TaskChanged {
+        taskIds = Set.copyOf(taskIds);
+    }
+
+    public static TaskChanged of(String taskId) {
+        return new TaskChanged(Set.of(taskId));
+    }
+
+    public static TaskChanged of(Collection<String> taskIds) {
+        return new TaskChanged(Set.copyOf(taskIds));
+    }
+}
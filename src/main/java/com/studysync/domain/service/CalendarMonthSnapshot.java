@@ -0,0 +1,61 @@
+package com.studysync.domain.service;
+
+import com.studysync.domain.entity.ProjectSession;
+import com.studysync.domain.entity.StudyGoal;
+import com.studysync.domain.entity.StudySession;
+import com.studysync.domain.entity.Task;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Everything the month calendar needs for one visible month, loaded with one
+ * range query per table by {@link CalendarService#loadMonth(YearMonth)}.
+ * Day cells read from here instead of querying the database per date.
+ *
+ * @param month                the month this snapshot covers
+ * @param days                 per-day data for every date of the month, in date order
+ * @param handledTaskDatePairs {@code taskId|date} keys of recurring-task occurrences
+ *                             that were handled by a goal within the month
+ */
+public record CalendarMonthSnapshot(YearMonth month,
+                                    Map<LocalDate, Day> days,
+                                    Set<String> handledTaskDatePairs) {
+
+    /**
+     * Raw activity for a single calendar date.
+     *
+     * @param date            the calendar date
+     * @param studySessions   study sessions on that date, latest start first
+     * @param projectSessions project sessions on that date, latest start first
+     * @param goals           every goal attempt planned for that date, pending first
+     * @param tasks           tasks surfacing on that date (see {@link TaskService#getTasksForDate})
+     */
+    public record Day(LocalDate date,
+                      List<StudySession> studySessions,
+                      List<ProjectSession> projectSessions,
+                      List<StudyGoal> goals,
+                      List<Task> tasks) {
+
+        static Day empty(LocalDate date) {
+            return new Day(date, List.of(), List.of(), List.of(), List.of());
+        }
+    }
+
+    /**
+     * Returns the data for {@code date}, or an empty day when the date lies
+     * outside this snapshot's month.
+     */
+    public Day day(LocalDate date) {
+        Day day = days.get(date);
+        return day != null ? day : Day.empty(date);
+    }
+
+    /** Whether the recurring task's occurrence on {@code date} was handled by a goal. */
+    public boolean isOccurrenceHandled(String taskId, LocalDate date) {
+        return handledTaskDatePairs.contains(taskId + "|" + date);
+    }
+}
@@ -0,0 +1,82 @@
+package com.studysync.domain.service;
+
+import com.studysync.domain.entity.ProjectSession;
+import com.studysync.domain.entity.StudyGoal;
+import com.studysync.domain.entity.StudySession;
+import com.studysync.domain.entity.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Read-side service for the month calendar.
+ *
+ * <p>Loads a whole month with one range query per table (study sessions,
+ * project sessions, goal attempts, tasks) and groups the rows by date in
+ * memory, instead of issuing four queries per day cell. Delegates to the
+ * owning services so their invariants (e.g. daily delayed-goal processing)
+ * still apply; each delegate runs in its own transaction, which keeps the
+ * goal processing write out of a read-only transaction.</p>
+ */
+@Service
+public class CalendarService {
+    private static final Logger logger = LoggerFactory.getLogger(CalendarService.class);
+
+    private final StudyService studyService;
+    private final ProjectService projectService;
+    private final TaskService taskService;
+
+    @Autowired
+    public CalendarService(StudyService studyService, ProjectService projectService, TaskService taskService) {
+        this.studyService = Objects.requireNonNull(studyService, "studyService");
+        this.projectService = Objects.requireNonNull(projectService, "projectService");
+        this.taskService = Objects.requireNonNull(taskService, "taskService");
+    }
+
+    /**
+     * Loads sessions, goal attempts and tasks for every date of {@code month}.
+     *
+     * @param month the month to load; must not be {@code null}
+     * @return an immutable snapshot with one {@link CalendarMonthSnapshot.Day} per date
+     */
+    public CalendarMonthSnapshot loadMonth(YearMonth month) {
+        Objects.requireNonNull(month, "month");
+        long started = System.nanoTime();
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.atEndOfMonth();
+
+        List<StudyGoal> goals = studyService.getAllGoalsInDateRange(start, end);
+        Map<LocalDate, List<StudyGoal>> goalsByDate = goals.stream()
+                .collect(Collectors.groupingBy(StudyGoal::getDate));
+        Map<LocalDate, List<StudySession>> sessionsByDate = studyService.getSessionsInDateRange(start, end).stream()
+                .collect(Collectors.groupingBy(StudySession::getDate));
+        Map<LocalDate, List<ProjectSession>> projectSessionsByDate =
+                projectService.getProjectSessionsInDateRange(start, end).stream()
+                        .collect(Collectors.groupingBy(ProjectSession::getDate));
+        Map<LocalDate, List<Task>> tasksByDate = taskService.getTasksForDateRange(start, end, goals);
+        Set<String> handledPairs = StudyGoal.findHandledTaskDatePairs(start, end);
+
+        Map<LocalDate, CalendarMonthSnapshot.Day> days = new LinkedHashMap<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            days.put(date, new CalendarMonthSnapshot.Day(date,
+                    List.copyOf(sessionsByDate.getOrDefault(date, List.of())),
+                    List.copyOf(projectSessionsByDate.getOrDefault(date, List.of())),
+                    List.copyOf(goalsByDate.getOrDefault(date, List.of())),
+                    List.copyOf(tasksByDate.getOrDefault(date, List.of()))));
+        }
+
+        logger.debug("Loaded calendar snapshot for {} in {} ms", month, (System.nanoTime() - started) / 1_000_000);
+        return new CalendarMonthSnapshot(month, Collections.unmodifiableMap(days), Set.copyOf(handledPairs));
+    }
+}
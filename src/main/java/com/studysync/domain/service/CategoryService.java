@@ -1,6 +1,8 @@
 
 package com.studysync.domain.service;
 
+import com.studysync.domain.event.CategoryRenamed;
+import com.studysync.domain.event.DomainEventBus;
 import com.studysync.domain.exception.ValidationException;
 import com.studysync.domain.entity.Category;
 import com.studysync.domain.valueobject.TaskCategory;
@@ -68,11 +70,15 @@ import java.util.stream.Collectors;
 public class CategoryService {
     private static final Logger logger = LoggerFactory.getLogger(CategoryService.class);
     
+    private final DomainEventBus eventBus;
     
     /**
      * Constructs a CategoryService.
+     * 
+     * @param eventBus receives a {@link CategoryRenamed} after each committed rename
      */
-    public CategoryService() {
+    public CategoryService(DomainEventBus eventBus) {
+        this.eventBus = eventBus;
         logger.info("CategoryService initialized with Active Record pattern");
     }
     
@@ -185,6 +191,7 @@ public class CategoryService {
         existingCategory.save();
         
         logger.info("Renamed category from '{}' to '{}'", category.getName(), trimmedNewName);
+        eventBus.publish(new CategoryRenamed(category.name(), trimmedNewName));
     }
     
     /**
@@ -1,34 +1,36 @@
 package com.studysync.domain.service;
 
-import javafx.animation.Animation;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import jakarta.annotation.PreDestroy;
 import javafx.application.Platform;
-import javafx.util.Duration;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 /**
  * Service to handle date and time operations, including automatic date refresh at midnight.
  * This service notifies registered listeners when the date changes.
+ *
+ * <p>The date is checked on a daemon thread rather than a JavaFX {@code Timeline}, so the
+ * bean can be created by the startup warm-up before the FX toolkit is running; listeners
+ * are still called on the FX thread.</p>
  */
 @Service
 public class DateTimeService {
     
-    private final List<Consumer<LocalDate>> dateChangeListeners = new ArrayList<>();
-    private final Timeline midnightTimer;
-    private LocalDate currentDate;
+    private final List<Consumer<LocalDate>> dateChangeListeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService midnightTimer;
+    private volatile LocalDate currentDate;
     
     public DateTimeService() {
         this.currentDate = LocalDate.now();
         this.midnightTimer = createMidnightTimer();
-        this.midnightTimer.play();
     }
     
     /**
@@ -67,7 +69,7 @@ public class DateTimeService {
      * Check if it's a new day and update if necessary.
      * This is called by the timer and can also be called manually.
      */
-    public void checkAndUpdateDate() {
+    public synchronized void checkAndUpdateDate() {
         LocalDate now = LocalDate.now();
         if (!now.equals(currentDate)) {
             LocalDate oldDate = currentDate;
@@ -77,16 +79,17 @@ public class DateTimeService {
     }
     
     /**
-     * Create a timeline that checks for date changes every minute.
-     * @return Timeline for midnight detection
+     * Create a timer that checks for date changes every minute.
+     * @return executor running the midnight detection
      */
-    private Timeline createMidnightTimer() {
-        Timeline timeline = new Timeline(new KeyFrame(
-            Duration.minutes(1), 
-            e -> checkAndUpdateDate()
-        ));
-        timeline.setCycleCount(Animation.INDEFINITE);
-        return timeline;
+    private ScheduledExecutorService createMidnightTimer() {
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "studysync-midnight-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.scheduleAtFixedRate(this::checkAndUpdateDate, 1, 1, TimeUnit.MINUTES);
+        return timer;
     }
     
     /**
@@ -94,7 +97,7 @@ public class DateTimeService {
      * @param newDate The new current date
      */
     private void notifyDateChangeListeners(LocalDate newDate) {
-        Platform.runLater(() -> {
+        runOnFxThread(() -> {
             for (Consumer<LocalDate> listener : dateChangeListeners) {
                 try {
                     listener.accept(newDate);
@@ -105,12 +108,22 @@ public class DateTimeService {
         });
     }
     
+    private static void runOnFxThread(Runnable action) {
+        try {
+            Platform.runLater(action);
+        } catch (IllegalStateException e) {
+            // The toolkit is not running (yet, or any more): no window to update
+            System.err.println("Skipping date change notification: " + e.getMessage());
+        }
+    }
+    
     /**
      * Stop the midnight timer (call this when shutting down the application).
      */
+    @PreDestroy
     public void shutdown() {
         if (midnightTimer != null) {
-            midnightTimer.stop();
+            midnightTimer.shutdownNow();
         }
     }
 }
\ No newline at end of file
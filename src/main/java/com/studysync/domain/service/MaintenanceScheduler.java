@@ -0,0 +1,107 @@
+package com.studysync.domain.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the daily maintenance passes (delayed tasks, missed goal attempts and the
+ * consistency checks that go with them) on a background thread: once at startup
+ * and again whenever {@link DateTimeService} reports a new day.
+ *
+ * <p>Each pass records its completion in {@code maintenance_watermarks}, so a
+ * restart later the same day finds nothing to do.</p>
+ */
+@Service
+public class MaintenanceScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(MaintenanceScheduler.class);
+
+    private final TaskService taskService;
+    private final StudyService studyService;
+    private final DateTimeService dateTimeService;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "studysync-maintenance");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private boolean started;
+
+    @Autowired
+    public MaintenanceScheduler(TaskService taskService, StudyService studyService, DateTimeService dateTimeService) {
+        this.taskService = taskService;
+        this.studyService = studyService;
+        this.dateTimeService = dateTimeService;
+    }
+
+    /**
+     * Runs the due passes now and after every date change.
+     *
+     * @param afterChanges called on the maintenance thread after a run that updated data
+     */
+    public synchronized void start(Runnable afterChanges) {
+        if (started) {
+            return;
+        }
+        started = true;
+        dateTimeService.addDateChangeListener(date -> runDueJobsAsync().thenAccept(run -> notifyIfChanged(run, afterChanges)));
+        runDueJobsAsync().thenAccept(run -> notifyIfChanged(run, afterChanges));
+    }
+
+    /** Runs the passes whose watermark is behind today, off the calling thread. */
+    public CompletableFuture<MaintenanceRun> runDueJobsAsync() {
+        return CompletableFuture.supplyAsync(this::runDueJobs, executor);
+    }
+
+    private MaintenanceRun runDueJobs() {
+        LocalDate today = dateTimeService.getCurrentDate();
+        int delayedTasks = 0;
+        int missedGoalAttempts = 0;
+        try {
+            delayedTasks = taskService.runDailyMaintenance();
+        } catch (Exception e) {
+            logger.error("Daily delayed task pass failed", e);
+        }
+        try {
+            missedGoalAttempts = studyService.runDailyMaintenance().missedAttempts();
+        } catch (Exception e) {
+            logger.error("Daily goal pass failed", e);
+        }
+        MaintenanceRun run = new MaintenanceRun(today, delayedTasks, missedGoalAttempts);
+        if (run.hasChanges()) {
+            logger.info("Daily maintenance for {}: {} task(s) updated, {} goal attempt(s) marked missed",
+                    today, delayedTasks, missedGoalAttempts);
+        }
+        return run;
+    }
+
+    private static void notifyIfChanged(MaintenanceRun run, Runnable afterChanges) {
+        if (run.hasChanges() && afterChanges != null) {
+            afterChanges.run();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Summary of one maintenance run.
+     * @param date the day the run processed
+     * @param delayedTasks tasks marked DELAYED or resumed from POSTPONED
+     * @param missedGoalAttempts pending goal attempts marked missed
+     */
+    public record MaintenanceRun(LocalDate date, int delayedTasks, int missedGoalAttempts) {
+        public boolean hasChanges() {
+            return delayedTasks > 0 || missedGoalAttempts > 0;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.studysync.domain.service;
 
 import com.studysync.domain.entity.Project;
+import com.studysync.domain.event.DomainEventBus;
+import com.studysync.domain.event.ProjectChanged;
 import com.studysync.domain.entity.ProjectSession;
 import com.studysync.domain.valueobject.ProjectStatus;
 import com.studysync.domain.service.ProjectSessionEnd;
@@ -31,10 +33,12 @@ public class ProjectService {
     private static final Logger logger = LoggerFactory.getLogger(ProjectService.class);
 
     private final GoogleDriveService googleDriveService;
+    private final DomainEventBus eventBus;
 
     @Autowired
-    public ProjectService(GoogleDriveService googleDriveService) {
+    public ProjectService(GoogleDriveService googleDriveService, DomainEventBus eventBus) {
         this.googleDriveService = googleDriveService;
+        this.eventBus = eventBus;
     }
 
     private void markDirty() {
@@ -56,16 +60,12 @@ public class ProjectService {
                 @Override
                 public void afterCommit() {
                     googleDriveService.markLocalDbDirty();
-                    if (!googleDriveService.saveLocally()) {
-                        logger.warn("Local checkpoint failed after {}", operation);
-                    }
+                    googleDriveService.requestLocalSave(operation);
                 }
             });
         } else {
             googleDriveService.markLocalDbDirty();
-            if (!googleDriveService.saveLocally()) {
-                logger.warn("Local checkpoint failed after {}", operation);
-            }
+            googleDriveService.requestLocalSave(operation);
         }
     }
 
@@ -93,6 +93,7 @@ public class ProjectService {
         }
         project.save();
         markDirtyAndSaveLocally("project creation");
+        eventBus.publish(new ProjectChanged(project.getId()));
     }
 
     public void updateProject(Project project) {
@@ -101,6 +102,7 @@ public class ProjectService {
         }
         project.save();
         markDirtyAndSaveLocally("project update");
+        eventBus.publish(new ProjectChanged(project.getId()));
     }
 
     public void deleteProject(String projectId) {
@@ -109,6 +111,7 @@ public class ProjectService {
         // Then delete the project
         Project.deleteById(projectId);
         markDirtyAndSaveLocally("project deletion");
+        eventBus.publish(new ProjectChanged(projectId));
     }
 
     @Transactional(readOnly = true)
@@ -138,6 +141,7 @@ public class ProjectService {
         session.setStartTime(LocalDateTime.now());
         session.save();  // Model handles its own persistence
         markDirtyAndSaveLocally("project session start");
+        eventBus.publish(new ProjectChanged(projectId));
         return session;
     }
 
@@ -167,6 +171,7 @@ public class ProjectService {
         project.incrementSessionCount();
         project.save();
         markDirtyAndSaveLocally("project session completion");
+        eventBus.publish(new ProjectChanged(project.getId()));
     }
 
     public void deleteProjectSession(String sessionId) {
@@ -183,6 +188,7 @@ public class ProjectService {
         // Delete the session
         ProjectSession.deleteById(sessionId);
         markDirtyAndSaveLocally("project session deletion");
+        eventBus.publish(new ProjectChanged(session.getProjectId()));
     }
 
     @Transactional(readOnly = true)
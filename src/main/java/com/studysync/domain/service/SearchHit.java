@@ -0,0 +1,24 @@
+package com.studysync.domain.service;
+
+import java.time.LocalDate;
+
+/**
+ * One ranked result of {@link SearchService#search}.
+ *
+ * @param kind    which table the hit came from
+ * @param id      primary key of the matching row
+ * @param title   display title (task/project title, goal description, session subject, ...)
+ * @param snippet short excerpt of the matching text, or {@code ""} when only the title matched
+ * @param date    the row's deadline or day, if it has one
+ * @param score   relevance; only meaningful relative to other hits of the same query
+ */
+public record SearchHit(Kind kind, String id, String title, String snippet, LocalDate date, double score) {
+
+    public enum Kind {
+        TASK,
+        PROJECT,
+        GOAL,
+        SESSION,
+        REFLECTION
+    }
+}
@@ -0,0 +1,195 @@
+package com.studysync.domain.service;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index behind {@link SearchService}.
+ *
+ * <p>Text is folded to lower case without accents and split into words. Each word maps
+ * to the documents containing it and how often, in a sorted map so a query word also
+ * matches every indexed word it is a prefix of ("integ" finds "integral"), which keeps
+ * as-you-type queries useful. A document matches when every query word matches; hits
+ * are ranked with BM25, counting title words {@value #TITLE_WEIGHT} times and
+ * prefix-only matches at half weight.</p>
+ *
+ * <p>Access is serialized on the instance monitor, like {@link TaskCache}.</p>
+ */
+final class SearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final double PREFIX_MATCH_WEIGHT = 0.5;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int SNIPPET_LENGTH = 120;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /** Text of one row as handed to {@link #put}. */
+    record Document(SearchHit.Kind kind, String id, String title, String body, LocalDate date) {
+    }
+
+    private record Key(SearchHit.Kind kind, String id) {
+    }
+
+    private record Indexed(Document document, Map<String, Integer> termFrequencies, int length) {
+    }
+
+    private final NavigableMap<String, Map<Key, Integer>> postings = new TreeMap<>();
+    private final Map<Key, Indexed> documents = new HashMap<>();
+    private long totalLength;
+
+    synchronized void put(Document document) {
+        Key key = new Key(document.kind(), document.id());
+        removeKey(key);
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : tokenize(document.title())) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(document.body())) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(key, entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(key, new Indexed(document, frequencies, length));
+        totalLength += length;
+    }
+
+    synchronized void remove(SearchHit.Kind kind, String id) {
+        removeKey(new Key(kind, id));
+    }
+
+    synchronized void removeKind(SearchHit.Kind kind) {
+        List<Key> keys = documents.keySet().stream().filter(key -> key.kind() == kind).toList();
+        keys.forEach(this::removeKey);
+    }
+
+    synchronized void clear() {
+        postings.clear();
+        documents.clear();
+        totalLength = 0;
+    }
+
+    synchronized int size() {
+        return documents.size();
+    }
+
+    /**
+     * @param kinds only documents of these kinds are returned
+     * @param limit maximum number of hits
+     * @return hits ordered by descending score, then newest date first
+     */
+    synchronized List<SearchHit> search(String query, Set<SearchHit.Kind> kinds, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || documents.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        double averageLength = Math.max(1.0, (double) totalLength / documents.size());
+        Map<Key, Double> scores = null;
+        for (String term : terms.stream().distinct().toList()) {
+            Map<Key, Double> matches = matches(term);
+            double idf = Math.log(1.0 + (documents.size() - matches.size() + 0.5) / (matches.size() + 0.5));
+            Map<Key, Double> next = new HashMap<>();
+            for (Map.Entry<Key, Double> match : matches.entrySet()) {
+                Key key = match.getKey();
+                if (!kinds.contains(key.kind()) || (scores != null && !scores.containsKey(key))) {
+                    continue;
+                }
+                double tf = match.getValue();
+                double norm = K1 * (1 - B + B * documents.get(key).length() / averageLength);
+                double termScore = idf * tf * (K1 + 1) / (tf + norm);
+                next.put(key, (scores != null ? scores.get(key) : 0.0) + termScore);
+            }
+            scores = next;
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(scores.size());
+        for (Map.Entry<Key, Double> scored : scores.entrySet()) {
+            Document document = documents.get(scored.getKey()).document();
+            hits.add(new SearchHit(document.kind(), document.id(), document.title(),
+                    snippet(document.body(), terms), document.date(), scored.getValue()));
+        }
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                .thenComparing(SearchHit::date, Comparator.nullsLast(Comparator.<LocalDate>reverseOrder()))
+                .thenComparing(SearchHit::id));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    /** Weighted term frequency per document for every indexed word starting with {@code term}. */
+    private Map<Key, Double> matches(String term) {
+        Map<Key, Double> result = new HashMap<>();
+        for (Map.Entry<String, Map<Key, Integer>> entry
+                : postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+            double weight = entry.getKey().equals(term) ? 1.0 : PREFIX_MATCH_WEIGHT;
+            entry.getValue().forEach((key, frequency) -> result.merge(key, frequency * weight, Double::sum));
+        }
+        return result;
+    }
+
+    private void removeKey(Key key) {
+        Indexed previous = documents.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.termFrequencies().keySet()) {
+            Map<Key, Integer> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(key);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= previous.length();
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> terms = new ArrayList<>();
+        for (String term : NON_WORD.split(folded)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /** Excerpt of {@code body} around the first query word found in it. */
+    private static String snippet(String body, List<String> terms) {
+        if (body == null || body.isBlank()) {
+            return "";
+        }
+        String lower = body.toLowerCase(Locale.ROOT);
+        int at = -1;
+        for (String term : terms) {
+            at = lower.indexOf(term);
+            if (at >= 0) {
+                break;
+            }
+        }
+        int start = Math.max(0, at - SNIPPET_LENGTH / 3);
+        int end = Math.min(body.length(), start + SNIPPET_LENGTH);
+        String excerpt = body.substring(start, end).replaceAll("\\s+", " ").trim();
+        return (start > 0 ? "…" : "") + excerpt + (end < body.length() ? "…" : "");
+    }
+}
@@ -0,0 +1,263 @@
+package com.studysync.domain.service;
+
+import com.studysync.domain.entity.DailyReflection;
+import com.studysync.domain.entity.EntityChanges;
+import com.studysync.domain.entity.Project;
+import com.studysync.domain.entity.StudyGoal;
+import com.studysync.domain.entity.StudySession;
+import com.studysync.domain.entity.Task;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Ranked full-text search over task and project titles/descriptions, goal descriptions,
+ * session text and notes, and reflection text.
+ *
+ * <p>Backed by an in-process {@link SearchIndex} that is built in the background at
+ * startup ({@link #buildIndexAsync()}), or by the first search if that comes earlier, and
+ * then kept current through {@link EntityChanges}: every saved or deleted row is read
+ * back and re-indexed once its transaction completes (committed or not, the re-read
+ * sees what is really stored). Changes made while the index is being built are queued
+ * and applied once it is. A staged Drive download replaces the database before the
+ * next start, so the index never outlives the file it was built from.</p>
+ */
+@Service
+public class SearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+    /** Every query selects {@code id, title, body, extra, item_date}; {@code body} and {@code extra} are both indexed. */
+    private static final Map<SearchHit.Kind, String> SELECTS = new EnumMap<>(Map.of(
+            SearchHit.Kind.TASK,
+            "SELECT id, title, description AS body, NULL AS extra, deadline AS item_date FROM tasks",
+            SearchHit.Kind.PROJECT,
+            "SELECT id, title, description AS body, NULL AS extra, deadline AS item_date FROM projects",
+            SearchHit.Kind.GOAL,
+            "SELECT id, description AS title, NULL AS body, NULL AS extra, date AS item_date FROM study_goals",
+            SearchHit.Kind.SESSION,
+            "SELECT id, COALESCE(subject, topic) AS title, session_text AS body, notes AS extra, date AS item_date"
+                    + " FROM study_sessions",
+            SearchHit.Kind.REFLECTION,
+            "SELECT id, NULL AS title, reflection_text AS body, NULL AS extra, date AS item_date FROM daily_reflections"));
+
+    private static final Map<Class<?>, SearchHit.Kind> KINDS_BY_ENTITY = Map.of(
+            Task.class, SearchHit.Kind.TASK,
+            Project.class, SearchHit.Kind.PROJECT,
+            StudyGoal.class, SearchHit.Kind.GOAL,
+            StudySession.class, SearchHit.Kind.SESSION,
+            DailyReflection.class, SearchHit.Kind.REFLECTION);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchIndex index = new SearchIndex();
+    /** Guards building the index; {@code loaded} is only written while holding it. */
+    private final Object loadLock = new Object();
+    private volatile boolean loaded;
+    /**
+     * Rows changed since they were last read into the index. Filled without the lock, so a
+     * write never waits for a build; drained under it once {@code loaded} is set.
+     */
+    private final Set<PendingChange> pendingChanges = ConcurrentHashMap.newKeySet();
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "studysync-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public SearchService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void registerChangeListener() {
+        EntityChanges.setListener(this::onEntityChanged);
+    }
+
+    @PreDestroy
+    public void unregisterChangeListener() {
+        EntityChanges.setListener(null);
+        indexExecutor.shutdownNow();
+    }
+
+    /**
+     * Builds the index off the calling thread, so an as-you-type search on the FX thread
+     * never has to read every row first. A no-op once the index is built.
+     */
+    public CompletableFuture<Void> buildIndexAsync() {
+        if (loaded) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(this::ensureLoaded, indexExecutor)
+                .exceptionally(e -> {
+                    logger.warn("Building the search index failed; the next search retries: {}", e.getMessage());
+                    return null;
+                });
+    }
+
+    /** @return whether searches are answered from a built index, without reading the database */
+    public boolean isIndexReady() {
+        return loaded;
+    }
+
+    /**
+     * Searches every indexed kind.
+     *
+     * @param query words to match; each word also matches longer words it starts
+     * @param limit maximum number of hits
+     */
+    public List<SearchHit> search(String query, int limit) {
+        return search(query, EnumSet.allOf(SearchHit.Kind.class), limit);
+    }
+
+    public List<SearchHit> search(String query, Set<SearchHit.Kind> kinds, int limit) {
+        if (query == null || query.isBlank() || kinds.isEmpty()) {
+            return List.of();
+        }
+        ensureLoaded();
+        return index.search(query, kinds, limit);
+    }
+
+    /**
+     * Ids of every row of {@code kind} matching {@code query}, best match first.
+     */
+    public Set<String> matchingIds(SearchHit.Kind kind, String query) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (SearchHit hit : search(query, EnumSet.of(kind), Integer.MAX_VALUE)) {
+            ids.add(hit.id());
+        }
+        return ids;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (loadLock) {
+            if (loaded) {
+                return;
+            }
+            long startedAt = System.currentTimeMillis();
+            index.clear();
+            for (SearchHit.Kind kind : SearchHit.Kind.values()) {
+                loadKind(kind);
+            }
+            loaded = true;
+            // Rows saved while the build read past them; a change queued after this point
+            // sees loaded set and applies itself.
+            applyPendingChangesLocked();
+            logger.info("Built search index over {} rows in {} ms", index.size(),
+                    System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private void loadKind(SearchHit.Kind kind) {
+        jdbcTemplate.query(SELECTS.get(kind), documentMapper(kind)).forEach(index::put);
+    }
+
+    private void onEntityChanged(Class<?> entityType, String id) {
+        SearchHit.Kind kind = KINDS_BY_ENTITY.get(entityType);
+        if (kind == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    refresh(kind, id);
+                }
+            });
+        } else {
+            refresh(kind, id);
+        }
+    }
+
+    private void refresh(SearchHit.Kind kind, String id) {
+        pendingChanges.add(new PendingChange(kind, id));
+        if (!loaded) {
+            return; // applied when the build in progress, or the next one, finishes
+        }
+        synchronized (loadLock) {
+            applyPendingChangesLocked();
+        }
+    }
+
+    private void applyPendingChangesLocked() {
+        Iterator<PendingChange> changes = pendingChanges.iterator();
+        while (loaded && changes.hasNext()) {
+            PendingChange change = changes.next();
+            changes.remove();
+            refreshLocked(change.kind(), change.id());
+        }
+    }
+
+    private void refreshLocked(SearchHit.Kind kind, String id) {
+        try {
+            if (id == null) {
+                index.removeKind(kind);
+                loadKind(kind);
+                return;
+            }
+            List<SearchIndex.Document> rows = jdbcTemplate.query(SELECTS.get(kind) + " WHERE id = ?",
+                    documentMapper(kind), id);
+            if (rows.isEmpty()) {
+                index.remove(kind, id);
+            } else {
+                index.put(rows.get(0));
+            }
+        } catch (RuntimeException e) {
+            // Never fail the caller's write over the index; rebuild on the next search.
+            logger.warn("Search index update for {} {} failed, rebuilding: {}", kind, id, e.getMessage());
+            loaded = false;
+        }
+    }
+
+    private static RowMapper<SearchIndex.Document> documentMapper(SearchHit.Kind kind) {
+        return (rs, rowNum) -> {
+            String body = rs.getString("body");
+            String extra = rs.getString("extra");
+            if (extra != null && !extra.isBlank()) {
+                body = body == null || body.isBlank() ? extra : body + "\n" + extra;
+            }
+            Date date = rs.getDate("item_date");
+            String title = rs.getString("title");
+            return new SearchIndex.Document(kind, rs.getString("id"),
+                    title != null && !title.isBlank() ? title : defaultTitle(kind), body,
+                    date != null ? date.toLocalDate() : null);
+        };
+    }
+
+    private static String defaultTitle(SearchHit.Kind kind) {
+        return switch (kind) {
+            case TASK -> "Task";
+            case PROJECT -> "Project";
+            case GOAL -> "Goal";
+            case SESSION -> "Study session";
+            case REFLECTION -> "Reflection";
+        };
+    }
+
+    /** A row to re-read; a {@code null} id re-reads every row of the kind. */
+    private record PendingChange(SearchHit.Kind kind, String id) {
+    }
+}
@@ -1,7 +1,13 @@
 package com.studysync.domain.service;
 
+import com.studysync.domain.event.DomainEventBus;
+import com.studysync.domain.event.GoalAttemptChanged;
+import com.studysync.domain.event.ReflectionChanged;
+import com.studysync.domain.event.SessionEnded;
 import com.studysync.domain.exception.ValidationException;
 import com.studysync.domain.entity.DailyReflection;
+import com.studysync.domain.entity.DailyStats;
+import com.studysync.domain.entity.MaintenanceWatermark;
 import com.studysync.domain.entity.StudyGoal;
 import com.studysync.domain.entity.StudySession;
 import com.studysync.domain.entity.Task;
@@ -18,9 +24,12 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
@@ -34,14 +43,27 @@ public class StudyService {
     
     private final GoogleDriveService googleDriveService;
     private final DateTimeService dateTimeService;
+    private final TaskService taskService;
+    private final DomainEventBus eventBus;
 
-    /** Guards processAllDelayedGoals() so the full scan runs at most once per calendar day. */
-    private LocalDate lastDelayProcessingDate;
+    /** {@link MaintenanceWatermark} job name of the daily goal pass. */
+    static final String GOAL_MAINTENANCE_JOB = "goal-maintenance";
+
+    /** In-memory shortcut for the persisted watermark, so reads skip the lookup once the day is done. */
+    private volatile LocalDate lastDelayProcessingDate;
+    /**
+     * Serializes daily goal passes. Not the service monitor: goal reads only try it, so
+     * a pass running in the background never blocks the FX thread.
+     */
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
 
     @Autowired
-    public StudyService(GoogleDriveService googleDriveService, DateTimeService dateTimeService) {
+    public StudyService(GoogleDriveService googleDriveService, DateTimeService dateTimeService,
+                        TaskService taskService, DomainEventBus eventBus) {
         this.googleDriveService = googleDriveService;
         this.dateTimeService = dateTimeService;
+        this.taskService = taskService;
+        this.eventBus = eventBus;
     }
 
     /**
@@ -51,9 +73,7 @@ public class StudyService {
      */
     @Transactional(propagation = org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED)
     public void resetAfterReload() {
-        synchronized (this) {
-            lastDelayProcessingDate = null;
-        }
+        lastDelayProcessingDate = null;
         logger.info("StudyService caches reset after DB reload");
     }
 
@@ -76,16 +96,12 @@ public class StudyService {
                 @Override
                 public void afterCommit() {
                     googleDriveService.markLocalDbDirty();
-                    if (!googleDriveService.saveLocally()) {
-                        logger.warn("Local checkpoint failed after {}", operation);
-                    }
+                    googleDriveService.requestLocalSave(operation);
                 }
             });
         } else {
             googleDriveService.markLocalDbDirty();
-            if (!googleDriveService.saveLocally()) {
-                logger.warn("Local checkpoint failed after {}", operation);
-            }
+            googleDriveService.requestLocalSave(operation);
         }
     }
 
@@ -113,6 +129,21 @@ public class StudyService {
         return StudyGoal.findAllByDateIncludingDelayed(date);
     }
 
+    /**
+     * Get all study goal attempts planned within a date range (inclusive),
+     * including failed ones. Used by the calendar to load a whole month at once.
+     */
+    public List<StudyGoal> getAllGoalsInDateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw ValidationException.requiredFieldMissing(startDate == null ? "startDate" : "endDate");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw ValidationException.invalidDateRange(startDate.toString(), endDate.toString());
+        }
+        ensureDelayedGoalsProcessedToday();
+        return StudyGoal.findAllInDateRange(startDate, endDate);
+    }
+
     /**
      * Get all study goals planned for a future date including failed ones.
      */
@@ -159,17 +190,49 @@ public class StudyService {
     }
 
     /**
-     * Runs processAllDelayedGoals() at most once per calendar day.
-     * Subsequent calls on the same day are no-ops.
+     * Runs the daily pass on the first read of the day if
+     * {@link MaintenanceScheduler} has not done so yet. While a pass is already running
+     * the read goes ahead without waiting; the scheduler refreshes the UI once it is done.
      */
     private void ensureDelayedGoalsProcessedToday() {
+        if (dateTimeService.getCurrentDate().equals(lastDelayProcessingDate) || !maintenanceLock.tryLock()) {
+            return;
+        }
+        try {
+            runDailyMaintenanceLocked();
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * Daily goal pass: marks overdue attempts missed and verifies the attempt
+     * counters and the daily stats rollup. Runs at most once per calendar day,
+     * as recorded in the database, so restarts on the same day skip it.
+     *
+     * @return summary of the pass, with no changes when it was skipped
+     */
+    public GoalDelayProcessingResult runDailyMaintenance() {
+        maintenanceLock.lock();
+        try {
+            return runDailyMaintenanceLocked();
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    private GoalDelayProcessingResult runDailyMaintenanceLocked() {
         LocalDate today = dateTimeService.getCurrentDate();
-        synchronized (this) {
-            if (!today.equals(lastDelayProcessingDate)) {
-                processAllDelayedGoals();
-                lastDelayProcessingDate = today;
-            }
+        if (today.equals(lastDelayProcessingDate) || MaintenanceWatermark.isCurrent(GOAL_MAINTENANCE_JOB, today)) {
+            lastDelayProcessingDate = today;
+            return new GoalDelayProcessingResult(0);
         }
+        GoalDelayProcessingResult result = processAllDelayedGoals();
+        verifyAttemptCounters();
+        verifyDailyStats();
+        MaintenanceWatermark.advance(GOAL_MAINTENANCE_JOB, today);
+        lastDelayProcessingDate = today;
+        return result;
     }
 
     @Transactional(readOnly = true)
@@ -187,25 +250,28 @@ public class StudyService {
         }
         StudyGoal goal = new StudyGoal(null, date, description, false, null, 0, false, 0, taskId);
         goal.save();
+        DailyStats.refresh(StudyGoal.findAttemptDates(goal.getId()));
 
         // When a goal is created for an OPEN task, automatically transition it
         // to IN_PROGRESS to reflect that active work has been planned.
         if (taskId != null && !taskId.isBlank()) {
+            // Routed through TaskService so its task cache sees the transition.
             Task.findById(taskId).ifPresent(task -> {
                 if (task.getStatus() == TaskStatus.OPEN) {
-                    boolean updated = Task.updateStatus(taskId, TaskStatus.IN_PROGRESS);
-                    if (updated) {
+                    try {
+                        taskService.updateTaskStatus(task, TaskStatus.IN_PROGRESS);
                         logger.info("Auto-transitioned task '{}' from OPEN to IN_PROGRESS after goal creation",
                                 task.getTitle());
-                    } else {
+                    } catch (IllegalArgumentException | ValidationException e) {
                         logger.warn("Failed to auto-transition task '{}' (id={}) to IN_PROGRESS",
-                                task.getTitle(), taskId);
+                                task.getTitle(), taskId, e);
                     }
                 }
             });
         }
 
         markDirtyAndSaveLocally("study goal creation");
+        eventBus.publish(GoalAttemptChanged.on(date));
     }
 
     /**
@@ -257,7 +323,9 @@ public class StudyService {
         }
         boolean created = StudyGoal.createReplanAttempt(goalId, dateTimeService.getCurrentDate());
         if (created) {
+            DailyStats.refresh(dateTimeService.getCurrentDate());
             markDirtyAndSaveLocally("study goal replan");
+            eventBus.publish(GoalAttemptChanged.on(dateTimeService.getCurrentDate()));
             logger.info("Created new attempt for goal '{}' on {}", goal.getDescription(), dateTimeService.getCurrentDate());
         }
         return created;
@@ -285,7 +353,9 @@ public class StudyService {
         }
         boolean created = StudyGoal.createReplanAttempt(goalId, plannedForDate);
         if (created) {
+            DailyStats.refresh(plannedForDate);
             markDirtyAndSaveLocally("study goal retry planning");
+            eventBus.publish(GoalAttemptChanged.on(plannedForDate));
             logger.info("Created new attempt for goal '{}' on {}", goal.getDescription(), plannedForDate);
         }
         return created;
@@ -307,9 +377,13 @@ public class StudyService {
         if (goal.getAttemptOutcome() == StudyGoal.AttemptOutcome.PENDING && pendingPlannedForDate == null) {
             throw ValidationException.requiredFieldMissing("plannedForDate");
         }
+        List<LocalDate> affectedDates = new ArrayList<>(StudyGoal.findAttemptDates(goalId));
         boolean updated = StudyGoal.updateDetails(goalId, description, pendingPlannedForDate);
         if (updated) {
+            affectedDates.addAll(StudyGoal.findAttemptDates(goalId));
+            DailyStats.refresh(affectedDates);
             markDirtyAndSaveLocally("study goal details update");
+            eventBus.publish(GoalAttemptChanged.on(affectedDates));
         }
         return updated;
     }
@@ -319,7 +393,10 @@ public class StudyService {
                 ? StudyGoal.markCurrentAttemptAchieved(goalId, reasonIfNot)
                 : StudyGoal.reopenAchievedGoal(goalId);
         if (updated) {
+            List<LocalDate> attemptDates = StudyGoal.findAttemptDates(goalId);
+            DailyStats.refresh(attemptDates);
             markDirtyAndSaveLocally("study goal achievement update");
+            eventBus.publish(GoalAttemptChanged.on(attemptDates));
         }
     }
 
@@ -333,7 +410,10 @@ public class StudyService {
         }
         boolean abandoned = StudyGoal.abandonGoal(goalId);
         if (abandoned) {
+            List<LocalDate> attemptDates = StudyGoal.findAttemptDates(goalId);
+            DailyStats.refresh(attemptDates);
             markDirtyAndSaveLocally("study goal failure update");
+            eventBus.publish(GoalAttemptChanged.on(attemptDates));
             logger.info("Abandoned study goal '{}'", goalId);
             return true;
         } else {
@@ -349,9 +429,12 @@ public class StudyService {
         if (goalId == null || goalId.isBlank()) {
             throw ValidationException.requiredFieldMissing("goalId");
         }
+        List<LocalDate> attemptDates = StudyGoal.findAttemptDates(goalId);
         boolean deleted = StudyGoal.deleteById(goalId);
         if (deleted) {
+            DailyStats.refresh(attemptDates);
             markDirtyAndSaveLocally("study goal deletion");
+            eventBus.publish(GoalAttemptChanged.on(attemptDates));
             logger.info("Permanently deleted study goal '{}'", goalId);
         } else {
             logger.warn("Requested deletion for study goal '{}' but it did not exist", goalId);
@@ -376,6 +459,7 @@ public class StudyService {
         session.setTaskId(taskId);
         session.startSession();
         session.save();
+        DailyStats.refresh(session.getDate());
         markDirtyAndSaveLocally("study session start");
         logger.info("Started study session {} at {}", session.getId(), session.getStartTime());
         return session;
@@ -391,7 +475,9 @@ public class StudyService {
         
         // Save to database
         session.save();
+        DailyStats.refresh(session.getDate());
         markDirtyAndSaveLocally("study session completion");
+        eventBus.publish(new SessionEnded(session.getId(), session.getDate()));
         logger.info("Completed study session {} on {} for {} minutes (focus={})",
                 session.getId(), session.getDate(), session.getDurationMinutes(), session.getFocusLevel());
     }
@@ -399,6 +485,7 @@ public class StudyService {
     public void addDailyReflection(DailyReflection reflection) {
         reflection.save();
         markDirtyAndSaveLocally("daily reflection save");
+        eventBus.publish(new ReflectionChanged(reflection.getDate()));
     }
 
     @Transactional(readOnly = true)
@@ -420,6 +507,7 @@ public class StudyService {
         boolean deleted = DailyReflection.deleteByDate(date);
         if (deleted) {
             markDirtyAndSaveLocally("daily reflection deletion");
+            eventBus.publish(new ReflectionChanged(date));
         }
     }
 
@@ -440,9 +528,12 @@ public class StudyService {
     }
 
     public void deleteStudySession(String sessionId) {
+        Optional<LocalDate> sessionDate = StudySession.findById(sessionId).map(StudySession::getDate);
         boolean deleted = StudySession.deleteById(sessionId);
         if (deleted) {
+            sessionDate.ifPresent(DailyStats::refresh);
             markDirtyAndSaveLocally("study session deletion");
+            eventBus.publish(new SessionEnded(sessionId, sessionDate.orElse(null)));
         }
     }
 
@@ -471,6 +562,55 @@ public class StudyService {
         return StudySession.findRecent(days).stream()
                 .collect(Collectors.groupingBy(StudySession::getDate, Collectors.toList()));
     }
+
+    /**
+     * Daily stats rollup rows in {@code [from, to]}; dates without activity have no entry.
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, DailyStats> getDailyStats(LocalDate from, LocalDate to) {
+        return DailyStats.findInRange(from, to);
+    }
+
+    /**
+     * Lifetime totals over the daily stats rollup.
+     */
+    @Transactional(readOnly = true)
+    public DailyStats getDailyStatsTotals() {
+        return DailyStats.totals();
+    }
+
+    @Transactional(readOnly = true)
+    public List<StudyGoal> getLatestGoals(int limit) {
+        return StudyGoal.findLatest(limit);
+    }
+
+    /**
+     * Recomputes the whole daily stats rollup from sessions and goal attempts.
+     *
+     * @return number of dates in the rollup afterwards
+     */
+    public int rebuildDailyStats() {
+        int dates = DailyStats.rebuild();
+        markDirtyAndSaveLocally("daily stats rebuild");
+        logger.info("Rebuilt daily stats rollup ({} dates)", dates);
+        return dates;
+    }
+
+    /**
+     * Rebuilds the daily stats rollup when it no longer accounts for every session
+     * and goal attempt, e.g. on first launch after upgrading or after restoring a
+     * database written by an older client. Runs with the daily pass.
+     *
+     * @return {@code true} if the rollup was rebuilt
+     */
+    public boolean verifyDailyStats() {
+        if (DailyStats.matchesSourceCounts()) {
+            return false;
+        }
+        logger.warn("Daily stats rollup is out of date; rebuilding");
+        rebuildDailyStats();
+        return true;
+    }
     
     // ================================================================
     // DELAYED GOAL MANAGEMENT
@@ -486,16 +626,39 @@ public class StudyService {
      */
     public GoalDelayProcessingResult processAllDelayedGoals() {
         LocalDate today = dateTimeService.getCurrentDate();
+        List<LocalDate> overdueDates = StudyGoal.findPendingAttemptDatesBefore(today);
         int missedAttempts = StudyGoal.markPendingAttemptsBefore(today);
 
         if (missedAttempts > 0) {
+            DailyStats.refresh(overdueDates);
             markDirtyAndSaveLocally("delayed goal processing");
+            eventBus.publish(GoalAttemptChanged.on(overdueDates));
             logger.info("Marked {} overdue study goal attempt(s) as MISSED", missedAttempts);
         }
 
         return new GoalDelayProcessingResult(missedAttempts);
     }
 
+    /**
+     * Consistency check for the materialized {@code attempt_number} /
+     * {@code missed_attempt_count} columns. Writes through {@link StudyGoal}
+     * keep them current; drift can only come from rows written elsewhere
+     * (e.g. a database restored from Drive), so this runs with the daily pass.
+     *
+     * @return number of attempt rows whose counters were corrected
+     */
+    public int verifyAttemptCounters() {
+        List<String> stale = StudyGoal.findAttemptsWithStaleCounters();
+        if (stale.isEmpty()) {
+            return 0;
+        }
+        logger.warn("Found {} study goal attempt(s) with stale counters; recomputing", stale.size());
+        int repaired = StudyGoal.repairAttemptCounters();
+        markDirtyAndSaveLocally("attempt counter repair");
+        eventBus.publish(new GoalAttemptChanged(Set.of()));
+        return repaired;
+    }
+
     /**
      * Summary of overdue attempt processing.
      * @param missedAttempts number of pending attempts marked as missed
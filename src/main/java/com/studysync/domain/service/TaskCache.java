@@ -0,0 +1,268 @@
+package com.studysync.domain.service;
+
+import com.studysync.domain.entity.Task;
+import com.studysync.domain.valueobject.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Read-through, in-memory copy of the {@code tasks} table owned by {@link TaskService}.
+ *
+ * <p>The first read loads every row once; afterwards {@code TaskService} keeps the
+ * cache current by applying each committed mutation in place ({@link #put},
+ * {@link #remove}) or, for bulk passes, by dropping it ({@link #invalidate}) so the
+ * next read reloads. Secondary indexes by status, category, priority, deadline and
+ * recurrence answer the service's filtered reads without scanning.</p>
+ *
+ * <p>All results are detached {@link Task#copy() copies} so callers may mutate
+ * them freely. Ordering mirrors the SQL finders the cache replaces. Access is
+ * serialized on the instance monitor; the UI is the only real contender.</p>
+ */
+final class TaskCache {
+
+    /** Same order as {@code Task.findAll()}: priority DESC, deadline ASC NULLS LAST, created_at DESC. */
+    static final Comparator<Task> DEFAULT_ORDER = Comparator
+            .comparingInt(TaskCache::stars).reversed()
+            .thenComparing(Task::getDeadline, Comparator.nullsLast(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(Task::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+
+    /** Same order as {@code Task.findDueBy()}: deadline ASC, priority DESC, created_at ASC. */
+    static final Comparator<Task> DUE_ORDER = Comparator
+            .comparing(Task::getDeadline, Comparator.nullsLast(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(Comparator.comparingInt(TaskCache::stars).reversed())
+            .thenComparing(Task::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()));
+
+    /** Same order as {@code Task.findRecurring()}: created_at DESC. */
+    static final Comparator<Task> NEWEST_FIRST = Comparator
+            .comparing(Task::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+
+    private final Supplier<List<Task>> loader;
+
+    private boolean loaded;
+    private final Map<String, Task> byId = new HashMap<>();
+    private final Map<TaskStatus, Set<String>> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<String, Set<String>> byCategory = new HashMap<>();
+    private final Map<Integer, Set<String>> byPriority = new HashMap<>();
+    private final NavigableMap<LocalDate, Set<String>> byDeadline = new TreeMap<>();
+    private final Set<String> recurring = new HashSet<>();
+    /** All tasks in {@link #DEFAULT_ORDER}; {@code null} until re-sorted after a change. */
+    private List<Task> ordered;
+
+    TaskCache(Supplier<List<Task>> loader) {
+        this.loader = loader;
+    }
+
+    // ================================================================
+    // READS
+    // ================================================================
+
+    synchronized List<Task> all() {
+        ensureLoaded();
+        return copies(ordered());
+    }
+
+    synchronized Optional<Task> get(String taskId) {
+        ensureLoaded();
+        Task task = taskId != null ? byId.get(taskId) : null;
+        return Optional.ofNullable(task).map(Task::copy);
+    }
+
+    synchronized List<Task> withStatus(TaskStatus status) {
+        ensureLoaded();
+        return select(byStatus.get(status), DEFAULT_ORDER);
+    }
+
+    synchronized int countWithStatus(TaskStatus status) {
+        ensureLoaded();
+        Set<String> ids = byStatus.get(status);
+        return ids != null ? ids.size() : 0;
+    }
+
+    synchronized List<Task> inCategory(String category) {
+        ensureLoaded();
+        return select(byCategory.get(categoryKey(category)), DEFAULT_ORDER);
+    }
+
+    synchronized List<Task> withPriority(int stars) {
+        ensureLoaded();
+        return select(byPriority.get(stars), DEFAULT_ORDER);
+    }
+
+    /** Tasks whose deadline is on or before {@code date} ({@code inclusive}) or strictly before it. */
+    synchronized List<Task> dueBy(LocalDate date, boolean inclusive, Comparator<Task> order) {
+        ensureLoaded();
+        Set<String> ids = new HashSet<>();
+        byDeadline.headMap(date, inclusive).values().forEach(ids::addAll);
+        return select(ids, order);
+    }
+
+    /** Tasks with a non-null recurrence pattern, matching {@code recurring_pattern IS NOT NULL}. */
+    synchronized List<Task> recurring() {
+        ensureLoaded();
+        return select(recurring, NEWEST_FIRST);
+    }
+
+    /** Full scan in {@link #DEFAULT_ORDER} for predicates no index covers (e.g. title matches). */
+    synchronized List<Task> filter(Predicate<Task> predicate) {
+        ensureLoaded();
+        List<Task> result = new ArrayList<>();
+        for (Task task : ordered()) {
+            if (predicate.test(task)) {
+                result.add(task.copy());
+            }
+        }
+        return result;
+    }
+
+    // ================================================================
+    // WRITES (called once the owning transaction has committed)
+    // ================================================================
+
+    synchronized void put(Task task) {
+        if (!loaded || task == null || task.getId() == null) {
+            return; // the next read loads the committed row anyway
+        }
+        unindex(task.getId());
+        Task stored = task.copy();
+        byId.put(stored.getId(), stored);
+        index(stored);
+        ordered = null;
+    }
+
+    synchronized void remove(String taskId) {
+        if (loaded && taskId != null) {
+            unindex(taskId);
+            ordered = null;
+        }
+    }
+
+    synchronized void removeAll(Collection<String> taskIds) {
+        if (loaded && taskIds != null) {
+            taskIds.forEach(this::unindex);
+            ordered = null;
+        }
+    }
+
+    /** Drops everything; the next read reloads the table. */
+    synchronized void invalidate() {
+        loaded = false;
+        byId.clear();
+        byStatus.clear();
+        byCategory.clear();
+        byPriority.clear();
+        byDeadline.clear();
+        recurring.clear();
+        ordered = null;
+    }
+
+    // ================================================================
+    // INTERNALS
+    // ================================================================
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        for (Task task : loader.get()) {
+            byId.put(task.getId(), task);
+            index(task);
+        }
+        loaded = true;
+    }
+
+    private List<Task> ordered() {
+        if (ordered == null) {
+            List<Task> sorted = new ArrayList<>(byId.values());
+            sorted.sort(DEFAULT_ORDER);
+            ordered = sorted;
+        }
+        return ordered;
+    }
+
+    private List<Task> select(Set<String> ids, Comparator<Task> order) {
+        if (ids == null || ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Task> result = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            result.add(byId.get(id));
+        }
+        result.sort(order);
+        return copies(result);
+    }
+
+    private void index(Task task) {
+        String id = task.getId();
+        if (task.getStatus() != null) {
+            byStatus.computeIfAbsent(task.getStatus(), s -> new HashSet<>()).add(id);
+        }
+        if (task.getCategory() != null) {
+            byCategory.computeIfAbsent(categoryKey(task.getCategory()), c -> new HashSet<>()).add(id);
+        }
+        byPriority.computeIfAbsent(stars(task), p -> new HashSet<>()).add(id);
+        if (task.getDeadline() != null) {
+            byDeadline.computeIfAbsent(task.getDeadline(), d -> new HashSet<>()).add(id);
+        }
+        if (task.getRecurringPattern() != null) {
+            recurring.add(id);
+        }
+    }
+
+    private void unindex(String taskId) {
+        Task previous = byId.remove(taskId);
+        if (previous == null) {
+            return;
+        }
+        removeFrom(byStatus, previous.getStatus(), taskId);
+        removeFrom(byCategory, previous.getCategory() != null ? categoryKey(previous.getCategory()) : null, taskId);
+        removeFrom(byPriority, stars(previous), taskId);
+        removeFrom(byDeadline, previous.getDeadline(), taskId);
+        recurring.remove(taskId);
+    }
+
+    private static <K> void removeFrom(Map<K, Set<String>> index, K key, String taskId) {
+        if (key == null) {
+            return;
+        }
+        Set<String> ids = index.get(key);
+        if (ids != null) {
+            ids.remove(taskId);
+            if (ids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static List<Task> copies(List<Task> tasks) {
+        List<Task> result = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            result.add(task.copy());
+        }
+        return result;
+    }
+
+    /** Matches the {@code LOWER(category) = LOWER(?)} lookup of {@code Task.findByCategory}. */
+    static String categoryKey(String category) {
+        return category == null ? null : category.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int stars(Task task) {
+        return task.getPriority() != null ? task.getPriority().stars() : 1;
+    }
+}
@@ -1,9 +1,14 @@
 package com.studysync.domain.service;
 
+import com.studysync.domain.event.DomainEventBus;
+import com.studysync.domain.event.TaskChanged;
 import com.studysync.domain.exception.ValidationException;
+import com.studysync.domain.entity.DailyStats;
+import com.studysync.domain.entity.MaintenanceWatermark;
 import com.studysync.domain.entity.StudyGoal;
 import com.studysync.domain.entity.Task;
 import com.studysync.domain.entity.TaskReschedule;
+import com.studysync.domain.valueobject.RecurrenceRule;
 import com.studysync.domain.valueobject.TaskPriority;
 import com.studysync.domain.valueobject.TaskStatus;
 import com.studysync.integration.drive.GoogleDriveService;
@@ -24,6 +29,9 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -44,31 +52,33 @@ import java.util.stream.Collectors;
 public class TaskService {
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
 
-    /** Guards {@link #markDelayedTasks()} so it runs at most once per calendar day. */
-    private volatile LocalDate lastDelayedTasksProcessedDate = null;
+    /** {@link MaintenanceWatermark} job name of the daily delayed/postponed pass. */
+    static final String DELAYED_TASKS_JOB = "delayed-tasks";
 
     private final CategoryService categoryService;
     private final GoogleDriveService googleDriveService;
     private final DateTimeService dateTimeService;
+    private final DomainEventBus eventBus;
+
+    /** Read-through copy of the tasks table; kept current by the mutating methods below. */
+    private final TaskCache taskCache = new TaskCache(Task::findAll);
     
     @Autowired
     public TaskService(CategoryService categoryService, GoogleDriveService googleDriveService,
-                       DateTimeService dateTimeService) {
+                       DateTimeService dateTimeService, DomainEventBus eventBus) {
         this.categoryService = categoryService;
         this.googleDriveService = googleDriveService;
         this.dateTimeService = dateTimeService;
+        this.eventBus = eventBus;
     }
 
     /**
-     * Clears cached processing guards so that delay-marking and other
-     * once-per-day operations re-run against the newly loaded database.
+     * Drops the task cache so reads see the newly loaded database.
      * Must be called after a live database reload (e.g. Google Drive download).
      */
     @Transactional(propagation = org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED)
     public void resetAfterReload() {
-        synchronized (this) {
-            lastDelayedTasksProcessedDate = null;
-        }
+        taskCache.invalidate();
         logger.info("TaskService caches reset after DB reload");
     }
 
@@ -85,32 +95,68 @@ public class TaskService {
         }
     }
 
+    /**
+     * Applies a cache update once the surrounding transaction commits; on
+     * rollback the cache is dropped so the next read reloads committed state.
+     */
+    private void updateCacheAfterCommit(Runnable cacheUpdate) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        cacheUpdate.run();
+                    } else {
+                        taskCache.invalidate();
+                    }
+                }
+            });
+        } else {
+            cacheUpdate.run();
+        }
+    }
+
+    /** Re-reads a just-written row so the cache holds the database's view (e.g. created_at). */
+    private void refreshCachedTask(String taskId) {
+        Optional<Task> stored = Task.findById(taskId);
+        updateCacheAfterCommit(() -> stored.ifPresentOrElse(taskCache::put, () -> taskCache.remove(taskId)));
+    }
+
+    /**
+     * Keeps the daily stats rollup's completed-task count in step with status
+     * changes. Tasks store no completion date, so re-opening a task takes it off
+     * today's count (never below zero).
+     */
+    private void recordCompletionChange(TaskStatus before, TaskStatus after) {
+        if (before != TaskStatus.COMPLETED && after == TaskStatus.COMPLETED) {
+            DailyStats.recordTaskCompletion(dateTimeService.getCurrentDate(), 1);
+        } else if (before == TaskStatus.COMPLETED && after != TaskStatus.COMPLETED) {
+            DailyStats.recordTaskCompletion(dateTimeService.getCurrentDate(), -1);
+        }
+    }
+
     private void markDirtyAndSaveLocally(final String operation) {
         if (TransactionSynchronizationManager.isSynchronizationActive()) {
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
                 @Override
                 public void afterCommit() {
                     googleDriveService.markLocalDbDirty();
-                    if (!googleDriveService.saveLocally()) {
-                        logger.warn("Local checkpoint failed after {}", operation);
-                    }
+                    googleDriveService.requestLocalSave(operation);
                 }
             });
         } else {
             googleDriveService.markLocalDbDirty();
-            if (!googleDriveService.saveLocally()) {
-                logger.warn("Local checkpoint failed after {}", operation);
-            }
+            googleDriveService.requestLocalSave(operation);
         }
     }
     
     @Transactional(readOnly = true)
     public List<Task> getTasks() {
-        return Task.findAll();
+        return taskCache.all();
     }
     
     public CompletableFuture<List<Task>> getTasksAsync() {
-        return CompletableFuture.supplyAsync(Task::findAll);
+        return CompletableFuture.supplyAsync(taskCache::all);
     }
     
     @Transactional
@@ -133,7 +179,9 @@ public class TaskService {
         
         logger.info("Successfully added task '{}' with priority {} and status {}", 
                    savedTask.getTitle(), savedTask.getPriority().stars(), savedTask.getStatus());
+        refreshCachedTask(savedTask.getId());
         markDirtyAndSaveLocally("task creation");
+        eventBus.publish(TaskChanged.of(savedTask.getId()));
         return savedTask;
     }
     
@@ -152,7 +200,10 @@ public class TaskService {
         }
         
         logger.info("Removed task: {}", task.getTitle());
+        String removedId = task.getId();
+        updateCacheAfterCommit(() -> taskCache.remove(removedId));
         markDirtyAndSaveLocally("task deletion");
+        eventBus.publish(TaskChanged.of(removedId));
     }
     
     @Transactional
@@ -162,13 +213,16 @@ public class TaskService {
         Task finalTask = applyBusinessRules(updated);
 
         Task savedTask = finalTask.save();
+        recordCompletionChange(task.getStatus(), savedTask.getStatus());
         if (!Objects.equals(task.getDeadline(), savedTask.getDeadline()) && savedTask.getDeadline() != null) {
             new TaskReschedule(savedTask.getId(), task.getDeadline(), savedTask.getDeadline()).save();
             logger.info("Recorded reschedule for task '{}': {} -> {}",
                     savedTask.getTitle(), task.getDeadline(), savedTask.getDeadline());
         }
         logger.info("Updated task: {}", savedTask.getTitle());
+        refreshCachedTask(savedTask.getId());
         markDirtyAndSaveLocally("task update");
+        eventBus.publish(TaskChanged.of(savedTask.getId()));
         return savedTask;
     }
 
@@ -196,9 +250,12 @@ public class TaskService {
         if (!Task.updateStatus(task.getId(), newStatus)) {
             throw new IllegalArgumentException("Failed to update task status: " + task.getTitle());
         }
+        recordCompletionChange(task.getStatus(), newStatus);
         
         logger.info("Updated task status for '{}' to {}", task.getTitle(), newStatus);
+        refreshCachedTask(task.getId());
         markDirtyAndSaveLocally("task status update");
+        eventBus.publish(TaskChanged.of(task.getId()));
     }
     
     @Transactional(readOnly = true)
@@ -207,14 +264,23 @@ public class TaskService {
             return Optional.empty();
         }
         
-        return Task.findAll().stream()
-            .filter(task -> task.getTitle().equalsIgnoreCase(title.trim()))
+        String wanted = title.trim();
+        return taskCache.filter(task -> task.getTitle().equalsIgnoreCase(wanted)).stream()
             .findFirst();
     }
     
     @Transactional(readOnly = true)
     public List<Task> searchTasks(String title, String category, Integer priorityStars) {
-        return Task.findAll().stream()
+        // Narrow by the most selective index first, then apply the remaining filters.
+        List<Task> candidates;
+        if (category != null && !category.isBlank()) {
+            candidates = taskCache.inCategory(category);
+        } else if (priorityStars != null) {
+            candidates = taskCache.withPriority(priorityStars);
+        } else {
+            candidates = taskCache.all();
+        }
+        return candidates.stream()
                 .filter(task -> matchesTitle(task, title))
                 .filter(task -> matchesCategory(task, category))
                 .filter(task -> matchesPriority(task, priorityStars))
@@ -228,7 +294,10 @@ public class TaskService {
             Optional<TaskStatus> statusFilter,
             Optional<Integer> priorityFilter) {
         
-        return Task.findAll().stream()
+        List<Task> candidates = statusFilter.map(taskCache::withStatus)
+                .or(() -> categoryFilter.filter(c -> !c.isBlank()).map(taskCache::inCategory))
+                .orElseGet(taskCache::all);
+        return candidates.stream()
             .filter(task -> titleFilter.map(f -> f.test(task.getTitle())).orElse(true))
             .filter(task -> categoryFilter.map(c -> task.getCategory() != null && c.equalsIgnoreCase(task.getCategory())).orElse(true))
             .filter(task -> statusFilter.map(s -> s.equals(task.getStatus())).orElse(true))
@@ -236,54 +305,63 @@ public class TaskService {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Runs {@link #markDelayedTasks()} unless it already completed today, as
+     * recorded in the database. Called by {@link MaintenanceScheduler}.
+     *
+     * @return number of tasks updated, {@code 0} when the pass was skipped
+     */
     @Transactional
-    public int markDelayedTasks() {
+    public synchronized int runDailyMaintenance() {
         LocalDate today = dateTimeService.getCurrentDate();
-
-        // The check-and-set must be atomic so concurrent callers cannot both
-        // pass the guard and run the DB scan.
-        synchronized (this) {
-            if (today.equals(lastDelayedTasksProcessedDate)) {
-                return 0;
-            }
-            lastDelayedTasksProcessedDate = today;
+        if (MaintenanceWatermark.isCurrent(DELAYED_TASKS_JOB, today)) {
+            return 0;
         }
+        int updated = markDelayedTasks();
+        MaintenanceWatermark.advance(DELAYED_TASKS_JOB, today);
+        return updated;
+    }
+
+    /**
+     * Daily delayed/postponed pass. Idempotent: only tasks whose status is
+     * out of date for today are loaded (by indexed status/deadline queries)
+     * and saved.
+     *
+     * @return number of tasks updated
+     */
+    @Transactional
+    public int markDelayedTasks() {
+        LocalDate today = dateTimeService.getCurrentDate();
 
         // Resurface postponed tasks whose resume date (their deadline) has
         // arrived: OPEN when it resumes today, straight to DELAYED when the
         // resume date was already missed (recurring tasks never go DELAYED,
         // matching applyBusinessRules).
-        int updatedCount = 0;
-        for (Task task : Task.findByStatus(TaskStatus.POSTPONED)) {
-            if (task.getDeadline() == null || task.getDeadline().isAfter(today)) {
-                continue;
-            }
+        List<Task> changedTasks = new ArrayList<>();
+        for (Task task : Task.findPostponedResumingBy(today)) {
             boolean missed = !task.isRecurring() && task.getDeadline().isBefore(today);
             task.updateStatus(missed ? TaskStatus.DELAYED : TaskStatus.OPEN);
-            task.save();
-            updatedCount++;
+            changedTasks.add(task);
             logger.info("Postponed task '{}' {}", task.getTitle(),
                     missed ? "missed its resume date, marked DELAYED" : "resumed as OPEN");
         }
 
-        List<Task> delayedTasks = Task.findAll().stream()
-                .filter(task -> task.getStatus() != TaskStatus.COMPLETED &&
-                                 task.getStatus() != TaskStatus.CANCELLED &&
-                                 task.getStatus() != TaskStatus.POSTPONED &&
-                                 task.getDeadline() != null &&
-                                 task.getDeadline().isBefore(today) &&
-                                 task.getStatus() != TaskStatus.DELAYED)
+        // Recurring deadlines end the recurrence and never make a task DELAYED.
+        List<Task> delayedTasks = Task.findDelayCandidates(today).stream()
+                .filter(task -> !task.isRecurring())
                 .map(this::applyBusinessRules)
                 .collect(Collectors.toList());
 
-        for (Task task : delayedTasks) {
-            task.save();
-            updatedCount++;
-        }
+        changedTasks.addAll(delayedTasks);
+        Task.saveAll(changedTasks);
+        int updatedCount = changedTasks.size();
 
         if (updatedCount > 0) {
             logger.info("Updated {} tasks in the daily delayed/postponed pass", updatedCount);
+            // Bulk pass: reload once on the next read instead of re-reading each row.
+            updateCacheAfterCommit(taskCache::invalidate);
             markDirtyAndSaveLocally("delayed task processing");
+            eventBus.publish(TaskChanged.of(changedTasks.stream().map(Task::getId).toList()));
         }
 
         return updatedCount;
@@ -291,13 +369,16 @@ public class TaskService {
     
     @Transactional(readOnly = true)
     public List<Task> getTasksByStatus(TaskStatus status) {
-        return Task.findByStatus(status);
+        if (status == null) {
+            return List.of();
+        }
+        return taskCache.withStatus(status);
     }
     
     @Transactional(readOnly = true)
     public List<Task> getActiveTasks() {
-        List<Task> openTasks = Task.findByStatus(TaskStatus.OPEN);
-        List<Task> inProgressTasks = Task.findByStatus(TaskStatus.IN_PROGRESS);
+        List<Task> openTasks = taskCache.withStatus(TaskStatus.OPEN);
+        List<Task> inProgressTasks = taskCache.withStatus(TaskStatus.IN_PROGRESS);
         
         openTasks.addAll(inProgressTasks);
         return openTasks;
@@ -310,12 +391,17 @@ public class TaskService {
         }
         
         LocalDate cutoffDate = LocalDate.now().plusDays(days);
-        return Task.findDueBy(cutoffDate);
+        return taskCache.dueBy(cutoffDate, true, TaskCache.DUE_ORDER).stream()
+                .filter(task -> task.getStatus() != TaskStatus.COMPLETED && task.getStatus() != TaskStatus.CANCELLED)
+                .collect(Collectors.toList());
     }
     
     @Transactional(readOnly = true)
     public long countTasksByStatus(TaskStatus status) {
-        return Task.countByStatus(status);
+        if (status == null) {
+            return 0L;
+        }
+        return taskCache.countWithStatus(status);
     }
     
     public CompletableFuture<List<Task>> getHighPriorityTasksAsync(int minPriority) {
@@ -323,17 +409,21 @@ public class TaskService {
             throw new IllegalArgumentException("Priority must be between 1 and 5 stars");
         }
         
-        return CompletableFuture.supplyAsync(() -> 
-            Task.findHighPriority(minPriority));
+        return CompletableFuture.supplyAsync(() ->
+            taskCache.filter(task -> task.getPriority() != null
+                    && task.getPriority().stars() >= minPriority
+                    && task.getStatus() != TaskStatus.COMPLETED));
     }
     
     @Transactional(readOnly = true)
     public TaskStatistics getTaskStatistics() {
-        List<Task> allTasks = Task.findAll();
-        long total = allTasks.size();
-        long completed = allTasks.stream().mapToLong(t -> t.getStatus() == TaskStatus.COMPLETED ? 1 : 0).sum();
-        long pending = allTasks.stream().mapToLong(t -> (t.getStatus() == TaskStatus.OPEN || t.getStatus() == TaskStatus.IN_PROGRESS) ? 1 : 0).sum();
-        long delayed = allTasks.stream().mapToLong(t -> t.getStatus() == TaskStatus.DELAYED ? 1 : 0).sum();
+        long total = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            total += taskCache.countWithStatus(status);
+        }
+        long completed = taskCache.countWithStatus(TaskStatus.COMPLETED);
+        long pending = taskCache.countWithStatus(TaskStatus.OPEN) + taskCache.countWithStatus(TaskStatus.IN_PROGRESS);
+        long delayed = taskCache.countWithStatus(TaskStatus.DELAYED);
         double completionRate = total > 0 ? (double) completed / total * 100.0 : 0.0;
         return new TaskStatistics(total, completed, pending, delayed, completionRate);
     }
@@ -355,19 +445,27 @@ public class TaskService {
         int deletedCount = Task.deleteByIds(taskIds);
         logger.info("Batch deleted {} tasks", deletedCount);
         if (deletedCount > 0) {
+            List<String> deletedIds = List.copyOf(taskIds.stream().filter(Objects::nonNull).toList());
+            updateCacheAfterCommit(() -> taskCache.removeAll(deletedIds));
             markDirtyAndSaveLocally("batch task deletion");
+            eventBus.publish(TaskChanged.of(deletedIds));
         }
         return deletedCount;
     }
     
     @Transactional(readOnly = true)
     public List<Task> getOverdueTasks() {
-        return Task.findOverdue();
+        return taskCache.dueBy(LocalDate.now(), false, TaskCache.DUE_ORDER).stream()
+                .filter(task -> task.getStatus() != TaskStatus.COMPLETED && task.getStatus() != TaskStatus.CANCELLED)
+                .collect(Collectors.toList());
     }
     
     @Transactional(readOnly = true)
     public List<Task> getTasksByCategory(String category) {
-        return Task.findByCategory(category);
+        if (category == null || category.isBlank()) {
+            return List.of();
+        }
+        return taskCache.inCategory(category);
     }
 
     /**
@@ -415,15 +513,78 @@ public class TaskService {
     public List<Task> getTasksForDate(LocalDate date) {
         if (date == null) return List.of();
 
-        // Fetch all tasks once and index by ID so the goal-linking pass below
+        // Fetch all tasks once and index by ID so the goal-linking pass
         // can look up tasks without extra DB round-trips.
-        List<Task> allTasks = Task.findAll();
-        Map<String, Task> tasksById = allTasks.stream()
+        List<Task> allTasks = taskCache.all();
+        return selectTasksForDate(allTasks, indexById(allTasks), StudyGoal.findByDate(date),
+                task -> taskSurfacesOn(task, date));
+    }
+
+    /**
+     * Range variant of {@link #getTasksForDate} for views that show many days
+     * at once (e.g. the month calendar). The task table is read once and the
+     * goal attempts are supplied by the caller, who typically already loaded
+     * them for the same range; per-day selection then happens in memory.
+     *
+     * @param startDate     first date of the range (inclusive)
+     * @param endDate       last date of the range (inclusive)
+     * @param goalsInRange  every goal attempt planned within the range, as returned by
+     *                      {@link StudyGoal#findAllInDateRange}; abandoned goals and
+     *                      missed attempts are ignored, matching {@link StudyGoal#findByDate}
+     * @return tasks per date for every date in the range, in date order
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, List<Task>> getTasksForDateRange(LocalDate startDate, LocalDate endDate,
+                                                           List<StudyGoal> goalsInRange) {
+        if (startDate == null || endDate == null) {
+            throw ValidationException.requiredFieldMissing(startDate == null ? "startDate" : "endDate");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw ValidationException.invalidDateRange(startDate.toString(), endDate.toString());
+        }
+
+        List<Task> allTasks = taskCache.all();
+        Map<String, Task> tasksById = indexById(allTasks);
+        Map<LocalDate, List<StudyGoal>> linkableGoalsByDate = goalsInRange == null ? Map.of()
+                : goalsInRange.stream()
+                        .filter(goal -> goal.getDate() != null)
+                        .filter(goal -> goal.getStatus() != StudyGoal.GoalStatus.ABANDONED)
+                        .filter(goal -> goal.getAttemptOutcome() == StudyGoal.AttemptOutcome.PENDING
+                                || goal.getAttemptOutcome() == StudyGoal.AttemptOutcome.ACHIEVED)
+                        .collect(Collectors.groupingBy(StudyGoal::getDate));
+
+        // Evaluate each recurring task's rule once for the whole range rather than per date.
+        Map<String, BitSet> recurringOccurrences = new HashMap<>();
+        for (Task task : allTasks) {
+            if (task.isRecurring()) {
+                recurringOccurrences.put(task.getId(), recurringOccurrencesBetween(task, startDate, endDate));
+            }
+        }
+
+        Map<LocalDate, List<Task>> result = new LinkedHashMap<>();
+        int dayIndex = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1), dayIndex++) {
+            final LocalDate day = date;
+            final int index = dayIndex;
+            result.put(date, selectTasksForDate(allTasks, tasksById,
+                    linkableGoalsByDate.getOrDefault(date, List.of()),
+                    task -> task.isRecurring()
+                            ? recurringOccurrences.get(task.getId()).get(index)
+                            : taskSurfacesOn(task, day)));
+        }
+        return result;
+    }
+
+    private static Map<String, Task> indexById(List<Task> tasks) {
+        return tasks.stream()
                 .collect(Collectors.toMap(Task::getId, Function.identity(),
                         (existing, replacement) -> existing));
+    }
 
+    private List<Task> selectTasksForDate(List<Task> allTasks, Map<String, Task> tasksById,
+                                          List<StudyGoal> goalsOnDate, Predicate<Task> surfacesOnDate) {
         List<Task> result = allTasks.stream()
-            .filter(task -> taskSurfacesOn(task, date))
+            .filter(surfacesOnDate)
             .collect(Collectors.toCollection(ArrayList::new));
 
         // Also include IN_PROGRESS or DELAYED tasks that have a goal planned for
@@ -434,7 +595,7 @@ public class TaskService {
                 .map(Task::getId)
                 .collect(Collectors.toSet());
 
-        StudyGoal.findByDate(date).stream()
+        goalsOnDate.stream()
                 .map(StudyGoal::getTaskId)
                 .filter(tid -> tid != null && !tid.isBlank())
                 .filter(tid -> !resultIds.contains(tid))
@@ -505,7 +666,8 @@ public class TaskService {
 
     public boolean isHealthy() {
         try {
-            Task.findAll();
+            // Probe the database itself rather than the cache.
+            Task.countByStatus(TaskStatus.OPEN);
             return true;
         } catch (Exception e) {
             logger.error("Task service health check failed", e);
@@ -615,7 +777,7 @@ public class TaskService {
      */
     @Transactional(readOnly = true)
     public List<Task> getRecurringTasks() {
-        return Task.findRecurring();
+        return taskCache.recurring();
     }
 
     /**
@@ -623,7 +785,16 @@ public class TaskService {
      */
     @Transactional(readOnly = true)
     public List<Task> getActiveRecurringTasks() {
-        return Task.findActiveRecurring();
+        return activeRecurringTasks();
+    }
+
+    /** Mirrors {@code Task.findActiveRecurring()}: recurring and not COMPLETED, CANCELLED or POSTPONED. */
+    private List<Task> activeRecurringTasks() {
+        return taskCache.recurring().stream()
+                .filter(task -> task.getStatus() != TaskStatus.COMPLETED
+                        && task.getStatus() != TaskStatus.CANCELLED
+                        && task.getStatus() != TaskStatus.POSTPONED)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -636,31 +807,43 @@ public class TaskService {
      */
     public boolean recurringTaskAppliesTo(Task task, LocalDate date, LocalDate referenceMonday) {
         if (!task.isRecurring()) return false;
-        try {
-            String[] parts = task.getRecurringPattern().split(":");
-            int intervalWeeks = Integer.parseInt(parts[0]);
-            String[] dayNums = parts[1].split(",");
-
-            // Check day of week
-            int todayDow = date.getDayOfWeek().getValue(); // 1=MON..7=SUN
-            boolean dayMatches = false;
-            for (String d : dayNums) {
-                if (Integer.parseInt(d.trim()) == todayDow) {
-                    dayMatches = true;
-                    break;
-                }
-            }
-            if (!dayMatches) return false;
+        // Malformed patterns parse to no rule (logged once when the task is loaded).
+        RecurrenceRule rule = task.getRecurrenceRule();
+        return rule != null && rule.appliesTo(date, referenceMonday);
+    }
 
-            // Check week interval
-            long weeksBetween = ChronoUnit.WEEKS.between(
-                    referenceMonday,
-                    date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
-            return weeksBetween >= 0 && weeksBetween % intervalWeeks == 0;
-        } catch (Exception e) {
-            logger.warn("Invalid recurring pattern '{}' for task '{}'", task.getRecurringPattern(), task.getTitle());
-            return false;
+    /**
+     * Range form of {@link #taskSurfacesOn} for a recurring task: applies the same
+     * status, start-date and deadline rules, then evaluates the recurrence rule for
+     * the whole range at once.
+     *
+     * @return a bitset where bit {@code i} is set when the task surfaces on {@code startDate.plusDays(i)}
+     */
+    private BitSet recurringOccurrencesBetween(Task task, LocalDate startDate, LocalDate endDate) {
+        TaskStatus s = task.getStatus();
+        RecurrenceRule rule = task.getRecurrenceRule();
+        if (rule == null || (s != TaskStatus.OPEN && s != TaskStatus.IN_PROGRESS)) {
+            return new BitSet();
+        }
+        LocalDate from = task.getStartDate() != null && task.getStartDate().isAfter(startDate)
+                ? task.getStartDate() : startDate;
+        LocalDate to = task.getDeadline() != null && task.getDeadline().isBefore(endDate)
+                ? task.getDeadline() : endDate;
+        if (to.isBefore(from)) {
+            return new BitSet();
+        }
+        LocalDate anchorMonday = task.getRecurrenceAnchor()
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        BitSet clipped = rule.occurrencesBetween(anchorMonday, from, to);
+        int shift = (int) ChronoUnit.DAYS.between(startDate, from);
+        if (shift == 0) {
+            return clipped;
+        }
+        BitSet occurrences = new BitSet();
+        for (int i = clipped.nextSetBit(0); i >= 0; i = clipped.nextSetBit(i + 1)) {
+            occurrences.set(i + shift);
         }
+        return occurrences;
     }
 
     // ================================================================
@@ -691,7 +874,7 @@ public class TaskService {
         // tomorrow and reappears naturally on its next scheduled occurrence.
         LocalDate yesterday = today.minusDays(1);
 
-        List<Task> activeTasks = Task.findActiveRecurring();
+        List<Task> activeTasks = activeRecurringTasks();
         List<MissedOccurrence> result = new ArrayList<>();
 
         for (Task task : activeTasks) {
@@ -0,0 +1,174 @@
+package com.studysync.domain.valueobject;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.BitSet;
+
+/**
+ * Parsed form of a task's {@code "intervalWeeks:daysOfWeek"} recurrence pattern.
+ *
+ * <p>A pattern such as {@code "2:1,4"} (every two weeks on Monday and Thursday) is
+ * parsed once when the task is loaded and kept as an interval plus a 7-bit day mask,
+ * where bit {@code 0} is Monday and bit {@code 6} is Sunday. Matching a date is then
+ * a mask test and a week-difference modulo, with no string handling.</p>
+ *
+ * <p>Weeks are counted from an anchor Monday (see {@code Task.getRecurrenceAnchor()}):
+ * a week recurs when its distance from the anchor week is a non-negative multiple of
+ * the interval.</p>
+ *
+ * @param intervalWeeks number of weeks between recurring weeks (at least 1)
+ * @param dayMask       bit {@code d - 1} set for each ISO day-of-week {@code d} the task recurs on
+ * @see com.studysync.domain.entity.Task#getRecurrenceRule()
+ */
+public record RecurrenceRule(int intervalWeeks, int dayMask) {
+
+    private static final int ALL_DAYS = 0x7F;
+    private static final String[] DAY_NAMES = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+
+    /**
+     * @throws IllegalArgumentException if the interval is below 1 or the mask uses more than 7 bits
+     */
+    public RecurrenceRule {
+        if (intervalWeeks < 1) {
+            throw new IllegalArgumentException("Recurrence interval must be at least 1 week");
+        }
+        if ((dayMask & ~ALL_DAYS) != 0) {
+            throw new IllegalArgumentException("Recurrence day mask must fit in 7 bits");
+        }
+    }
+
+    /**
+     * Parses a stored pattern such as {@code "1:1,3,5"}.
+     *
+     * <p>Day numbers outside {@code 1..7} are ignored, as the original string
+     * matcher never matched them.</p>
+     *
+     * @param pattern the stored pattern
+     * @return the parsed rule
+     * @throws IllegalArgumentException if the pattern is blank or malformed
+     */
+    public static RecurrenceRule parse(String pattern) {
+        if (pattern == null || pattern.isBlank()) {
+            throw new IllegalArgumentException("Recurrence pattern must not be blank");
+        }
+        String[] parts = pattern.split(":");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Recurrence pattern must look like 'intervalWeeks:days': " + pattern);
+        }
+        try {
+            int intervalWeeks = Integer.parseInt(parts[0].trim());
+            int mask = 0;
+            for (String day : parts[1].split(",")) {
+                int dayOfWeek = Integer.parseInt(day.trim());
+                if (dayOfWeek >= 1 && dayOfWeek <= 7) {
+                    mask |= 1 << (dayOfWeek - 1);
+                }
+            }
+            return new RecurrenceRule(intervalWeeks, mask);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Recurrence pattern contains a non-numeric value: " + pattern, e);
+        }
+    }
+
+    /**
+     * @return whether the rule recurs on {@code day} in a recurring week
+     */
+    public boolean recursOn(DayOfWeek day) {
+        return (dayMask & (1 << (day.getValue() - 1))) != 0;
+    }
+
+    /**
+     * Checks a single date.
+     *
+     * @param date           the date to test
+     * @param anchorMonday   Monday of the week recurrence is counted from
+     * @return {@code true} if the rule produces an occurrence on {@code date}
+     */
+    public boolean appliesTo(LocalDate date, LocalDate anchorMonday) {
+        if (!recursOn(date.getDayOfWeek())) {
+            return false;
+        }
+        long weeksBetween = ChronoUnit.WEEKS.between(anchorMonday,
+                date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+        return weeksBetween >= 0 && weeksBetween % intervalWeeks == 0;
+    }
+
+    /**
+     * Computes every occurrence in {@code [start, end]} in one pass over the
+     * weeks of the range, instead of testing each date separately.
+     *
+     * @param anchorMonday Monday of the week recurrence is counted from
+     * @param start        first date of the range (inclusive)
+     * @param end          last date of the range (inclusive)
+     * @return a bitset where bit {@code i} is set when {@code start.plusDays(i)} is an occurrence
+     */
+    public BitSet occurrencesBetween(LocalDate anchorMonday, LocalDate start, LocalDate end) {
+        BitSet occurrences = new BitSet();
+        if (end.isBefore(start) || dayMask == 0) {
+            return occurrences;
+        }
+        long rangeDays = ChronoUnit.DAYS.between(start, end);
+        LocalDate weekStart = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        long week = ChronoUnit.WEEKS.between(anchorMonday, weekStart);
+        if (week < 0) {
+            // Jump straight to the anchor week; nothing recurs before it.
+            weekStart = weekStart.plusWeeks(-week);
+            week = 0;
+        } else if (week % intervalWeeks != 0) {
+            long skip = intervalWeeks - week % intervalWeeks;
+            weekStart = weekStart.plusWeeks(skip);
+            week += skip;
+        }
+        while (!weekStart.isAfter(end)) {
+            long mondayOffset = ChronoUnit.DAYS.between(start, weekStart);
+            for (int day = 0; day < 7; day++) {
+                long offset = mondayOffset + day;
+                if ((dayMask & (1 << day)) != 0 && offset >= 0 && offset <= rangeDays) {
+                    occurrences.set((int) offset);
+                }
+            }
+            weekStart = weekStart.plusWeeks(intervalWeeks);
+        }
+        return occurrences;
+    }
+
+    /**
+     * @return the pattern string this rule is stored as, e.g. {@code "2:1,4"}
+     */
+    public String toPattern() {
+        StringBuilder sb = new StringBuilder().append(intervalWeeks).append(':');
+        boolean first = true;
+        for (int day = 0; day < 7; day++) {
+            if ((dayMask & (1 << day)) != 0) {
+                if (!first) {
+                    sb.append(',');
+                }
+                sb.append(day + 1);
+                first = false;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return a human-readable summary, e.g. "Every 2 weeks on Mon, Thu"
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(intervalWeeks == 1 ? "Every week" : "Every " + intervalWeeks + " weeks");
+        sb.append(" on ");
+        boolean first = true;
+        for (int day = 0; day < 7; day++) {
+            if ((dayMask & (1 << day)) != 0) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(DAY_NAMES[day]);
+                first = false;
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,245 @@
+package com.studysync.integration.drive;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.NoSuchElementException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterInputStream;
+import java.util.zip.Inflater;
+
+/**
+ * Deflate-compressed database snapshot, used for Drive uploads and pre-download backups when
+ * {@code google.drive.compress-snapshots} is on.
+ *
+ * <p>Layout: the magic {@code SSZ1}, the deflate stream, then a 40-byte trailer with the
+ * uncompressed size and SHA-256. The checksum follows the data rather than preceding it so
+ * the database is read once, while it is being compressed and uploaded, instead of once to
+ * hash it and again to send it. {@link #decompress} verifies both values as it writes.</p>
+ */
+public final class CompressedSnapshot {
+
+    public static final String FILE_SUFFIX = ".deflate";
+    private static final byte[] MAGIC = {'S', 'S', 'Z', '1'};
+    private static final int TRAILER_BYTES = Long.BYTES + 32;
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    /** Size and SHA-256 (hex) of the uncompressed database. */
+    public record Trailer(long sizeBytes, String sha256) {
+    }
+
+    private CompressedSnapshot() {
+    }
+
+    /**
+     * Streams {@code source} in the compressed layout. The file is read lazily, as the
+     * returned stream is consumed.
+     */
+    public static InputStream openCompressedStream(Path source) throws IOException {
+        return openCompressedStream(Files.newInputStream(source));
+    }
+
+    /** As {@link #openCompressedStream(Path)}; closing the result closes {@code source}. */
+    public static InputStream openCompressedStream(InputStream source) {
+        MessageDigest digest = sha256();
+        CountingInputStream counted = new CountingInputStream(new DigestInputStream(source, digest));
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        InputStream body = new DeflaterInputStream(counted, deflater, BUFFER_BYTES) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    deflater.end();
+                }
+            }
+        };
+        // SequenceInputStream asks for the trailer only after the body is exhausted,
+        // by which time the digest covers the whole file.
+        return new SequenceInputStream(new Enumeration<>() {
+            private int part;
+
+            @Override
+            public boolean hasMoreElements() {
+                return part < 3;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                return switch (part++) {
+                    case 0 -> new ByteArrayInputStream(MAGIC);
+                    case 1 -> body;
+                    case 2 -> new ByteArrayInputStream(encodeTrailer(counted.count, digest.digest()));
+                    default -> throw new NoSuchElementException();
+                };
+            }
+        });
+    }
+
+    /** Writes {@code source} to {@code target} in the compressed layout. */
+    public static void compress(Path source, Path target) throws IOException {
+        try (InputStream input = openCompressedStream(source);
+             OutputStream output = Files.newOutputStream(target)) {
+            input.transferTo(output);
+        }
+    }
+
+    /** Writes the rest of {@code source} to {@code output} in the compressed layout, leaving both open. */
+    public static void compress(InputStream source, OutputStream output) throws IOException {
+        InputStream unclosable = new FilterInputStream(source) {
+            @Override
+            public void close() {
+                // the caller owns source
+            }
+        };
+        try (InputStream compressed = openCompressedStream(unclosable)) {
+            compressed.transferTo(output);
+        }
+    }
+
+    /**
+     * Decompresses a snapshot into {@code output}, checking the uncompressed size and
+     * SHA-256 against the trailer.
+     *
+     * @throws IOException if the input is not a compressed snapshot, is truncated or does
+     *                     not match its trailer; {@code output} then holds partial data
+     */
+    public static Trailer decompress(InputStream input, OutputStream output) throws IOException {
+        byte[] magic = input.readNBytes(MAGIC.length);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a compressed StudySync snapshot");
+        }
+        MessageDigest digest = sha256();
+        Inflater inflater = new Inflater();
+        byte[] in = new byte[BUFFER_BYTES];
+        byte[] out = new byte[BUFFER_BYTES];
+        long size = 0;
+        byte[] trailer;
+        try {
+            int read = 0;
+            while (!inflater.finished()) {
+                if (inflater.needsInput()) {
+                    read = input.read(in);
+                    if (read < 0) {
+                        throw new EOFException("Compressed snapshot is truncated");
+                    }
+                    inflater.setInput(in, 0, read);
+                }
+                int inflated = inflater.inflate(out);
+                if (inflated == 0 && inflater.needsDictionary()) {
+                    throw new IOException("Compressed snapshot needs a preset dictionary");
+                }
+                output.write(out, 0, inflated);
+                digest.update(out, 0, inflated);
+                size += inflated;
+            }
+            // Whatever the inflater did not consume is the start of the trailer.
+            int leftover = inflater.getRemaining();
+            trailer = new byte[TRAILER_BYTES];
+            int fromBuffer = Math.min(leftover, TRAILER_BYTES);
+            System.arraycopy(in, read - leftover, trailer, 0, fromBuffer);
+            if (input.readNBytes(trailer, fromBuffer, TRAILER_BYTES - fromBuffer) != TRAILER_BYTES - fromBuffer) {
+                throw new EOFException("Compressed snapshot trailer is truncated");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Compressed snapshot is corrupt: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+
+        Trailer expected = decodeTrailer(trailer);
+        String actualSha = HexFormat.of().formatHex(digest.digest());
+        if (size != expected.sizeBytes() || !actualSha.equals(expected.sha256())) {
+            throw new IOException("Compressed snapshot does not match its checksum (size " + size + " vs "
+                    + expected.sizeBytes() + ")");
+        }
+        return expected;
+    }
+
+    /** Reads the trailer of a compressed snapshot file without decompressing it. */
+    public static Trailer readTrailer(Path compressed) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(compressed)) {
+            if (channel.size() < MAGIC.length + TRAILER_BYTES) {
+                throw new IOException("Compressed snapshot " + compressed + " is truncated");
+            }
+            ByteBuffer magic = ByteBuffer.allocate(MAGIC.length);
+            readFully(channel, magic);
+            if (!Arrays.equals(magic.array(), MAGIC)) {
+                throw new IOException("Not a compressed StudySync snapshot: " + compressed);
+            }
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_BYTES);
+            channel.position(channel.size() - TRAILER_BYTES);
+            readFully(channel, trailer);
+            return decodeTrailer(trailer.array());
+        }
+    }
+
+    private static byte[] encodeTrailer(long sizeBytes, byte[] sha256) {
+        return ByteBuffer.allocate(TRAILER_BYTES).putLong(sizeBytes).put(sha256).array();
+    }
+
+    private static Trailer decodeTrailer(byte[] trailer) {
+        ByteBuffer buffer = ByteBuffer.wrap(trailer);
+        long sizeBytes = buffer.getLong();
+        byte[] sha = new byte[32];
+        buffer.get(sha);
+        return new Trailer(sizeBytes, HexFormat.of().formatHex(sha));
+    }
+
+    private static void readFully(SeekableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Compressed snapshot is truncated");
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.studysync.integration.drive;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Splits a file into content-defined chunks with a Gear rolling hash.
+ *
+ * <p>A boundary is placed where the hash of the last 64 bytes has its top
+ * {@value #MASK_BITS} bits clear, so boundaries depend on content rather than offsets:
+ * an edit only changes the chunks it touches, and the rest of the file keeps the same
+ * chunk hashes even when bytes are inserted or removed before them. Chunks are at least
+ * {@link #MIN_CHUNK_BYTES} and at most {@link #MAX_CHUNK_BYTES} long, about 80 KiB on
+ * average.</p>
+ *
+ * <p>The Gear table and size limits are part of the remote format: changing them
+ * re-chunks every file and makes the next sync upload everything.</p>
+ */
+public final class ContentDefinedChunker {
+
+    static final int MIN_CHUNK_BYTES = 16 * 1024;
+    static final int MAX_CHUNK_BYTES = 256 * 1024;
+    private static final int MASK_BITS = 16;
+    private static final long BOUNDARY_MASK = -1L << (Long.SIZE - MASK_BITS);
+    private static final long GEAR_SEED = 0x5354_5544_5953_594EL;
+    private static final long[] GEAR = gearTable();
+
+    /**
+     * @param offset position of the chunk's first byte in the file
+     * @param length chunk length in bytes
+     * @param sha256 lower-case hex SHA-256 of the chunk, which is also its remote name
+     */
+    public record Chunk(long offset, int length, String sha256) {
+    }
+
+    private ContentDefinedChunker() {
+    }
+
+    public static List<Chunk> split(Path file) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[64 * 1024];
+        long offset = 0;
+        int length = 0;
+        long hash = 0;
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                int pending = 0;
+                for (int i = 0; i < read; i++) {
+                    hash = (hash << 1) + GEAR[buffer[i] & 0xFF];
+                    length++;
+                    if (length >= MAX_CHUNK_BYTES || (length >= MIN_CHUNK_BYTES && (hash & BOUNDARY_MASK) == 0)) {
+                        digest.update(buffer, pending, i + 1 - pending);
+                        chunks.add(new Chunk(offset, length, HexFormat.of().formatHex(digest.digest())));
+                        offset += length;
+                        length = 0;
+                        hash = 0;
+                        pending = i + 1;
+                    }
+                }
+                digest.update(buffer, pending, read - pending);
+            }
+        }
+        if (length > 0) {
+            chunks.add(new Chunk(offset, length, HexFormat.of().formatHex(digest.digest())));
+        }
+        return chunks;
+    }
+
+    static String sha256Hex(byte[] data) {
+        return HexFormat.of().formatHex(sha256().digest(data));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /** java.util.Random's sequence is specified exactly, so the table is the same on every JVM. */
+    private static long[] gearTable() {
+        Random random = new Random(GEAR_SEED);
+        long[] table = new long[256];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = random.nextLong();
+        }
+        return table;
+    }
+}
@@ -0,0 +1,178 @@
+package com.studysync.integration.drive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Uploads and reassembles database snapshots as content-defined chunks, so a sync only
+ * transfers the chunks that changed.
+ *
+ * <p>An upload stores every chunk the remote side does not have yet and then replaces
+ * the manifest, which is the commit point: until then readers keep seeing the previous
+ * manifest, whose chunks are never deleted by the upload that replaces it. A download
+ * copies the chunks it can find in the local database file and fetches only the rest;
+ * the result is checked against the manifest's size and SHA-256 before it is used.</p>
+ */
+public final class DeltaSync {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeltaSync.class);
+
+    /**
+     * Unreferenced chunks younger than this are kept: they may belong to an upload
+     * another device has not committed yet.
+     */
+    static final Duration ORPHAN_CHUNK_GRACE = Duration.ofDays(1);
+
+    private DeltaSync() {
+    }
+
+    /**
+     * @param source   frozen database snapshot to upload
+     * @param listener progress over the bytes of chunks that actually need uploading
+     * @return the manifest that was committed
+     */
+    public static DeltaSyncManifest upload(Path source, RemoteChunkStore store,
+                                           DriveUploadProgressListener listener) throws IOException {
+        List<ContentDefinedChunker.Chunk> chunks = ContentDefinedChunker.split(source);
+        Optional<DeltaSyncManifest> previous = store.readManifest();
+        Map<String, Instant> stored = store.listChunks();
+
+        Map<String, ContentDefinedChunker.Chunk> missing = new LinkedHashMap<>();
+        long missingBytes = 0;
+        for (ContentDefinedChunker.Chunk chunk : chunks) {
+            if (!stored.containsKey(chunk.sha256()) && missing.putIfAbsent(chunk.sha256(), chunk) == null) {
+                missingBytes += chunk.length();
+            }
+        }
+
+        long uploadedBytes = 0;
+        listener.onProgress(0, missingBytes);
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            for (ContentDefinedChunker.Chunk chunk : missing.values()) {
+                store.putChunk(chunk.sha256(), read(channel, chunk.offset(), chunk.length()));
+                uploadedBytes += chunk.length();
+                listener.onProgress(uploadedBytes, missingBytes);
+            }
+        }
+
+        List<DeltaSyncManifest.ChunkEntry> entries = new ArrayList<>(chunks.size());
+        long sizeBytes = 0;
+        for (ContentDefinedChunker.Chunk chunk : chunks) {
+            entries.add(new DeltaSyncManifest.ChunkEntry(chunk.sha256(), chunk.length()));
+            sizeBytes += chunk.length();
+        }
+        DeltaSyncManifest manifest = new DeltaSyncManifest(DeltaSyncManifest.FORMAT_VERSION, sizeBytes,
+                PendingDownloadSupport.sha256Hex(source), System.currentTimeMillis(), List.copyOf(entries));
+        store.writeManifest(manifest);
+        logger.info("Delta sync uploaded {} of {} chunks ({} of {} bytes)",
+                missing.size(), chunks.size(), missingBytes, sizeBytes);
+
+        deleteOrphanChunks(store, stored, manifest, previous);
+        return manifest;
+    }
+
+    /**
+     * Writes the file described by {@code manifest} to {@code destination}.
+     *
+     * @param localDatabase current local database, used as a source of unchanged chunks; may be missing
+     * @throws IOException if a chunk cannot be fetched or the reassembled file fails verification
+     */
+    public static void download(RemoteChunkStore store, DeltaSyncManifest manifest,
+                                Path localDatabase, Path destination) throws IOException {
+        if (manifest.formatVersion() != DeltaSyncManifest.FORMAT_VERSION) {
+            throw new IOException("Unsupported delta sync manifest version " + manifest.formatVersion());
+        }
+        Map<String, ContentDefinedChunker.Chunk> localChunks = new HashMap<>();
+        if (Files.exists(localDatabase)) {
+            for (ContentDefinedChunker.Chunk chunk : ContentDefinedChunker.split(localDatabase)) {
+                localChunks.putIfAbsent(chunk.sha256(), chunk);
+            }
+        }
+
+        int fetched = 0;
+        long fetchedBytes = 0;
+        FileChannel local = localChunks.isEmpty() ? null : FileChannel.open(localDatabase, StandardOpenOption.READ);
+        try (OutputStream output = Files.newOutputStream(destination)) {
+            for (DeltaSyncManifest.ChunkEntry entry : manifest.chunks()) {
+                ContentDefinedChunker.Chunk localChunk = localChunks.get(entry.sha256());
+                byte[] data;
+                if (local != null && localChunk != null && localChunk.length() == entry.length()) {
+                    data = read(local, localChunk.offset(), localChunk.length());
+                } else {
+                    data = store.getChunk(entry.sha256());
+                    fetched++;
+                    fetchedBytes += data.length;
+                }
+                if (data.length != entry.length() || !ContentDefinedChunker.sha256Hex(data).equals(entry.sha256())) {
+                    throw new IOException("Chunk " + entry.sha256() + " does not match its manifest entry");
+                }
+                output.write(data);
+            }
+        } finally {
+            if (local != null) {
+                local.close();
+            }
+        }
+
+        long sizeBytes = Files.size(destination);
+        String sha256 = PendingDownloadSupport.sha256Hex(destination);
+        if (sizeBytes != manifest.sizeBytes() || !sha256.equals(manifest.sha256())) {
+            throw new IOException("Reassembled database does not match the manifest (size " + sizeBytes
+                    + ", expected " + manifest.sizeBytes() + ")");
+        }
+        logger.info("Delta sync reassembled {} bytes; fetched {} of {} chunks ({} bytes)",
+                sizeBytes, fetched, manifest.chunks().size(), fetchedBytes);
+    }
+
+    private static void deleteOrphanChunks(RemoteChunkStore store, Map<String, Instant> stored,
+                                           DeltaSyncManifest current, Optional<DeltaSyncManifest> previous) {
+        Set<String> referenced = new HashSet<>();
+        current.chunks().forEach(entry -> referenced.add(entry.sha256()));
+        previous.ifPresent(manifest -> manifest.chunks().forEach(entry -> referenced.add(entry.sha256())));
+        Instant cutoff = Instant.now().minus(ORPHAN_CHUNK_GRACE);
+        int deleted = 0;
+        for (Map.Entry<String, Instant> chunk : stored.entrySet()) {
+            if (referenced.contains(chunk.getKey()) || chunk.getValue().isAfter(cutoff)) {
+                continue;
+            }
+            try {
+                store.deleteChunk(chunk.getKey());
+                deleted++;
+            } catch (IOException e) {
+                // Harmless: the next upload tries again.
+                logger.warn("Failed to delete unreferenced chunk {}: {}", chunk.getKey(), e.getMessage());
+            }
+        }
+        if (deleted > 0) {
+            logger.info("Delta sync deleted {} unreferenced chunks", deleted);
+        }
+    }
+
+    private static byte[] read(FileChannel channel, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file at offset " + (offset + buffer.position()));
+            }
+        }
+        return buffer.array();
+    }
+}
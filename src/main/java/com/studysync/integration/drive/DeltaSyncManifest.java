@@ -0,0 +1,20 @@
+package com.studysync.integration.drive;
+
+import java.util.List;
+
+/**
+ * Remote description of one database snapshot in delta-sync mode: the ordered chunks
+ * that reassemble it, plus the size and SHA-256 of the whole file to verify the result.
+ */
+public record DeltaSyncManifest(
+        int formatVersion,
+        long sizeBytes,
+        String sha256,
+        long createdAtEpochMillis,
+        List<ChunkEntry> chunks) {
+
+    public static final int FORMAT_VERSION = 1;
+
+    public record ChunkEntry(String sha256, int length) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.studysync.integration.drive;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uploads the local database to Drive in the background once edits have settled, so
+ * exiting usually finds nothing left to upload.
+ *
+ * <p>Every {@link GoogleDriveService#markLocalDbDirty()} restarts a quiet-period timer;
+ * a steady stream of edits still uploads at most {@value #MAX_DEBOUNCE_PERIODS} quiet
+ * periods after the first one. A failed upload is retried after a doubling delay, capped
+ * at {@link #MAX_BACKOFF_MS}. A run whose mutation generation was already uploaded does
+ * nothing, and neither does one while Drive holds changes from another device
+ * ({@link GoogleDriveService.SyncStatus#CONFLICT}): that is resolved from the Profile window.
+ * When Drive's state cannot be read ({@link GoogleDriveService.SyncStatus#UNKNOWN}) the
+ * upload is skipped and retried like a failed one.</p>
+ */
+@Service
+public class DriveAutoSyncScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriveAutoSyncScheduler.class);
+    static final long MAX_BACKOFF_MS = TimeUnit.MINUTES.toMillis(15);
+    private static final int MAX_DEBOUNCE_PERIODS = 5;
+
+    private final GoogleDriveService driveService;
+    private final long quietPeriodMs;
+    private final long maxBackoffMs;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "studysync-drive-autosync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this.
+    private boolean started;
+    private ScheduledFuture<?> pendingUpload;
+    private long firstUnsyncedMutationAt;
+    private long lastSyncedGeneration;
+    private int consecutiveFailures;
+
+    @Autowired
+    public DriveAutoSyncScheduler(GoogleDriveService driveService, GoogleDriveSettings settings) {
+        this(driveService, TimeUnit.SECONDS.toMillis(settings.autoSyncDelaySeconds()), MAX_BACKOFF_MS);
+    }
+
+    DriveAutoSyncScheduler(GoogleDriveService driveService, long quietPeriodMs, long maxBackoffMs) {
+        this.driveService = driveService;
+        this.quietPeriodMs = quietPeriodMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    /** Starts watching local edits; a no-op when Drive is not configured or auto-sync is off. */
+    public synchronized void start() {
+        if (started || quietPeriodMs <= 0 || !driveService.isIntegrationEnabled()) {
+            return;
+        }
+        started = true;
+        driveService.addLocalMutationListener(this::onLocalMutation);
+        if (driveService.isLocalDbDirty()) {
+            onLocalMutation();
+        }
+        logger.info("Drive auto-sync uploads {} s after the last edit", TimeUnit.MILLISECONDS.toSeconds(quietPeriodMs));
+    }
+
+    synchronized void onLocalMutation() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (firstUnsyncedMutationAt == 0L) {
+            firstUnsyncedMutationAt = now;
+        }
+        if (consecutiveFailures > 0 && pendingUpload != null && !pendingUpload.isDone()) {
+            return; // the queued retry will include this edit
+        }
+        long deadline = firstUnsyncedMutationAt + quietPeriodMs * MAX_DEBOUNCE_PERIODS;
+        scheduleLocked(Math.min(quietPeriodMs, Math.max(0L, deadline - now)));
+    }
+
+    private void runUpload() {
+        long generation = driveService.getLocalMutationGeneration();
+        synchronized (this) {
+            if (generation == lastSyncedGeneration || !driveService.isLocalDbDirty()) {
+                firstUnsyncedMutationAt = 0L; // a manual upload got there first
+                return;
+            }
+        }
+        if (!driveService.isSignedIn()) {
+            logger.debug("Skipping Drive auto-sync: not signed in");
+            return;
+        }
+        GoogleDriveService.SyncStatus status = driveService.checkSyncStatus(true);
+        if (status == GoogleDriveService.SyncStatus.CONFLICT) {
+            logger.warn("Drive auto-sync paused: Drive has changes from another device; resolve from the Profile window");
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        boolean uploaded = false;
+        if (status == GoogleDriveService.SyncStatus.UNKNOWN) {
+            logger.warn("Drive auto-sync skipped: could not read the state of the Drive copy");
+        } else {
+            try {
+                uploaded = driveService.uploadDatabaseSnapshot();
+            } catch (RuntimeException e) {
+                logger.warn("Drive auto-sync upload failed", e);
+            }
+        }
+
+        synchronized (this) {
+            if (uploaded) {
+                lastSyncedGeneration = generation;
+                consecutiveFailures = 0;
+                // Edits made during the upload are already scheduled; their debounce started no earlier.
+                firstUnsyncedMutationAt = driveService.getLocalMutationGeneration() == generation ? 0L : startedAt;
+                logger.info("Drive auto-sync uploaded the database in {} ms", System.currentTimeMillis() - startedAt);
+                return;
+            }
+            consecutiveFailures++;
+            long retryMs = backoffDelayMs(quietPeriodMs, consecutiveFailures, maxBackoffMs);
+            logger.warn("Drive auto-sync failed {} time(s) in a row; retrying in {} s",
+                    consecutiveFailures, TimeUnit.MILLISECONDS.toSeconds(retryMs));
+            scheduleLocked(retryMs);
+        }
+    }
+
+    private void scheduleLocked(long delayMs) {
+        if (pendingUpload != null) {
+            pendingUpload.cancel(false);
+        }
+        try {
+            pendingUpload = executor.schedule(this::runUpload, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pendingUpload = null; // shutting down
+        }
+    }
+
+    /** Retry delay after {@code failures} consecutive failures: the quiet period doubled per failure. */
+    static long backoffDelayMs(long quietPeriodMs, int failures, long maxBackoffMs) {
+        int doublings = Math.min(Math.max(failures, 0), 20);
+        return Math.min(maxBackoffMs, quietPeriodMs << doublings);
+    }
+
+    synchronized int consecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Stops without waiting: an interrupted resumable upload continues on the next sync,
+     * and the exit dialog uploads whatever is still dirty.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
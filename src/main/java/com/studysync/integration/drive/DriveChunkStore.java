@@ -0,0 +1,165 @@
+package com.studysync.integration.drive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.http.ByteArrayContent;
+import com.google.api.services.drive.Drive;
+import com.google.api.services.drive.model.File;
+import com.google.api.services.drive.model.FileList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link RemoteChunkStore} on Google Drive: chunks are files named by their hash in a
+ * {@value #CHUNKS_FOLDER_NAME} subfolder of the app folder, next to a JSON manifest.
+ */
+class DriveChunkStore implements RemoteChunkStore {
+
+    static final String CHUNKS_FOLDER_NAME = "chunks";
+    private static final String FOLDER_MIME_TYPE = "application/vnd.google-apps.folder";
+    private static final String CHUNK_MIME_TYPE = "application/octet-stream";
+    private static final String MANIFEST_MIME_TYPE = "application/json";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Drive drive;
+    private final String appFolderId;
+    private final String manifestName;
+    private String chunksFolderId;
+    /** Drive file ids by chunk name, filled by {@link #listChunks()} and {@link #putChunk}. */
+    private final Map<String, String> chunkFileIds = new HashMap<>();
+
+    DriveChunkStore(Drive drive, String appFolderId, String manifestName) {
+        this.drive = drive;
+        this.appFolderId = appFolderId;
+        this.manifestName = manifestName;
+    }
+
+    static String manifestName(GoogleDriveSettings settings) {
+        return settings.remoteFileName() + ".manifest.json";
+    }
+
+    /** The manifest file's Drive metadata ({@code id, modifiedTime}), if one has been written. */
+    Optional<File> findManifestFile() throws IOException {
+        return findFirst(String.format("name='%s' and '%s' in parents and trashed=false", manifestName, appFolderId),
+                "files(id, modifiedTime)");
+    }
+
+    @Override
+    public Map<String, Instant> listChunks() throws IOException {
+        Map<String, Instant> chunks = new HashMap<>();
+        chunkFileIds.clear();
+        String pageToken = null;
+        do {
+            FileList page = drive.files().list()
+                    .setQ(String.format("'%s' in parents and trashed=false", chunksFolderId()))
+                    .setFields("nextPageToken, files(id, name, createdTime)")
+                    .setPageSize(1000)
+                    .setPageToken(pageToken)
+                    .execute();
+            if (page.getFiles() != null) {
+                for (File file : page.getFiles()) {
+                    chunkFileIds.put(file.getName(), file.getId());
+                    chunks.put(file.getName(), file.getCreatedTime() != null
+                            ? Instant.ofEpochMilli(file.getCreatedTime().getValue())
+                            : Instant.now());
+                }
+            }
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+        return chunks;
+    }
+
+    @Override
+    public void putChunk(String sha256, byte[] data) throws IOException {
+        File metadata = new File();
+        metadata.setName(sha256);
+        metadata.setParents(List.of(chunksFolderId()));
+        File created = drive.files().create(metadata, new ByteArrayContent(CHUNK_MIME_TYPE, data))
+                .setFields("id")
+                .execute();
+        chunkFileIds.put(sha256, created.getId());
+    }
+
+    @Override
+    public byte[] getChunk(String sha256) throws IOException {
+        String fileId = chunkFileIds.get(sha256);
+        if (fileId == null) {
+            fileId = findFirst(String.format("name='%s' and '%s' in parents and trashed=false", sha256, chunksFolderId()),
+                    "files(id)")
+                    .map(File::getId)
+                    .orElseThrow(() -> new IOException("Chunk " + sha256 + " is missing from Google Drive"));
+            chunkFileIds.put(sha256, fileId);
+        }
+        try (InputStream input = drive.files().get(fileId).executeMediaAsInputStream()) {
+            return input.readAllBytes();
+        }
+    }
+
+    @Override
+    public void deleteChunk(String sha256) throws IOException {
+        String fileId = chunkFileIds.remove(sha256);
+        if (fileId != null) {
+            drive.files().delete(fileId).execute();
+        }
+    }
+
+    @Override
+    public Optional<DeltaSyncManifest> readManifest() throws IOException {
+        Optional<File> manifestFile = findManifestFile();
+        if (manifestFile.isEmpty()) {
+            return Optional.empty();
+        }
+        try (InputStream input = drive.files().get(manifestFile.get().getId()).executeMediaAsInputStream()) {
+            return Optional.of(OBJECT_MAPPER.readValue(input, DeltaSyncManifest.class));
+        }
+    }
+
+    @Override
+    public void writeManifest(DeltaSyncManifest manifest) throws IOException {
+        ByteArrayContent content = new ByteArrayContent(MANIFEST_MIME_TYPE, OBJECT_MAPPER.writeValueAsBytes(manifest));
+        Optional<File> existing = findManifestFile();
+        if (existing.isPresent()) {
+            drive.files().update(existing.get().getId(), null, content).setFields("id").execute();
+        } else {
+            File metadata = new File();
+            metadata.setName(manifestName);
+            metadata.setParents(List.of(appFolderId));
+            drive.files().create(metadata, content).setFields("id").execute();
+        }
+    }
+
+    private String chunksFolderId() throws IOException {
+        if (chunksFolderId == null) {
+            Optional<File> folder = findFirst(String.format(
+                    "mimeType='%s' and name='%s' and '%s' in parents and trashed=false",
+                    FOLDER_MIME_TYPE, CHUNKS_FOLDER_NAME, appFolderId), "files(id)");
+            if (folder.isPresent()) {
+                chunksFolderId = folder.get().getId();
+            } else {
+                File metadata = new File();
+                metadata.setName(CHUNKS_FOLDER_NAME);
+                metadata.setMimeType(FOLDER_MIME_TYPE);
+                metadata.setParents(List.of(appFolderId));
+                chunksFolderId = drive.files().create(metadata).setFields("id").execute().getId();
+            }
+        }
+        return chunksFolderId;
+    }
+
+    private Optional<File> findFirst(String query, String fields) throws IOException {
+        FileList fileList = drive.files().list()
+                .setQ(query)
+                .setFields(fields)
+                .setPageSize(1)
+                .execute();
+        if (fileList.getFiles() == null || fileList.getFiles().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(fileList.getFiles().get(0));
+    }
+}
@@ -0,0 +1,116 @@
+package com.studysync.integration.drive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Drive ids of the StudySync folder and database file, persisted next to the OAuth tokens so
+ * a sync does not have to search for them with {@code files.list} first.
+ *
+ * <p>The ids are trusted until Drive says otherwise: a 404 or a trashed file makes
+ * {@link GoogleDriveGateway} forget them and search again. Ids recorded for a different
+ * folder or file name are ignored.</p>
+ */
+final class DriveFileIdStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriveFileIdStore.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    static final String FILE_NAME = "drive-file-ids.json";
+
+    /** On-disk form; the names record which settings the ids were found for. */
+    record StoredIds(String folderName, String folderId, String remoteFileName, String databaseFileId) {
+    }
+
+    private final Path path;
+    private final String folderName;
+    private final String remoteFileName;
+    // Guarded by this.
+    private String folderId;
+    private String databaseFileId;
+    private boolean loaded;
+
+    DriveFileIdStore(GoogleDriveSettings settings) {
+        this.path = settings.credentialsDirectory().resolve(FILE_NAME);
+        this.folderName = settings.folderName();
+        this.remoteFileName = settings.driveDatabaseFileName();
+    }
+
+    synchronized Optional<String> folderId() {
+        load();
+        return Optional.ofNullable(folderId);
+    }
+
+    synchronized Optional<String> databaseFileId() {
+        load();
+        return folderId != null ? Optional.ofNullable(databaseFileId) : Optional.empty();
+    }
+
+    synchronized void rememberFolder(String id) {
+        load();
+        if (id != null && !id.equals(folderId)) {
+            folderId = id;
+            databaseFileId = null;
+            save();
+        }
+    }
+
+    synchronized void rememberDatabaseFile(String id) {
+        load();
+        if (id != null && folderId != null && !id.equals(databaseFileId)) {
+            databaseFileId = id;
+            save();
+        }
+    }
+
+    /** @return whether any id was known, i.e. whether searching again can help */
+    synchronized boolean clear() {
+        load();
+        boolean hadIds = folderId != null || databaseFileId != null;
+        folderId = null;
+        databaseFileId = null;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Failed to delete cached Drive ids {}: {}", path, e.getMessage());
+        }
+        return hadIds;
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (InputStream input = Files.newInputStream(path)) {
+            StoredIds stored = OBJECT_MAPPER.readValue(input, StoredIds.class);
+            if (folderName.equals(stored.folderName()) && remoteFileName.equals(stored.remoteFileName())) {
+                folderId = stored.folderId();
+                databaseFileId = stored.databaseFileId();
+            }
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable cached Drive ids {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void save() {
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            try (OutputStream output = Files.newOutputStream(path)) {
+                OBJECT_MAPPER.writeValue(output, new StoredIds(folderName, folderId, remoteFileName, databaseFileId));
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to cache Drive ids in {}: {}", path, e.getMessage());
+        }
+    }
+}
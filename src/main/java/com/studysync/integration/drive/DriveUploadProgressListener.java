@@ -0,0 +1,17 @@
+package com.studysync.integration.drive;
+
+/**
+ * Receives progress of a Drive snapshot upload. Called on the uploading thread after
+ * every acknowledged chunk, so implementations must hand off to the UI thread themselves.
+ */
+@FunctionalInterface
+public interface DriveUploadProgressListener {
+
+    DriveUploadProgressListener NONE = (bytesUploaded, totalBytes) -> { };
+
+    /**
+     * @param bytesUploaded bytes Drive has confirmed so far
+     * @param totalBytes    size of the snapshot being uploaded
+     */
+    void onProgress(long bytesUploaded, long totalBytes);
+}
@@ -1,11 +1,8 @@
 package com.studysync.integration.drive;
 
-import com.google.api.client.auth.oauth2.Credential;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-
 /**
  * Runs before Spring Boot starts to make sure the local database is in sync with Google Drive if possible.
  */
@@ -28,18 +25,9 @@ public final class GoogleDriveBootstrap {
             return settings;
         }
 
-        GoogleCredentialManager credentialManager = new GoogleCredentialManager(settings);
-        try {
-            Credential storedCredential = credentialManager.loadStoredCredential();
-            if (storedCredential == null) {
-                logger.info("No stored Google credentials. Sign in from the UI to enable Drive sync.");
-                return settings;
-            }
-            // Automatic download on startup is disabled.
-            logger.info("Google Drive sync enabled. Database download must be triggered manually.");
-        } catch (IOException e) {
-            logger.warn("Unable to load stored Google credentials: {}", e.getMessage());
-        }
+        // Stored credentials are loaded once, by GoogleDriveService, off the startup path.
+        // Automatic download on startup is disabled.
+        logger.info("Google Drive sync enabled. Database download must be triggered manually.");
         return settings;
     }
 }
@@ -1,9 +1,12 @@
 package com.studysync.integration.drive;
 
 import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 import com.google.api.client.http.FileContent;
 import com.google.api.client.http.HttpRequestInitializer;
 import com.google.api.services.drive.Drive;
+import com.google.api.services.drive.model.Change;
+import com.google.api.services.drive.model.ChangeList;
 import com.google.api.services.drive.model.File;
 import com.google.api.services.drive.model.FileList;
 import com.google.api.services.oauth2.Oauth2;
@@ -20,6 +23,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Low level helper that communicates with Google Drive/OAuth APIs.
@@ -30,13 +34,24 @@ public class GoogleDriveGateway {
 
     private static final int HTTP_CONNECT_TIMEOUT_MS = 30_000;
     private static final int HTTP_READ_TIMEOUT_MS = 60_000;
+    /** Pages of the changes feed read before giving up and re-listing the folder instead. */
+    private static final int MAX_CHANGE_PAGES = 5;
 
     private final GoogleDriveSettings settings;
     private final GoogleCredentialManager credentialManager;
+    private final DriveFileIdStore fileIds;
+    /** The folder id already known to be live in this session, so it is checked only once. */
+    private volatile String verifiedFolderId;
 
     public GoogleDriveGateway(GoogleDriveSettings settings, GoogleCredentialManager credentialManager) {
         this.settings = Objects.requireNonNull(settings, "settings");
         this.credentialManager = Objects.requireNonNull(credentialManager, "credentialManager");
+        this.fileIds = new DriveFileIdStore(settings);
+    }
+
+    /** Drops the cached folder and file ids, e.g. when another account signs in. */
+    public void forgetCachedFileIds() {
+        fileIds.clear();
     }
 
     public Optional<String> fetchAccountEmail(Credential credential) {
@@ -53,22 +68,28 @@ public class GoogleDriveGateway {
         }
     }
 
-    public boolean downloadDatabaseFromDrive(Credential credential) {
-        return downloadDatabaseToPath(credential, settings.localDatabasePath()).isPresent();
-    }
-
+    /**
+     * Downloads the database file's bytes as stored on Drive. With compressed snapshots on,
+     * that is a {@link CompressedSnapshot} unless only an uncompressed upload exists, which
+     * {@link RemoteDatabaseSnapshot#compressed()} tells apart.
+     */
     public Optional<RemoteDatabaseSnapshot> downloadDatabaseToPath(Credential credential, Path destinationPath) {
         if (credential == null) {
             return Optional.empty();
         }
         try {
             Drive drive = buildDriveClient(credential);
-            Optional<String> folderId = ensureAppFolder(drive);
-            if (folderId.isEmpty()) {
-                logger.info("Google Drive folder '{}' not found and could not be created", settings.folderName());
-                return Optional.empty();
-            }
-            Optional<File> databaseFile = findDatabaseFile(drive, folderId.get());
+            Optional<File> databaseFile = retryWithoutCachedIds(() -> {
+                Optional<String> folderId = ensureAppFolder(drive);
+                if (folderId.isEmpty()) {
+                    logger.info("Google Drive folder '{}' not found and could not be created", settings.folderName());
+                    return Optional.empty();
+                }
+                Optional<File> file = findDatabaseFile(drive, folderId.get());
+                return file.isPresent() || !settings.compressSnapshots()
+                        ? file
+                        : findFileByName(drive, folderId.get(), settings.remoteFileName());
+            });
             if (databaseFile.isEmpty()) {
                 logger.info("No existing StudySync database found in Google Drive. A new one will be created on upload.");
                 return Optional.empty();
@@ -99,7 +120,9 @@ public class GoogleDriveGateway {
                     databaseFile.get().getSize() != null ? databaseFile.get().getSize() : Files.size(absDestinationPath),
                     databaseFile.get().getModifiedTime() != null
                             ? databaseFile.get().getModifiedTime().getValue()
-                            : Files.getLastModifiedTime(absDestinationPath).toInstant().toEpochMilli());
+                            : Files.getLastModifiedTime(absDestinationPath).toInstant().toEpochMilli(),
+                    settings.compressSnapshots()
+                            && settings.driveDatabaseFileName().equals(databaseFile.get().getName()));
             logger.info("Downloaded StudySync database from Google Drive to {}", absDestinationPath);
             return Optional.of(snapshot);
         } catch (IOException e) {
@@ -108,45 +131,108 @@ public class GoogleDriveGateway {
         }
     }
 
-    public boolean uploadDatabaseToDrive(Credential credential) {
+    /**
+     * Uploads {@code source}, a database snapshot, in a single request. With compressed
+     * snapshots on, {@code source} is expected to be a {@link CompressedSnapshot} already.
+     */
+    public boolean uploadDatabaseToDrive(Credential credential, Path source) {
         if (credential == null) {
             return false;
         }
-        Path localPath = settings.localDatabasePath();
-        if (!Files.exists(localPath)) {
-            logger.info("Local StudySync database not found at {}. Nothing to upload.", localPath);
+        if (!Files.exists(source)) {
+            logger.info("Database snapshot not found at {}. Nothing to upload.", source);
             return false;
         }
         try {
-            long fileSize = Files.size(localPath);
-            logger.info("Uploading database file: {} ({} bytes, lastModified={})",
-                    localPath.toAbsolutePath(), fileSize, Files.getLastModifiedTime(localPath));
+            logger.info("Uploading database snapshot: {} ({} bytes)", source.toAbsolutePath(), Files.size(source));
         } catch (IOException ignored) {
             // Non-fatal — just diagnostic logging
         }
         try {
             Drive drive = buildDriveClient(credential);
-            Optional<String> folderId = ensureAppFolder(drive);
-            if (folderId.isEmpty()) {
-                return false;
+            return retryWithoutCachedIds(() -> {
+                Optional<String> folderId = ensureAppFolder(drive);
+                if (folderId.isEmpty()) {
+                    return false;
+                }
+
+                Optional<File> existingFile = findDatabaseFile(drive, folderId.get());
+                FileContent mediaContent = new FileContent("application/octet-stream", source.toFile());
+                if (existingFile.isPresent()) {
+                    drive.files().update(existingFile.get().getId(), null, mediaContent)
+                            .setFields("id")
+                            .execute();
+                    logger.info("Updated StudySync database on Google Drive (file id={})", existingFile.get().getId());
+                } else {
+                    File metadata = new File();
+                    metadata.setName(settings.driveDatabaseFileName());
+                    metadata.setParents(Collections.singletonList(folderId.get()));
+                    File created = drive.files().create(metadata, mediaContent)
+                            .setFields("id")
+                            .execute();
+                    fileIds.rememberDatabaseFile(created.getId());
+                    logger.info("Uploaded StudySync database to Google Drive folder '{}'", settings.folderName());
+                }
+                return true;
+            });
+        } catch (IOException e) {
+            logger.warn("Failed to upload StudySync database to Google Drive: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Uploads {@code source} with the resumable protocol in chunks of
+     * {@link GoogleDriveSettings#uploadChunkSizeKb()}.
+     *
+     * @param resumeSessionUri an open session to continue, or {@code null} to start one
+     * @param onSessionStarted receives the URI of a newly opened session so it can be persisted
+     * @param listener         progress callback, called on this thread after each chunk
+     * @return {@code true} once Drive has the whole file; on failure the session (if any) stays resumable
+     */
+    public boolean uploadDatabaseResumable(Credential credential, Path source, String resumeSessionUri,
+                                           Consumer<String> onSessionStarted,
+                                           DriveUploadProgressListener listener) {
+        if (credential == null) {
+            return false;
+        }
+        try {
+            ResumableDriveUploader uploader = new ResumableDriveUploader(credentialManager.httpTransport(),
+                    timeoutInitializer(credential), credentialManager.jsonFactory(),
+                    ResumableDriveUploader.DRIVE_UPLOAD_URL, settings.uploadChunkSizeKb() * 1024);
+            if (resumeSessionUri != null) {
+                try {
+                    File uploaded = uploader.upload(resumeSessionUri, source, listener);
+                    logger.info("Resumed and completed StudySync database upload (file id={})", uploaded.getId());
+                    return true;
+                } catch (ResumableDriveUploader.SessionExpiredException e) {
+                    logger.info("Previous Drive upload session expired; starting a new one");
+                }
             }
 
-            Optional<File> existingFile = findDatabaseFile(drive, folderId.get());
-            FileContent mediaContent = new FileContent("application/octet-stream", localPath.toFile());
-            if (existingFile.isPresent()) {
-                drive.files().update(existingFile.get().getId(), null, mediaContent)
-                        .setFields("id")
-                        .execute();
-                logger.info("Updated StudySync database on Google Drive (file id={})", existingFile.get().getId());
-            } else {
-                File metadata = new File();
-                metadata.setName(settings.remoteFileName());
-                metadata.setParents(Collections.singletonList(folderId.get()));
-                drive.files().create(metadata, mediaContent)
-                        .setFields("id")
-                        .execute();
-                logger.info("Uploaded StudySync database to Google Drive folder '{}'", settings.folderName());
+            Drive drive = buildDriveClient(credential);
+            UploadTarget target = retryWithoutCachedIds(() -> {
+                String folderId = ensureAppFolder(drive).orElse(null);
+                return new UploadTarget(folderId,
+                        folderId != null ? findDatabaseFile(drive, folderId) : Optional.empty());
+            });
+            if (target.folderId() == null) {
+                return false;
+            }
+            File metadata = new File();
+            if (target.existingFile().isEmpty()) {
+                metadata.setName(settings.driveDatabaseFileName());
+                metadata.setParents(Collections.singletonList(target.folderId()));
             }
+            long sizeBytes = Files.size(source);
+            String sessionUri = uploader.startSession(metadata,
+                    target.existingFile().map(File::getId).orElse(null), sizeBytes);
+            onSessionStarted.accept(sessionUri);
+            logger.info("Uploading database snapshot {} ({} bytes) in resumable chunks of {} KiB",
+                    source, sizeBytes, settings.uploadChunkSizeKb());
+            File uploaded = uploader.upload(sessionUri, source, listener);
+            fileIds.rememberDatabaseFile(uploaded.getId());
+            logger.info("Uploaded StudySync database to Google Drive (file id={})", uploaded.getId());
             return true;
         } catch (IOException e) {
             logger.warn("Failed to upload StudySync database to Google Drive: {}", e.getMessage());
@@ -154,6 +240,76 @@ public class GoogleDriveGateway {
         }
     }
 
+    /**
+     * Uploads {@code source} as content-defined chunks, transferring only the chunks Drive
+     * does not already hold, then commits it by replacing the manifest.
+     *
+     * @param listener progress over the bytes of the chunks being uploaded
+     * @return {@code true} once the new manifest is on Drive; chunks uploaded by a failed
+     *         attempt are reused by the next one
+     */
+    public boolean uploadDatabaseDelta(Credential credential, Path source, DriveUploadProgressListener listener) {
+        if (credential == null) {
+            return false;
+        }
+        try {
+            Drive drive = buildDriveClient(credential);
+            return retryWithoutCachedIds(() -> {
+                Optional<String> folderId = ensureAppFolder(drive);
+                if (folderId.isEmpty()) {
+                    return false;
+                }
+                DriveChunkStore store = new DriveChunkStore(drive, folderId.get(), DriveChunkStore.manifestName(settings));
+                DeltaSync.upload(source, store, listener);
+                return true;
+            });
+        } catch (IOException e) {
+            logger.warn("Failed to delta-sync StudySync database to Google Drive: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Reassembles the database described by the Drive manifest into {@code destinationPath},
+     * reusing unchanged chunks of {@code localDatabasePath}.
+     *
+     * @return the manifest file's snapshot, or empty if Drive has no manifest yet
+     * @throws IOException if a manifest exists but the download or its verification failed;
+     *                     callers must not fall back to the (possibly stale) single file then
+     */
+    public Optional<RemoteDatabaseSnapshot> downloadDatabaseDeltaToPath(Credential credential, Path localDatabasePath,
+                                                                        Path destinationPath) throws IOException {
+        if (credential == null) {
+            return Optional.empty();
+        }
+        Drive drive = buildDriveClient(credential);
+        Optional<String> folderId = retryWithoutCachedIds(() -> ensureAppFolder(drive));
+        if (folderId.isEmpty()) {
+            return Optional.empty();
+        }
+        DriveChunkStore store = new DriveChunkStore(drive, folderId.get(), DriveChunkStore.manifestName(settings));
+        Optional<File> manifestFile = store.findManifestFile();
+        Optional<DeltaSyncManifest> manifest = store.readManifest();
+        if (manifestFile.isEmpty() || manifest.isEmpty()) {
+            return Optional.empty();
+        }
+        Path absDestinationPath = destinationPath.toAbsolutePath();
+        Files.createDirectories(absDestinationPath.getParent());
+        try {
+            DeltaSync.download(store, manifest.get(), localDatabasePath, absDestinationPath);
+        } catch (IOException e) {
+            Files.deleteIfExists(absDestinationPath);
+            throw e;
+        }
+        logger.info("Downloaded StudySync database from Google Drive chunks to {}", absDestinationPath);
+        return Optional.of(new RemoteDatabaseSnapshot(
+                manifestFile.get().getId(),
+                manifest.get().sizeBytes(),
+                manifestFile.get().getModifiedTime() != null
+                        ? manifestFile.get().getModifiedTime().getValue()
+                        : manifest.get().createdAtEpochMillis()));
+    }
+
     private Drive buildDriveClient(Credential credential) {
         return new Drive.Builder(credentialManager.httpTransport(), credentialManager.jsonFactory(),
                 timeoutInitializer(credential))
@@ -174,14 +330,52 @@ public class GoogleDriveGateway {
         };
     }
 
+    /**
+     * Runs {@code call}, and once more after forgetting the cached ids if Drive answered 404
+     * for one of them (the folder or file was deleted, or belongs to another account).
+     */
+    private <T> T retryWithoutCachedIds(DriveCall<T> call) throws IOException {
+        try {
+            return call.run();
+        } catch (StaleDriveIdException e) {
+            fileIds.clear();
+        } catch (GoogleJsonResponseException e) {
+            if (e.getStatusCode() != 404 || !fileIds.clear()) {
+                throw e;
+            }
+        }
+        logger.info("Cached Google Drive ids are stale; searching for the StudySync folder again");
+        return call.run();
+    }
+
+    /**
+     * The app folder's id: the cached one, checked once per session with a {@code files.get}
+     * since a trashed folder still answers every other call, else a search or a new folder.
+     */
     private Optional<String> ensureAppFolder(Drive drive) throws IOException {
+        Optional<String> cachedId = fileIds.folderId();
+        if (cachedId.isPresent()) {
+            if (!cachedId.get().equals(verifiedFolderId)) {
+                File folder = drive.files().get(cachedId.get())
+                        .setFields("id, trashed")
+                        .execute();
+                if (Boolean.TRUE.equals(folder.getTrashed())) {
+                    throw new StaleDriveIdException();
+                }
+                verifiedFolderId = cachedId.get();
+            }
+            return cachedId;
+        }
         FileList folderList = drive.files().list()
                 .setQ(String.format("mimeType='application/vnd.google-apps.folder' and name='%s' and trashed=false", settings.folderName()))
                 .setFields("files(id, name)")
                 .setPageSize(1)
                 .execute();
         if (folderList.getFiles() != null && !folderList.getFiles().isEmpty()) {
-            return Optional.of(folderList.getFiles().get(0).getId());
+            String folderId = folderList.getFiles().get(0).getId();
+            fileIds.rememberFolder(folderId);
+            verifiedFolderId = folderId;
+            return Optional.of(folderId);
         }
 
         File fileMetadata = new File();
@@ -191,11 +385,31 @@ public class GoogleDriveGateway {
         File createdFolder = drive.files().create(fileMetadata)
                 .setFields("id")
                 .execute();
+        fileIds.rememberFolder(createdFolder.getId());
+        verifiedFolderId = createdFolder.getId();
         return Optional.ofNullable(createdFolder.getId());
     }
 
+    /** The database file's metadata: a {@code files.get} of the cached id, else a search of the folder. */
     private Optional<File> findDatabaseFile(Drive drive, String folderId) throws IOException {
-        String query = String.format("name='%s' and '%s' in parents and trashed=false", settings.remoteFileName(), folderId);
+        Optional<String> cachedId = fileIds.databaseFileId();
+        if (cachedId.isPresent()) {
+            File file = drive.files().get(cachedId.get())
+                    .setFields("id, name, modifiedTime, size, trashed")
+                    .execute();
+            if (!Boolean.TRUE.equals(file.getTrashed())) {
+                return Optional.of(file);
+            }
+            // Trashed along with its folder, most likely; find both again.
+            throw new StaleDriveIdException();
+        }
+        Optional<File> file = findFileByName(drive, folderId, settings.driveDatabaseFileName());
+        file.ifPresent(found -> fileIds.rememberDatabaseFile(found.getId()));
+        return file;
+    }
+
+    private Optional<File> findFileByName(Drive drive, String folderId, String name) throws IOException {
+        String query = String.format("name='%s' and '%s' in parents and trashed=false", name, folderId);
         FileList fileList = drive.files().list()
                 .setQ(query)
                 .setFields("files(id, name, modifiedTime, size)")
@@ -208,29 +422,115 @@ public class GoogleDriveGateway {
     }
 
     /**
-     * Fetches the last-modified time of the remote database file on Google Drive.
+     * Fetches the last-modified time of the remote database on Google Drive: the later of
+     * the single database file and the delta-sync manifest, whichever exist.
      *
      * @param credential the OAuth credential
-     * @return the remote file's modification time, or empty if not found or on error
+     * @return the remote database's modification time, or empty if Drive holds no database
+     * @throws IOException if Drive could not be read, so a failed probe is never mistaken
+     *                     for a missing remote copy
      */
-    public Optional<Instant> getRemoteModifiedTime(Credential credential) {
+    public Optional<Instant> getRemoteModifiedTime(Credential credential) throws IOException {
         if (credential == null) {
             return Optional.empty();
         }
-        try {
-            Drive drive = buildDriveClient(credential);
+        Drive drive = buildDriveClient(credential);
+        return retryWithoutCachedIds(() -> {
             Optional<String> folderId = ensureAppFolder(drive);
             if (folderId.isEmpty()) {
                 return Optional.empty();
             }
-            Optional<File> file = findDatabaseFile(drive, folderId.get());
-            if (file.isEmpty() || file.get().getModifiedTime() == null) {
-                return Optional.empty();
+            Optional<Instant> fileTime = findDatabaseFile(drive, folderId.get()).map(File::getModifiedTime)
+                    .map(time -> Instant.ofEpochMilli(time.getValue()));
+            Optional<Instant> manifestTime = new DriveChunkStore(drive, folderId.get(),
+                    DriveChunkStore.manifestName(settings)).findManifestFile().map(File::getModifiedTime)
+                    .map(time -> Instant.ofEpochMilli(time.getValue()));
+            if (manifestTime.isEmpty()) {
+                return fileTime;
+            }
+            if (fileTime.isEmpty()) {
+                return manifestTime;
             }
-            return Optional.of(Instant.ofEpochMilli(file.get().getModifiedTime().getValue()));
+            return Optional.of(fileTime.get().isAfter(manifestTime.get()) ? fileTime.get() : manifestTime.get());
+        });
+    }
+
+    /**
+     * @return a page token for the current end of the account's changes feed, or empty on error
+     */
+    public Optional<String> fetchChangesStartToken(Credential credential) {
+        if (credential == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(buildDriveClient(credential).changes().getStartPageToken()
+                    .execute().getStartPageToken());
+        } catch (IOException e) {
+            logger.warn("Failed to fetch Drive changes start token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the changes feed from {@code pageToken}, one request per page, instead of listing
+     * the folder and files again. A feed longer than a few pages counts as a database change.
+     *
+     * @return the token to continue from and whether the database may have changed; empty on error
+     */
+    public Optional<RemoteChanges> listChangesSince(Credential credential, String pageToken) {
+        if (credential == null || pageToken == null) {
+            return Optional.empty();
+        }
+        String manifestName = DriveChunkStore.manifestName(settings);
+        try {
+            Drive drive = buildDriveClient(credential);
+            String token = pageToken;
+            for (int page = 0; page < MAX_CHANGE_PAGES; page++) {
+                ChangeList changes = drive.changes().list(token)
+                        .setFields("nextPageToken, newStartPageToken, changes(fileId, removed, file(name))")
+                        .setPageSize(100)
+                        .execute();
+                boolean databaseChanged = false;
+                for (Change change : changes.getChanges() != null ? changes.getChanges() : List.<Change>of()) {
+                    String name = change.getFile() != null ? change.getFile().getName() : null;
+                    if (Boolean.TRUE.equals(change.getRemoved()) || name == null
+                            || name.equals(settings.remoteFileName()) || name.equals(settings.driveDatabaseFileName())
+                            || name.equals(manifestName)
+                            || name.equals(settings.folderName())) {
+                        databaseChanged = true;
+                        break;
+                    }
+                }
+                if (databaseChanged) {
+                    return Optional.of(new RemoteChanges(token, true));
+                }
+                if (changes.getNewStartPageToken() != null) {
+                    return Optional.of(new RemoteChanges(changes.getNewStartPageToken(), false));
+                }
+                token = changes.getNextPageToken();
+                if (token == null) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(new RemoteChanges(token, true));
         } catch (IOException e) {
-            logger.warn("Failed to fetch remote database modified time: {}", e.getMessage());
+            logger.warn("Failed to read Drive changes feed: {}", e.getMessage());
             return Optional.empty();
         }
     }
+
+    private record UploadTarget(String folderId, Optional<File> existingFile) {
+    }
+
+    @FunctionalInterface
+    private interface DriveCall<T> {
+        T run() throws IOException;
+    }
+
+    /** A cached id points at a trashed file or folder; the ids are forgotten and the call repeated. */
+    private static final class StaleDriveIdException extends IOException {
+        StaleDriveIdException() {
+            super("Cached Google Drive file or folder is in the trash");
+        }
+    }
 }
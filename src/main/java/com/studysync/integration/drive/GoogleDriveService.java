@@ -1,6 +1,7 @@
 package com.studysync.integration.drive;
 
 import com.google.api.client.auth.oauth2.Credential;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -9,11 +10,18 @@ import javax.sql.DataSource;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.FileTime;
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * High-level service exposed to the rest of the application for Google sign-in and Drive synchronization.
@@ -23,23 +31,24 @@ public class GoogleDriveService {
 
     private static final Logger logger = LoggerFactory.getLogger(GoogleDriveService.class);
     private static final long SYNC_STATUS_TOLERANCE_SECONDS = 30;
-    private static final long UPLOAD_FRESHNESS_TOLERANCE_MS = 5_000;
+    /** How long a probe of the remote modification time answers {@link #checkSyncStatus()}. */
+    static final long SYNC_STATUS_CACHE_TTL_MS = 60_000;
 
     private final GoogleDriveSettings settings;
     private final GoogleCredentialManager credentialManager;
     private final GoogleDriveGateway gateway;
     private final DataSource dataSource;
     private Credential activeCredential;
-    private String cachedAccountEmail;
+    /** Filled in by sign-in or, for a stored credential, by {@link #refreshAccountEmailAsync()}. */
+    private volatile String cachedAccountEmail;
 
     /** Tracks whether the local DB has been modified since the last upload to Drive. */
     private volatile boolean localDbDirty = false;
-    private volatile long lastLocalMutationAt = 0L;
     /**
-     * Guards paired reads/writes of localDbDirty + lastLocalMutationAt, so the
+     * Guards paired reads/writes of localDbDirty + localMutationGeneration, so the
      * upload thread's compare-and-clear cannot interleave with a concurrent
-     * markLocalDbDirty(). Deliberately not the service monitor — that is held
-     * for the whole network upload and would stall every mutation.
+     * markLocalDbDirty(). Deliberately not the service monitor — an upload
+     * holds it while snapshotting and would stall every mutation.
      */
     private final Object dirtyStateLock = new Object();
     /**
@@ -48,6 +57,53 @@ public class GoogleDriveService {
      * mutations in the same millisecond can never tie the comparison.
      */
     private long localMutationGeneration = 0L;
+    /**
+     * Whether the persisted resumable-upload session still describes the current
+     * database state, guarded by dirtyStateLock. The first mutation after the
+     * upload snapshot was taken deletes the session marker so a stale snapshot
+     * is never resumed, in this run or after a restart.
+     */
+    private boolean uploadSessionCurrent = false;
+    /** Called after every markLocalDbDirty(), outside dirtyStateLock. */
+    private final List<Runnable> localMutationListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Serializes uploads. Held for the network transfer instead of the service
+     * monitor, which an upload only takes while snapshotting,
+     * so sign-in and staged downloads are not blocked by a slow upload.
+     */
+    private final Object uploadLock = new Object();
+
+    /**
+     * Background durability state, guarded by durabilityLock. Services call
+     * requestLocalSave() after each commit; requests are coalesced into one
+     * CHECKPOINT that runs at most localSaveMaxDelayMs after the oldest
+     * unflushed request. Sequence numbers rather than flags so a checkpoint
+     * only satisfies the requests that were issued before it started.
+     */
+    private final Object durabilityLock = new Object();
+    private final long localSaveMaxDelayMs;
+    private ScheduledExecutorService durabilityExecutor;
+    private ScheduledFuture<?> scheduledLocalSave;
+    private long localSaveRequestSeq = 0L;
+    private long durableRequestSeq = 0L;
+    private long oldestUnflushedRequestAt = 0L;
+    private long localSaveCount = 0L;
+    private long coalescedRequestCount = 0L;
+    private long lastDurabilityLagMs = 0L;
+    private long maxDurabilityLagMs = 0L;
+
+    /**
+     * Remote half of the sync status, guarded by remoteProbeLock. Only Drive's modification
+     * time is cached: the local half (dirty flag, file time) is read on every call, so local
+     * edits show up immediately. Concurrent callers share the single in-flight probe; the
+     * epoch is bumped by uploads, downloads and sign-in changes so a probe that raced one of
+     * them is not cached.
+     */
+    private final Object remoteProbeLock = new Object();
+    private RemoteProbe cachedRemoteProbe;
+    private CompletableFuture<Optional<Instant>> remoteProbeInFlight;
+    private long remoteProbeEpoch = 0L;
 
     public GoogleDriveService(GoogleDriveSettings settings,
                               GoogleCredentialManager credentialManager,
@@ -57,22 +113,57 @@ public class GoogleDriveService {
         this.credentialManager = credentialManager;
         this.gateway = gateway;
         this.dataSource = dataSource;
+        this.localSaveMaxDelayMs = settings != null
+                ? settings.localSaveMaxDelayMs()
+                : GoogleDriveSettings.DEFAULT_LOCAL_SAVE_MAX_DELAY_MS;
+
+        if (settings != null && settings.resumableUploadEnabled() && !settings.deltaSyncEnabled()) {
+            // A marker left by an interrupted upload is only written while no mutation
+            // has followed the snapshot, so it can be resumed until the next edit.
+            this.uploadSessionCurrent = Files.exists(
+                    ResumableUploadSupport.uploadSessionPath(settings.localDatabasePath()));
+        }
 
         if (settings != null && settings.isReady()) {
+            // Only the local token file is read here: startup needs to know whether
+            // the user is signed in, but the account email is a network round trip.
             this.activeCredential = loadStoredCredential();
             if (this.activeCredential != null) {
-                this.cachedAccountEmail = gateway.fetchAccountEmail(activeCredential).orElse(null);
-                if (this.cachedAccountEmail != null) {
-                    logger.info("Loaded stored Google credentials for account: {}", cachedAccountEmail);
-                } else {
-                    logger.warn("Stored credential exists but failed to fetch account email");
-                }
+                logger.info("Loaded stored Google credentials");
             } else {
                 logger.info("No stored Google credentials found during initialization");
             }
         }
     }
 
+    /**
+     * Fetches the signed-in account's email on a background thread. A sign-in or
+     * sign-out that happens meanwhile wins over the fetched value.
+     */
+    public CompletableFuture<Optional<String>> refreshAccountEmailAsync() {
+        Credential credential;
+        synchronized (this) {
+            credential = activeCredential;
+        }
+        if (credential == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            Optional<String> email = gateway.fetchAccountEmail(credential);
+            synchronized (this) {
+                if (activeCredential == credential) {
+                    cachedAccountEmail = email.orElse(null);
+                }
+            }
+            if (email.isPresent()) {
+                logger.info("Google Drive account: {}", email.get());
+            } else {
+                logger.warn("Stored credential exists but failed to fetch account email");
+            }
+            return email;
+        });
+    }
+
     public boolean isIntegrationEnabled() {
         return settings != null && settings.isReady();
     }
@@ -110,6 +201,7 @@ public class GoogleDriveService {
             Credential credential = credentialManager.authorizeInteractively();
             this.activeCredential = credential;
             this.cachedAccountEmail = gateway.fetchAccountEmail(credential).orElse(null);
+            invalidateSyncStatus();
             logger.info("Authenticated StudySync user with Google account {}", cachedAccountEmail);
             return true;
         } catch (IOException e) {
@@ -123,18 +215,23 @@ public class GoogleDriveService {
             return;
         }
         credentialManager.clearStoredCredentials();
+        gateway.forgetCachedFileIds();
         this.activeCredential = null;
         this.cachedAccountEmail = null;
+        invalidateSyncStatus();
         logger.info("Cleared Google Drive credentials for StudySync");
     }
 
     /**
-     * Flushes all in-memory H2 data to the .mv.db file on disk and verifies
-     * that the file looks fresh enough to contain the latest committed writes.
+     * Flushes all in-memory H2 data to the .mv.db file on disk. Uploads do not depend on
+     * this: they read a {@code BACKUP TO} snapshot instead of the live file.
      */
     public boolean saveLocally() {
-        Path localPath = getLocalDatabasePath();
-        FileState beforeState = readFileState(localPath);
+        long requestSeqAtStart;
+        long startedAt = System.currentTimeMillis();
+        synchronized (durabilityLock) {
+            requestSeqAtStart = localSaveRequestSeq;
+        }
 
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(true);
@@ -146,54 +243,227 @@ public class GoogleDriveService {
             return false;
         }
 
-        FileState afterState = readFileState(localPath);
-        boolean fresh = verifyLocalDbFreshness(afterState);
-        if (fresh) {
-            logger.info("Local save completed — file before [exists={}, size={}, mtime={}] after [exists={}, size={}, mtime={}]",
-                    beforeState.exists(), beforeState.sizeBytes(), beforeState.lastModified(),
-                    afterState.exists(), afterState.sizeBytes(), afterState.lastModified());
-            return true;
+        logger.info("Local save completed in {} ms", System.currentTimeMillis() - startedAt);
+        recordLocalSave(requestSeqAtStart, startedAt);
+        return true;
+    }
+
+    /**
+     * Asks for the committed state to be made durable on disk without blocking the caller.
+     * Bursts of requests share one {@link #saveLocally()} checkpoint, which runs no later than
+     * the configured maximum delay after the oldest outstanding request. Any explicit
+     * {@code saveLocally()} in the meantime (e.g. the close handler) satisfies pending requests.
+     *
+     * @param operation short description of the mutation, used in log messages
+     */
+    public void requestLocalSave(String operation) {
+        if (localSaveMaxDelayMs <= 0) {
+            if (!saveLocally()) {
+                logger.warn("Local checkpoint failed after {}", operation);
+            }
+            return;
         }
+        synchronized (durabilityLock) {
+            localSaveRequestSeq++;
+            if (oldestUnflushedRequestAt == 0L) {
+                oldestUnflushedRequestAt = System.currentTimeMillis();
+            }
+            scheduleLocalSaveLocked(localSaveMaxDelayMs - (System.currentTimeMillis() - oldestUnflushedRequestAt));
+        }
+        logger.debug("Queued local checkpoint after {}", operation);
+    }
 
-        logger.error("Local save ran CHECKPOINT SYNC but the database file still looks stale "
-                        + "(before [exists={}, size={}, mtime={}]; after [exists={}, size={}, mtime={}]; lastMutationAt={})",
-                beforeState.exists(), beforeState.sizeBytes(), beforeState.lastModified(),
-                afterState.exists(), afterState.sizeBytes(), afterState.lastModified(),
-                lastLocalMutationAt > 0 ? Instant.ofEpochMilli(lastLocalMutationAt) : null);
-        return false;
+    /**
+     * Forces a checkpoint now if any {@link #requestLocalSave(String)} is still outstanding.
+     *
+     * @return {@code true} when nothing was pending or the checkpoint succeeded
+     */
+    public boolean flushPendingLocalSaves() {
+        synchronized (durabilityLock) {
+            if (durableRequestSeq == localSaveRequestSeq) {
+                return true;
+            }
+        }
+        return saveLocally();
     }
 
-    public synchronized boolean uploadDatabaseSnapshot() {
-        if (!isIntegrationEnabled() || activeCredential == null) {
-            return false;
+    /**
+     * @return how long the oldest committed-but-not-yet-checkpointed mutation has been waiting,
+     *         in milliseconds; {@code 0} when everything requested is durable
+     */
+    public long getDurabilityLagMillis() {
+        synchronized (durabilityLock) {
+            return oldestUnflushedRequestAt > 0L ? System.currentTimeMillis() - oldestUnflushedRequestAt : 0L;
         }
-        // Fence against writes that land any time after this point (during the
-        // checkpoint, the upload, or after the UI timed out waiting): only clear
-        // the dirty flag if no local mutation happened since. Captured BEFORE
-        // saveLocally() so a mutation racing the checkpoint keeps dirty=true —
-        // at worst a redundant re-upload, never a silently lost edit. The read
-        // and the compare-and-clear are atomic w.r.t. markLocalDbDirty() via
-        // dirtyStateLock; the checkpoint and network call stay outside the lock.
-        long generationAtUploadStart;
-        synchronized (dirtyStateLock) {
-            generationAtUploadStart = localMutationGeneration;
+    }
+
+    public DurabilityStats getDurabilityStats() {
+        synchronized (durabilityLock) {
+            return new DurabilityStats(
+                    localSaveRequestSeq - durableRequestSeq,
+                    oldestUnflushedRequestAt > 0L ? System.currentTimeMillis() - oldestUnflushedRequestAt : 0L,
+                    lastDurabilityLagMs,
+                    maxDurabilityLagMs,
+                    localSaveCount,
+                    coalescedRequestCount);
         }
+    }
 
-        if (!saveLocally()) {
-            logger.warn("Aborting Drive upload because the local database could not be verified as fresh");
-            return false;
+    /** Flushes outstanding checkpoint requests before the DataSource is closed. */
+    @PreDestroy
+    public void shutdownDurabilityWriter() {
+        ScheduledExecutorService executor;
+        synchronized (durabilityLock) {
+            if (scheduledLocalSave != null) {
+                scheduledLocalSave.cancel(false);
+                scheduledLocalSave = null;
+            }
+            executor = durabilityExecutor;
+            durabilityExecutor = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+        if (!flushPendingLocalSaves()) {
+            logger.error("Final local checkpoint on shutdown failed; recent edits may not be on disk");
         }
+    }
 
-        boolean uploaded = gateway.uploadDatabaseToDrive(activeCredential);
-        if (uploaded) {
-            synchronized (dirtyStateLock) {
-                if (localMutationGeneration == generationAtUploadStart) {
-                    localDbDirty = false;
-                    lastLocalMutationAt = 0L;
+    public boolean uploadDatabaseSnapshot() {
+        return uploadDatabaseSnapshot(DriveUploadProgressListener.NONE);
+    }
+
+    /**
+     * Snapshots the database with H2's {@code BACKUP TO} and uploads the snapshot to Drive.
+     *
+     * <p>The backup is a consistent copy taken while writes continue, so the upload never
+     * reads the live file and needs no checkpoint first. It covers every edit up to the
+     * mutation generation captured just before it; only if no edit followed does a
+     * successful upload clear the dirty flag. With resumable uploads enabled, an interrupted
+     * upload of a snapshot that is still current is continued instead. With delta sync the
+     * snapshot is uploaded as content-defined chunks and only the chunks Drive lacks are
+     * sent, which also makes an interrupted upload cheap to repeat.</p>
+     *
+     * @param listener progress callback, called on the uploading thread
+     */
+    public boolean uploadDatabaseSnapshot(DriveUploadProgressListener listener) {
+        synchronized (uploadLock) {
+            Credential credential;
+            long generationAtUploadStart;
+            Optional<ResumableUploadMetadata> resumable = Optional.empty();
+            boolean deltaSync = settings != null && settings.deltaSyncEnabled();
+            boolean resumableUpload = !deltaSync && settings != null && settings.resumableUploadEnabled();
+            Path localPath = getLocalDatabasePath();
+
+            synchronized (this) {
+                if (!isIntegrationEnabled() || activeCredential == null) {
+                    return false;
+                }
+                credential = activeCredential;
+                // Fence against writes that land any time after this point (during the
+                // backup, the upload, or after the UI timed out waiting): only clear the
+                // dirty flag if no local mutation happened since. Captured BEFORE the
+                // backup, so every edit counted here is in it, and a mutation racing the
+                // backup keeps dirty=true — at worst a redundant re-upload, never a
+                // silently lost edit. The read and the compare-and-clear are atomic
+                // w.r.t. markLocalDbDirty() via dirtyStateLock; the backup and network
+                // call stay outside the lock.
+                boolean sessionCurrent;
+                synchronized (dirtyStateLock) {
+                    generationAtUploadStart = localMutationGeneration;
+                    sessionCurrent = uploadSessionCurrent;
+                }
+
+                if (resumableUpload && sessionCurrent) {
+                    resumable = ResumableUploadSupport.readVerifiedSession(localPath);
+                }
+                if (resumable.isEmpty() && !takeUploadSnapshot(localPath)) {
+                    return false;
+                }
+            }
+
+            Path snapshotPath = ResumableUploadSupport.uploadSnapshotPath(localPath);
+            boolean uploaded;
+            if (deltaSync) {
+                uploaded = gateway.uploadDatabaseDelta(credential, snapshotPath, listener);
+            } else if (resumableUpload) {
+                resumable.ifPresent(session -> logger.info("Resuming interrupted Drive upload started at {}",
+                        Instant.ofEpochMilli(session.startedAtEpochMillis())));
+                uploaded = gateway.uploadDatabaseResumable(credential, snapshotPath,
+                        resumable.map(ResumableUploadMetadata::sessionUri).orElse(null),
+                        sessionUri -> persistUploadSession(localPath, snapshotPath, sessionUri, generationAtUploadStart),
+                        listener);
+            } else {
+                uploaded = gateway.uploadDatabaseToDrive(credential, snapshotPath);
+            }
+            invalidateSyncStatus(); // even a failed attempt may have replaced the Drive copy
+            if (uploaded) {
+                synchronized (dirtyStateLock) {
+                    if (localMutationGeneration == generationAtUploadStart) {
+                        localDbDirty = false;
+                    }
+                    uploadSessionCurrent = false;
                 }
             }
+            // Resumable and delta uploads pick up from a kept snapshot; a plain upload starts over.
+            if (uploaded || !(resumableUpload || deltaSync)) {
+                ResumableUploadSupport.deleteSnapshot(localPath);
+            }
+            return uploaded;
+        }
+    }
+
+    /**
+     * Writes the upload snapshot from an online {@code BACKUP TO} archive: a point-in-time
+     * copy of the committed data, taken without pausing writers or reading the live file.
+     */
+    private boolean takeUploadSnapshot(Path localPath) {
+        synchronized (dirtyStateLock) {
+            uploadSessionCurrent = false;
+        }
+        Path archivePath = ResumableUploadSupport.backupArchivePath(localPath);
+        long startedAt = System.currentTimeMillis();
+        try {
+            Files.deleteIfExists(archivePath);
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("BACKUP TO '" + archivePath.toString().replace("'", "''") + "'");
+            }
+            ResumableUploadSupport.writeSnapshot(localPath, archivePath, settings.compressSnapshots());
+            logger.info("Snapshotted the local database for upload in {} ms", System.currentTimeMillis() - startedAt);
+            return true;
+        } catch (IOException | SQLException e) {
+            logger.error("Failed to snapshot the local database for upload", e);
+            return false;
+        } finally {
+            ResumableUploadSupport.deleteBackupArchive(localPath);
+        }
+    }
+
+    /**
+     * Persists a newly opened upload session, unless the database has changed since the
+     * snapshot was taken; resuming a stale snapshot later would lose those edits.
+     */
+    private void persistUploadSession(Path localPath, Path snapshotPath, String sessionUri, long snapshotGeneration) {
+        ResumableUploadMetadata metadata;
+        try {
+            metadata = new ResumableUploadMetadata(sessionUri, Files.size(snapshotPath),
+                    PendingDownloadSupport.sha256Hex(snapshotPath), System.currentTimeMillis());
+        } catch (IOException e) {
+            logger.warn("Upload will not be resumable: {}", e.getMessage());
+            return;
+        }
+        synchronized (dirtyStateLock) {
+            if (localMutationGeneration != snapshotGeneration) {
+                return;
+            }
+            try {
+                ResumableUploadSupport.writeMetadata(ResumableUploadSupport.uploadSessionPath(localPath), metadata);
+                uploadSessionCurrent = true;
+            } catch (IOException e) {
+                logger.warn("Upload will not be resumable: {}", e.getMessage());
+            }
         }
-        return uploaded;
     }
 
     public synchronized boolean stageDownloadFromDrive() {
@@ -209,22 +479,48 @@ public class GoogleDriveService {
 
         try {
             Files.deleteIfExists(partialPath);
-            Optional<RemoteDatabaseSnapshot> snapshot = gateway.downloadDatabaseToPath(activeCredential, partialPath);
+            Optional<RemoteDatabaseSnapshot> snapshot = Optional.empty();
+            if (settings.deltaSyncEnabled()) {
+                // Throws rather than returning empty once a manifest exists, so a failed
+                // reassembly never falls back to an older single-file upload.
+                snapshot = gateway.downloadDatabaseDeltaToPath(activeCredential, localPath, partialPath);
+            }
+            if (snapshot.isEmpty()) {
+                snapshot = gateway.downloadDatabaseToPath(activeCredential, partialPath);
+            }
             if (snapshot.isEmpty()) {
                 return false;
             }
 
-            long sizeBytes = Files.size(partialPath);
-            String sha256 = PendingDownloadSupport.sha256Hex(partialPath);
+            // A compressed download stays compressed until it is applied; its trailer
+            // describes the database and is verified while decompressing.
+            boolean compressed = snapshot.get().compressed();
+            long sizeBytes;
+            String sha256;
+            if (compressed) {
+                CompressedSnapshot.Trailer trailer = CompressedSnapshot.readTrailer(partialPath);
+                sizeBytes = trailer.sizeBytes();
+                sha256 = trailer.sha256();
+            } else {
+                sizeBytes = Files.size(partialPath);
+                sha256 = PendingDownloadSupport.sha256Hex(partialPath);
+            }
             PendingDownloadSupport.moveReplacing(partialPath, pendingPath);
             PendingDownloadMetadata metadata = new PendingDownloadMetadata(
                     snapshot.get().fileId(),
                     sizeBytes,
                     sha256,
                     snapshot.get().modifiedTimeEpochMillis(),
-                    System.currentTimeMillis());
+                    System.currentTimeMillis(),
+                    compressed);
             PendingDownloadSupport.writeMetadata(metadataPath, metadata);
             Files.deleteIfExists(failedMetadataPath);
+            // The staged copy will replace the database an interrupted upload was sending.
+            synchronized (dirtyStateLock) {
+                uploadSessionCurrent = false;
+                ResumableUploadSupport.deleteSession(localPath);
+            }
+            invalidateSyncStatus();
             logger.info("Staged Google Drive database download at {}", pendingPath);
             return true;
         } catch (Exception e) {
@@ -241,8 +537,18 @@ public class GoogleDriveService {
     public void markLocalDbDirty() {
         synchronized (dirtyStateLock) {
             this.localDbDirty = true;
-            this.lastLocalMutationAt = System.currentTimeMillis();
             this.localMutationGeneration++;
+            if (uploadSessionCurrent) {
+                uploadSessionCurrent = false;
+                ResumableUploadSupport.deleteSession(getLocalDatabasePath());
+            }
+        }
+        for (Runnable listener : localMutationListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                logger.warn("Local mutation listener failed", e);
+            }
         }
     }
 
@@ -250,6 +556,21 @@ public class GoogleDriveService {
         return localDbDirty;
     }
 
+    /**
+     * @return the number of {@link #markLocalDbDirty()} calls so far; an upload that started at
+     *         this generation covers every edit up to it
+     */
+    public long getLocalMutationGeneration() {
+        synchronized (dirtyStateLock) {
+            return localMutationGeneration;
+        }
+    }
+
+    /** Registers a callback run on the mutating thread after each {@link #markLocalDbDirty()}. */
+    public void addLocalMutationListener(Runnable listener) {
+        localMutationListeners.add(listener);
+    }
+
     public enum SyncStatus {
         DISABLED,
         UP_TO_DATE,
@@ -260,11 +581,25 @@ public class GoogleDriveService {
     }
 
     public SyncStatus checkSyncStatus() {
-        if (!isIntegrationEnabled() || activeCredential == null) {
+        return checkSyncStatus(false);
+    }
+
+    /**
+     * Compares the local database with the Drive copy. Drive's modification time is probed at
+     * most once per {@link #SYNC_STATUS_CACHE_TTL_MS}; after that the changes feed is read
+     * from the saved page token, and the folder is listed again only if it shows a change.
+     * A probe that fails is not cached and reports {@link SyncStatus#UNKNOWN}.
+     *
+     * @param forceRefresh probe Drive even if a cached result is still fresh, for decisions
+     *                     such as overwriting one copy with the other
+     */
+    public SyncStatus checkSyncStatus(boolean forceRefresh) {
+        Credential credential = activeCredential;
+        if (!isIntegrationEnabled() || credential == null) {
             return SyncStatus.DISABLED;
         }
         try {
-            Optional<Instant> remoteTime = gateway.getRemoteModifiedTime(activeCredential);
+            Optional<Instant> remoteTime = remoteModifiedTime(credential, forceRefresh);
             if (remoteTime.isEmpty()) {
                 return localDbDirty ? SyncStatus.LOCAL_NEWER : SyncStatus.UP_TO_DATE;
             }
@@ -294,28 +629,117 @@ public class GoogleDriveService {
         }
     }
 
-    private boolean verifyLocalDbFreshness(FileState state) {
-        if (!state.exists()) {
-            return false;
+    /** Forgets the cached Drive probe; the next status check goes to the network. */
+    public void invalidateSyncStatus() {
+        synchronized (remoteProbeLock) {
+            cachedRemoteProbe = null;
+            remoteProbeEpoch++;
         }
-        if (lastLocalMutationAt <= 0L) {
-            return true;
+    }
+
+    private Optional<Instant> remoteModifiedTime(Credential credential, boolean forceRefresh) throws IOException {
+        CompletableFuture<Optional<Instant>> probe;
+        RemoteProbe previous;
+        long epoch;
+        synchronized (remoteProbeLock) {
+            previous = cachedRemoteProbe;
+            if (!forceRefresh && previous != null
+                    && System.currentTimeMillis() - previous.probedAt() < SYNC_STATUS_CACHE_TTL_MS) {
+                return previous.modifiedTime();
+            }
+            if (remoteProbeInFlight != null) {
+                probe = remoteProbeInFlight;
+                epoch = -1L;
+            } else {
+                probe = new CompletableFuture<>();
+                remoteProbeInFlight = probe;
+                epoch = remoteProbeEpoch;
+            }
         }
-        if (state.lastModified() == null) {
-            return false;
+        if (epoch < 0L) {
+            return probe.join();
         }
-        return state.lastModified().toInstant().toEpochMilli() + UPLOAD_FRESHNESS_TOLERANCE_MS >= lastLocalMutationAt;
-    }
 
-    private FileState readFileState(Path localPath) {
+        RemoteProbe result = null;
         try {
-            if (!Files.exists(localPath)) {
-                return new FileState(false, -1L, null);
+            result = probeRemote(credential, forceRefresh ? null : previous);
+            return result.modifiedTime();
+        } finally {
+            synchronized (remoteProbeLock) {
+                remoteProbeInFlight = null;
+                if (result != null && epoch == remoteProbeEpoch) {
+                    cachedRemoteProbe = result;
+                }
+            }
+            if (result != null) {
+                probe.complete(result.modifiedTime());
+            } else {
+                probe.completeExceptionally(new IllegalStateException("Drive sync status probe failed"));
             }
-            return new FileState(true, Files.size(localPath), Files.getLastModifiedTime(localPath));
-        } catch (IOException e) {
-            logger.warn("Failed to inspect database file {}: {}", localPath, e.getMessage());
-            return new FileState(false, -1L, null);
+        }
+    }
+
+    private RemoteProbe probeRemote(Credential credential, RemoteProbe previous) throws IOException {
+        if (previous != null && previous.changesToken() != null) {
+            Optional<RemoteChanges> changes = gateway.listChangesSince(credential, previous.changesToken());
+            if (changes.isPresent() && !changes.get().databaseChanged()) {
+                return new RemoteProbe(previous.modifiedTime(), System.currentTimeMillis(),
+                        changes.get().nextPageToken());
+            }
+        }
+        // Token first, so a change landing during the listing shows up in the next feed read.
+        String changesToken = gateway.fetchChangesStartToken(credential).orElse(null);
+        Optional<Instant> modifiedTime = gateway.getRemoteModifiedTime(credential);
+        return new RemoteProbe(modifiedTime, System.currentTimeMillis(), changesToken);
+    }
+
+    private void scheduleLocalSaveLocked(long delayMs) {
+        if (scheduledLocalSave != null && !scheduledLocalSave.isDone()) {
+            return; // coalesce into the checkpoint that is already queued
+        }
+        if (durabilityExecutor == null) {
+            durabilityExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "studysync-local-save");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        scheduledLocalSave = durabilityExecutor.schedule(this::runScheduledLocalSave,
+                Math.max(0L, delayMs), TimeUnit.MILLISECONDS);
+    }
+
+    private void runScheduledLocalSave() {
+        synchronized (durabilityLock) {
+            scheduledLocalSave = null;
+            if (durableRequestSeq == localSaveRequestSeq) {
+                return; // an explicit saveLocally() already covered these requests
+            }
+        }
+        if (!saveLocally()) {
+            logger.warn("Background local checkpoint failed; retrying in {} ms", localSaveMaxDelayMs);
+            synchronized (durabilityLock) {
+                if (durabilityExecutor != null && durableRequestSeq != localSaveRequestSeq) {
+                    scheduleLocalSaveLocked(localSaveMaxDelayMs);
+                }
+            }
+        }
+    }
+
+    private void recordLocalSave(long requestSeqAtStart, long startedAt) {
+        synchronized (durabilityLock) {
+            localSaveCount++;
+            if (requestSeqAtStart <= durableRequestSeq) {
+                return;
+            }
+            long lag = System.currentTimeMillis() - oldestUnflushedRequestAt;
+            coalescedRequestCount += requestSeqAtStart - durableRequestSeq;
+            lastDurabilityLagMs = lag;
+            maxDurabilityLagMs = Math.max(maxDurabilityLagMs, lag);
+            logger.debug("Local checkpoint made {} request(s) durable; lag {} ms",
+                    requestSeqAtStart - durableRequestSeq, lag);
+            durableRequestSeq = requestSeqAtStart;
+            // Requests that arrived while the checkpoint ran are at most as old as its start.
+            oldestUnflushedRequestAt = durableRequestSeq == localSaveRequestSeq ? 0L : startedAt;
         }
     }
 
@@ -331,6 +755,24 @@ public class GoogleDriveService {
         }
     }
 
-    private record FileState(boolean exists, long sizeBytes, FileTime lastModified) {
+    /**
+     * Snapshot of the background checkpoint metrics.
+     *
+     * @param pendingRequests    save requests not yet covered by a checkpoint
+     * @param currentLagMs       age of the oldest pending request, {@code 0} when none
+     * @param lastLagMs          request-to-durable lag observed by the latest checkpoint
+     * @param maxLagMs           largest request-to-durable lag since startup
+     * @param checkpoints        successful {@link #saveLocally()} runs since startup
+     * @param satisfiedRequests  save requests made durable since startup
+     */
+    public record DurabilityStats(long pendingRequests,
+                                  long currentLagMs,
+                                  long lastLagMs,
+                                  long maxLagMs,
+                                  long checkpoints,
+                                  long satisfiedRequests) {
+    }
+
+    private record RemoteProbe(Optional<Instant> modifiedTime, long probedAt, String changesToken) {
     }
 }
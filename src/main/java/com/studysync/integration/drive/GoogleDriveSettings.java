@@ -8,6 +8,16 @@ import java.util.Objects;
  */
 public final class GoogleDriveSettings {
 
+    /** Default upper bound on how long a committed mutation may wait for its local checkpoint. */
+    public static final int DEFAULT_LOCAL_SAVE_MAX_DELAY_MS = 2_000;
+
+    /** Default chunk size for resumable uploads; Drive requires multiples of 256 KiB. */
+    public static final int DEFAULT_UPLOAD_CHUNK_SIZE_KB = 8 * 1024;
+    static final int UPLOAD_CHUNK_GRANULARITY_KB = 256;
+
+    /** Default quiet period after the last edit before a background Drive upload starts. */
+    public static final int DEFAULT_AUTO_SYNC_DELAY_SECONDS = 30;
+
     private final boolean enabled;
     private final String clientId;
     private final String clientSecret;
@@ -17,6 +27,11 @@ public final class GoogleDriveSettings {
     private final String remoteFileName;
     private final Path localDatabasePath;
     private final Path credentialsDirectory;
+    private final int localSaveMaxDelayMs;
+    private final int uploadChunkSizeKb;
+    private final boolean deltaSyncEnabled;
+    private final int autoSyncDelaySeconds;
+    private final boolean compressSnapshots;
 
     public GoogleDriveSettings(boolean enabled,
                                String clientId,
@@ -27,15 +42,40 @@ public final class GoogleDriveSettings {
                                String remoteFileName,
                                Path localDatabasePath,
                                Path credentialsDirectory) {
-        this.enabled = enabled;
-        this.clientId = clientId;
-        this.clientSecret = clientSecret;
-        this.redirectPort = redirectPort;
-        this.applicationName = applicationName != null ? applicationName : "StudySync";
-        this.folderName = folderName != null ? folderName : "StudySync";
-        this.remoteFileName = remoteFileName != null ? remoteFileName : "studysync.mv.db";
-        this.localDatabasePath = Objects.requireNonNull(localDatabasePath, "localDatabasePath");
-        this.credentialsDirectory = Objects.requireNonNull(credentialsDirectory, "credentialsDirectory");
+        this(builder(localDatabasePath, credentialsDirectory)
+            .enabled(enabled)
+            .clientId(clientId)
+            .clientSecret(clientSecret)
+            .redirectPort(redirectPort)
+            .applicationName(applicationName)
+            .folderName(folderName)
+            .remoteFileName(remoteFileName));
+    }
+
+    private GoogleDriveSettings(Builder builder) {
+        this.enabled = builder.enabled;
+        this.clientId = builder.clientId;
+        this.clientSecret = builder.clientSecret;
+        this.redirectPort = builder.redirectPort;
+        this.applicationName = builder.applicationName != null ? builder.applicationName : "StudySync";
+        this.folderName = builder.folderName != null ? builder.folderName : "StudySync";
+        this.remoteFileName = builder.remoteFileName != null ? builder.remoteFileName : "studysync.mv.db";
+        this.localDatabasePath = Objects.requireNonNull(builder.localDatabasePath, "localDatabasePath");
+        this.credentialsDirectory = Objects.requireNonNull(builder.credentialsDirectory, "credentialsDirectory");
+        this.localSaveMaxDelayMs = Math.max(0, builder.localSaveMaxDelayMs);
+        this.uploadChunkSizeKb = roundUpToGranularity(Math.max(0, builder.uploadChunkSizeKb));
+        this.deltaSyncEnabled = builder.deltaSyncEnabled;
+        this.autoSyncDelaySeconds = Math.max(0, builder.autoSyncDelaySeconds);
+        this.compressSnapshots = builder.compressSnapshots;
+    }
+
+    /**
+     * Starts a builder for the two required paths; every other setting has a default
+     * (integration disabled, the {@code DEFAULT_*} tuning values, delta sync and
+     * compression off).
+     */
+    public static Builder builder(Path localDatabasePath, Path credentialsDirectory) {
+        return new Builder(localDatabasePath, credentialsDirectory);
     }
 
     public boolean enabled() {
@@ -74,6 +114,62 @@ public final class GoogleDriveSettings {
         return credentialsDirectory;
     }
 
+    /**
+     * @return the longest a committed mutation may wait before the local checkpoint that makes it
+     *         durable; {@code 0} checkpoints synchronously after every mutation
+     */
+    public int localSaveMaxDelayMs() {
+        return localSaveMaxDelayMs;
+    }
+
+    /**
+     * @return the chunk size (KiB) of resumable Drive uploads, a multiple of 256;
+     *         {@code 0} uploads the whole file in a single request
+     */
+    public int uploadChunkSizeKb() {
+        return uploadChunkSizeKb;
+    }
+
+    /**
+     * @return {@code true} if snapshots are uploaded with the resumable, chunked protocol
+     */
+    public boolean resumableUploadEnabled() {
+        return uploadChunkSizeKb > 0;
+    }
+
+    /**
+     * @return {@code true} if the database is synced as content-defined chunks plus a manifest,
+     *         transferring only changed chunks, instead of as a single file
+     */
+    public boolean deltaSyncEnabled() {
+        return deltaSyncEnabled;
+    }
+
+    /**
+     * @return how long (seconds) edits must settle before they are uploaded to Drive in the
+     *         background; {@code 0} disables background uploads
+     */
+    public int autoSyncDelaySeconds() {
+        return autoSyncDelaySeconds;
+    }
+
+    /**
+     * @return {@code true} if whole-file uploads and pre-download backups are stored as
+     *         {@link CompressedSnapshot}s; always {@code false} with delta sync, whose chunks
+     *         only deduplicate while uncompressed
+     */
+    public boolean compressSnapshots() {
+        return compressSnapshots && !deltaSyncEnabled;
+    }
+
+    /**
+     * @return the name of the database file on Drive: {@link #remoteFileName()}, with
+     *         {@link CompressedSnapshot#FILE_SUFFIX} appended when snapshots are compressed
+     */
+    public String driveDatabaseFileName() {
+        return compressSnapshots() ? remoteFileName + CompressedSnapshot.FILE_SUFFIX : remoteFileName;
+    }
+
     /**
      * @return {@code true} when OAuth credentials are fully configured and Drive sync may be used.
      */
@@ -83,9 +179,102 @@ public final class GoogleDriveSettings {
             && clientSecret != null && !clientSecret.isBlank();
     }
 
+    private static int roundUpToGranularity(int chunkSizeKb) {
+        int remainder = chunkSizeKb % UPLOAD_CHUNK_GRANULARITY_KB;
+        return remainder == 0 ? chunkSizeKb : chunkSizeKb + UPLOAD_CHUNK_GRANULARITY_KB - remainder;
+    }
+
     public static GoogleDriveSettings disabled(Path localDatabasePath) {
-        return new GoogleDriveSettings(false, null, null, 8888,
-            "StudySync", "StudySync", "studysync.mv.db", localDatabasePath,
-            Path.of(System.getProperty("user.home"), ".studysync", "google"));
+        return builder(localDatabasePath, Path.of(System.getProperty("user.home"), ".studysync", "google")).build();
+    }
+
+    /** Named-argument construction of {@link GoogleDriveSettings}; see {@link #builder(Path, Path)}. */
+    public static final class Builder {
+        private final Path localDatabasePath;
+        private final Path credentialsDirectory;
+        private boolean enabled;
+        private String clientId;
+        private String clientSecret;
+        private int redirectPort = 8888;
+        private String applicationName;
+        private String folderName;
+        private String remoteFileName;
+        private int localSaveMaxDelayMs = DEFAULT_LOCAL_SAVE_MAX_DELAY_MS;
+        private int uploadChunkSizeKb = DEFAULT_UPLOAD_CHUNK_SIZE_KB;
+        private boolean deltaSyncEnabled;
+        private int autoSyncDelaySeconds = DEFAULT_AUTO_SYNC_DELAY_SECONDS;
+        private boolean compressSnapshots;
+
+        private Builder(Path localDatabasePath, Path credentialsDirectory) {
+            this.localDatabasePath = localDatabasePath;
+            this.credentialsDirectory = credentialsDirectory;
+        }
+
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public Builder clientId(String clientId) {
+            this.clientId = clientId;
+            return this;
+        }
+
+        public Builder clientSecret(String clientSecret) {
+            this.clientSecret = clientSecret;
+            return this;
+        }
+
+        public Builder redirectPort(int redirectPort) {
+            this.redirectPort = redirectPort;
+            return this;
+        }
+
+        /** {@code null} keeps the default, {@code StudySync}. */
+        public Builder applicationName(String applicationName) {
+            this.applicationName = applicationName;
+            return this;
+        }
+
+        /** {@code null} keeps the default, {@code StudySync}. */
+        public Builder folderName(String folderName) {
+            this.folderName = folderName;
+            return this;
+        }
+
+        /** {@code null} keeps the default, {@code studysync.mv.db}. */
+        public Builder remoteFileName(String remoteFileName) {
+            this.remoteFileName = remoteFileName;
+            return this;
+        }
+
+        public Builder localSaveMaxDelayMs(int localSaveMaxDelayMs) {
+            this.localSaveMaxDelayMs = localSaveMaxDelayMs;
+            return this;
+        }
+
+        public Builder uploadChunkSizeKb(int uploadChunkSizeKb) {
+            this.uploadChunkSizeKb = uploadChunkSizeKb;
+            return this;
+        }
+
+        public Builder deltaSyncEnabled(boolean deltaSyncEnabled) {
+            this.deltaSyncEnabled = deltaSyncEnabled;
+            return this;
+        }
+
+        public Builder autoSyncDelaySeconds(int autoSyncDelaySeconds) {
+            this.autoSyncDelaySeconds = autoSyncDelaySeconds;
+            return this;
+        }
+
+        public Builder compressSnapshots(boolean compressSnapshots) {
+            this.compressSnapshots = compressSnapshots;
+            return this;
+        }
+
+        public GoogleDriveSettings build() {
+            return new GoogleDriveSettings(this);
+        }
     }
 }
@@ -60,6 +60,15 @@ public final class GoogleDriveSettingsLoader {
         String applicationName = getString("GOOGLE_DRIVE_APPLICATION_NAME", "google.drive.application-name", properties);
         String folderName = getString("GOOGLE_DRIVE_FOLDER_NAME", "google.drive.folder-name", properties);
         String remoteFileName = getString("GOOGLE_DRIVE_REMOTE_FILE_NAME", "google.drive.remote-file-name", properties);
+        int localSaveMaxDelayMs = getInt("GOOGLE_DRIVE_LOCAL_SAVE_MAX_DELAY_MS", "google.drive.local-save-max-delay-ms",
+            properties, GoogleDriveSettings.DEFAULT_LOCAL_SAVE_MAX_DELAY_MS);
+        int uploadChunkSizeKb = getInt("GOOGLE_DRIVE_UPLOAD_CHUNK_SIZE_KB", "google.drive.upload-chunk-size-kb",
+            properties, GoogleDriveSettings.DEFAULT_UPLOAD_CHUNK_SIZE_KB);
+        boolean deltaSync = getBoolean("GOOGLE_DRIVE_DELTA_SYNC", "google.drive.delta-sync", properties, false);
+        boolean compressSnapshots = getBoolean("GOOGLE_DRIVE_COMPRESS_SNAPSHOTS", "google.drive.compress-snapshots",
+            properties, false);
+        int autoSyncDelaySeconds = getInt("GOOGLE_DRIVE_AUTO_SYNC_DELAY_SECONDS", "google.drive.auto-sync-delay-seconds",
+            properties, GoogleDriveSettings.DEFAULT_AUTO_SYNC_DELAY_SECONDS);
         Path credentialsDir = resolvePath(getString("GOOGLE_DRIVE_CREDENTIALS_DIR", "google.drive.credentials-dir", properties),
             Paths.get(System.getProperty("user.home"), ".studysync", "google"));
         Path localDatabase = resolvePath(getString("GOOGLE_DRIVE_LOCAL_DB_PATH", "google.drive.local-database-path", properties),
@@ -73,8 +82,20 @@ public final class GoogleDriveSettingsLoader {
             enabled = false;
         }
 
-        return new GoogleDriveSettings(enabled, clientId, clientSecret, redirectPort,
-            applicationName, folderName, remoteFileName, localDatabase, credentialsDir);
+        return GoogleDriveSettings.builder(localDatabase, credentialsDir)
+            .enabled(enabled)
+            .clientId(clientId)
+            .clientSecret(clientSecret)
+            .redirectPort(redirectPort)
+            .applicationName(applicationName)
+            .folderName(folderName)
+            .remoteFileName(remoteFileName)
+            .localSaveMaxDelayMs(localSaveMaxDelayMs)
+            .uploadChunkSizeKb(uploadChunkSizeKb)
+            .deltaSyncEnabled(deltaSync)
+            .autoSyncDelaySeconds(autoSyncDelaySeconds)
+            .compressSnapshots(compressSnapshots)
+            .build();
     }
 
     private static String getString(String envKey, String propertyKey, Properties properties) {
@@ -2,11 +2,19 @@ package com.studysync.integration.drive;
 
 /**
  * Metadata persisted alongside a staged Google Drive database download.
+ * {@code sizeBytes} and {@code sha256} describe the database itself; when {@code compressed}
+ * is set the staged file is a {@link CompressedSnapshot} of it.
  */
 public record PendingDownloadMetadata(
         String fileId,
         long sizeBytes,
         String sha256,
         long remoteModifiedTimeEpochMillis,
-        long stagedAtEpochMillis) {
+        long stagedAtEpochMillis,
+        boolean compressed) {
+
+    public PendingDownloadMetadata(String fileId, long sizeBytes, String sha256,
+                                   long remoteModifiedTimeEpochMillis, long stagedAtEpochMillis) {
+        this(fileId, sizeBytes, sha256, remoteModifiedTimeEpochMillis, stagedAtEpochMillis, false);
+    }
 }
@@ -0,0 +1,13 @@
+package com.studysync.integration.drive;
+
+/**
+ * Result of reading the Drive changes feed from a saved page token.
+ *
+ * @param nextPageToken   token to read the following changes from
+ * @param databaseChanged whether any change may have touched the StudySync database
+ *                        (its file, delta-sync manifest or folder, or a removed file)
+ */
+public record RemoteChanges(
+        String nextPageToken,
+        boolean databaseChanged) {
+}
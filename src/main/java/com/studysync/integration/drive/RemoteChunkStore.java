@@ -0,0 +1,27 @@
+package com.studysync.integration.drive;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Content-addressed storage behind delta sync: chunks named by their SHA-256 plus a
+ * single manifest. Implemented on Google Drive by {@link DriveChunkStore}.
+ */
+public interface RemoteChunkStore {
+
+    /** Every chunk currently stored, by name (SHA-256 hex), with the time it was stored. */
+    Map<String, Instant> listChunks() throws IOException;
+
+    void putChunk(String sha256, byte[] data) throws IOException;
+
+    byte[] getChunk(String sha256) throws IOException;
+
+    void deleteChunk(String sha256) throws IOException;
+
+    Optional<DeltaSyncManifest> readManifest() throws IOException;
+
+    /** Replaces the manifest; this is the commit point of an upload. */
+    void writeManifest(DeltaSyncManifest manifest) throws IOException;
+}
@@ -2,9 +2,15 @@ package com.studysync.integration.drive;
 
 /**
  * Metadata for the current StudySync database file stored on Google Drive.
+ * {@code compressed} is set when the downloaded bytes are a {@link CompressedSnapshot}.
  */
 public record RemoteDatabaseSnapshot(
         String fileId,
         long sizeBytes,
-        long modifiedTimeEpochMillis) {
+        long modifiedTimeEpochMillis,
+        boolean compressed) {
+
+    public RemoteDatabaseSnapshot(String fileId, long sizeBytes, long modifiedTimeEpochMillis) {
+        this(fileId, sizeBytes, modifiedTimeEpochMillis, false);
+    }
 }
@@ -0,0 +1,232 @@
+package com.studysync.integration.drive;
+
+import com.google.api.client.http.ByteArrayContent;
+import com.google.api.client.http.EmptyContent;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpContent;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpRequestFactory;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.json.JsonHttpContent;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.services.drive.model.File;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Client for the Drive v3 resumable-upload protocol.
+ *
+ * <p>{@link #startSession} opens an upload session and returns its URI; {@link #upload}
+ * sends the file in fixed-size chunks to that URI. The session URI stays valid for about
+ * a week, so a caller that persists it can call {@code upload} again after a dropped
+ * connection or a crash and continue from the last byte Drive acknowledged instead of
+ * starting over. Transient failures (5xx, I/O errors) are retried a few times in place
+ * by asking Drive how much it has, and so are chunks Drive answers without acknowledging
+ * any new bytes; after that the upload fails rather than repeating the chunk forever.</p>
+ *
+ * <p>The endpoint is a constructor argument so tests can point it at a local HTTP server.</p>
+ */
+public class ResumableDriveUploader {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumableDriveUploader.class);
+
+    public static final String DRIVE_UPLOAD_URL = "https://www.googleapis.com/upload/drive/v3/files";
+
+    private static final String CONTENT_TYPE = "application/octet-stream";
+    private static final int STATUS_RESUME_INCOMPLETE = 308;
+    private static final int MAX_RETRIES = 3;
+    private static final long DEFAULT_RETRY_BACKOFF_MS = 1_000;
+
+    private final HttpRequestFactory requestFactory;
+    private final JsonFactory jsonFactory;
+    private final String uploadUrl;
+    private final int chunkSizeBytes;
+    private final long retryBackoffMs;
+
+    public ResumableDriveUploader(HttpTransport transport, HttpRequestInitializer initializer,
+                                  JsonFactory jsonFactory, String uploadUrl, int chunkSizeBytes) {
+        this(transport, initializer, jsonFactory, uploadUrl, chunkSizeBytes, DEFAULT_RETRY_BACKOFF_MS);
+    }
+
+    ResumableDriveUploader(HttpTransport transport, HttpRequestInitializer initializer,
+                           JsonFactory jsonFactory, String uploadUrl, int chunkSizeBytes, long retryBackoffMs) {
+        this.requestFactory = transport.createRequestFactory(initializer);
+        this.jsonFactory = Objects.requireNonNull(jsonFactory, "jsonFactory");
+        this.uploadUrl = Objects.requireNonNull(uploadUrl, "uploadUrl");
+        if (chunkSizeBytes <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkSizeBytes = chunkSizeBytes;
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    /**
+     * Opens an upload session for a new file ({@code existingFileId == null}) or for
+     * a new revision of an existing one.
+     *
+     * @return the session URI to pass to {@link #upload}
+     * @throws IOException if Drive refuses the session or returns no {@code Location}
+     */
+    public String startSession(File metadata, String existingFileId, long totalBytes) throws IOException {
+        GenericUrl url = new GenericUrl(existingFileId == null ? uploadUrl : uploadUrl + "/" + existingFileId);
+        url.set("uploadType", "resumable");
+        url.set("fields", "id");
+        HttpRequest request = requestFactory.buildPostRequest(url, new JsonHttpContent(jsonFactory, metadata));
+        HttpHeaders headers = request.getHeaders();
+        if (existingFileId != null) {
+            // HttpURLConnection cannot send PATCH; Google APIs accept the override header.
+            headers.set("X-HTTP-Method-Override", "PATCH");
+        }
+        headers.set("X-Upload-Content-Type", CONTENT_TYPE);
+        headers.set("X-Upload-Content-Length", totalBytes);
+        request.setThrowExceptionOnExecuteError(false);
+        HttpResponse response = request.execute();
+        try {
+            if (!response.isSuccessStatusCode()) {
+                throw new IOException("Drive refused the upload session: HTTP " + response.getStatusCode());
+            }
+            String location = response.getHeaders().getLocation();
+            if (location == null || location.isBlank()) {
+                throw new IOException("Drive returned no upload session URI");
+            }
+            return location;
+        } finally {
+            response.disconnect();
+        }
+    }
+
+    /**
+     * Uploads {@code source} to an open session, continuing from whatever Drive already
+     * has for it.
+     *
+     * @return the uploaded file's metadata (at least its id)
+     * @throws SessionExpiredException if the session no longer exists and a new one is needed
+     * @throws IOException             if the upload still fails after retries; the session stays resumable
+     */
+    public File upload(String sessionUri, Path source, DriveUploadProgressListener listener) throws IOException {
+        DriveUploadProgressListener progress = listener != null ? listener : DriveUploadProgressListener.NONE;
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long total = channel.size();
+            ChunkResult state = queryStatus(sessionUri, total);
+            int failures = 0;
+            int stalls = 0;
+            while (state.file() == null) {
+                long offset = state.confirmedBytes();
+                progress.onProgress(offset, total);
+                try {
+                    state = sendChunk(sessionUri, channel, offset, total);
+                    failures = 0;
+                } catch (SessionExpiredException e) {
+                    throw e;
+                } catch (IOException e) {
+                    if (++failures > MAX_RETRIES) {
+                        throw e;
+                    }
+                    logger.info("Drive upload chunk failed ({}); re-syncing offset, attempt {}/{}",
+                            e.getMessage(), failures, MAX_RETRIES);
+                    pause(retryBackoffMs * failures);
+                    state = queryStatus(sessionUri, total);
+                    continue;
+                }
+                if (state.file() != null || state.confirmedBytes() > offset) {
+                    stalls = 0;
+                } else if (++stalls > MAX_RETRIES) {
+                    throw new IOException("Drive stopped acknowledging the upload at byte " + offset + " of " + total);
+                } else {
+                    logger.info("Drive acknowledged no new bytes at {} of {}; attempt {}/{}",
+                            offset, total, stalls, MAX_RETRIES);
+                    pause(retryBackoffMs * stalls);
+                }
+            }
+            progress.onProgress(total, total);
+            return state.file();
+        }
+    }
+
+    private ChunkResult sendChunk(String sessionUri, FileChannel channel, long offset, long total) throws IOException {
+        int length = (int) Math.min(chunkSizeBytes, total - offset);
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Upload source shrank while uploading");
+            }
+        }
+        String range = length == 0
+                ? "bytes */" + total
+                : "bytes " + offset + "-" + (offset + length - 1) + "/" + total;
+        return put(sessionUri, new ByteArrayContent(CONTENT_TYPE, buffer.array()), range, total);
+    }
+
+    /** Asks Drive how many bytes of the session it has ({@code Content-Range: bytes *}{@code /total}). */
+    private ChunkResult queryStatus(String sessionUri, long total) throws IOException {
+        return put(sessionUri, new EmptyContent(), "bytes */" + total, total);
+    }
+
+    private ChunkResult put(String sessionUri, HttpContent content, String contentRange, long total) throws IOException {
+        HttpRequest request = requestFactory.buildPutRequest(new GenericUrl(sessionUri), content);
+        request.getHeaders().setContentRange(contentRange);
+        request.setThrowExceptionOnExecuteError(false);
+        request.setFollowRedirects(false);
+        HttpResponse response = request.execute();
+        try {
+            int status = response.getStatusCode();
+            if (status == 200 || status == 201) {
+                try (InputStream body = response.getContent()) {
+                    return new ChunkResult(total, jsonFactory.fromInputStream(body, File.class));
+                }
+            }
+            if (status == STATUS_RESUME_INCOMPLETE) {
+                return new ChunkResult(confirmedBytes(response.getHeaders().getRange()), null);
+            }
+            if (status == 404 || status == 410) {
+                throw new SessionExpiredException("Drive upload session expired (HTTP " + status + ")");
+            }
+            throw new IOException("Drive upload failed: HTTP " + status);
+        } finally {
+            response.disconnect();
+        }
+    }
+
+    /** Parses {@code Range: bytes=0-N}; no header means Drive has nothing yet. */
+    static long confirmedBytes(String rangeHeader) throws IOException {
+        if (rangeHeader == null || rangeHeader.isBlank()) {
+            return 0L;
+        }
+        int dash = rangeHeader.lastIndexOf('-');
+        try {
+            return Long.parseLong(rangeHeader.substring(dash + 1).trim()) + 1;
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new IOException("Unexpected Range header from Drive: " + rangeHeader, e);
+        }
+    }
+
+    private static void pause(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while retrying Drive upload", e);
+        }
+    }
+
+    private record ChunkResult(long confirmedBytes, File file) {
+    }
+
+    /** The session URI is no longer valid; the upload has to start a new session. */
+    public static class SessionExpiredException extends IOException {
+        public SessionExpiredException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.studysync.integration.drive;
+
+/**
+ * Metadata persisted alongside an upload snapshot while its resumable Drive upload
+ * session is open, so an interrupted upload can continue after a restart.
+ */
+public record ResumableUploadMetadata(
+        String sessionUri,
+        long sizeBytes,
+        String sha256,
+        long startedAtEpochMillis) {
+}
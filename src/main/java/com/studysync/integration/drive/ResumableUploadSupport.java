@@ -0,0 +1,135 @@
+package com.studysync.integration.drive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * File layout for uploads: a frozen copy of the database that is uploaded instead of
+ * the live file, the H2 backup archive it is extracted from, and the session marker
+ * that makes a resumable upload resumable.
+ */
+public final class ResumableUploadSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumableUploadSupport.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+    private static final String MV_DB_SUFFIX = ".mv.db";
+
+    private ResumableUploadSupport() {
+    }
+
+    public static Path uploadSnapshotPath(Path localDatabasePath) {
+        return localDatabasePath.toAbsolutePath().resolveSibling(
+                PendingDownloadSupport.baseName(localDatabasePath) + ".upload-snapshot.mv.db");
+    }
+
+    /** Where {@code BACKUP TO} writes the archive the upload snapshot is extracted from. */
+    public static Path backupArchivePath(Path localDatabasePath) {
+        return localDatabasePath.toAbsolutePath().resolveSibling(
+                PendingDownloadSupport.baseName(localDatabasePath) + ".upload-backup.zip");
+    }
+
+    public static Path uploadSessionPath(Path localDatabasePath) {
+        return localDatabasePath.toAbsolutePath().resolveSibling(
+                PendingDownloadSupport.baseName(localDatabasePath) + ".upload-session.json");
+    }
+
+    /**
+     * Extracts the database file from an H2 {@code BACKUP TO} archive to the upload snapshot
+     * path, replacing any earlier snapshot and dropping its session marker.
+     *
+     * @param compressed store the snapshot as a {@link CompressedSnapshot}, so the upload
+     *                   sends the compressed bytes
+     * @throws IOException if the archive holds no {@code .mv.db} file
+     */
+    public static void writeSnapshot(Path localDatabasePath, Path backupArchive, boolean compressed) throws IOException {
+        Path snapshotPath = uploadSnapshotPath(localDatabasePath);
+        Path partialPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".partial");
+        Files.deleteIfExists(uploadSessionPath(localDatabasePath));
+        try (ZipInputStream archive = new ZipInputStream(Files.newInputStream(backupArchive))) {
+            ZipEntry entry;
+            while ((entry = archive.getNextEntry()) != null && !entry.getName().endsWith(MV_DB_SUFFIX)) {
+                archive.closeEntry();
+            }
+            if (entry == null) {
+                throw new IOException("Database backup " + backupArchive + " contains no " + MV_DB_SUFFIX + " file");
+            }
+            if (compressed) {
+                try (OutputStream output = Files.newOutputStream(partialPath)) {
+                    CompressedSnapshot.compress(archive, output);
+                }
+            } else {
+                Files.copy(archive, partialPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        PendingDownloadSupport.moveReplacing(partialPath, snapshotPath);
+    }
+
+    public static void writeMetadata(Path sessionPath, ResumableUploadMetadata metadata) throws IOException {
+        try (OutputStream output = Files.newOutputStream(sessionPath)) {
+            OBJECT_MAPPER.writeValue(output, metadata);
+        }
+    }
+
+    /**
+     * Returns the open session for the current snapshot, provided the snapshot on disk
+     * is still exactly the one the session was started for.
+     */
+    public static Optional<ResumableUploadMetadata> readVerifiedSession(Path localDatabasePath) {
+        Path sessionPath = uploadSessionPath(localDatabasePath);
+        Path snapshotPath = uploadSnapshotPath(localDatabasePath);
+        if (!Files.exists(sessionPath)) {
+            return Optional.empty();
+        }
+        try (InputStream input = Files.newInputStream(sessionPath)) {
+            ResumableUploadMetadata metadata = OBJECT_MAPPER.readValue(input, ResumableUploadMetadata.class);
+            if (Files.exists(snapshotPath)
+                    && Files.size(snapshotPath) == metadata.sizeBytes()
+                    && PendingDownloadSupport.sha256Hex(snapshotPath).equals(metadata.sha256())) {
+                return Optional.of(metadata);
+            }
+            logger.info("Upload snapshot no longer matches its session marker; starting a fresh upload");
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable upload session marker {}: {}", sessionPath, e.getMessage());
+        }
+        deleteSession(localDatabasePath);
+        return Optional.empty();
+    }
+
+    public static void deleteSession(Path localDatabasePath) {
+        try {
+            Files.deleteIfExists(uploadSessionPath(localDatabasePath));
+        } catch (IOException e) {
+            logger.warn("Failed to delete upload session marker: {}", e.getMessage());
+        }
+    }
+
+    /** Removes the snapshot and its marker once the upload has completed. */
+    public static void deleteSnapshot(Path localDatabasePath) {
+        deleteBackupArchive(localDatabasePath);
+        deleteSession(localDatabasePath);
+        try {
+            Files.deleteIfExists(uploadSnapshotPath(localDatabasePath));
+        } catch (IOException e) {
+            logger.warn("Failed to delete upload snapshot: {}", e.getMessage());
+        }
+    }
+
+    public static void deleteBackupArchive(Path localDatabasePath) {
+        try {
+            Files.deleteIfExists(backupArchivePath(localDatabasePath));
+        } catch (IOException e) {
+            logger.warn("Failed to delete database backup archive: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.studysync.presentation.ui;
+
+import jakarta.annotation.PreDestroy;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * Single clock behind every running-session display.
+ *
+ * <p>Panels {@link #track} a session's start time and are called back with the
+ * elapsed minutes once right away and then only when the minute changes. Elapsed
+ * time is measured with {@link System#nanoTime()} from an anchor taken once, so
+ * ticks allocate nothing and are immune to wall-clock adjustments. Instead of a
+ * per-panel one-second {@code Timeline} (which also keeps the JavaFX pulse running),
+ * one daemon thread sleeps until the nearest minute boundary of any tracked session
+ * and hands the tick to the FX thread.</p>
+ *
+ * <p>While the main window is iconified nothing is scheduled; on restore every
+ * tracker catches up immediately. Trackers are only touched on the FX thread.</p>
+ */
+@Component
+public class SessionClock {
+
+    private static final long MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    /** Lands the wake-up just past the boundary so the minute has already turned. */
+    private static final long WAKE_SLACK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final List<Tracker> trackers = new ArrayList<>();
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> pendingTick;
+    private boolean paused;
+
+    /**
+     * Starts reporting elapsed minutes since {@code startTime} to {@code onMinute}.
+     * Must be called on the FX thread; the first callback happens before returning.
+     */
+    public Tracker track(LocalDateTime startTime, IntConsumer onMinute) {
+        long elapsedNanos = startTime != null
+                ? Math.max(0L, Duration.between(startTime, LocalDateTime.now()).toNanos())
+                : 0L;
+        Tracker tracker = new Tracker(System.nanoTime() - elapsedNanos, onMinute);
+        trackers.add(tracker);
+        tracker.publish();
+        reschedule();
+        return tracker;
+    }
+
+    /** Pauses the clock while {@code stage} is iconified. */
+    public void attach(Stage stage) {
+        stage.iconifiedProperty().addListener((obs, wasIconified, iconified) -> setPaused(iconified));
+        setPaused(stage.isIconified());
+    }
+
+    private void setPaused(boolean paused) {
+        if (this.paused == paused) {
+            return;
+        }
+        this.paused = paused;
+        if (!paused) {
+            tick();
+        } else {
+            reschedule();
+        }
+    }
+
+    private void tick() {
+        pendingTick = null;
+        if (paused) {
+            return;
+        }
+        // Copy: a callback may stop its own tracker.
+        for (Tracker tracker : List.copyOf(trackers)) {
+            tracker.publish();
+        }
+        reschedule();
+    }
+
+    private void reschedule() {
+        if (pendingTick != null) {
+            pendingTick.cancel(false);
+            pendingTick = null;
+        }
+        if (paused || trackers.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long nextBoundary = Long.MAX_VALUE;
+        for (Tracker tracker : trackers) {
+            nextBoundary = Math.min(nextBoundary, tracker.nextBoundary());
+        }
+        long delay = Math.max(0L, nextBoundary - now) + WAKE_SLACK_NANOS;
+        pendingTick = scheduler().schedule(() -> Platform.runLater(this::tick), delay, TimeUnit.NANOSECONDS);
+    }
+
+    private ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "studysync-session-clock");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return scheduler;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /** Handle for one tracked session. */
+    public final class Tracker {
+        private final long startNanos;
+        private final IntConsumer onMinute;
+        private int lastMinute = -1;
+
+        private Tracker(long startNanos, IntConsumer onMinute) {
+            this.startNanos = startNanos;
+            this.onMinute = onMinute;
+        }
+
+        public int elapsedMinutes() {
+            return (int) ((System.nanoTime() - startNanos) / MINUTE_NANOS);
+        }
+
+        /** Stops the callbacks. Safe to call more than once. */
+        public void stop() {
+            if (trackers.remove(this)) {
+                reschedule();
+            }
+        }
+
+        private long nextBoundary() {
+            return startNanos + (lastMinute + 1L) * MINUTE_NANOS;
+        }
+
+        private void publish() {
+            int minute = elapsedMinutes();
+            if (minute != lastMinute) {
+                lastMinute = minute;
+                onMinute.accept(minute);
+            }
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package com.studysync.presentation.ui;
 
+import com.studysync.config.QueryStatistics;
+import com.studysync.domain.event.DomainEvent;
+import com.studysync.domain.event.DomainEventBus;
+import com.studysync.domain.service.CalendarService;
 import com.studysync.domain.service.CategoryService;
 import com.studysync.domain.service.DateTimeService;
+import com.studysync.domain.service.MaintenanceScheduler;
 import com.studysync.domain.service.ProjectService;
 import com.studysync.domain.service.ReminderService;
+import com.studysync.domain.service.SearchService;
 import com.studysync.domain.service.StudyService;
 import com.studysync.domain.service.TaskService;
 import com.studysync.integration.drive.GoogleDriveService;
 import com.studysync.presentation.ui.components.CalendarViewPanel;
 import com.studysync.presentation.ui.components.ProfileViewPanel;
 import com.studysync.presentation.ui.components.ProjectManagementPanel;
+import com.studysync.presentation.ui.components.QueryDiagnosticsPanel;
 import com.studysync.presentation.ui.components.RefreshablePanel;
 import com.studysync.presentation.ui.components.ReflectionDiaryPanel;
 import com.studysync.presentation.ui.components.StudyPlannerPanel;
@@ -29,6 +36,8 @@ import javafx.scene.control.TabPane;
 import javafx.scene.control.Tooltip;
 import javafx.scene.image.Image;
 import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
@@ -44,9 +53,11 @@ import org.springframework.context.annotation.DependsOn;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 @Component
@@ -64,7 +75,15 @@ public class StudySyncUI {
     private final ProjectService projectService;
     private final DateTimeService dateTimeService;
     private final GoogleDriveService googleDriveService;
+    private final CalendarService calendarService;
+    private final SearchService searchService;
+    private final SessionClock sessionClock;
+    private final MaintenanceScheduler maintenanceScheduler;
+    private final DomainEventBus eventBus;
+    private final QueryStatistics queryStatistics;
     private final Map<Tab, RefreshablePanel> panelMap;
+    /** Panels a committed change affected while their tab was hidden; reloaded when next selected. FX thread only. */
+    private final Set<RefreshablePanel> stalePanels = new HashSet<>();
     private TabPane tabPane;
     private StackPane overlayLayer;
     private Button syncStatusBadge;
@@ -78,7 +97,13 @@ public class StudySyncUI {
                        StudyService studyService,
                        ProjectService projectService,
                        DateTimeService dateTimeService,
-                       GoogleDriveService googleDriveService) {
+                       GoogleDriveService googleDriveService,
+                       CalendarService calendarService,
+                       SearchService searchService,
+                       SessionClock sessionClock,
+                       MaintenanceScheduler maintenanceScheduler,
+                       DomainEventBus eventBus,
+                       QueryStatistics queryStatistics) {
         this.taskService = Objects.requireNonNull(taskService, "taskService");
         this.categoryService = Objects.requireNonNull(categoryService, "categoryService");
         this.reminderService = Objects.requireNonNull(reminderService, "reminderService");
@@ -86,26 +111,33 @@ public class StudySyncUI {
         this.projectService = Objects.requireNonNull(projectService, "projectService");
         this.dateTimeService = Objects.requireNonNull(dateTimeService, "dateTimeService");
         this.googleDriveService = Objects.requireNonNull(googleDriveService, "googleDriveService");
+        this.calendarService = Objects.requireNonNull(calendarService, "calendarService");
+        this.searchService = Objects.requireNonNull(searchService, "searchService");
+        this.sessionClock = Objects.requireNonNull(sessionClock, "sessionClock");
+        this.maintenanceScheduler = Objects.requireNonNull(maintenanceScheduler, "maintenanceScheduler");
+        this.eventBus = Objects.requireNonNull(eventBus, "eventBus");
+        this.queryStatistics = Objects.requireNonNull(queryStatistics, "queryStatistics");
 
         Map<Tab, RefreshablePanel> panels = new LinkedHashMap<>();
         Tab calendarTab = new Tab("Calendar View");
         calendarTab.setGraphic(TaskStyleUtils.iconLabel("\u25A6", 14));
-        panels.put(calendarTab, new CalendarViewPanel(this.studyService, this.taskService, this.projectService));
+        panels.put(calendarTab, new CalendarViewPanel(this.studyService, this.taskService, this.projectService,
+                this.calendarService));
         Tab plannerTab = new Tab("Study Planner");
         plannerTab.setGraphic(TaskStyleUtils.iconLabel("\u270E", 14));
         panels.put(plannerTab, new StudyPlannerPanel(this.studyService, this.dateTimeService, this.taskService,
-                this.categoryService, this::showModal, this::closeModal));
+                this.categoryService, this.sessionClock, this::showModal, this::closeModal));
         Tab reflectionTab = new Tab("Reflection Diary");
         reflectionTab.setGraphic(TaskStyleUtils.iconLabel("\u2605", 14));
         panels.put(reflectionTab, new ReflectionDiaryPanel(this.studyService, this.dateTimeService));
         Tab projectsTab = new Tab("Projects");
         projectsTab.setGraphic(TaskStyleUtils.iconLabel("\u2261", 14));
         panels.put(projectsTab, new ProjectManagementPanel(this.projectService, this.categoryService,
-                this::showModal, this::closeModal));
+                this.sessionClock, this::showModal, this::closeModal));
         Tab tasksTab = new Tab("Tasks");
         tasksTab.setGraphic(TaskStyleUtils.iconLabel("\u2611", 14));
         panels.put(tasksTab, new TaskManagementPanel(this.taskService, this.categoryService, this.reminderService,
-                this.studyService, this::showModal, this::closeModal));
+                this.studyService, this.searchService, this::showModal, this::closeModal));
         panelMap = Collections.unmodifiableMap(panels);
     }
 
@@ -119,10 +151,21 @@ public class StudySyncUI {
         Platform.runLater(this::setupTabDragAndDrop);
 
         tabPane.getSelectionModel().selectedItemProperty().addListener((obs, oldTab, newTab) -> {
-            if (newTab != null && panelMap.containsKey(newTab)) {
+            // A load for a tab the user already left would only be thrown away; the
+            // panel then still shows its placeholder or old data, so reload it on return.
+            if (oldTab != null && panelMap.containsKey(oldTab) && panelMap.get(oldTab).cancelPendingLoad()) {
+                stalePanels.add(panelMap.get(oldTab));
+            }
+            // Panels stay loaded while hidden; only reload one a change has touched since.
+            if (newTab != null && stalePanels.remove(panelMap.get(newTab))) {
                 panelMap.get(newTab).updateDisplay();
             }
         });
+        eventBus.subscribe(DomainEvent.class, event -> Platform.runLater(() -> markAffectedPanelsStale(event)));
+        dateTimeService.addDateChangeListener(date -> {
+            stalePanels.addAll(panelMap.values());
+            refreshSelectedPanel();
+        });
 
         BorderPane mainLayout = new BorderPane();
         HBox header = createHeader();
@@ -141,6 +184,9 @@ public class StudySyncUI {
 
         Scene scene = new Scene(rootDataPane, DEFAULT_WINDOW_WIDTH, DEFAULT_WINDOW_HEIGHT);
         scene.getStylesheets().add(getClass().getResource("/styles.css").toExternalForm());
+        scene.getAccelerators().put(
+                new KeyCodeCombination(KeyCode.Q, KeyCombination.SHORTCUT_DOWN, KeyCombination.SHIFT_DOWN),
+                this::showQueryDiagnosticsWindow);
 
         primaryStage.setTitle("StudySync");
         try (var iconStream = getClass().getResourceAsStream("/icon.png")) {
@@ -160,6 +206,7 @@ public class StudySyncUI {
         primaryStage.setMinHeight(600);
         primaryStage.centerOnScreen();
         primaryStage.show();
+        sessionClock.attach(primaryStage);
 
         resolveDriveSyncOnStartup();
 
@@ -228,7 +275,7 @@ public class StudySyncUI {
         syncStatusBadge.setStyle(syncBadgeStyle("white"));
         syncStatusBadge.setTooltip(new Tooltip(
                 "Shows whether this device or Google Drive holds the most up-to-date database. Click to re-check."));
-        syncStatusBadge.setOnAction(e -> refreshSyncStatusBadge());
+        syncStatusBadge.setOnAction(e -> refreshSyncStatusBadge(true));
         setSyncBadgeVisible(false);
 
         header.setSpacing(12);
@@ -242,15 +289,23 @@ public class StudySyncUI {
                 + "-fx-text-fill: " + textColor + ";";
     }
 
-    /** Re-checks Drive sync state off the FX thread and updates the header badge. */
     private void refreshSyncStatusBadge() {
+        refreshSyncStatusBadge(false);
+    }
+
+    /**
+     * Re-checks Drive sync state off the FX thread and updates the header badge.
+     *
+     * @param forceRefresh bypass the cached Drive probe (the user clicked the badge)
+     */
+    private void refreshSyncStatusBadge(boolean forceRefresh) {
         // Stale-result fence: only the newest in-flight check may update the
         // badge, so a check started before sign-out can't resurface it.
         int generation = ++syncBadgeGeneration;
         syncStatusBadge.setText("Checking sync…");
         syncStatusBadge.setGraphic(null);
         setSyncBadgeVisible(true);
-        CompletableFuture.supplyAsync(googleDriveService::checkSyncStatus)
+        CompletableFuture.supplyAsync(() -> googleDriveService.checkSyncStatus(forceRefresh))
                 .whenComplete((status, error) -> Platform.runLater(() -> {
                     if (generation != syncBadgeGeneration) {
                         return;
@@ -331,32 +386,12 @@ public class StudySyncUI {
         }
     }
 
+    /**
+     * Daily passes run in the background. Their events mark hidden panels stale; the
+     * visible one did not trigger the change, so it is reloaded here.
+     */
     private void runStartupMaintenance() {
-        markDelayedTasksOnStartup();
-        processDelayedGoalsOnStartup();
-        refreshAllPanels();
-    }
-
-    private void markDelayedTasksOnStartup() {
-        try {
-            int count = taskService.markDelayedTasks();
-            if (count > 0) {
-                logger.info("Marked {} overdue task(s) as DELAYED on startup", count);
-            }
-        } catch (Exception e) {
-            logger.error("Failed to mark delayed tasks on startup", e);
-        }
-    }
-
-    private void processDelayedGoalsOnStartup() {
-        try {
-            StudyService.GoalDelayProcessingResult result = studyService.processAllDelayedGoals();
-            if (result.missedAttempts() > 0) {
-                logger.info("Marked {} overdue study goal attempt(s) as missed", result.missedAttempts());
-            }
-        } catch (Exception e) {
-            logger.error("Failed to process delayed goals on startup", e);
-        }
+        maintenanceScheduler.start(() -> Platform.runLater(this::refreshSelectedPanel));
     }
 
     private void showStartupAlert(String title, String message) {
@@ -368,13 +403,29 @@ public class StudySyncUI {
         alert.show();
     }
 
-    private void refreshAllPanels() {
-        for (RefreshablePanel panel : panelMap.values()) {
-            try {
-                panel.updateDisplay();
-            } catch (Exception e) {
-                logger.warn("Failed to refresh panel {}", panel.getClass().getSimpleName(), e);
+    /**
+     * Marks hidden panels that show data {@code event} changed. The visible panel is
+     * left alone: edits made in it already reload it.
+     */
+    private void markAffectedPanelsStale(DomainEvent event) {
+        Tab selectedTab = tabPane.getSelectionModel().getSelectedItem();
+        panelMap.forEach((tab, panel) -> {
+            if (tab != selectedTab && panel.isAffectedBy(event)) {
+                stalePanels.add(panel);
             }
+        });
+    }
+
+    private void refreshSelectedPanel() {
+        RefreshablePanel panel = panelMap.get(tabPane.getSelectionModel().getSelectedItem());
+        if (panel == null) {
+            return;
+        }
+        stalePanels.remove(panel);
+        try {
+            panel.updateDisplay();
+        } catch (Exception e) {
+            logger.warn("Failed to refresh panel {}", panel.getClass().getSimpleName(), e);
         }
     }
 
@@ -402,6 +453,18 @@ public class StudySyncUI {
         profilePanel.updateDisplay();
     }
 
+    private void showQueryDiagnosticsWindow() {
+        Stage diagnosticsStage = new Stage();
+        diagnosticsStage.setTitle("Query Diagnostics");
+        diagnosticsStage.initOwner(tabPane.getScene().getWindow());
+
+        Scene diagnosticsScene = new Scene(new QueryDiagnosticsPanel(queryStatistics), 1100, 600);
+        diagnosticsScene.getStylesheets().add(getClass().getResource("/styles.css").toExternalForm());
+
+        diagnosticsStage.setScene(diagnosticsScene);
+        diagnosticsStage.show();
+    }
+
     private void showModal(Node content) {
         if (overlayLayer != null) {
             overlayLayer.getChildren().clear();
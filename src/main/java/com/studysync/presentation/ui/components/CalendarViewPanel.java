@@ -1,5 +1,7 @@
 package com.studysync.presentation.ui.components;
 
+import com.studysync.domain.service.CalendarMonthSnapshot;
+import com.studysync.domain.service.CalendarService;
 import com.studysync.domain.service.StudyService;
 import com.studysync.domain.service.TaskService;
 import com.studysync.domain.service.ProjectService;
@@ -34,12 +36,14 @@ import java.util.stream.Collectors;
  * and detailed day views when clicking on specific dates. Replaces the DailyViewPanel
  * with a more comprehensive calendar-based interface similar to Google Calendar.
  */
-public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
+public class CalendarViewPanel extends ScrollPane implements ModelLoadingPanel<CalendarMonthSnapshot> {
     private static final Logger logger = LoggerFactory.getLogger(CalendarViewPanel.class);
 
     private final StudyService studyService;
     private final TaskService taskService;
     private final ProjectService projectService;
+    private final CalendarService calendarService;
+    private final PanelModelLoader<CalendarMonthSnapshot> modelLoader = new PanelModelLoader<>(this);
     
     // UI Components
     private VBox mainContainer;
@@ -47,6 +51,8 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
     private GridPane calendarGrid;
     private YearMonth currentMonth;
     private LocalDate selectedDate;
+    /** Data for the visible month; day cells and the detail dialog read from it. */
+    private CalendarMonthSnapshot monthSnapshot;
     
     // Calendar layout constants
     private static final int DAYS_IN_WEEK = 7;
@@ -54,10 +60,12 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
     private static final double CELL_WIDTH = 150;
     private static final double CELL_HEIGHT = 120;
     
-    public CalendarViewPanel(StudyService studyService, TaskService taskService, ProjectService projectService) {
+    public CalendarViewPanel(StudyService studyService, TaskService taskService, ProjectService projectService,
+                             CalendarService calendarService) {
         this.studyService = studyService;
         this.taskService = taskService;
         this.projectService = projectService;
+        this.calendarService = calendarService;
         this.currentMonth = YearMonth.now();
         this.selectedDate = LocalDate.now();
         
@@ -102,7 +110,7 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
         prevMonthBtn.getStyleClass().add("btn-primary");
         prevMonthBtn.setOnAction(e -> {
             currentMonth = currentMonth.minusMonths(1);
-            updateCalendarDisplay();
+            updateDisplay();
         });
         
         monthYearLabel = new Label();
@@ -115,7 +123,7 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
         nextMonthBtn.getStyleClass().add("btn-primary");
         nextMonthBtn.setOnAction(e -> {
             currentMonth = currentMonth.plusMonths(1);
-            updateCalendarDisplay();
+            updateDisplay();
         });
         
         Button todayBtn = new Button("Today");
@@ -124,7 +132,7 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
         todayBtn.setOnAction(e -> {
             currentMonth = YearMonth.now();
             selectedDate = LocalDate.now();
-            updateCalendarDisplay();
+            updateDisplay();
         });
         
         titleBox.getChildren().addAll(prevMonthBtn, monthYearLabel, nextMonthBtn, todayBtn);
@@ -216,33 +224,48 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
         return item;
     }
     
-    private void updateCalendarDisplay() {
-        // Update month/year label
-        String monthYear = currentMonth.getMonth().getDisplayName(TextStyle.FULL, Locale.getDefault()) + " " + currentMonth.getYear();
+    private void updateMonthLabel(YearMonth month) {
+        String monthYear = month.getMonth().getDisplayName(TextStyle.FULL, Locale.getDefault()) + " " + month.getYear();
         monthYearLabel.setText(monthYear);
-        
+    }
+
+    /**
+     * Loads the whole visible month with one range query per table so that
+     * building the day cells in {@link #render} never touches the database.
+     */
+    @Override
+    public CalendarMonthSnapshot loadModel() {
+        YearMonth month = currentMonth;
+        try {
+            return calendarService.loadMonth(month);
+        } catch (Exception e) {
+            logger.warn("Failed to load calendar data for {}", month, e);
+            return new CalendarMonthSnapshot(month, Map.of(), java.util.Set.of());
+        }
+    }
+
+    @Override
+    public void render(CalendarMonthSnapshot snapshot) {
+        YearMonth month = snapshot.month();
+        monthSnapshot = snapshot;
+        updateMonthLabel(month);
+
         // Clear existing calendar
         calendarGrid.getChildren().clear();
         
         // Get first day of month and calculate starting position
-        LocalDate firstOfMonth = currentMonth.atDay(1);
+        LocalDate firstOfMonth = month.atDay(1);
         int dayOfWeek = firstOfMonth.getDayOfWeek().getValue(); // 1 = Monday, 7 = Sunday
         int startCol = (dayOfWeek - 1) % 7; // Convert to 0-6 where 0 = Monday
         
         // Fill in the calendar days
-        int daysInMonth = currentMonth.lengthOfMonth();
+        int daysInMonth = month.lengthOfMonth();
         int row = 0;
         int col = startCol;
 
-        // Batch-query all handled (task, date) pairs for the visible month
-        // to avoid an N+1 SQL query per recurring task per day cell.
-        LocalDate monthStart = currentMonth.atDay(1);
-        LocalDate monthEnd = currentMonth.atEndOfMonth();
-        java.util.Set<String> handledPairs = StudyGoal.findHandledTaskDatePairs(monthStart, monthEnd);
-
         for (int day = 1; day <= daysInMonth; day++) {
-            LocalDate date = currentMonth.atDay(day);
-            VBox dayCell = createDayCell(date, handledPairs);
+            LocalDate date = month.atDay(day);
+            VBox dayCell = createDayCell(date);
 
             calendarGrid.add(dayCell, col, row);
 
@@ -254,7 +277,19 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
         }
     }
 
-    private VBox createDayCell(LocalDate date, java.util.Set<String> handledPairs) {
+    @Override
+    public void renderLoading() {
+        calendarGrid.getChildren().clear();
+        calendarGrid.add(PanelModelLoader.loadingPlaceholder("Loading " + monthYearLabel.getText() + "\u2026"),
+                0, 0, DAYS_IN_WEEK, 1);
+    }
+
+    @Override
+    public PanelModelLoader<CalendarMonthSnapshot> modelLoader() {
+        return modelLoader;
+    }
+
+    private VBox createDayCell(LocalDate date) {
         VBox dayCell = new VBox(5);
         dayCell.setPrefSize(CELL_WIDTH, CELL_HEIGHT);
         dayCell.setPadding(new Insets(8));
@@ -346,7 +381,7 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
             if (date.isBefore(today)) {
                 missedCount = dayData.tasks.stream()
                         .filter(Task::isRecurring)
-                        .filter(t -> !handledPairs.contains(t.getId() + "|" + date))
+                        .filter(t -> !monthSnapshot.isOccurrenceHandled(t.getId(), date))
                         .count();
             }
             long handledRecurring = dayData.tasks.stream().filter(Task::isRecurring).count() - missedCount;
@@ -430,7 +465,7 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
         // Make clickable for all dates (past, today, and future)
         dayCell.setOnMouseClicked(e -> {
             selectedDate = date;
-            updateCalendarDisplay(); // Refresh to show selection
+            render(monthSnapshot); // Redraw from the loaded month to show selection
             showDayDetailDialog(date, dayData);
         });
         dayCell.setOnMouseEntered(e -> {
@@ -450,31 +485,28 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
     }
     
     private DayData getDayData(LocalDate date) {
-        try {
-            List<StudyGoal> studyGoals = getFilteredStudyGoalsForDate(date);
-            List<StudySession> studySessions = studyService.getSessionsForDate(date);
-            List<ProjectSession> projectSessions = projectService.getProjectSessionsForDate(date);
-            
-            DayData data = new DayData();
-            data.date = date;
-            data.totalSessions = studySessions.size() + projectSessions.size();
-            data.totalMinutes = studySessions.stream().mapToInt(StudySession::getDurationMinutes).sum() +
-                               projectSessions.stream().mapToInt(ProjectSession::getDurationMinutes).sum();
-            data.totalPoints = studySessions.stream().mapToInt(StudySession::getPointsEarned).sum() +
-                              projectSessions.stream().mapToInt(ProjectSession::getPointsEarned).sum();
-            data.totalGoals = studyGoals.size();
-            data.achievedGoals = (int) studyGoals.stream().filter(StudyGoal::isAchieved).count();
-            data.avgFocusLevel = studySessions.isEmpty() ? 0 : 
-                                (int) Math.round(studySessions.stream().mapToInt(StudySession::getFocusLevel).average().orElse(0));
-            data.tasks = taskService.getTasksForDate(date);
-            
-            // Calculate productivity score
-            data.productivityScore = calculateDayProductivityScore(data);
-            
-            return data;
-        } catch (Exception e) {
-            return new DayData(); // Return empty data if error
-        }
+        CalendarMonthSnapshot.Day day = monthSnapshot.day(date);
+        List<StudyGoal> studyGoals = day.goals();
+        List<StudySession> studySessions = day.studySessions();
+        List<ProjectSession> projectSessions = day.projectSessions();
+
+        DayData data = new DayData();
+        data.date = date;
+        data.totalSessions = studySessions.size() + projectSessions.size();
+        data.totalMinutes = studySessions.stream().mapToInt(StudySession::getDurationMinutes).sum() +
+                           projectSessions.stream().mapToInt(ProjectSession::getDurationMinutes).sum();
+        data.totalPoints = studySessions.stream().mapToInt(StudySession::getPointsEarned).sum() +
+                          projectSessions.stream().mapToInt(ProjectSession::getPointsEarned).sum();
+        data.totalGoals = studyGoals.size();
+        data.achievedGoals = (int) studyGoals.stream().filter(StudyGoal::isAchieved).count();
+        data.avgFocusLevel = studySessions.isEmpty() ? 0 : 
+                            (int) Math.round(studySessions.stream().mapToInt(StudySession::getFocusLevel).average().orElse(0));
+        data.tasks = day.tasks();
+        
+        // Calculate productivity score
+        data.productivityScore = calculateDayProductivityScore(data);
+        
+        return data;
     }
     
     private List<StudyGoal> getFilteredStudyGoalsForDate(LocalDate date) {
@@ -861,7 +893,7 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
             } else if (TaskStyleUtils.isDueToday(task, date)) {
                 headerRow.getChildren().add(TaskStyleUtils.createDueTodayBadge());
             } else if (task.isRecurring() && date.isBefore(LocalDate.now())
-                       && !StudyGoal.hasHandledGoalForTaskOccurrence(task.getId(), date)) {
+                       && !isOccurrenceHandled(task, date)) {
                 headerRow.getChildren().add(TaskStyleUtils.createMissedBadge());
                 // Red border for missed recurring occurrence
                 taskBox.setStyle("-fx-background-color: white; -fx-background-radius: 8;" +
@@ -905,6 +937,13 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
         return content;
     }
 
+    private boolean isOccurrenceHandled(Task task, LocalDate date) {
+        if (monthSnapshot != null && YearMonth.from(date).equals(monthSnapshot.month())) {
+            return monthSnapshot.isOccurrenceHandled(task.getId(), date);
+        }
+        return StudyGoal.hasHandledGoalForTaskOccurrence(task.getId(), date);
+    }
+
     private VBox createPerformanceTab(LocalDate date, DayData dayData) {
         VBox content = new VBox(20);
         content.setPadding(new Insets(20));
@@ -1095,7 +1134,7 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
                 confirmation.showAndWait().ifPresent(response -> {
                     if (response == ButtonType.OK) {
                         studyService.markGoalAsFailed(goal.getId());
-                        updateCalendarDisplay();
+                        updateDisplay();
                     }
                 });
             });
@@ -1116,7 +1155,7 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
             confirmation.showAndWait().ifPresent(response -> {
                 if (response == ButtonType.OK) {
                     studyService.deleteStudyGoal(goal.getId());
-                    updateCalendarDisplay();
+                    updateDisplay();
                     ((VBox) goalBox.getParent()).getChildren().remove(goalBox);
                 }
             });
@@ -1187,7 +1226,7 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
             confirmation.showAndWait().ifPresent(response -> {
                 if (response == ButtonType.OK) {
                     studyService.deleteStudySession(session.getId());
-                    updateCalendarDisplay();
+                    updateDisplay();
                     ((VBox) sessionBox.getParent()).getChildren().remove(sessionBox);
                 }
             });
@@ -1243,7 +1282,7 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
             confirmation.showAndWait().ifPresent(response -> {
                 if (response == ButtonType.OK) {
                     projectService.deleteProjectSession(session.getId());
-                    updateCalendarDisplay();
+                    updateDisplay();
                     ((VBox) sessionBox.getParent()).getChildren().remove(sessionBox);
                 }
             });
@@ -1330,7 +1369,7 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
                     Task linkedTask = taskCombo.getValue();
                     studyService.addStudyGoal(goalDescription, date,
                             linkedTask != null ? linkedTask.getId() : null);
-                    updateCalendarDisplay();
+                    updateDisplay();
                     
                     // Show confirmation
                     Alert successAlert = new Alert(Alert.AlertType.INFORMATION);
@@ -1355,7 +1394,8 @@ public class CalendarViewPanel extends ScrollPane implements RefreshablePanel {
     @Override
     public void updateDisplay() {
         logger.debug("CalendarViewPanel.updateDisplay() called for month {}", currentMonth);
-        updateCalendarDisplay();
+        updateMonthLabel(currentMonth);
+        modelLoader.reload();
     }
     
     @Override
@@ -0,0 +1,55 @@
+package com.studysync.presentation.ui.components;
+
+/**
+ * A {@link RefreshablePanel} that refreshes in two phases so database reads never
+ * run on the JavaFX Application Thread.
+ *
+ * <ol>
+ *   <li>{@link #loadModel()} runs on a {@link PanelModelLoader} worker thread and
+ *       returns everything the panel needs to draw, without touching any node.</li>
+ *   <li>{@link #render(Object)} runs on the FX thread with that model, but only if no
+ *       newer refresh was requested in the meantime.</li>
+ * </ol>
+ *
+ * <p>Panel state written on the FX thread before {@link #updateDisplay()} (the
+ * displayed date or month, filters, ...) is visible to {@code loadModel()}; the model
+ * should carry whatever of it {@code render} relies on, since the fields may have
+ * moved on by the time it runs.</p>
+ *
+ * @param <M> the immutable data a single render needs
+ */
+public interface ModelLoadingPanel<M> extends RefreshablePanel {
+
+    /** Reads the panel's data. Called off the FX thread; must not touch the scene graph. */
+    M loadModel();
+
+    /** Draws a model produced by {@link #loadModel()}. Called on the FX thread. */
+    void render(M model);
+
+    /**
+     * Shows a placeholder while a load is slow to come back. Called on the FX thread;
+     * the next {@link #render} replaces it.
+     */
+    default void renderLoading() {
+    }
+
+    /**
+     * Shows that the latest load failed. Called on the FX thread after the failure
+     * has been logged.
+     */
+    default void renderLoadFailure(Throwable error) {
+    }
+
+    /** The loader that owns this panel's in-flight load. */
+    PanelModelLoader<M> modelLoader();
+
+    @Override
+    default void updateDisplay() {
+        modelLoader().reload();
+    }
+
+    @Override
+    default boolean cancelPendingLoad() {
+        return modelLoader().cancel();
+    }
+}
@@ -0,0 +1,154 @@
+package com.studysync.presentation.ui.components;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.layout.HBox;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a {@link ModelLoadingPanel}'s {@code loadModel()} on a small shared worker pool
+ * and hands the result back to the FX thread.
+ *
+ * <p>Every {@link #reload()} supersedes the previous one: the older load is cancelled
+ * if it has not started yet, and its result is discarded if it has. Running loads are
+ * never interrupted, since interrupting H2 mid-I/O closes the database file. A
+ * placeholder is shown only when a load is still outstanding after
+ * {@link #PLACEHOLDER_DELAY}, so quick loads do not flicker.</p>
+ *
+ * <p>{@link #reload()} and {@link #cancel()} must be called on the FX thread.</p>
+ *
+ * @param <M> the panel's model type
+ */
+public final class PanelModelLoader<M> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PanelModelLoader.class);
+
+    /** Loads are JDBC-bound against one embedded database; more threads only contend. */
+    private static final int WORKER_THREADS = 2;
+    /** At most one live load per panel is queued, so this is never reached in practice. */
+    private static final int MAX_QUEUED_LOADS = 32;
+    static final Duration PLACEHOLDER_DELAY = Duration.millis(150);
+
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private final ModelLoadingPanel<M> panel;
+    private final PauseTransition placeholderDelay = new PauseTransition(PLACEHOLDER_DELAY);
+
+    // FX-thread state
+    private long generation;
+    private FutureTask<Void> pending;
+
+    public PanelModelLoader(ModelLoadingPanel<M> panel) {
+        this.panel = panel;
+    }
+
+    /** Starts a fresh load, superseding any load still in flight. */
+    public void reload() {
+        cancel();
+        long requested = generation;
+        FutureTask<Void> load = new FutureTask<>(() -> runLoad(requested), null);
+        pending = load;
+        placeholderDelay.setOnFinished(e -> {
+            if (requested == generation && pending != null) {
+                panel.renderLoading();
+            }
+        });
+        placeholderDelay.playFromStart();
+        try {
+            EXECUTOR.execute(load);
+        } catch (RejectedExecutionException e) {
+            fail(requested, e);
+        }
+    }
+
+    /**
+     * Cancels the in-flight load, if any; its result will not be rendered.
+     *
+     * @return whether a load was cancelled, leaving the panel without its latest data
+     */
+    public boolean cancel() {
+        generation++;
+        placeholderDelay.stop();
+        if (pending == null) {
+            return false;
+        }
+        pending.cancel(false);
+        EXECUTOR.remove(pending);
+        pending = null;
+        return true;
+    }
+
+    /** @return whether a load has been requested and not yet rendered */
+    public boolean isLoading() {
+        return pending != null;
+    }
+
+    private void runLoad(long requested) {
+        M model;
+        try {
+            model = panel.loadModel();
+        } catch (RuntimeException e) {
+            Platform.runLater(() -> fail(requested, e));
+            return;
+        }
+        Platform.runLater(() -> complete(requested, model));
+    }
+
+    private void complete(long requested, M model) {
+        if (requested != generation) {
+            return; // superseded while loading
+        }
+        pending = null;
+        placeholderDelay.stop();
+        panel.render(model);
+    }
+
+    private void fail(long requested, Throwable error) {
+        if (requested != generation) {
+            return;
+        }
+        pending = null;
+        placeholderDelay.stop();
+        logger.warn("Failed to load data for {}", panel.getClass().getSimpleName(), error);
+        panel.renderLoadFailure(error);
+    }
+
+    /** A small "Loading…" row panels can drop into the container being refreshed. */
+    public static Node loadingPlaceholder(String text) {
+        ProgressIndicator spinner = new ProgressIndicator();
+        spinner.setPrefSize(18, 18);
+        spinner.setMaxSize(18, 18);
+        Label label = new Label(text);
+        TaskStyleUtils.fontItalic(label, 13);
+        label.setTextFill(Color.web("#7f8c8d"));
+        HBox placeholder = new HBox(8, spinner, label);
+        placeholder.setAlignment(Pos.CENTER_LEFT);
+        return placeholder;
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                WORKER_THREADS, WORKER_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_LOADS),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "studysync-panel-loader-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -5,10 +5,9 @@ import com.studysync.domain.service.StudyService;
 import com.studysync.domain.service.ProjectService;
 import com.studysync.domain.service.TaskService;
 import com.studysync.domain.service.DateTimeService;
-import com.studysync.domain.entity.StudySession;
+import com.studysync.domain.entity.DailyStats;
 import com.studysync.domain.entity.StudyGoal;
 import com.studysync.domain.entity.DailyReflection;
-import com.studysync.domain.entity.Task;
 import com.studysync.domain.valueobject.TaskStatus;
 import com.studysync.integration.drive.GoogleDriveService;
 import javafx.application.Platform;
@@ -34,18 +33,24 @@ import java.util.stream.Collectors;
  * Profile view panel showing comprehensive user analytics including focus data,
  * productivity metrics, and visual graphs for self-assessment and improvement.
  */
-public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
+public class ProfileViewPanel extends ScrollPane implements ModelLoadingPanel<ProfileViewPanel.ProfileModel> {
     private static final Logger logger = LoggerFactory.getLogger(ProfileViewPanel.class);
+    /** Longest session window any section looks at (the study streak). */
+    private static final int SESSION_HISTORY_DAYS = 90;
+    private static final int RECENT_GOAL_COUNT = 5;
     private final StudyService studyService;
     private final ProjectService projectService;
     private final TaskService taskService;
     private final DateTimeService dateTimeService;
     private final GoogleDriveService googleDriveService;
     private volatile GoogleDriveService.SyncStatus lastKnownSyncStatus = GoogleDriveService.SyncStatus.UNKNOWN;
+    private final PanelModelLoader<ProfileModel> modelLoader = new PanelModelLoader<>(this);
     
     // UI Components for dynamic updates
     private VBox statsContainer;
     private VBox chartsContainer;
+    private Label goalHistoryCountLabel;
+    private VBox recentGoalsContainer;
     private Label profileSummaryLabel;
     private ProgressBar productivityRating;
     private Label productivityLabel;
@@ -158,7 +163,9 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
         driveSyncButton.getStyleClass().add("btn-success");
         driveSyncButton.setOnAction(e -> runDriveAction(
             "Uploading database to Google Drive…",
-            () -> googleDriveService.uploadDatabaseSnapshot(),
+            () -> googleDriveService.uploadDatabaseSnapshot((uploaded, total) -> Platform.runLater(() ->
+                driveActionStatusLabel.setText(String.format("Uploading database to Google Drive… %d%% (%.1f of %.1f MB)",
+                    total > 0 ? uploaded * 100 / total : 100, uploaded / 1_048_576.0, total / 1_048_576.0)))),
             "Upload complete!",
             "Upload failed. Check your connection and credentials."
         ));
@@ -292,7 +299,8 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
     private void beginStagedDownload() {
         setDriveButtonsDisabled(true);
         driveActionStatusLabel.setText("Checking Google Drive sync status…");
-        CompletableFuture.supplyAsync(googleDriveService::checkSyncStatus)
+        // The answer decides whether local edits get overwritten, so it must not come from the cache.
+        CompletableFuture.supplyAsync(() -> googleDriveService.checkSyncStatus(true))
                 .whenComplete((status, error) -> Platform.runLater(() -> {
                     if (error != null) {
                         setDriveButtonsDisabled(false);
@@ -397,10 +405,27 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
         
         productivityBox.getChildren().addAll(productivityTitle, productivityRating, productivityLabel);
         
-        section.getChildren().addAll(sectionTitle, profileSummaryLabel, productivityBox);
+        Button rebuildStatsButton = new Button("\u21BB Rebuild statistics");
+        rebuildStatsButton.getStyleClass().addAll("btn-gray", "btn-small");
+        rebuildStatsButton.setOnAction(e -> rebuildStatistics(rebuildStatsButton));
+        
+        section.getChildren().addAll(sectionTitle, profileSummaryLabel, productivityBox, rebuildStatsButton);
         return section;
     }
     
+    /** Recomputes the daily stats rollup off the FX thread, then reloads the panel. */
+    private void rebuildStatistics(Button rebuildStatsButton) {
+        rebuildStatsButton.setDisable(true);
+        CompletableFuture.supplyAsync(studyService::rebuildDailyStats)
+            .whenComplete((dates, error) -> Platform.runLater(() -> {
+                rebuildStatsButton.setDisable(false);
+                if (error != null) {
+                    logger.warn("Failed to rebuild daily statistics", error);
+                }
+                modelLoader.reload();
+            }));
+    }
+    
     private HBox createStatsSection() {
         HBox section = new HBox(15);
         section.setAlignment(Pos.CENTER);
@@ -423,17 +448,9 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
         sectionTitle.setGraphic(TaskStyleUtils.iconLabel("\u2666", 18));
         TaskStyleUtils.fontBold(sectionTitle, 18);
         
-        List<StudyGoal> allGoals = getSortedGoalHistory("Newest first");
-        long achievedCount = allGoals.stream().filter(StudyGoal::isAchieved).count();
-        long failedCount = allGoals.stream().filter(StudyGoal::isFailed).count();
-        long activeCount = allGoals.stream()
-            .filter(goal -> !goal.isAchieved() && !goal.isFailed())
-            .count();
-        
-        Label countLabel = new Label("(" + achievedCount + " achieved, "
-                + failedCount + " missed/failed, " + activeCount + " active)");
-        TaskStyleUtils.fontNormal(countLabel, 14);
-        countLabel.setTextFill(Color.web("#7f8c8d"));
+        goalHistoryCountLabel = new Label();
+        TaskStyleUtils.fontNormal(goalHistoryCountLabel, 14);
+        goalHistoryCountLabel.setTextFill(Color.web("#7f8c8d"));
         
         Button viewAllBtn = new Button("» View All Goals");
         viewAllBtn.getStyleClass().add("btn-success");
@@ -442,13 +459,26 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
         Region spacer = new Region();
         HBox.setHgrow(spacer, Priority.ALWAYS);
         
-        header.getChildren().addAll(sectionTitle, countLabel, spacer, viewAllBtn);
+        header.getChildren().addAll(sectionTitle, goalHistoryCountLabel, spacer, viewAllBtn);
+        
+        // Recent goal activity, filled in by updateGoalHistory()
+        recentGoalsContainer = new VBox(8);
+        
+        section.getChildren().addAll(header, recentGoalsContainer);
+        return section;
+    }
+
+    private void updateGoalHistory(ProfileModel model) {
+        DailyStats lifetime = model.lifetime();
+        int achievedCount = lifetime.getGoalsAchieved();
+        int failedCount = lifetime.getGoalsMissed();
+        int activeCount = Math.max(0, lifetime.getGoalAttempts() - achievedCount - failedCount);
+        goalHistoryCountLabel.setText("(" + achievedCount + " achieved, "
+                + failedCount + " missed/failed, " + activeCount + " active)");
         
         // Show recent goal activity (last 5 attempts, newest first)
-        VBox recentGoalsContainer = new VBox(8);
-        List<StudyGoal> recentGoals = allGoals.stream()
-            .limit(5)
-            .collect(Collectors.toList());
+        recentGoalsContainer.getChildren().clear();
+        List<StudyGoal> recentGoals = model.recentGoals();
         
         if (recentGoals.isEmpty()) {
             Label noGoalsLabel = new Label("No goals recorded yet.");
@@ -467,17 +497,14 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
                 recentGoalsContainer.getChildren().add(goalItem);
             }
             
-            if (allGoals.size() > 5) {
-                Label moreLabel = new Label("... and " + (allGoals.size() - 5)
+            if (lifetime.getGoalAttempts() > RECENT_GOAL_COUNT) {
+                Label moreLabel = new Label("... and " + (lifetime.getGoalAttempts() - RECENT_GOAL_COUNT)
                         + " more. Click 'View All Goals' to filter and sort them.");
                 TaskStyleUtils.fontItalic(moreLabel, 11);
                 moreLabel.setTextFill(Color.web("#95a5a6"));
                 recentGoalsContainer.getChildren().add(moreLabel);
             }
         }
-        
-        section.getChildren().addAll(header, recentGoalsContainer);
-        return section;
     }
     
     private HBox createGoalHistoryItem(StudyGoal goal, boolean detailed) {
@@ -612,12 +639,6 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
         }
     }
 
-    private List<StudyGoal> getSortedGoalHistory(String sort) {
-        return studyService.getStudyGoals().stream()
-            .sorted(goalHistoryComparator(sort))
-            .collect(Collectors.toList());
-    }
-
     private boolean matchesGoalHistoryFilter(StudyGoal goal, String filter) {
         return switch (filter) {
             case "Achieved" -> goal.isAchieved();
@@ -743,30 +764,21 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
         return card;
     }
     
-    private void updateStatsCards() {
+    private void updateStatsCards(ProfileModel model) {
         try {
             // Get data for last 30 days
-            List<StudySession> recentSessions = studyService.getSessionsGroupedByDate(30).values()
-                    .stream().flatMap(List::stream).collect(Collectors.toList());
-            List<StudyGoal> recentGoals = studyService.getStudyGoals().stream()
-                    .filter(g -> g.getDate().isAfter(dateTimeService.getCurrentDate().minusDays(30)))
-                    .collect(Collectors.toList());
-            List<Task> allTasks = taskService.getTasks();
+            ProfileWindow recentSessions = model.sessionWindow(30);
+            ProfileWindow recentGoals = model.goalWindow(30);
 
             // Calculate statistics
-            int totalSessions = recentSessions.size();
-            int totalMinutes = recentSessions.stream().mapToInt(StudySession::getDurationMinutes).sum();
-            int totalPoints = recentSessions.stream().mapToInt(StudySession::getPointsEarned).sum();
-
-            double avgFocus = recentSessions.isEmpty() ? 0 :
-                recentSessions.stream().mapToInt(StudySession::getFocusLevel).average().orElse(0);
+            int totalSessions = recentSessions.sessions();
+            int totalMinutes = recentSessions.minutes();
+            int totalPoints = recentSessions.points();
+            double avgFocus = recentSessions.averageFocus();
 
-            int achievedGoals = (int) recentGoals.stream().filter(StudyGoal::isAchieved).count();
-            int missedGoals = (int) recentGoals.stream().filter(StudyGoal::isFailed).count();
-            int goalAttemptScore = achievedGoals - missedGoals;
+            int goalAttemptScore = recentGoals.goalsAchieved() - recentGoals.goalsMissed();
             
-            long completedTasks = allTasks.stream().filter(t -> t.getStatus() == TaskStatus.COMPLETED).count();
-            long totalActiveTasks = allTasks.stream().filter(t -> t.getStatus() != TaskStatus.COMPLETED).count();
+            long completedTasks = model.completedTasks();
             
             // Create stat cards
             HBox row1 = new HBox(15);
@@ -783,11 +795,12 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
             row2.setAlignment(Pos.CENTER);
             
             VBox goalsCard = createStatCard("Lifetime net", String.format("%+d", goalAttemptScore), "Achieved minus missed goals", "#27ae60");
-            VBox tasksCard = createStatCard("Tasks Done", String.valueOf(completedTasks), "Completed tasks", "#16a085");
+            VBox tasksCard = createStatCard("Tasks Done", String.valueOf(completedTasks),
+                recentSessions.tasksCompleted() + " in the last 30 days", "#16a085");
             VBox efficiencyCard = createStatCard("Efficiency", 
                 totalMinutes > 0 ? String.format("%.1f", (double) totalPoints / totalMinutes * 60) : "0", 
                 "Points per hour", "#8e44ad");
-            VBox streakCard = createStatCard("Study Streak", calculateStudyStreak() + " days", "Consecutive days", "#e67e22");
+            VBox streakCard = createStatCard("Study Streak", calculateStudyStreak(model) + " days", "Consecutive days", "#e67e22");
             
             row2.getChildren().addAll(goalsCard, tasksCard, efficiencyCard, streakCard);
             
@@ -803,12 +816,12 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
         }
     }
     
-    private void updateCharts() {
+    private void updateCharts(ProfileModel model) {
         try {
             chartsContainer.getChildren().clear();
             
             // Focus level trend chart
-            LineChart<String, Number> focusChart = createFocusTrendChart();
+            LineChart<String, Number> focusChart = createFocusTrendChart(model);
             VBox focusChartBox = new VBox(10);
             focusChartBox.getStyleClass().add("section-card");
             focusChartBox.setPadding(new Insets(15));
@@ -818,7 +831,7 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
             focusChartBox.getChildren().addAll(focusChartTitle, focusChart);
             
             // Daily productivity chart
-            BarChart<String, Number> productivityChart = createDailyProductivityChart();
+            BarChart<String, Number> productivityChart = createDailyProductivityChart(model);
             VBox productivityChartBox = new VBox(10);
             productivityChartBox.getStyleClass().add("section-card");
             productivityChartBox.setPadding(new Insets(15));
@@ -837,7 +850,7 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
         }
     }
     
-    private LineChart<String, Number> createFocusTrendChart() {
+    private LineChart<String, Number> createFocusTrendChart(ProfileModel model) {
         CategoryAxis xAxis = new CategoryAxis();
         NumberAxis yAxis = new NumberAxis(1, 5, 1);
         yAxis.setLabel("Focus Level");
@@ -850,15 +863,12 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
         XYChart.Series<String, Number> series = new XYChart.Series<>();
         series.setName("Focus Level");
         
-        // Get last 14 days of sessions
-        Map<LocalDate, List<StudySession>> sessionsMap = studyService.getSessionsGroupedByDate(14);
-        
+        // Last 14 days of sessions
         for (int i = 13; i >= 0; i--) {
-            LocalDate date = dateTimeService.getCurrentDate().minusDays(i);
-            List<StudySession> sessions = sessionsMap.getOrDefault(date, List.of());
+            LocalDate date = model.today().minusDays(i);
+            DailyStats day = model.statsByDate().get(date);
             
-            double avgFocus = sessions.isEmpty() ? 0 : 
-                sessions.stream().mapToInt(StudySession::getFocusLevel).average().orElse(0);
+            double avgFocus = day == null ? 0 : day.getAverageFocus();
             
             String dateStr = date.format(DateTimeFormatter.ofPattern("MM/dd"));
             series.getData().add(new XYChart.Data<>(dateStr, avgFocus));
@@ -868,7 +878,7 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
         return chart;
     }
     
-    private BarChart<String, Number> createDailyProductivityChart() {
+    private BarChart<String, Number> createDailyProductivityChart(ProfileModel model) {
         CategoryAxis xAxis = new CategoryAxis();
         NumberAxis yAxis = new NumberAxis();
         yAxis.setLabel("Study Time (hours)");
@@ -881,14 +891,12 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
         XYChart.Series<String, Number> series = new XYChart.Series<>();
         series.setName("Study Hours");
         
-        // Get last 7 days of sessions
-        Map<LocalDate, List<StudySession>> sessionsMap = studyService.getSessionsGroupedByDate(7);
-        
+        // Last 7 days of sessions
         for (int i = 6; i >= 0; i--) {
-            LocalDate date = dateTimeService.getCurrentDate().minusDays(i);
-            List<StudySession> sessions = sessionsMap.getOrDefault(date, List.of());
+            LocalDate date = model.today().minusDays(i);
+            DailyStats day = model.statsByDate().get(date);
             
-            double totalHours = sessions.stream().mapToInt(StudySession::getDurationMinutes).sum() / 60.0;
+            double totalHours = day == null ? 0 : day.getTotalMinutes() / 60.0;
             
             String dateStr = date.format(DateTimeFormatter.ofPattern("MM/dd"));
             series.getData().add(new XYChart.Data<>(dateStr, totalHours));
@@ -898,12 +906,11 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
         return chart;
     }
     
-    private void updateProfileSummary() {
+    private void updateProfileSummary(ProfileModel model) {
         try {
-            List<StudySession> recentSessions = studyService.getSessionsGroupedByDate(30).values()
-                    .stream().flatMap(List::stream).collect(Collectors.toList());
+            ProfileWindow recentSessions = model.sessionWindow(30);
             
-            if (recentSessions.isEmpty()) {
+            if (recentSessions.sessions() == 0) {
                 profileSummaryLabel.setText("Welcome to StudySync! Start your first study session to see your progress here.");
                 productivityRating.setProgress(0);
                 productivityLabel.setText("No data yet");
@@ -911,12 +918,10 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
             }
             
             // Calculate overall metrics
-            double avgFocus = recentSessions.stream().mapToInt(StudySession::getFocusLevel).average().orElse(0);
-            int totalHours = recentSessions.stream().mapToInt(StudySession::getDurationMinutes).sum() / 60;
-            int studyDays = calculateStudyStreak();
-            
+            double avgFocus = recentSessions.averageFocus();
+            int totalHours = recentSessions.minutes() / 60;
             // Calculate productivity rating
-            double productivityScore = calculateProductivityScore(recentSessions);
+            double productivityScore = calculateProductivityScore(recentSessions, model);
             productivityRating.setProgress(productivityScore / 100.0);
             
             String rating;
@@ -942,7 +947,7 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
             String summary = String.format(
                 "Over the last 30 days, you've completed %d study sessions totaling %d hours. " +
                 "Your average focus level is %.1f/5. Keep up the great work and continue building your study habits!",
-                recentSessions.size(), totalHours, avgFocus
+                recentSessions.sessions(), totalHours, avgFocus
             );
             
             profileSummaryLabel.setText(summary);
@@ -953,66 +958,141 @@ public class ProfileViewPanel extends ScrollPane implements RefreshablePanel {
         }
     }
     
-    private double calculateProductivityScore(List<StudySession> sessions) {
-        if (sessions.isEmpty()) return 0;
+    private double calculateProductivityScore(ProfileWindow sessions, ProfileModel model) {
+        if (sessions.sessions() == 0) return 0;
         
         // Base score from focus levels (40% weight)
-        double avgFocus = sessions.stream().mapToInt(StudySession::getFocusLevel).average().orElse(0);
-        double focusScore = (avgFocus / 5.0) * 40;
+        double focusScore = (sessions.averageFocus() / 5.0) * 40;
         
         // Consistency score (30% weight) - based on how many days out of last 30 had sessions
-        long daysWithSessions = sessions.stream()
-            .map(s -> s.getDate())
-            .distinct()
-            .count();
-        double consistencyScore = Math.min(1.0, daysWithSessions / 30.0) * 30;
+        double consistencyScore = Math.min(1.0, sessions.daysWithSessions() / 30.0) * 30;
         
         // Volume score (20% weight) - based on total study time
-        int totalMinutes = sessions.stream().mapToInt(StudySession::getDurationMinutes).sum();
-        double avgMinutesPerDay = totalMinutes / 30.0;
+        double avgMinutesPerDay = sessions.minutes() / 30.0;
         double volumeScore = Math.min(1.0, avgMinutesPerDay / 120.0) * 20; // 2 hours per day = max score
         
         // Goal attempt score (10% weight): achieved attempts help, missed attempts hurt.
-        List<StudyGoal> goals = studyService.getStudyGoals().stream()
-            .filter(g -> g.getDate().isAfter(dateTimeService.getCurrentDate().minusDays(30)))
-            .collect(Collectors.toList());
+        ProfileWindow goals = model.goalWindow(30);
         double goalScore = 0;
-        if (!goals.isEmpty()) {
-            long achievedGoals = goals.stream().filter(StudyGoal::isAchieved).count();
-            long missedGoals = goals.stream().filter(StudyGoal::isFailed).count();
-            double normalized = ((double) (achievedGoals - missedGoals + goals.size())) / (2.0 * goals.size());
+        if (goals.goalAttempts() > 0) {
+            double normalized = ((double) (goals.goalsAchieved() - goals.goalsMissed() + goals.goalAttempts()))
+                    / (2.0 * goals.goalAttempts());
             goalScore = Math.max(0, Math.min(1, normalized)) * 10;
         }
         
         return focusScore + consistencyScore + volumeScore + goalScore;
     }
     
-    private int calculateStudyStreak() {
-        try {
-            Map<LocalDate, List<StudySession>> sessionsMap = studyService.getSessionsGroupedByDate(90);
-            int streak = 0;
-            LocalDate date = dateTimeService.getCurrentDate();
-            
-            while (streak < 90) {
-                if (!sessionsMap.containsKey(date) || sessionsMap.get(date).isEmpty()) {
-                    break;
+    private int calculateStudyStreak(ProfileModel model) {
+        int streak = 0;
+        LocalDate date = model.today();
+        
+        while (streak < SESSION_HISTORY_DAYS) {
+            DailyStats day = model.statsByDate().get(date);
+            if (day == null || day.getSessionCount() == 0) {
+                break;
+            }
+            streak++;
+            date = date.minusDays(1);
+        }
+        
+        return streak;
+    }
+    
+    /**
+     * Everything the analytics sections draw from, read in one pass off the FX thread:
+     * one small range read of the daily stats rollup covers the summary, stats, charts
+     * and streak windows, however long the history is.
+     */
+    record ProfileModel(LocalDate today, Map<LocalDate, DailyStats> statsByDate, DailyStats lifetime,
+                        List<StudyGoal> recentGoals, long completedTasks) {
+
+        /** Session totals for dates within the last {@code days} days, today included. */
+        ProfileWindow sessionWindow(int days) {
+            return ProfileWindow.of(statsByDate, today.minusDays(days));
+        }
+
+        /** Goal attempt totals for dates after {@code today - days}. */
+        ProfileWindow goalWindow(int days) {
+            return ProfileWindow.of(statsByDate, today.minusDays(days - 1L));
+        }
+    }
+
+    /** Sums of the rollup rows from {@code firstDay} on. */
+    record ProfileWindow(int sessions, int minutes, int points, int focusTotal, int daysWithSessions,
+                         int goalAttempts, int goalsAchieved, int goalsMissed, int tasksCompleted) {
+
+        static ProfileWindow of(Map<LocalDate, DailyStats> statsByDate, LocalDate firstDay) {
+            int sessions = 0, minutes = 0, points = 0, focusTotal = 0, daysWithSessions = 0;
+            int goalAttempts = 0, goalsAchieved = 0, goalsMissed = 0, tasksCompleted = 0;
+            for (DailyStats day : statsByDate.values()) {
+                if (day.getDate().isBefore(firstDay)) {
+                    continue;
                 }
-                streak++;
-                date = date.minusDays(1);
+                sessions += day.getSessionCount();
+                minutes += day.getTotalMinutes();
+                points += day.getTotalPoints();
+                focusTotal += day.getFocusTotal();
+                daysWithSessions += day.getSessionCount() > 0 ? 1 : 0;
+                goalAttempts += day.getGoalAttempts();
+                goalsAchieved += day.getGoalsAchieved();
+                goalsMissed += day.getGoalsMissed();
+                tasksCompleted += day.getTasksCompleted();
             }
-            
-            return streak;
-        } catch (Exception e) {
-            return 0;
+            return new ProfileWindow(sessions, minutes, points, focusTotal, daysWithSessions,
+                    goalAttempts, goalsAchieved, goalsMissed, tasksCompleted);
+        }
+
+        double averageFocus() {
+            return sessions == 0 ? 0 : (double) focusTotal / sessions;
         }
     }
     
+    @Override
+    public ProfileModel loadModel() {
+        LocalDate today = dateTimeService.getCurrentDate();
+        return new ProfileModel(
+                today,
+                studyService.getDailyStats(today.minusDays(SESSION_HISTORY_DAYS), today),
+                studyService.getDailyStatsTotals(),
+                studyService.getLatestGoals(RECENT_GOAL_COUNT).stream()
+                        .sorted(goalHistoryComparator("Newest first"))
+                        .collect(Collectors.toList()),
+                taskService.countTasksByStatus(TaskStatus.COMPLETED));
+    }
+    
+    @Override
+    public void render(ProfileModel model) {
+        updateProfileSummary(model);
+        updateStatsCards(model);
+        updateGoalHistory(model);
+        updateCharts(model);
+    }
+    
+    @Override
+    public void renderLoading() {
+        statsContainer.getChildren().setAll(PanelModelLoader.loadingPlaceholder("Loading statistics\u2026"));
+        chartsContainer.getChildren().clear();
+    }
+    
+    @Override
+    public void renderLoadFailure(Throwable error) {
+        profileSummaryLabel.setText("Unable to load profile summary.");
+        Label errorLabel = new Label("Unable to load statistics");
+        errorLabel.setTextFill(Color.web("#e74c3c"));
+        statsContainer.getChildren().setAll(errorLabel);
+        chartsContainer.getChildren().clear();
+    }
+    
+    @Override
+    public PanelModelLoader<ProfileModel> modelLoader() {
+        return modelLoader;
+    }
+    
     @Override
     public void updateDisplay() {
-        updateProfileSummary();
-        updateStatsCards();
-        updateCharts();
         refreshDriveSyncState();
+        modelLoader.reload();
     }
     
     @Override
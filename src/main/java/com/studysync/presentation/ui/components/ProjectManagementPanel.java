@@ -1,5 +1,8 @@
 package com.studysync.presentation.ui.components;
 
+import com.studysync.domain.event.CategoryRenamed;
+import com.studysync.domain.event.DomainEvent;
+import com.studysync.domain.event.ProjectChanged;
 import com.studysync.domain.valueobject.ProjectStatus;
 import com.studysync.domain.service.ProjectService;
 import com.studysync.domain.service.CategoryService;
@@ -8,6 +11,7 @@ import com.studysync.domain.entity.Project;
 import com.studysync.domain.entity.ProjectSession;
 import com.studysync.domain.valueobject.TaskPriority;
 import com.studysync.domain.valueobject.TaskCategory;
+import com.studysync.presentation.ui.SessionClock;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -18,16 +22,14 @@ import javafx.scene.Node;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
-import javafx.animation.Timeline;
-import javafx.animation.KeyFrame;
-import javafx.util.Duration;
 import java.util.function.Consumer;
 
 public class ProjectManagementPanel extends ScrollPane implements RefreshablePanel {
     private final ProjectService projectService;
     private final CategoryService categoryService;
+    private final SessionClock sessionClock;
     private ProjectSession currentSession;
-    private Timeline sessionTimer;
+    private SessionClock.Tracker sessionTracker;
     
     // Project management
     private ListView<Project> projectListView;
@@ -53,9 +55,10 @@ public class ProjectManagementPanel extends ScrollPane implements RefreshablePan
     private final Runnable closeModal;
 
     public ProjectManagementPanel(ProjectService projectService, CategoryService categoryService,
-                                Consumer<Node> showModal, Runnable closeModal) {
+                                SessionClock sessionClock, Consumer<Node> showModal, Runnable closeModal) {
         this.projectService = projectService;
         this.categoryService = categoryService;
+        this.sessionClock = sessionClock;
         this.showModal = showModal;
         this.closeModal = closeModal;
         // Create main content container
@@ -731,6 +734,11 @@ public class ProjectManagementPanel extends ScrollPane implements RefreshablePan
         }
     }
     
+    @Override
+    public boolean isAffectedBy(DomainEvent event) {
+        return event instanceof ProjectChanged || event instanceof CategoryRenamed;
+    }
+    
     public void updateDisplay() {
         if (projectListView != null) {
             projectListView.getItems().setAll(projectService.getProjects());
@@ -880,26 +888,24 @@ public class ProjectManagementPanel extends ScrollPane implements RefreshablePan
     }
     
     private void startSessionTimer() {
-        if (sessionTimer != null) {
-            sessionTimer.stop();
+        stopSessionTimer();
+        if (currentSession == null || !currentSession.isActive()) {
+            updateSessionTimer(0);
+            return;
         }
-        
-        sessionTimer = new Timeline(new KeyFrame(Duration.seconds(1), e -> updateSessionTimer()));
-        sessionTimer.setCycleCount(Timeline.INDEFINITE);
-        sessionTimer.play();
+        sessionTracker = sessionClock.track(currentSession.getStartTime(), this::updateSessionTimer);
     }
     
     private void stopSessionTimer() {
-        if (sessionTimer != null) {
-            sessionTimer.stop();
-            sessionTimer = null;
+        if (sessionTracker != null) {
+            sessionTracker.stop();
+            sessionTracker = null;
         }
     }
     
-    private void updateSessionTimer() {
+    /** Called by the session clock once per elapsed minute. */
+    private void updateSessionTimer(int elapsedMinutes) {
         if (currentSession != null && currentSession.isActive()) {
-            currentSession.updateRealTimeProgress();
-            int elapsedMinutes = currentSession.getCurrentElapsedMinutes();
             int hours = elapsedMinutes / 60;
             int minutes = elapsedMinutes % 60;
             
@@ -910,11 +916,9 @@ public class ProjectManagementPanel extends ScrollPane implements RefreshablePan
                 timeDisplay = String.format("⌚ Session running: %dm", minutes);
             }
             
-            sessionTimerLabel.setText(timeDisplay);
-            sessionTimerLabel.setTextFill(Color.web("#27ae60"));
+            TaskStyleUtils.setTextIfChanged(sessionTimerLabel, timeDisplay, "#27ae60");
         } else {
-            sessionTimerLabel.setText("Ready to start session");
-            sessionTimerLabel.setTextFill(Color.web("#2c3e50"));
+            TaskStyleUtils.setTextIfChanged(sessionTimerLabel, "Ready to start session", "#2c3e50");
         }
     }
     
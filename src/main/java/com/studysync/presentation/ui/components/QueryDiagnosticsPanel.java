@@ -0,0 +1,125 @@
+package com.studysync.presentation.ui.components;
+
+import com.studysync.config.QueryStatistics;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.stage.FileChooser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Diagnostics window listing every SQL statement by caller with call counts, rows and
+ * latency, heaviest first, so N+1 patterns (one query per day or per row) stand out.
+ * Opened with Ctrl+Shift+Q; the report can be saved to a text file.
+ */
+public class QueryDiagnosticsPanel extends BorderPane {
+    private static final Logger logger = LoggerFactory.getLogger(QueryDiagnosticsPanel.class);
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final QueryStatistics statistics;
+    private final TableView<QueryStatistics.Summary> table = new TableView<>();
+    private final Label statusLabel = new Label();
+
+    public QueryDiagnosticsPanel(QueryStatistics statistics) {
+        this.statistics = statistics;
+        setPadding(new Insets(15));
+
+        Label header = new Label("Query Diagnostics");
+        TaskStyleUtils.fontBold(header, 20);
+
+        Button refreshButton = new Button("Refresh");
+        refreshButton.setOnAction(e -> refresh());
+        Button resetButton = new Button("Reset");
+        resetButton.setTooltip(new Tooltip("Clear the counters, e.g. before repeating one action"));
+        resetButton.setOnAction(e -> {
+            statistics.reset();
+            refresh();
+        });
+        Button saveButton = new Button("Save Report…");
+        saveButton.setOnAction(e -> saveReport());
+
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        HBox toolbar = new HBox(10, header, spacer, refreshButton, resetButton, saveButton);
+        toolbar.setAlignment(Pos.CENTER_LEFT);
+
+        statusLabel.setTextFill(Color.web(TaskStyleUtils.COLOR_MUTED));
+        VBox top = new VBox(8, toolbar, statusLabel);
+        top.setPadding(new Insets(0, 0, 10, 0));
+        setTop(top);
+
+        table.getColumns().add(column("Caller", 260, QueryStatistics.Summary::caller));
+        table.getColumns().add(column("Calls", 70, QueryStatistics.Summary::calls));
+        table.getColumns().add(column("Rows", 80, QueryStatistics.Summary::rows));
+        table.getColumns().add(column("Total ms", 90, s -> millis(s.totalMicros())));
+        table.getColumns().add(column("Mean ms", 80, s -> millis(Math.round(s.meanMicros()))));
+        table.getColumns().add(column("p50 ms", 70, s -> millis(s.p50Micros())));
+        table.getColumns().add(column("p95 ms", 70, s -> millis(s.p95Micros())));
+        table.getColumns().add(column("Max ms", 70, s -> millis(s.maxMicros())));
+        table.getColumns().add(column("Statement", 600, QueryStatistics.Summary::sql));
+        table.setPlaceholder(new Label(statistics.isEnabled()
+                ? "No statements recorded yet"
+                : "Query statistics are off (app.datasource.query-stats: false)"));
+        setCenter(table);
+
+        refresh();
+    }
+
+    public void refresh() {
+        List<QueryStatistics.Summary> summaries = statistics.snapshot();
+        table.getItems().setAll(summaries);
+        long calls = summaries.stream().mapToLong(QueryStatistics.Summary::calls).sum();
+        long micros = summaries.stream().mapToLong(QueryStatistics.Summary::totalMicros).sum();
+        statusLabel.setText(String.format("%d distinct statements, %d calls, %s ms in total", summaries.size(),
+                calls, millis(micros)));
+    }
+
+    private void saveReport() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Save Query Report");
+        chooser.setInitialFileName("query-stats-" + FILE_STAMP.format(LocalDateTime.now()) + ".txt");
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Text files", "*.txt"));
+        File target = chooser.showSaveDialog(getScene() != null ? getScene().getWindow() : null);
+        if (target == null) {
+            return;
+        }
+        try {
+            statistics.writeReport(target.toPath());
+            statusLabel.setText("Report saved to " + target.getAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Failed to write query report to {}", target, e);
+            statusLabel.setText("Could not save the report: " + e.getMessage());
+        }
+    }
+
+    private static <T> TableColumn<QueryStatistics.Summary, T> column(
+            String title, double width, Function<QueryStatistics.Summary, T> value) {
+        TableColumn<QueryStatistics.Summary, T> column = new TableColumn<>(title);
+        column.setPrefWidth(width);
+        column.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(value.apply(cell.getValue())));
+        return column;
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+}
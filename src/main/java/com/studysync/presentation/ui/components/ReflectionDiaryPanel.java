@@ -1,5 +1,7 @@
 package com.studysync.presentation.ui.components;
 
+import com.studysync.domain.event.DomainEvent;
+import com.studysync.domain.event.ReflectionChanged;
 import com.studysync.domain.service.StudyService;
 import com.studysync.domain.service.DateTimeService;
 import com.studysync.domain.entity.DailyReflection;
@@ -317,6 +319,11 @@ public class ReflectionDiaryPanel extends ScrollPane implements RefreshablePanel
         }
     }
     
+    @Override
+    public boolean isAffectedBy(DomainEvent event) {
+        return event instanceof ReflectionChanged;
+    }
+    
     @Override
     public void updateDisplay() {
         loadReflectionForDate(datePicker.getValue());
@@ -1,8 +1,29 @@
 package com.studysync.presentation.ui.components;
 
+import com.studysync.domain.event.DomainEvent;
 import javafx.scene.Node;
 
 public interface RefreshablePanel {
     Node getView();
     void updateDisplay();
+
+    /**
+     * Drops any data load still in flight so its result is never rendered.
+     * Called when the panel's tab is deselected; panels that load synchronously
+     * have nothing to cancel.
+     *
+     * @return whether a load was dropped, so the panel must reload when shown again
+     */
+    default boolean cancelPendingLoad() {
+        return false;
+    }
+
+    /**
+     * Whether the panel shows data {@code event} changed. A hidden panel that answers
+     * {@code false} for every change since its last load is not reloaded when its tab
+     * is selected again.
+     */
+    default boolean isAffectedBy(DomainEvent event) {
+        return true;
+    }
 }
@@ -1,6 +1,8 @@
 
 package com.studysync.presentation.ui.components;
 
+import com.studysync.domain.event.DomainEvent;
+import com.studysync.domain.event.ProjectChanged;
 import com.studysync.domain.service.StudyService;
 import com.studysync.domain.service.StudySessionEnd;
 import com.studysync.domain.service.DateTimeService;
@@ -14,6 +16,7 @@ import com.studysync.domain.entity.Task;
 import com.studysync.domain.valueobject.TaskCategory;
 import com.studysync.domain.valueobject.TaskPriority;
 import com.studysync.domain.valueobject.TaskStatus;
+import com.studysync.presentation.ui.SessionClock;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -32,9 +35,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import javafx.animation.Timeline;
-import javafx.animation.KeyFrame;
-import javafx.util.Duration;
 import java.util.function.Consumer;
 
 /**
@@ -44,22 +44,24 @@ import java.util.function.Consumer;
  * - Sessions section: FlowPane of compact session cards (wraps to next row)
  * - Daily reflection section
  */
-public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
+public class StudyPlannerPanel extends ScrollPane implements ModelLoadingPanel<StudyPlannerPanel.PlannerModel> {
 
     private final StudyService studyService;
     private final DateTimeService dateTimeService;
     private final TaskService taskService;
     private final CategoryService categoryService;
+    private final SessionClock sessionClock;
 
     private final Consumer<Node> showModal;
     private final Runnable closeModal;
+    private final PanelModelLoader<PlannerModel> modelLoader = new PanelModelLoader<>(this);
 
     // Navigation state — the date currently displayed in the planner
     private LocalDate displayDate;
 
     // Live-session state
     private StudySession currentSession;
-    private Timeline sessionTimer;
+    private SessionClock.Tracker sessionTracker;
 
     // Tracks which task cards are currently expanded so they survive UI rebuilds
     private final Set<String> expandedTaskIds = new HashSet<>();
@@ -74,13 +76,25 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
     private String currentGroup = "None";
     private PlannerTaskView currentTaskView = PlannerTaskView.TODAY;
 
+    /** Tallest the task list grows before it scrolls on its own. */
+    private static final double TASK_LIST_MAX_HEIGHT = 560;
+    /** Rough row heights used to size the task list to its content. */
+    private static final double TASK_ROW_HEIGHT = 70;
+    private static final double HEADER_ROW_HEIGHT = 30;
+    private static final double EXPANDED_GOALS_HEIGHT = 140;
+
     // UI containers that get rebuilt on navigation
     private VBox tasksContainer;
+    private TaskListView taskListView;
     private FlowPane attemptOverviewContainer;
     private Label taskSectionTitle;
     private List<StudyGoal> displayDateAttempts = List.of();
     private Map<String, List<StudyGoal>> displayDateAttemptsByTaskId = Map.of();
     private Set<String> taskIdsWithAttemptsOnDisplayDate = Set.of();
+    /** Last model drawn; sort and group changes redraw from it without a reload. */
+    private PlannerModel renderedModel;
+    /** Set by a full refresh so the next load also reads the reflection text. */
+    private boolean reflectionReloadPending;
     private FlowPane sessionsFlowPane;
     private TextArea reflectionArea;
     private ProgressBar dailyProgressBar;
@@ -98,11 +112,12 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
 
     public StudyPlannerPanel(StudyService studyService, DateTimeService dateTimeService,
                              TaskService taskService, CategoryService categoryService,
-                             Consumer<Node> showModal, Runnable closeModal) {
+                             SessionClock sessionClock, Consumer<Node> showModal, Runnable closeModal) {
         this.studyService = studyService;
         this.dateTimeService = dateTimeService;
         this.taskService = taskService;
         this.categoryService = categoryService;
+        this.sessionClock = sessionClock;
         this.showModal = showModal;
         this.closeModal = closeModal;
         this.displayDate = dateTimeService.getCurrentDate();
@@ -233,14 +248,14 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
                 todayViewBtn.setSelected(true);
             }
             currentTaskView = PlannerTaskView.TODAY;
-            updateTasksDisplay();
+            reloadTasks();
         });
         allTasksViewBtn.setOnAction(e -> {
             if (!allTasksViewBtn.isSelected()) {
                 allTasksViewBtn.setSelected(true);
             }
             currentTaskView = PlannerTaskView.ALL_TASKS;
-            updateTasksDisplay();
+            reloadTasks();
         });
 
         Label sortLabel = new Label("Sort:");
@@ -250,7 +265,7 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
         sortCombo.setValue(currentSort);
         sortCombo.setOnAction(e -> {
             currentSort = sortCombo.getValue();
-            updateTasksDisplay();
+            redrawTasks();
         });
 
         Label groupLabel = new Label("Group:");
@@ -260,13 +275,14 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
         groupCombo.setValue(currentGroup);
         groupCombo.setOnAction(e -> {
             currentGroup = groupCombo.getValue();
-            updateTasksDisplay();
+            redrawTasks();
         });
 
         toolbar.getChildren().addAll(
                 todayViewBtn, allTasksViewBtn, sortLabel, sortCombo, groupLabel, groupCombo);
 
         tasksContainer = new VBox(10);
+        taskListView = new TaskListView(this::buildTaskRow);
         section.getChildren().addAll(sectionHeader, attemptOverviewContainer, toolbar, tasksContainer);
         mainContent.getChildren().add(section);
     }
@@ -381,17 +397,99 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
     // TASKS DISPLAY
     // ──────────────────────────────────────────────
 
-    private void updateTasksDisplay() {
+    /**
+     * Everything the tasks, sessions and reflection sections draw for one date and
+     * view, read off the FX thread. {@code reflectionText} is {@code null} when the
+     * load was only for the task list and the reflection editor should be left alone.
+     */
+    record PlannerModel(LocalDate date, LocalDate today, PlannerTaskView view,
+                        List<StudyGoal> attempts, List<Task> tasks,
+                        List<MissedOccurrence> missedOccurrences, List<StudyGoal> unlinkedRetries,
+                        List<StudyGoal> unlinkedGoals, List<StudySession> sessions,
+                        String reflectionText) {
+    }
+
+    @Override
+    public PlannerModel loadModel() {
+        LocalDate date = displayDate;
+        PlannerTaskView view = currentTaskView;
+        boolean withReflection = reflectionReloadPending;
+        LocalDate today = dateTimeService.getCurrentDate();
+        boolean dateScopedView = view == PlannerTaskView.TODAY;
+        boolean showingToday = dateScopedView && date.equals(today);
+
+        List<StudyGoal> attempts = date.isAfter(today)
+                ? studyService.getAllGoalsForFutureDate(date)
+                : studyService.getAllGoalsForDate(date);
+        List<Task> tasks = view == PlannerTaskView.ALL_TASKS
+                ? taskService.getTasks().stream().filter(this::isActivePlannerTask).toList()
+                : taskService.getTasksForDate(date);
+        return new PlannerModel(date, today, view, attempts, tasks,
+                showingToday ? taskService.getMissedRecurringOccurrences(today) : List.of(),
+                showingToday ? studyService.getUnlinkedDelayedGoalsForReplanning() : List.of(),
+                dateScopedView ? StudyGoal.findUnlinkedForDate(date) : List.of(),
+                studyService.getSessionsForDate(date),
+                withReflection
+                        ? studyService.getDailyReflectionForDate(date)
+                                .map(DailyReflection::getReflectionText).orElse("")
+                        : null);
+    }
+
+    @Override
+    public void render(PlannerModel model) {
+        renderedModel = model;
+        renderTasks(model);
+        renderSessions(model.sessions());
+        if (model.reflectionText() != null) {
+            reflectionArea.setText(model.reflectionText());
+            reflectionReloadPending = false;
+        }
+    }
+
+    @Override
+    public void renderLoading() {
+        tasksContainer.getChildren().setAll(PanelModelLoader.loadingPlaceholder("Loading tasks\u2026"));
+    }
+
+    @Override
+    public void renderLoadFailure(Throwable error) {
+        Label errorLabel = new Label("Unable to load tasks: " + error.getMessage());
+        errorLabel.setWrapText(true);
+        errorLabel.setTextFill(Color.web(TaskStyleUtils.COLOR_DANGER));
+        tasksContainer.getChildren().setAll(errorLabel);
+    }
+
+    @Override
+    public PanelModelLoader<PlannerModel> modelLoader() {
+        return modelLoader;
+    }
+
+    /** Reloads the task list (and sessions) after a change; the reflection editor is kept. */
+    private void reloadTasks() {
+        if (taskSectionTitle != null) {
+            taskSectionTitle.setText(taskSectionTitleText());
+        }
+        modelLoader.reload();
+    }
+
+    /** Redraws the task list from the last model, e.g. after a sort or grouping change. */
+    private void redrawTasks() {
+        if (renderedModel != null && !modelLoader.isLoading()) {
+            renderTasks(renderedModel);
+        }
+    }
+
+    private void renderTasks(PlannerModel model) {
         tasksContainer.getChildren().clear();
 
         if (taskSectionTitle != null) {
             taskSectionTitle.setText(taskSectionTitleText());
         }
 
-        refreshDisplayDateAttemptCache();
-        List<Task> tasks = new ArrayList<>(tasksForCurrentView());
-        LocalDate today = dateTimeService.getCurrentDate();
-        boolean dateScopedView = currentTaskView == PlannerTaskView.TODAY;
+        refreshDisplayDateAttemptCache(model.attempts());
+        List<Task> tasks = new ArrayList<>(model.tasks());
+        LocalDate today = model.today();
+        boolean dateScopedView = model.view() == PlannerTaskView.TODAY;
         if (attemptOverviewContainer != null) {
             attemptOverviewContainer.setVisible(dateScopedView);
             attemptOverviewContainer.setManaged(dateScopedView);
@@ -422,33 +520,24 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
             // Apply user-selected sort order
             tasks.sort(taskSortComparator());
 
-            // Apply grouping (or flat list)
+            // Apply grouping (or flat list); headers are rows of the virtualized list
             if ("None".equals(currentGroup)) {
-                for (Task task : tasks) {
-                    tasksContainer.getChildren().add(buildTaskRow(task));
-                }
+                taskListView.setTasks(tasks);
             } else {
                 LinkedHashMap<String, List<Task>> groups = new LinkedHashMap<>();
                 for (Task task : tasks) {
                     String key = groupKeyFor(task);
                     groups.computeIfAbsent(key, k -> new ArrayList<>()).add(task);
                 }
-                for (Map.Entry<String, List<Task>> entry : groups.entrySet()) {
-                    Label groupHeader = new Label(entry.getKey());
-                    TaskStyleUtils.fontBold(groupHeader, 13);
-                    groupHeader.setTextFill(Color.web("#6c757d"));
-                    groupHeader.setPadding(new Insets(6, 0, 2, 0));
-                    tasksContainer.getChildren().add(groupHeader);
-                    for (Task task : entry.getValue()) {
-                        tasksContainer.getChildren().add(buildTaskRow(task));
-                    }
-                }
+                taskListView.setGroupedTasks(groups);
             }
+            sizeTaskList();
+            tasksContainer.getChildren().add(taskListView);
         }
 
         // Missed recurring-task occurrences (carry-forward to today)
         if (dateScopedView && displayDate.equals(today)) {
-            List<MissedOccurrence> missed = taskService.getMissedRecurringOccurrences(today);
+            List<MissedOccurrence> missed = model.missedOccurrences();
             Set<String> shownTaskIds = tasks.stream().map(Task::getId).collect(Collectors.toSet());
             LinkedHashMap<String, List<MissedOccurrence>> byTask = new LinkedHashMap<>();
             for (MissedOccurrence mo : missed) {
@@ -475,14 +564,14 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
             }
         }
 
-        VBox unlinkedRetrySection = buildUnlinkedRetrySection();
+        VBox unlinkedRetrySection = buildUnlinkedRetrySection(model.unlinkedRetries());
         if (unlinkedRetrySection != null) {
             tasksContainer.getChildren().add(unlinkedRetrySection);
         }
 
         // Unlinked attempts section (goals with no task)
         if (dateScopedView) {
-            List<StudyGoal> allUnlinked = StudyGoal.findUnlinkedForDate(displayDate);
+            List<StudyGoal> allUnlinked = model.unlinkedGoals();
             List<StudyGoal> unlinkedGoals = allUnlinked.stream()
                     .filter(g -> !g.isAchieved()).toList();
             List<StudyGoal> completedUnlinked = allUnlinked.stream()
@@ -506,6 +595,28 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
         }
     }
 
+    /**
+     * Sizes the task list to roughly fit its rows, capped at {@link #TASK_LIST_MAX_HEIGHT};
+     * past that the list scrolls and only the visible cards exist.
+     */
+    private void sizeTaskList() {
+        double height = 0;
+        for (TaskListView.Row row : taskListView.getItems()) {
+            if (row instanceof TaskListView.TaskRow taskRow) {
+                height += TASK_ROW_HEIGHT;
+                if (expandedTaskIds.contains(taskRow.task().getId())) {
+                    height += EXPANDED_GOALS_HEIGHT;
+                }
+            } else {
+                height += HEADER_ROW_HEIGHT;
+            }
+            if (height >= TASK_LIST_MAX_HEIGHT) {
+                break;
+            }
+        }
+        taskListView.setPrefHeight(Math.min(TASK_LIST_MAX_HEIGHT, height));
+    }
+
     private void updateAttemptOverview() {
         if (attemptOverviewContainer == null) {
             return;
@@ -574,16 +685,8 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
         return "Tasks & Goals - " + displayDate.format(DateTimeFormatter.ofPattern("MMM d"));
     }
 
-    private List<StudyGoal> getAllAttemptsForDisplayDate() {
-        LocalDate today = dateTimeService.getCurrentDate();
-        if (displayDate.isAfter(today)) {
-            return studyService.getAllGoalsForFutureDate(displayDate);
-        }
-        return studyService.getAllGoalsForDate(displayDate);
-    }
-
-    private void refreshDisplayDateAttemptCache() {
-        displayDateAttempts = getAllAttemptsForDisplayDate();
+    private void refreshDisplayDateAttemptCache(List<StudyGoal> attempts) {
+        displayDateAttempts = attempts;
         displayDateAttemptsByTaskId = displayDateAttempts.stream()
                 .filter(goal -> goal.getTaskId() != null && !goal.getTaskId().isBlank())
                 .collect(Collectors.groupingBy(
@@ -593,15 +696,6 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
         taskIdsWithAttemptsOnDisplayDate = new HashSet<>(displayDateAttemptsByTaskId.keySet());
     }
 
-    private List<Task> tasksForCurrentView() {
-        if (currentTaskView == PlannerTaskView.ALL_TASKS) {
-            return taskService.getTasks().stream()
-                    .filter(this::isActivePlannerTask)
-                    .toList();
-        }
-        return taskService.getTasksForDate(displayDate);
-    }
-
     private boolean isActivePlannerTask(Task task) {
         TaskStatus status = task.getStatus();
         return status == TaskStatus.OPEN
@@ -765,6 +859,7 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
             } else {
                 expandedTaskIds.remove(task.getId());
             }
+            sizeTaskList();
         };
         headerRow.setOnMouseClicked(e -> toggleExpanded.run());
         badgeRow.setOnMouseClicked(e -> toggleExpanded.run());
@@ -907,12 +1002,7 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
         }
     }
 
-    private VBox buildUnlinkedRetrySection() {
-        if (currentTaskView != PlannerTaskView.TODAY
-                || !displayDate.equals(dateTimeService.getCurrentDate())) {
-            return null;
-        }
-        List<StudyGoal> retryableGoals = studyService.getUnlinkedDelayedGoalsForReplanning();
+    private VBox buildUnlinkedRetrySection(List<StudyGoal> retryableGoals) {
         if (retryableGoals.isEmpty()) {
             return null;
         }
@@ -978,7 +1068,7 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
         replanBtn.getStyleClass().addAll("btn-orange", "btn-small");
         replanBtn.setOnAction(e -> {
             studyService.replanGoalForToday(goal.getId());
-            updateTasksDisplay();
+            reloadTasks();
             updateProgress();
         });
 
@@ -1011,7 +1101,7 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
         check.setOnAction(e -> {
             studyService.updateStudyGoalAchievement(goal.getId(), check.isSelected(), null);
             updateProgress();
-            updateTasksDisplay();
+            reloadTasks();
         });
 
         VBox textBox = new VBox(2);
@@ -1079,7 +1169,7 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
             check.setOnAction(e -> {
                 studyService.updateStudyGoalAchievement(goal.getId(), false, null);
                 updateProgress();
-                updateTasksDisplay();
+                reloadTasks();
             });
 
             Label label = new Label(goal.getDescription());
@@ -1106,8 +1196,11 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
     // ──────────────────────────────────────────────
 
     private void updateSessionsDisplay() {
+        renderSessions(studyService.getSessionsForDate(displayDate));
+    }
+
+    private void renderSessions(List<StudySession> sessions) {
         sessionsFlowPane.getChildren().clear();
-        List<StudySession> sessions = studyService.getSessionsForDate(displayDate);
         List<StudySession> completedSessions = sessions.stream()
                 .filter(StudySession::isCompleted)
                 .toList();
@@ -1504,7 +1597,7 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
                         deadlinePicker.getValue(), TaskStatus.OPEN, 0, recurPattern, startDate);
                 taskService.addTask(newTask);
                 closeModal.run();
-                updateTasksDisplay();
+                reloadTasks();
             } catch (Exception ex) {
                 showInlineError(form, ex.getMessage());
             }
@@ -1638,7 +1731,7 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
             try {
                 studyService.addStudyGoal(desc, date, taskId);
                 closeModal.run();
-                updateTasksDisplay();
+                reloadTasks();
                 updateProgress();
             } catch (Exception ex) {
                 Label err = new Label(ex.getMessage());
@@ -1953,36 +2046,33 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
     }
 
     private void startSessionTimer() {
-        if (sessionTimer != null) sessionTimer.stop();
-        sessionTimer = new Timeline(new KeyFrame(Duration.seconds(1),
-                e -> updateSessionTimer()));
-        sessionTimer.setCycleCount(Timeline.INDEFINITE);
-        sessionTimer.play();
-        updateSessionTimer();
+        stopSessionTimer();
+        if (currentSession == null || !currentSession.isActive()) {
+            updateSessionTimer(0);
+            return;
+        }
+        sessionTracker = sessionClock.track(currentSession.getStartTime(), this::updateSessionTimer);
     }
 
     private void stopSessionTimer() {
-        if (sessionTimer != null) {
-            sessionTimer.stop();
-            sessionTimer = null;
+        if (sessionTracker != null) {
+            sessionTracker.stop();
+            sessionTracker = null;
         }
     }
 
-    private void updateSessionTimer() {
+    /** Called by the session clock once per elapsed minute, and on session changes. */
+    private void updateSessionTimer(int elapsedMinutes) {
         if (sessionStatusLabel == null) {
             return;
         }
         if (currentSession != null && currentSession.isActive()) {
-            currentSession.updateRealTimeProgress();
-            int elapsed = currentSession.getCurrentElapsedMinutes();
-            int h = elapsed / 60, m = elapsed % 60;
-            sessionStatusLabel.setText(h > 0
+            int h = elapsedMinutes / 60, m = elapsedMinutes % 60;
+            TaskStyleUtils.setTextIfChanged(sessionStatusLabel, h > 0
                     ? String.format("⌚ Session running: %dh %02dm", h, m)
-                    : String.format("⌚ Session running: %dm", m));
-            sessionStatusLabel.setTextFill(Color.web("#27ae60"));
+                    : String.format("⌚ Session running: %dm", m), "#27ae60");
         } else {
-            sessionStatusLabel.setText("No active session");
-            sessionStatusLabel.setTextFill(Color.web("#2c3e50"));
+            TaskStyleUtils.setTextIfChanged(sessionStatusLabel, "No active session", "#2c3e50");
         }
     }
 
@@ -1997,7 +2087,7 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
         sessionTextArea.setDisable(!hasActiveSession);
 
         if (!hasActiveSession) {
-            updateSessionTimer();
+            updateSessionTimer(0);
         }
     }
 
@@ -2030,7 +2120,7 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
                 sessionTextArea.setText(sessionText);
             }
         }
-        if (sessionTimer == null) {
+        if (sessionTracker == null) {
             startSessionTimer();
         }
     }
@@ -2074,6 +2164,11 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
     // RefreshablePanel
     // ──────────────────────────────────────────────
 
+    @Override
+    public boolean isAffectedBy(DomainEvent event) {
+        return !(event instanceof ProjectChanged);
+    }
+
     @Override
     public void updateDisplay() {
         restoreActiveSessionIfNeeded();
@@ -2084,12 +2179,9 @@ public class StudyPlannerPanel extends ScrollPane implements RefreshablePanel {
         dateNavLabel.setText(prefix + displayDate.format(
                 DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy")));
 
-        updateTasksDisplay();
-        updateSessionsDisplay();
+        reflectionReloadPending = true;
+        reloadTasks();
         updateProgress();
-
-        DailyReflection todayReflection = studyService.getDailyReflectionForDate(displayDate).orElse(null);
-        reflectionArea.setText(todayReflection != null ? todayReflection.getReflectionText() : "");
     }
 
     @Override
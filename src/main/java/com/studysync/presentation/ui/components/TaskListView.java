@@ -0,0 +1,123 @@
+package com.studysync.presentation.ui.components;
+
+import com.studysync.domain.entity.Task;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Virtualized task list shared by the planner and task management panels.
+ *
+ * <p>Rows are either group headers or tasks. Only rows inside the viewport get a
+ * cell, and cells are recycled as the list scrolls, so the scene graph stays the
+ * size of the screen however many tasks there are. Task cards come from the
+ * owning panel's card factory and are kept in a small per-task cache: scrolling
+ * back does not rebuild them, and card-local state such as an open goal history
+ * survives while the row is off screen. Setting new rows drops the cache.</p>
+ */
+public class TaskListView extends ListView<TaskListView.Row> {
+
+    /** Built cards kept for rows that scrolled out of view. */
+    private static final int CARD_CACHE_SIZE = 128;
+
+    /** One row of the list: a group header or a task card. */
+    public sealed interface Row permits Header, TaskRow {
+    }
+
+    public record Header(String title) implements Row {
+    }
+
+    public record TaskRow(Task task) implements Row {
+    }
+
+    private final Function<Task, Node> cardFactory;
+    private final Map<String, Node> cardCache = new LinkedHashMap<>(32, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Node> eldest) {
+            return size() > CARD_CACHE_SIZE;
+        }
+    };
+
+    public TaskListView(Function<Task, Node> cardFactory) {
+        this.cardFactory = cardFactory;
+        getStyleClass().add("task-list-view");
+        setFocusTraversable(false);
+        setCellFactory(list -> new TaskCell());
+    }
+
+    /** Shows {@code tasks} in order, without headers. */
+    public void setTasks(List<Task> tasks) {
+        List<Row> rows = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            rows.add(new TaskRow(task));
+        }
+        setRows(rows);
+    }
+
+    /** Shows each group's tasks under a header row, in map order. */
+    public void setGroupedTasks(Map<String, List<Task>> groups) {
+        List<Row> rows = new ArrayList<>();
+        for (Map.Entry<String, List<Task>> entry : groups.entrySet()) {
+            rows.add(new Header(entry.getKey()));
+            for (Task task : entry.getValue()) {
+                rows.add(new TaskRow(task));
+            }
+        }
+        setRows(rows);
+    }
+
+    private void setRows(List<Row> rows) {
+        cardCache.clear();
+        getItems().setAll(rows);
+    }
+
+    private Node cardFor(Task task) {
+        return cardCache.computeIfAbsent(task.getId(), id -> cardFactory.apply(task));
+    }
+
+    private static Label headerLabel(String title) {
+        Label header = new Label(title);
+        TaskStyleUtils.fontBold(header, 13);
+        header.setTextFill(Color.web("#6c757d"));
+        header.setPadding(new Insets(6, 0, 2, 0));
+        return header;
+    }
+
+    private final class TaskCell extends ListCell<Row> {
+
+        TaskCell() {
+            // Track the list width instead of the widest card, so wrapped text wraps.
+            setPrefWidth(0);
+            setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        }
+
+        /** Rows are not selectable; selection styling would recolor the cards. */
+        @Override
+        public void updateSelected(boolean selected) {
+            super.updateSelected(false);
+        }
+
+        @Override
+        protected void updateItem(Row row, boolean empty) {
+            super.updateItem(row, empty);
+            setText(null);
+            if (empty || row == null) {
+                setGraphic(null);
+            } else if (row instanceof Header header) {
+                setGraphic(headerLabel(header.title()));
+            } else if (row instanceof TaskRow taskRow) {
+                setGraphic(cardFor(taskRow.task()));
+            }
+        }
+    }
+}
@@ -1,6 +1,10 @@
 
 package com.studysync.presentation.ui.components;
 
+import com.studysync.domain.event.CategoryRenamed;
+import com.studysync.domain.event.DomainEvent;
+import com.studysync.domain.event.GoalAttemptChanged;
+import com.studysync.domain.event.TaskChanged;
 import com.studysync.domain.entity.StudyGoal;
 import com.studysync.domain.entity.Task;
 import com.studysync.domain.entity.TaskReminder;
@@ -11,8 +15,11 @@ import com.studysync.domain.valueobject.TaskStatus;
 import com.studysync.domain.service.TaskService;
 import com.studysync.domain.service.CategoryService;
 import com.studysync.domain.service.ReminderService;
+import com.studysync.domain.service.SearchHit;
+import com.studysync.domain.service.SearchService;
 import com.studysync.domain.service.StudyService;
 import com.studysync.domain.service.TaskUpdate;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -37,6 +44,7 @@ public class TaskManagementPanel extends ScrollPane implements RefreshablePanel
     private final CategoryService categoryService;
     private final ReminderService reminderService;
     private final StudyService studyService;
+    private final SearchService searchService;
     private final Consumer<Node> showModal;
     private final Runnable closeModal;
 
@@ -48,14 +56,17 @@ public class TaskManagementPanel extends ScrollPane implements RefreshablePanel
 
     // Status tabs
     private TabPane statusTabPane;
+    /** Whether a rebuild is queued for when the search index is ready; FX thread only. */
+    private boolean awaitingSearchIndex;
 
     public TaskManagementPanel(TaskService taskService, CategoryService categoryService,
                                ReminderService reminderService, StudyService studyService,
-                               Consumer<Node> showModal, Runnable closeModal) {
+                               SearchService searchService, Consumer<Node> showModal, Runnable closeModal) {
         this.taskService = taskService;
         this.categoryService = categoryService;
         this.reminderService = reminderService;
         this.studyService = studyService;
+        this.searchService = searchService;
         this.showModal = showModal;
         this.closeModal = closeModal;
 
@@ -64,7 +75,8 @@ public class TaskManagementPanel extends ScrollPane implements RefreshablePanel
 
         this.setContent(mainContent);
         this.setFitToWidth(true);
-        this.setFitToHeight(false);
+        // The task lists scroll themselves; the tab pane just fills the viewport.
+        this.setFitToHeight(true);
         this.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
         this.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
         this.getStyleClass().add("tab-content-area");
@@ -176,33 +188,29 @@ public class TaskManagementPanel extends ScrollPane implements RefreshablePanel
     // TASK LIST RENDERING
     // ──────────────────────────────────────────────
 
-    private ScrollPane buildTaskList(String statusGroup) {
+    private Node buildTaskList(String statusGroup) {
         List<Task> tasks = getFilteredTasks(statusGroup);
 
-        VBox listBox = new VBox(8);
-        listBox.setFillWidth(true);
-        listBox.setPadding(new Insets(15, 20, 20, 20));
-
         if (tasks.isEmpty()) {
+            VBox listBox = new VBox(8);
+            listBox.setFillWidth(true);
+            listBox.setPadding(new Insets(15, 20, 20, 20));
             Label empty = new Label("No tasks in this category.");
             TaskStyleUtils.fontNormal(empty, 14);
             empty.setTextFill(Color.web("#7f8c8d"));
             empty.setPadding(new Insets(30));
             listBox.getChildren().add(empty);
-        } else {
-            Map<String, TaskReschedule> latestReschedules = TaskReschedule.findLatestByTaskIds(
-                    tasks.stream().map(Task::getId).collect(Collectors.toList()));
-            for (Task task : tasks) {
-                listBox.getChildren().add(buildTaskCard(task, latestReschedules.get(task.getId())));
-            }
+            return listBox;
         }
 
-        ScrollPane sp = new ScrollPane(listBox);
-        sp.setFitToWidth(true);
-        sp.getStyleClass().add("transparent-bg");
-        sp.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
-        sp.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
-        return sp;
+        // Cards are built only for the rows on screen, as the list scrolls.
+        Map<String, TaskReschedule> latestReschedules = TaskReschedule.findLatestByTaskIds(
+                tasks.stream().map(Task::getId).collect(Collectors.toList()));
+        TaskListView listView = new TaskListView(
+                task -> buildTaskCard(task, latestReschedules.get(task.getId())));
+        listView.setPadding(new Insets(11, 18, 16, 18));
+        listView.setTasks(tasks);
+        return listView;
     }
 
     private VBox buildTaskCard(Task task, TaskReschedule latestReschedule) {
@@ -1096,13 +1104,23 @@ public class TaskManagementPanel extends ScrollPane implements RefreshablePanel
                     .collect(Collectors.toList());
         }
 
-        // Search filter
-        String search = searchField != null ? searchField.getText().trim().toLowerCase() : "";
-        if (!search.isEmpty()) {
-            all = all.stream()
-                    .filter(t -> t.getTitle().toLowerCase().contains(search)
-                            || (t.getDescription() != null && t.getDescription().toLowerCase().contains(search)))
-                    .collect(Collectors.toList());
+        // Search filter: every word must start a word of the title or description.
+        // Until the index is built (in the background), match substrings of the loaded
+        // tasks instead of building it on the FX thread.
+        String search = searchField != null ? searchField.getText().trim() : "";
+        if (search.codePoints().anyMatch(Character::isLetterOrDigit)) {
+            if (searchService.isIndexReady()) {
+                Set<String> matches = searchService.matchingIds(SearchHit.Kind.TASK, search);
+                all = all.stream()
+                        .filter(t -> matches.contains(t.getId()))
+                        .collect(Collectors.toList());
+            } else {
+                awaitSearchIndex();
+                String needle = search.toLowerCase(Locale.ROOT);
+                all = all.stream()
+                        .filter(t -> containsIgnoreCase(t.getTitle(), needle) || containsIgnoreCase(t.getDescription(), needle))
+                        .collect(Collectors.toList());
+            }
         }
 
         // Category filter
@@ -1145,6 +1163,20 @@ public class TaskManagementPanel extends ScrollPane implements RefreshablePanel
         }
     }
 
+    /** Re-filters with the index once it is built, however many keystrokes arrive meanwhile. */
+    private void awaitSearchIndex() {
+        if (awaitingSearchIndex) return;
+        awaitingSearchIndex = true;
+        searchService.buildIndexAsync().thenRun(() -> Platform.runLater(() -> {
+            awaitingSearchIndex = false;
+            rebuildAllTabs();
+        }));
+    }
+
+    private static boolean containsIgnoreCase(String text, String lowerCaseNeedle) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(lowerCaseNeedle);
+    }
+
     /**
      * Quick reschedule for delayed/postponed tasks: one date picker, no full edit form.
      */
@@ -1243,6 +1275,11 @@ public class TaskManagementPanel extends ScrollPane implements RefreshablePanel
         return this;
     }
 
+    @Override
+    public boolean isAffectedBy(DomainEvent event) {
+        return event instanceof TaskChanged || event instanceof GoalAttemptChanged || event instanceof CategoryRenamed;
+    }
+
     @Override
     public void updateDisplay() {
         refreshData();
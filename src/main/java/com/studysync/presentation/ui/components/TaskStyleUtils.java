@@ -91,6 +91,18 @@ public final class TaskStyleUtils {
         return lbl;
     }
 
+    /**
+     * Sets a status label's text and colour, skipping the update (and the
+     * relayout it triggers) when the text is already showing.
+     */
+    public static void setTextIfChanged(Labeled node, String text, String color) {
+        if (text.equals(node.getText())) {
+            return;
+        }
+        node.setText(text);
+        node.setTextFill(Color.web(color));
+    }
+
     /**
      * Appends CSS properties to a node's existing inline style.
      * If the node already has an inline style, the new properties are
@@ -1,5 +1,6 @@
--- StudySync Database Schema
--- This file is automatically loaded by Spring Boot on startup
+-- StudySync Database Schema, version 1: base tables, default categories and indexes.
+-- Applied once per database by SchemaMigrator. Statements stay idempotent because
+-- databases created before schema versioning run every migration once on upgrade.
 
 -- ===================================
 -- Tasks Table
@@ -145,6 +146,8 @@ CREATE TABLE IF NOT EXISTS study_goal_attempts (
     outcome VARCHAR(20) DEFAULT 'PENDING',
     reason_if_not_achieved TEXT,
     outcome_at TIMESTAMP,
+    attempt_number INTEGER DEFAULT 1 NOT NULL,
+    missed_attempt_count INTEGER DEFAULT 0 NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (goal_id) REFERENCES study_goals(id) ON DELETE CASCADE,
@@ -168,6 +171,25 @@ CREATE TABLE IF NOT EXISTS daily_reflections (
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- ===================================
+-- Daily Stats Rollup Table
+-- ===================================
+-- One row per date, derived from study_sessions and study_goal_attempts and
+-- kept current by StudyService (see DailyStats). tasks_completed is recorded
+-- when a task is completed, since tasks carry no completion date.
+CREATE TABLE IF NOT EXISTS daily_stats (
+    stat_date DATE PRIMARY KEY,
+    session_count INTEGER DEFAULT 0 NOT NULL,
+    total_minutes INTEGER DEFAULT 0 NOT NULL,
+    total_points INTEGER DEFAULT 0 NOT NULL,
+    focus_total INTEGER DEFAULT 0 NOT NULL,
+    goal_attempts INTEGER DEFAULT 0 NOT NULL,
+    goals_achieved INTEGER DEFAULT 0 NOT NULL,
+    goals_missed INTEGER DEFAULT 0 NOT NULL,
+    tasks_completed INTEGER DEFAULT 0 NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
 -- ===================================
 -- Task Categories Table (Optional for future use)
 -- ===================================
@@ -207,141 +229,3 @@ CREATE INDEX IF NOT EXISTS idx_study_goal_attempts_goal_id ON study_goal_attempt
 CREATE INDEX IF NOT EXISTS idx_study_goal_attempts_date ON study_goal_attempts(planned_for_date);
 CREATE INDEX IF NOT EXISTS idx_study_goal_attempts_outcome ON study_goal_attempts(outcome);
 CREATE INDEX IF NOT EXISTS idx_daily_reflections_date ON daily_reflections(date);
-
--- ===================================
--- Schema Migrations (for existing databases)
--- ===================================
--- Add recurring_pattern column to tasks table for existing databases.
--- For new databases the column is already in the CREATE TABLE above.
-ALTER TABLE tasks ADD COLUMN IF NOT EXISTS recurring_pattern VARCHAR(100);
-
--- Add start_date column for recurring tasks (recurrence anchor / first occurrence).
--- For new databases the column is already in the CREATE TABLE above.
-ALTER TABLE tasks ADD COLUMN IF NOT EXISTS start_date DATE;
-
--- Add replanned_for_date to study_goals to support one-shot manual rescheduling.
--- When set, the goal appears on that date only and is excluded from automatic delay carry-forward.
-ALTER TABLE study_goals ADD COLUMN IF NOT EXISTS replanned_for_date DATE;
-
--- Add failed flag to study_goals. Failed goals are kept for historical logging
--- but excluded from active planner views.
-ALTER TABLE study_goals ADD COLUMN IF NOT EXISTS failed BOOLEAN DEFAULT FALSE;
-
--- Link study sessions to an optional goal/task (issue #17). Named constraints
--- keep the ALTERs idempotent for both fresh and migrated databases.
-ALTER TABLE study_sessions ADD COLUMN IF NOT EXISTS goal_id VARCHAR(50);
-ALTER TABLE study_sessions ADD COLUMN IF NOT EXISTS task_id VARCHAR(50);
-ALTER TABLE study_sessions ADD CONSTRAINT IF NOT EXISTS fk_study_sessions_goal
-    FOREIGN KEY (goal_id) REFERENCES study_goals(id) ON DELETE SET NULL;
-ALTER TABLE study_sessions ADD CONSTRAINT IF NOT EXISTS fk_study_sessions_task
-    FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE SET NULL;
-
--- Add per-attempt goal lifecycle columns. Legacy columns remain intentionally:
--- schema.sql is re-run on every startup, so destructive DROP COLUMN migrations
--- would make the compatibility backfill below unsafe on later launches.
-ALTER TABLE study_goals ADD COLUMN IF NOT EXISTS status VARCHAR(20) DEFAULT 'ACTIVE';
-ALTER TABLE study_goals ADD COLUMN IF NOT EXISTS abandoned_explicitly BOOLEAN DEFAULT FALSE;
-ALTER TABLE study_goals ADD COLUMN IF NOT EXISTS achieved_attempt_id VARCHAR(50);
-
-CREATE INDEX IF NOT EXISTS idx_study_goals_status ON study_goals(status);
-
--- Backfill the first attempt from the legacy study_goals row. Existing attempt
--- rows are left untouched so this migration is safe to re-run.
-INSERT INTO study_goal_attempts (
-    id, goal_id, planned_for_date, replanned_from_attempt_id, outcome,
-    reason_if_not_achieved, outcome_at, created_at, updated_at
-)
-SELECT
-    id || '-attempt-1',
-    id,
-    date,
-    NULL,
-    CASE
-        WHEN replanned_for_date IS NOT NULL THEN 'MISSED'
-        WHEN failed = TRUE THEN 'MISSED'
-        WHEN achieved = TRUE THEN 'ACHIEVED'
-        ELSE 'PENDING'
-    END,
-    reason_if_not_achieved,
-    CASE
-        WHEN replanned_for_date IS NOT NULL OR failed = TRUE OR achieved = TRUE THEN updated_at
-        ELSE NULL
-    END,
-    created_at,
-    updated_at
-FROM study_goals g
-WHERE NOT EXISTS (
-    SELECT 1 FROM study_goal_attempts a WHERE a.goal_id = g.id
-);
-
--- Backfill the explicit re-plan attempt when the legacy row had one. If the
--- re-planned goal was eventually achieved, the achieved outcome belongs to the
--- re-plan date, while the original date remains a missed attempt.
-INSERT INTO study_goal_attempts (
-    id, goal_id, planned_for_date, replanned_from_attempt_id, outcome,
-    reason_if_not_achieved, outcome_at, created_at, updated_at
-)
-SELECT
-    id || '-attempt-2',
-    id,
-    replanned_for_date,
-    id || '-attempt-1',
-    CASE
-        WHEN achieved = TRUE THEN 'ACHIEVED'
-        WHEN failed = TRUE THEN 'MISSED'
-        ELSE 'PENDING'
-    END,
-    reason_if_not_achieved,
-    CASE
-        WHEN achieved = TRUE OR failed = TRUE THEN updated_at
-        ELSE NULL
-    END,
-    updated_at,
-    updated_at
-FROM study_goals g
-WHERE replanned_for_date IS NOT NULL
-  AND NOT EXISTS (
-      SELECT 1 FROM study_goal_attempts a WHERE a.id = g.id || '-attempt-2'
-  )
-  -- Only chain onto a backfilled attempt-1. Goals whose attempts were created
-  -- through the app have UUID attempt ids, and inserting attempt-2 for them
-  -- would violate the replanned_from_attempt_id FK and abort schema init.
-  AND EXISTS (
-      SELECT 1 FROM study_goal_attempts a WHERE a.id = g.id || '-attempt-1'
-  );
-
-UPDATE study_goals g
-SET achieved_attempt_id = (
-    SELECT a.id
-    FROM study_goal_attempts a
-    WHERE a.goal_id = g.id AND a.outcome = 'ACHIEVED'
-    ORDER BY a.planned_for_date DESC, a.created_at DESC
-    LIMIT 1
-)
-WHERE g.achieved_attempt_id IS NULL
-  AND COALESCE(g.abandoned_explicitly, FALSE) = FALSE
-  AND EXISTS (
-      SELECT 1 FROM study_goal_attempts a
-      WHERE a.goal_id = g.id AND a.outcome = 'ACHIEVED'
-  );
-
--- Explicitly abandoned goals stay abandoned: this backfill must not undo a
--- user's abandon action on the next startup.
-UPDATE study_goals g
-SET status = 'ACHIEVED'
-WHERE COALESCE(g.abandoned_explicitly, FALSE) = FALSE
-  AND EXISTS (
-    SELECT 1 FROM study_goal_attempts a
-    WHERE a.goal_id = g.id AND a.outcome = 'ACHIEVED'
-);
-
--- Legacy "failed" goals were missed attempts, not explicit abandonment.
--- Keep missed-only parent goals active so users can plan another retry.
-UPDATE study_goals g
-SET status = 'ACTIVE', failed = FALSE
-WHERE status = 'ABANDONED'
-  AND COALESCE(abandoned_explicitly, FALSE) = FALSE
-  AND NOT EXISTS (
-      SELECT 1 FROM study_goal_attempts a
-      WHERE a.goal_id = g.id AND a.outcome = 'ACHIEVED'
-  );
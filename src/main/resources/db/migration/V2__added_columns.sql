@@ -0,0 +1,36 @@
+-- ===================================
+-- Version 2: columns added after the first release (for existing databases)
+-- ===================================
+-- Add recurring_pattern column to tasks table for existing databases.
+-- For new databases the column is already in the CREATE TABLE of version 1.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS recurring_pattern VARCHAR(100);
+
+-- Add start_date column for recurring tasks (recurrence anchor / first occurrence).
+-- For new databases the column is already in the CREATE TABLE of version 1.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS start_date DATE;
+
+-- Add replanned_for_date to study_goals to support one-shot manual rescheduling.
+-- When set, the goal appears on that date only and is excluded from automatic delay carry-forward.
+ALTER TABLE study_goals ADD COLUMN IF NOT EXISTS replanned_for_date DATE;
+
+-- Add failed flag to study_goals. Failed goals are kept for historical logging
+-- but excluded from active planner views.
+ALTER TABLE study_goals ADD COLUMN IF NOT EXISTS failed BOOLEAN DEFAULT FALSE;
+
+-- Link study sessions to an optional goal/task (issue #17). Named constraints
+-- keep the ALTERs idempotent for both fresh and migrated databases.
+ALTER TABLE study_sessions ADD COLUMN IF NOT EXISTS goal_id VARCHAR(50);
+ALTER TABLE study_sessions ADD COLUMN IF NOT EXISTS task_id VARCHAR(50);
+ALTER TABLE study_sessions ADD CONSTRAINT IF NOT EXISTS fk_study_sessions_goal
+    FOREIGN KEY (goal_id) REFERENCES study_goals(id) ON DELETE SET NULL;
+ALTER TABLE study_sessions ADD CONSTRAINT IF NOT EXISTS fk_study_sessions_task
+    FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE SET NULL;
+
+-- Add per-attempt goal lifecycle columns. Legacy columns remain intentionally:
+-- older clients sharing the database through Drive still re-run their own
+-- schema.sql on startup, and its compatibility backfill reads them.
+ALTER TABLE study_goals ADD COLUMN IF NOT EXISTS status VARCHAR(20) DEFAULT 'ACTIVE';
+ALTER TABLE study_goals ADD COLUMN IF NOT EXISTS abandoned_explicitly BOOLEAN DEFAULT FALSE;
+ALTER TABLE study_goals ADD COLUMN IF NOT EXISTS achieved_attempt_id VARCHAR(50);
+
+CREATE INDEX IF NOT EXISTS idx_study_goals_status ON study_goals(status);
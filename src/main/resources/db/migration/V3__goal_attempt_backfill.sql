@@ -0,0 +1,103 @@
+-- ===================================
+-- Version 3: backfill goal attempts from legacy study_goals rows
+-- ===================================
+-- Backfill the first attempt from the legacy study_goals row. Existing attempt
+-- rows are left untouched so this migration is safe to re-run.
+INSERT INTO study_goal_attempts (
+    id, goal_id, planned_for_date, replanned_from_attempt_id, outcome,
+    reason_if_not_achieved, outcome_at, created_at, updated_at
+)
+SELECT
+    id || '-attempt-1',
+    id,
+    date,
+    NULL,
+    CASE
+        WHEN replanned_for_date IS NOT NULL THEN 'MISSED'
+        WHEN failed = TRUE THEN 'MISSED'
+        WHEN achieved = TRUE THEN 'ACHIEVED'
+        ELSE 'PENDING'
+    END,
+    reason_if_not_achieved,
+    CASE
+        WHEN replanned_for_date IS NOT NULL OR failed = TRUE OR achieved = TRUE THEN updated_at
+        ELSE NULL
+    END,
+    created_at,
+    updated_at
+FROM study_goals g
+WHERE NOT EXISTS (
+    SELECT 1 FROM study_goal_attempts a WHERE a.goal_id = g.id
+);
+
+-- Backfill the explicit re-plan attempt when the legacy row had one. If the
+-- re-planned goal was eventually achieved, the achieved outcome belongs to the
+-- re-plan date, while the original date remains a missed attempt.
+INSERT INTO study_goal_attempts (
+    id, goal_id, planned_for_date, replanned_from_attempt_id, outcome,
+    reason_if_not_achieved, outcome_at, created_at, updated_at
+)
+SELECT
+    id || '-attempt-2',
+    id,
+    replanned_for_date,
+    id || '-attempt-1',
+    CASE
+        WHEN achieved = TRUE THEN 'ACHIEVED'
+        WHEN failed = TRUE THEN 'MISSED'
+        ELSE 'PENDING'
+    END,
+    reason_if_not_achieved,
+    CASE
+        WHEN achieved = TRUE OR failed = TRUE THEN updated_at
+        ELSE NULL
+    END,
+    updated_at,
+    updated_at
+FROM study_goals g
+WHERE replanned_for_date IS NOT NULL
+  AND NOT EXISTS (
+      SELECT 1 FROM study_goal_attempts a WHERE a.id = g.id || '-attempt-2'
+  )
+  -- Only chain onto a backfilled attempt-1. Goals whose attempts were created
+  -- through the app have UUID attempt ids, and inserting attempt-2 for them
+  -- would violate the replanned_from_attempt_id FK and abort schema init.
+  AND EXISTS (
+      SELECT 1 FROM study_goal_attempts a WHERE a.id = g.id || '-attempt-1'
+  );
+
+UPDATE study_goals g
+SET achieved_attempt_id = (
+    SELECT a.id
+    FROM study_goal_attempts a
+    WHERE a.goal_id = g.id AND a.outcome = 'ACHIEVED'
+    ORDER BY a.planned_for_date DESC, a.created_at DESC
+    LIMIT 1
+)
+WHERE g.achieved_attempt_id IS NULL
+  AND COALESCE(g.abandoned_explicitly, FALSE) = FALSE
+  AND EXISTS (
+      SELECT 1 FROM study_goal_attempts a
+      WHERE a.goal_id = g.id AND a.outcome = 'ACHIEVED'
+  );
+
+-- Explicitly abandoned goals stay abandoned: this backfill must not undo a
+-- user's abandon action on the next startup.
+UPDATE study_goals g
+SET status = 'ACHIEVED'
+WHERE COALESCE(g.abandoned_explicitly, FALSE) = FALSE
+  AND EXISTS (
+    SELECT 1 FROM study_goal_attempts a
+    WHERE a.goal_id = g.id AND a.outcome = 'ACHIEVED'
+);
+
+-- Legacy "failed" goals were missed attempts, not explicit abandonment.
+-- Keep missed-only parent goals active so users can plan another retry.
+UPDATE study_goals g
+SET status = 'ACTIVE', failed = FALSE
+WHERE status = 'ABANDONED'
+  AND COALESCE(abandoned_explicitly, FALSE) = FALSE
+  AND NOT EXISTS (
+      SELECT 1 FROM study_goal_attempts a
+      WHERE a.goal_id = g.id AND a.outcome = 'ACHIEVED'
+  );
@@ -0,0 +1,25 @@
+-- ===================================
+-- Version 4: materialized attempt counters
+-- ===================================
+-- Previously two correlated COUNT(*) subqueries per row of the attempt view.
+-- New databases get the columns from the CREATE TABLE in version 1; existing
+-- ones are backfilled below. The MERGE only touches rows whose stored values
+-- differ. Later drift is repaired by StudyService.verifyAttemptCounters().
+ALTER TABLE study_goal_attempts ADD COLUMN IF NOT EXISTS attempt_number INTEGER DEFAULT 1 NOT NULL;
+ALTER TABLE study_goal_attempts ADD COLUMN IF NOT EXISTS missed_attempt_count INTEGER DEFAULT 0 NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_study_goal_attempts_goal_number ON study_goal_attempts(goal_id, attempt_number);
+
+MERGE INTO study_goal_attempts t
+USING (
+    SELECT id,
+           ROW_NUMBER() OVER (PARTITION BY goal_id ORDER BY created_at, id) AS expected_attempt_number,
+           SUM(CASE WHEN outcome = 'MISSED' THEN 1 ELSE 0 END) OVER (
+               PARTITION BY goal_id ORDER BY created_at, id
+               ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW
+           ) AS expected_missed_attempt_count
+    FROM study_goal_attempts
+) s ON (t.id = s.id)
+WHEN MATCHED AND (t.attempt_number <> s.expected_attempt_number
+                  OR t.missed_attempt_count <> s.expected_missed_attempt_count) THEN
+    UPDATE SET attempt_number = s.expected_attempt_number,
+               missed_attempt_count = s.expected_missed_attempt_count;
@@ -0,0 +1,13 @@
+-- ===================================
+-- Version 5: persisted daily maintenance watermarks
+-- ===================================
+-- One row per daily maintenance job (see MaintenanceWatermark): the last date
+-- the job completed, so a restart on the same day skips the pass.
+CREATE TABLE IF NOT EXISTS maintenance_watermarks (
+    job_name VARCHAR(50) PRIMARY KEY,
+    last_run_date DATE NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- The delayed-task pass looks up overdue tasks by status and deadline.
+CREATE INDEX IF NOT EXISTS idx_tasks_status_deadline ON tasks(status, deadline);
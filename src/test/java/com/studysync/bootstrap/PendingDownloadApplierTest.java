@@ -1,5 +1,6 @@
 package com.studysync.bootstrap;
 
+import com.studysync.integration.drive.CompressedSnapshot;
 import com.studysync.integration.drive.PendingDownloadMetadata;
 import com.studysync.integration.drive.PendingDownloadSupport;
 import org.junit.jupiter.api.Test;
@@ -63,4 +64,33 @@ class PendingDownloadApplierTest {
         assertEquals("live-db", Files.readString(liveDatabase));
         assertTrue(Files.exists(metadataPath.resolveSibling(metadataPath.getFileName() + ".failed")));
     }
+
+    @Test
+    void applyIfPresentDecompressesACompressedDownloadAndKeepsACompressedBackup() throws Exception {
+        Path liveDatabase = tempDir.resolve("studysync.mv.db");
+        Files.writeString(liveDatabase, "live-db");
+
+        Path driveDatabase = tempDir.resolve("drive.mv.db");
+        Files.writeString(driveDatabase, "drive-db ".repeat(1000));
+        Path stagedDatabase = PendingDownloadSupport.pendingDatabasePath(liveDatabase);
+        CompressedSnapshot.compress(driveDatabase, stagedDatabase);
+        CompressedSnapshot.Trailer trailer = CompressedSnapshot.readTrailer(stagedDatabase);
+        PendingDownloadMetadata metadata = new PendingDownloadMetadata(
+                "drive-file",
+                trailer.sizeBytes(),
+                trailer.sha256(),
+                123456789L,
+                System.currentTimeMillis(),
+                true);
+        PendingDownloadSupport.writeMetadata(PendingDownloadSupport.pendingMetadataPath(liveDatabase), metadata);
+
+        PendingDownloadApplier.applyIfPresent(liveDatabase);
+
+        assertEquals(Files.readString(driveDatabase), Files.readString(liveDatabase));
+        assertFalse(Files.exists(PendingDownloadSupport.pendingMetadataPath(liveDatabase)));
+        assertFalse(Files.exists(stagedDatabase));
+        try (var backups = Files.list(PendingDownloadSupport.backupsDirectory(liveDatabase))) {
+            assertTrue(backups.anyMatch(path -> path.getFileName().toString().endsWith(CompressedSnapshot.FILE_SUFFIX)));
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package com.studysync.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmbeddedDatabaseTuningTest {
+
+    private static final long MB = 1024L * 1024L;
+
+    @Test
+    void pageCacheFollowsTheHeapWithinBounds() {
+        assertEquals(EmbeddedDatabaseTuning.MIN_CACHE_SIZE_KB,
+                EmbeddedDatabaseTuning.forHeap(128 * MB, 2_000).cacheSizeKb());
+        assertEquals(64 * 1024, EmbeddedDatabaseTuning.forHeap(1024 * MB, 2_000).cacheSizeKb());
+        assertEquals(EmbeddedDatabaseTuning.MAX_CACHE_SIZE_KB,
+                EmbeddedDatabaseTuning.forHeap(16_384 * MB, 2_000).cacheSizeKb());
+    }
+
+    @Test
+    void managedSettingsReplaceExistingOnesAndOthersAreKept() {
+        EmbeddedDatabaseTuning tuning = EmbeddedDatabaseTuning.forHeap(1024 * MB, 2_000);
+
+        String url = tuning.applyTo("jdbc:h2:file:/opt/studysync/data/studysync;DB_CLOSE_DELAY=-1;cache_size=65536;");
+
+        assertEquals("jdbc:h2:file:/opt/studysync/data/studysync;DB_CLOSE_DELAY=-1;"
+                + "CACHE_SIZE=65536;QUERY_CACHE_SIZE=64;WRITE_DELAY=2000", url);
+        assertEquals(EmbeddedDatabaseTuning.DEFAULT_WRITE_DELAY_MS,
+                EmbeddedDatabaseTuning.forHeap(1024 * MB, 0).writeDelayMs());
+    }
+}
@@ -0,0 +1,84 @@
+package com.studysync.config;
+
+import com.studysync.domain.entity.MaintenanceWatermark;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryStatisticsTest {
+
+    private HikariDataSource dataSource;
+    private QueryStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:studysync-query-stats-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+        new SchemaMigrator(dataSource).migrate();
+
+        statistics = new QueryStatistics(true);
+        MaintenanceWatermark.setJdbcTemplate(new InstrumentedJdbcTemplate(dataSource, statistics));
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaintenanceWatermark.setJdbcTemplate(null);
+        dataSource.close();
+    }
+
+    @Test
+    void entityStatementsAreGroupedByCallerWithCallsAndRows(@TempDir Path reportDir) throws Exception {
+        LocalDate today = LocalDate.of(2025, 3, 14);
+        MaintenanceWatermark.advance("stats-job", today);
+        for (int i = 0; i < 3; i++) {
+            MaintenanceWatermark.lastRun("stats-job");
+        }
+
+        List<QueryStatistics.Summary> summaries = statistics.snapshot();
+        assertEquals(2, summaries.size());
+        QueryStatistics.Summary reads = summaries.stream()
+                .filter(summary -> summary.caller().equals("MaintenanceWatermark.lastRun"))
+                .findFirst().orElseThrow();
+        assertEquals(3, reads.calls());
+        assertEquals(3, reads.rows());
+        assertTrue(reads.sql().startsWith("SELECT last_run_date FROM maintenance_watermarks"));
+        QueryStatistics.Summary merge = summaries.stream()
+                .filter(summary -> summary.caller().equals("MaintenanceWatermark.advance"))
+                .findFirst().orElseThrow();
+        assertEquals(1, merge.calls());
+        assertEquals(1, merge.rows());
+
+        Path report = reportDir.resolve("query-stats.txt");
+        statistics.writeReport(report);
+        assertTrue(Files.readString(report).contains("MaintenanceWatermark.lastRun"));
+
+        statistics.reset();
+        assertTrue(statistics.snapshot().isEmpty());
+    }
+
+    @Test
+    void percentilesReportTheUpperBoundOfTheirBucket() {
+        long[] counts = new long[32];
+        counts[QueryStatistics.bucketOf(100)] = 95;   // 64-127 µs
+        counts[QueryStatistics.bucketOf(5_000)] = 5;  // 4096-8191 µs
+
+        assertEquals(128, QueryStatistics.percentile(counts, 100, 0.50));
+        assertEquals(128, QueryStatistics.percentile(counts, 100, 0.95));
+        assertEquals(8192, QueryStatistics.percentile(counts, 100, 0.99));
+    }
+}
@@ -0,0 +1,89 @@
+package com.studysync.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SchemaMigratorTest {
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:studysync-migrations-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void freshDatabaseIsMigratedOnceAndThenLeftAlone() {
+        SchemaMigrator migrator = new SchemaMigrator(dataSource);
+        List<SchemaMigrator.Migration> migrations = migrator.findMigrations();
+        int latest = migrations.getLast().version();
+
+        SchemaMigrator.MigrationResult first = migrator.migrate();
+        assertEquals(migrations.size(), first.appliedCount());
+        assertEquals(latest, first.schemaVersion());
+        assertEquals(migrations.size(), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schema_version", Integer.class));
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_categories", Integer.class));
+
+        SchemaMigrator.MigrationResult second = new SchemaMigrator(dataSource).migrate();
+        assertEquals(0, second.appliedCount());
+        assertEquals(latest, second.schemaVersion());
+    }
+
+    @Test
+    void unversionedLegacyDatabaseIsBackfilledAndVersioned() {
+        // A database from before goal attempts and schema versioning: one goal
+        // that was re-planned and then achieved on the re-plan date.
+        jdbcTemplate.execute("""
+            CREATE TABLE study_goals (
+                id VARCHAR(50) PRIMARY KEY,
+                date DATE NOT NULL,
+                description TEXT NOT NULL,
+                achieved BOOLEAN DEFAULT FALSE,
+                reason_if_not_achieved TEXT,
+                points_deducted INTEGER DEFAULT 0,
+                is_delayed BOOLEAN DEFAULT FALSE,
+                days_delayed INTEGER DEFAULT 0,
+                task_id VARCHAR(50),
+                replanned_for_date DATE,
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO study_goals (id, date, description, achieved, replanned_for_date)
+            VALUES ('legacy', DATE '2025-01-10', 'Read chapter 3', TRUE, DATE '2025-01-12')
+            """);
+
+        SchemaMigrator.MigrationResult result = new SchemaMigrator(dataSource).migrate();
+
+        assertTrue(result.appliedCount() > 0);
+        List<String> outcomes = jdbcTemplate.queryForList(
+                "SELECT outcome FROM study_goal_attempts WHERE goal_id = 'legacy' ORDER BY attempt_number", String.class);
+        assertEquals(List.of("MISSED", "ACHIEVED"), outcomes);
+        assertEquals("ACHIEVED", jdbcTemplate.queryForObject(
+                "SELECT status FROM study_goals WHERE id = 'legacy'", String.class));
+        assertFalse(jdbcTemplate.queryForList("SELECT version FROM schema_version", Integer.class).isEmpty());
+    }
+}
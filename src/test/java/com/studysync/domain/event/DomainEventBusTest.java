@@ -0,0 +1,71 @@
+package com.studysync.domain.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DomainEventBusTest {
+
+    private final DomainEventBus eventBus = new DomainEventBus();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void listenersReceiveOnlyTheirEventTypeUntilUnsubscribed() {
+        List<TaskChanged> taskEvents = new ArrayList<>();
+        List<DomainEvent> allEvents = new ArrayList<>();
+        Runnable unsubscribe = eventBus.subscribe(TaskChanged.class, taskEvents::add);
+        eventBus.subscribe(DomainEvent.class, allEvents::add);
+
+        eventBus.publish(TaskChanged.of("task-1"));
+        eventBus.publish(new ProjectChanged("project-1"));
+        unsubscribe.run();
+        eventBus.publish(TaskChanged.of("task-2"));
+
+        assertEquals(List.of(TaskChanged.of("task-1")), taskEvents);
+        assertEquals(3, allEvents.size());
+    }
+
+    @Test
+    void eventsPublishedInATransactionWaitForCommitAndAreDroppedOnRollback() {
+        List<DomainEvent> received = new ArrayList<>();
+        eventBus.subscribe(DomainEvent.class, received::add);
+
+        TransactionSynchronizationManager.initSynchronization();
+        eventBus.publish(GoalAttemptChanged.on(LocalDate.of(2026, 3, 28)));
+        assertTrue(received.isEmpty());
+        completeTransaction(true);
+        assertEquals(List.of(GoalAttemptChanged.on(LocalDate.of(2026, 3, 28))), received);
+
+        TransactionSynchronizationManager.initSynchronization();
+        eventBus.publish(new SessionEnded("session-1", LocalDate.of(2026, 3, 28)));
+        completeTransaction(false);
+        assertEquals(1, received.size());
+    }
+
+    private static void completeTransaction(boolean committed) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (committed) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(committed
+                    ? TransactionSynchronization.STATUS_COMMITTED
+                    : TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+}
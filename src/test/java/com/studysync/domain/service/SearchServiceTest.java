@@ -0,0 +1,152 @@
+package com.studysync.domain.service;
+
+import com.studysync.config.SchemaMigrator;
+import com.studysync.domain.entity.DailyReflection;
+import com.studysync.domain.entity.Task;
+import com.studysync.domain.valueobject.TaskPriority;
+import com.studysync.domain.valueobject.TaskStatus;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 28);
+
+    private HikariDataSource dataSource;
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:studysync-search-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+        new SchemaMigrator(dataSource).migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Task.setJdbcTemplate(jdbcTemplate);
+        DailyReflection.setJdbcTemplate(jdbcTemplate);
+        searchService = new SearchService(jdbcTemplate);
+        searchService.registerChangeListener();
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchService.unregisterChangeListener();
+        Task.setJdbcTemplate(null);
+        DailyReflection.setJdbcTemplate(null);
+        dataSource.close();
+    }
+
+    @Test
+    void ranksTitleMatchesFirstAndMatchesWordPrefixesWithoutAccents() {
+        task("body", "Weekly review", "Go over the Integral calculus notes");
+        task("title", "Intégral calculus problem set", "");
+        task("other", "Buy groceries", "milk");
+
+        List<SearchHit> hits = searchService.search("integral calc", 10);
+
+        assertEquals(List.of("title", "body"), hits.stream().map(SearchHit::id).toList());
+        assertEquals(Set.of("title", "body"), searchService.matchingIds(SearchHit.Kind.TASK, "INTEG"));
+        assertTrue(searchService.search("integral groceries", 10).isEmpty(), "every word must match");
+    }
+
+    @Test
+    void indexFollowsSavesAndDeletesAfterItIsBuilt() {
+        task("first", "Chemistry lab report", "");
+        assertEquals(Set.of("first"), searchService.matchingIds(SearchHit.Kind.TASK, "chemistry"));
+
+        Task second = task("second", "Chemistry exam", "");
+        second.setTitle("Physics exam");
+        second.save();
+        Task.deleteById("first");
+        task("third", "Organic chemistry reading", "");
+
+        assertEquals(Set.of("third"), searchService.matchingIds(SearchHit.Kind.TASK, "chemistry"));
+        assertEquals(Set.of("second"), searchService.matchingIds(SearchHit.Kind.TASK, "physics"));
+    }
+
+    @Test
+    void buildIndexAsyncReadsTheRowsOffTheCallingThread() throws Exception {
+        task("first", "Chemistry lab report", "");
+        assertFalse(searchService.isIndexReady());
+
+        searchService.buildIndexAsync().get(5, TimeUnit.SECONDS);
+
+        assertTrue(searchService.isIndexReady());
+        assertEquals(Set.of("first"), searchService.matchingIds(SearchHit.Kind.TASK, "chem"));
+    }
+
+    @Test
+    void taskSavedWhileTheIndexIsBuildingIsIndexedOnceTheBuildEnds() throws Exception {
+        task("first", "Chemistry lab report", "");
+        CountDownLatch tasksRead = new CountDownLatch(1);
+        CountDownLatch releaseBuild = new CountDownLatch(1);
+        // Tasks are read first; the build then stalls before reading projects.
+        JdbcTemplate blockingTemplate = new JdbcTemplate(dataSource) {
+            @Override
+            public <T> List<T> query(String sql, RowMapper<T> rowMapper) {
+                if (sql.endsWith("FROM projects")) {
+                    tasksRead.countDown();
+                    try {
+                        releaseBuild.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.query(sql, rowMapper);
+            }
+        };
+        searchService.unregisterChangeListener();
+        searchService = new SearchService(blockingTemplate);
+        searchService.registerChangeListener();
+
+        CompletableFuture<Void> build = searchService.buildIndexAsync();
+        assertTrue(tasksRead.await(5, TimeUnit.SECONDS));
+        task("second", "Chemistry exam", "");
+        releaseBuild.countDown();
+        build.get(5, TimeUnit.SECONDS);
+
+        assertTrue(searchService.isIndexReady());
+        assertEquals(Set.of("first", "second"), searchService.matchingIds(SearchHit.Kind.TASK, "chemistry"));
+    }
+
+    @Test
+    void searchesReflectionTextAndDropsReflectionsDeletedByDate() {
+        DailyReflection reflection = new DailyReflection();
+        reflection.setDate(TODAY);
+        reflection.setReflectionText("Finally understood eigenvalues after the second lecture.");
+        reflection.save();
+
+        List<SearchHit> hits = searchService.search("eigenvalue", 10);
+        assertEquals(1, hits.size());
+        assertEquals(SearchHit.Kind.REFLECTION, hits.get(0).kind());
+        assertTrue(hits.get(0).snippet().contains("eigenvalues"));
+
+        DailyReflection.deleteByDate(TODAY);
+        assertTrue(searchService.search("eigenvalue", 10).isEmpty());
+    }
+
+    private Task task(String id, String title, String description) {
+        return new Task(id, title, description, "Study", new TaskPriority(3),
+                TODAY.plusDays(1), TaskStatus.OPEN, 0, "", null).save();
+    }
+}
@@ -1,8 +1,11 @@
 package com.studysync.domain.service;
 
+import com.studysync.domain.entity.DailyStats;
+import com.studysync.domain.entity.MaintenanceWatermark;
 import com.studysync.domain.entity.StudyGoal;
 import com.studysync.domain.entity.StudySession;
 import com.studysync.domain.entity.Task;
+import com.studysync.domain.event.DomainEventBus;
 import com.studysync.domain.exception.ValidationException;
 import com.studysync.domain.valueobject.TaskPriority;
 import com.studysync.domain.valueobject.TaskStatus;
@@ -14,16 +17,24 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.lang.reflect.Field;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
@@ -54,10 +65,14 @@ class StudyServicePersistenceTest {
         createTasksTable();
         createStudyGoalsTable();
         createStudySessionsTable();
+        createDailyStatsTable();
+        createMaintenanceWatermarksTable();
 
         StudySession.setJdbcTemplate(jdbcTemplate);
         Task.setJdbcTemplate(jdbcTemplate);
         StudyGoal.setJdbcTemplate(jdbcTemplate);
+        DailyStats.setJdbcTemplate(jdbcTemplate);
+        MaintenanceWatermark.setJdbcTemplate(jdbcTemplate);
 
         googleDriveService = mock(GoogleDriveService.class);
         when(googleDriveService.saveLocally()).thenReturn(true);
@@ -65,8 +80,8 @@ class StudyServicePersistenceTest {
         dateTimeService = mock(DateTimeService.class);
         when(dateTimeService.getCurrentDate()).thenReturn(LocalDate.of(2026, 3, 28));
 
-        studyService = new StudyService(googleDriveService, dateTimeService);
-        taskService = new TaskService(mock(CategoryService.class), googleDriveService, dateTimeService);
+        taskService = new TaskService(mock(CategoryService.class), googleDriveService, dateTimeService, new DomainEventBus());
+        studyService = new StudyService(googleDriveService, dateTimeService, taskService, new DomainEventBus());
     }
 
     @AfterEach
@@ -74,6 +89,8 @@ class StudyServicePersistenceTest {
         StudySession.setJdbcTemplate(null);
         Task.setJdbcTemplate(null);
         StudyGoal.setJdbcTemplate(null);
+        DailyStats.setJdbcTemplate(null);
+        MaintenanceWatermark.setJdbcTemplate(null);
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
         }
@@ -94,7 +111,7 @@ class StudyServicePersistenceTest {
         assertEquals(1, activeCount);
 
         verify(googleDriveService).markLocalDbDirty();
-        verify(googleDriveService).saveLocally();
+        verify(googleDriveService).requestLocalSave(anyString());
     }
 
     @Test
@@ -151,7 +168,7 @@ class StudyServicePersistenceTest {
         assertTrue(stored.getDurationMinutes() >= 0);
 
         verify(googleDriveService).markLocalDbDirty();
-        verify(googleDriveService).saveLocally();
+        verify(googleDriveService).requestLocalSave(anyString());
     }
 
     @Test
@@ -200,7 +217,61 @@ class StudyServicePersistenceTest {
         assertEquals(1, achievedAttempts);
 
         verify(googleDriveService).markLocalDbDirty();
-        verify(googleDriveService).saveLocally();
+        verify(googleDriveService).requestLocalSave(anyString());
+    }
+
+    @Test
+    void dailyMaintenanceRunsOncePerDayAcrossRestarts() {
+        StudyGoal overdue = new StudyGoal("Yesterday's goal");
+        overdue.setDate(LocalDate.of(2026, 3, 27));
+        overdue.save();
+
+        assertEquals(1, studyService.runDailyMaintenance().missedAttempts());
+
+        // Written after today's pass: a restart on the same day must not pick it up.
+        StudyGoal lateOverdue = new StudyGoal("Goal from a restored database");
+        lateOverdue.setDate(LocalDate.of(2026, 3, 26));
+        lateOverdue.save();
+        StudyService restarted = new StudyService(googleDriveService, dateTimeService, taskService, new DomainEventBus());
+        assertEquals(0, restarted.runDailyMaintenance().missedAttempts());
+        assertEquals(LocalDate.of(2026, 3, 28), MaintenanceWatermark.lastRun("goal-maintenance").orElseThrow());
+
+        when(dateTimeService.getCurrentDate()).thenReturn(LocalDate.of(2026, 3, 29));
+        assertEquals(1, restarted.runDailyMaintenance().missedAttempts());
+        assertEquals(LocalDate.of(2026, 3, 29), MaintenanceWatermark.lastRun("goal-maintenance").orElseThrow());
+    }
+
+    @Test
+    void goalReadsDoNotWaitForARunningMaintenancePass() throws Exception {
+        StudyGoal overdue = new StudyGoal("Yesterday's goal");
+        overdue.setDate(LocalDate.of(2026, 3, 27));
+        overdue.save();
+
+        // Stands in for MaintenanceScheduler's pass, holding the lock on its own thread.
+        Field lockField = StudyService.class.getDeclaredField("maintenanceLock");
+        lockField.setAccessible(true);
+        ReentrantLock maintenanceLock = (ReentrantLock) lockField.get(studyService);
+        CountDownLatch passStarted = new CountDownLatch(1);
+        CountDownLatch finishPass = new CountDownLatch(1);
+        Thread pass = new Thread(() -> {
+            maintenanceLock.lock();
+            try {
+                passStarted.countDown();
+                finishPass.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                maintenanceLock.unlock();
+            }
+        });
+        pass.start();
+        assertTrue(passStarted.await(5, TimeUnit.SECONDS));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> studyService.getTodayGoals());
+
+        finishPass.countDown();
+        pass.join(5_000);
+        assertEquals(1, studyService.runDailyMaintenance().missedAttempts(), "the skipped read left the pass to run");
     }
 
     @Test
@@ -231,6 +302,32 @@ class StudyServicePersistenceTest {
         assertEquals(2, attempts);
     }
 
+    @Test
+    void attemptCountersAreMaintainedAndStaleRowsAreRepaired() {
+        StudyGoal goal = new StudyGoal("Practice problems");
+        goal.setDate(LocalDate.of(2026, 3, 25));
+        goal.save();
+        studyService.processAllDelayedGoals();
+        assertTrue(StudyGoal.createReplanAttempt(goal.getId(), LocalDate.of(2026, 3, 29)));
+        assertTrue(StudyGoal.abandonGoal(goal.getId()));
+
+        List<StudyGoal> attempts = StudyGoal.findAll().stream()
+                .filter(attempt -> attempt.getId().equals(goal.getId()))
+                .sorted(java.util.Comparator.comparingInt(StudyGoal::getAttemptNumber))
+                .toList();
+        assertEquals(List.of(1, 2), attempts.stream().map(StudyGoal::getAttemptNumber).toList());
+        assertEquals(List.of(1, 2), attempts.stream().map(StudyGoal::getMissedAttemptCount).toList());
+        assertTrue(StudyGoal.findAttemptsWithStaleCounters().isEmpty());
+
+        jdbcTemplate.update("UPDATE study_goal_attempts SET attempt_number = 7, missed_attempt_count = 0 WHERE goal_id = ?",
+                goal.getId());
+        assertEquals(2, StudyGoal.findAttemptsWithStaleCounters().size());
+
+        assertEquals(2, studyService.verifyAttemptCounters());
+        assertTrue(StudyGoal.findAttemptsWithStaleCounters().isEmpty());
+        assertEquals(0, studyService.verifyAttemptCounters());
+    }
+
     @Test
     void explicitlyAbandonedGoalIsNotOfferedForRetry() {
         StudyGoal goal = new StudyGoal("Drop this goal");
@@ -437,6 +534,43 @@ class StudyServicePersistenceTest {
         assertEquals(2, latest.getAttemptNumber());
     }
 
+    @Test
+    void dailyStatsFollowSessionsAndGoalOutcomesAndMatchRebuild() {
+        StudySession session = studyService.startStudySession();
+        studyService.endStudySession(session, new StudySessionEnd(4, "Done"));
+        LocalDate sessionDate = session.getDate();
+
+        DailyStats sessionDay = studyService.getDailyStats(sessionDate, sessionDate).get(sessionDate);
+        assertEquals(1, sessionDay.getSessionCount());
+        assertEquals(4.0, sessionDay.getAverageFocus());
+        assertEquals(session.getPointsEarned(), sessionDay.getTotalPoints());
+
+        LocalDate yesterday = LocalDate.of(2026, 3, 27);
+        LocalDate today = LocalDate.of(2026, 3, 28);
+        studyService.addStudyGoal("Review notes", yesterday);
+        studyService.processAllDelayedGoals();
+
+        DailyStats missedDay = studyService.getDailyStats(yesterday, yesterday).get(yesterday);
+        assertEquals(1, missedDay.getGoalAttempts());
+        assertEquals(1, missedDay.getGoalsMissed());
+        assertEquals(0, missedDay.getGoalsAchieved());
+
+        String goalId = StudyGoal.findDelayedAndNotReplanned().getFirst().getId();
+        assertTrue(studyService.replanGoalForToday(goalId));
+        studyService.updateStudyGoalAchievement(goalId, true, null);
+        assertEquals(1, studyService.getDailyStats(today, today).get(today).getGoalsAchieved());
+
+        // A rebuild from the source tables reproduces the incrementally kept rows.
+        List<Map<String, Object>> incremental = dailyStatsRows();
+        jdbcTemplate.update("DELETE FROM daily_stats");
+        assertTrue(studyService.verifyDailyStats());
+        assertEquals(incremental, dailyStatsRows());
+        assertFalse(studyService.verifyDailyStats());
+
+        studyService.deleteStudySession(session.getId());
+        assertEquals(0, studyService.getDailyStats(sessionDate, sessionDate).get(sessionDate).getSessionCount());
+    }
+
     @Test
     void getActiveSessionFindsSessionThatStartedPreviousDay() {
         LocalDate sessionDate = LocalDate.of(2026, 3, 27);
@@ -497,6 +631,41 @@ class StudyServicePersistenceTest {
                 """);
     }
 
+    private void createDailyStatsTable() {
+        jdbcTemplate.execute("""
+                CREATE TABLE daily_stats (
+                    stat_date DATE PRIMARY KEY,
+                    session_count INTEGER DEFAULT 0 NOT NULL,
+                    total_minutes INTEGER DEFAULT 0 NOT NULL,
+                    total_points INTEGER DEFAULT 0 NOT NULL,
+                    focus_total INTEGER DEFAULT 0 NOT NULL,
+                    goal_attempts INTEGER DEFAULT 0 NOT NULL,
+                    goals_achieved INTEGER DEFAULT 0 NOT NULL,
+                    goals_missed INTEGER DEFAULT 0 NOT NULL,
+                    tasks_completed INTEGER DEFAULT 0 NOT NULL,
+                    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+    }
+
+    private void createMaintenanceWatermarksTable() {
+        jdbcTemplate.execute("""
+                CREATE TABLE maintenance_watermarks (
+                    job_name VARCHAR(50) PRIMARY KEY,
+                    last_run_date DATE NOT NULL,
+                    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+    }
+
+    private List<Map<String, Object>> dailyStatsRows() {
+        return jdbcTemplate.queryForList("""
+                SELECT stat_date, session_count, total_minutes, total_points, focus_total,
+                       goal_attempts, goals_achieved, goals_missed, tasks_completed
+                FROM daily_stats ORDER BY stat_date
+                """);
+    }
+
     private void createTasksTable() {
         jdbcTemplate.execute("""
                 CREATE TABLE tasks (
@@ -546,6 +715,8 @@ class StudyServicePersistenceTest {
                     outcome VARCHAR(20) DEFAULT 'PENDING',
                     reason_if_not_achieved TEXT,
                     outcome_at TIMESTAMP,
+                    attempt_number INTEGER DEFAULT 1 NOT NULL,
+                    missed_attempt_count INTEGER DEFAULT 0 NOT NULL,
                     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
                     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
                 )
@@ -562,6 +733,7 @@ class StudyServicePersistenceTest {
                 SET outcome = 'MISSED', outcome_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP
                 WHERE goal_id = ?
                 """, goal.getId());
+        StudyGoal.repairAttemptCounters();
         return StudyGoal.findById(goal.getId()).orElseThrow();
     }
 
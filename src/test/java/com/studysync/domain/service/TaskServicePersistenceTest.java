@@ -1,6 +1,10 @@
 package com.studysync.domain.service;
 
+import com.studysync.domain.entity.DailyStats;
+import com.studysync.domain.entity.MaintenanceWatermark;
+import com.studysync.domain.entity.StudyGoal;
 import com.studysync.domain.entity.Task;
+import com.studysync.domain.event.DomainEventBus;
 import com.studysync.domain.entity.TaskReschedule;
 import com.studysync.domain.exception.ValidationException;
 import com.studysync.domain.valueobject.TaskPriority;
@@ -30,6 +34,7 @@ class TaskServicePersistenceTest {
 
     private HikariDataSource dataSource;
     private JdbcTemplate jdbcTemplate;
+    private DateTimeService dateTimeService;
     private TaskService taskService;
 
     @BeforeEach
@@ -70,23 +75,48 @@ class TaskServicePersistenceTest {
                     FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE CASCADE
                 )
                 """);
+        jdbcTemplate.execute("""
+                CREATE TABLE daily_stats (
+                    stat_date DATE PRIMARY KEY,
+                    session_count INTEGER DEFAULT 0 NOT NULL,
+                    total_minutes INTEGER DEFAULT 0 NOT NULL,
+                    total_points INTEGER DEFAULT 0 NOT NULL,
+                    focus_total INTEGER DEFAULT 0 NOT NULL,
+                    goal_attempts INTEGER DEFAULT 0 NOT NULL,
+                    goals_achieved INTEGER DEFAULT 0 NOT NULL,
+                    goals_missed INTEGER DEFAULT 0 NOT NULL,
+                    tasks_completed INTEGER DEFAULT 0 NOT NULL,
+                    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE maintenance_watermarks (
+                    job_name VARCHAR(50) PRIMARY KEY,
+                    last_run_date DATE NOT NULL,
+                    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
 
         Task.setJdbcTemplate(jdbcTemplate);
         TaskReschedule.setJdbcTemplate(jdbcTemplate);
+        DailyStats.setJdbcTemplate(jdbcTemplate);
+        MaintenanceWatermark.setJdbcTemplate(jdbcTemplate);
 
         GoogleDriveService googleDriveService = mock(GoogleDriveService.class);
         when(googleDriveService.saveLocally()).thenReturn(true);
 
-        DateTimeService dateTimeService = mock(DateTimeService.class);
+        dateTimeService = mock(DateTimeService.class);
         when(dateTimeService.getCurrentDate()).thenReturn(TODAY);
 
-        taskService = new TaskService(mock(CategoryService.class), googleDriveService, dateTimeService);
+        taskService = new TaskService(mock(CategoryService.class), googleDriveService, dateTimeService, new DomainEventBus());
     }
 
     @AfterEach
     void tearDown() {
         Task.setJdbcTemplate(null);
         TaskReschedule.setJdbcTemplate(null);
+        DailyStats.setJdbcTemplate(null);
+        MaintenanceWatermark.setJdbcTemplate(null);
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
         }
@@ -144,6 +174,38 @@ class TaskServicePersistenceTest {
         assertEquals(TaskStatus.POSTPONED, Task.findById("resume-later").orElseThrow().getStatus());
     }
 
+    @Test
+    void markDelayedTasksSavesEveryOverdueTaskAcrossBatches() {
+        for (int i = 0; i < 1_201; i++) {
+            savedTask("overdue-" + i, TODAY.minusDays(1 + i % 30), TaskStatus.OPEN);
+        }
+
+        assertEquals(1_201, taskService.markDelayedTasks());
+
+        assertEquals(1_201, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tasks WHERE status = 'DELAYED'", Integer.class));
+    }
+
+    @Test
+    void dailyMaintenanceIsSkippedAfterRestartOnTheSameDay() {
+        savedTask("overdue", TODAY.minusDays(2), TaskStatus.OPEN);
+        new Task("recurring-overdue", "Recurring task", "", "Study", new TaskPriority(3),
+                TODAY.minusDays(2), TaskStatus.OPEN, 0, "1:1", TODAY.minusDays(30)).save();
+
+        assertEquals(1, taskService.runDailyMaintenance());
+        assertEquals(TaskStatus.OPEN, Task.findById("recurring-overdue").orElseThrow().getStatus());
+
+        savedTask("late-overdue", TODAY.minusDays(1), TaskStatus.OPEN);
+        TaskService restarted = new TaskService(mock(CategoryService.class), mock(GoogleDriveService.class), dateTimeService,
+                new DomainEventBus());
+        assertEquals(0, restarted.runDailyMaintenance());
+        assertEquals(TaskStatus.OPEN, Task.findById("late-overdue").orElseThrow().getStatus());
+
+        when(dateTimeService.getCurrentDate()).thenReturn(TODAY.plusDays(1));
+        assertEquals(1, restarted.runDailyMaintenance());
+        assertEquals(TaskStatus.DELAYED, Task.findById("late-overdue").orElseThrow().getStatus());
+    }
+
     @Test
     void editingPostponedOrCancelledTaskDoesNotReMarkItDelayed() {
         Task postponed = savedTask("postponed-old", TODAY.minusDays(10), TaskStatus.POSTPONED);
@@ -184,6 +246,98 @@ class TaskServicePersistenceTest {
         assertEquals(TODAY.plusDays(4), latest.get("task-5").getNewDeadline());
     }
 
+    @Test
+    void taskRangeMatchesPerDaySelectionAndIncludesGoalLinkedTasks() {
+        savedTask("due-mid", TODAY.minusDays(2), TaskStatus.OPEN);
+        savedTask("undated", null, TaskStatus.OPEN);
+        savedTask("future-linked", TODAY.plusDays(30), TaskStatus.IN_PROGRESS);
+        savedTask("cancelled", TODAY.minusDays(4), TaskStatus.CANCELLED);
+        LocalDate start = TODAY.minusDays(5);
+        LocalDate end = TODAY.plusDays(1);
+        StudyGoal linked = new StudyGoal("goal-1", TODAY.minusDays(3), "Read ahead", false, null,
+                0, false, 0, "future-linked");
+        StudyGoal missed = new StudyGoal("goal-2", TODAY.minusDays(1), "Missed", false, null,
+                0, false, 0, "future-linked", null, true);
+
+        Map<LocalDate, List<Task>> byDate = taskService.getTasksForDateRange(start, end, List.of(linked, missed));
+
+        assertEquals(7, byDate.size());
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            List<String> ids = byDate.get(date).stream().map(Task::getId).toList();
+            List<String> expected = new java.util.ArrayList<>(taskService.getTasksForDate(date).stream()
+                    .map(Task::getId).toList());
+            if (date.equals(TODAY.minusDays(3))) {
+                expected.add("future-linked");
+            }
+            assertEquals(expected, ids, "tasks for " + date);
+        }
+        assertThrows(ValidationException.class, () -> taskService.getTasksForDateRange(end, start, List.of()));
+    }
+
+    @Test
+    void recurringRangeEvaluationMatchesPerDateRuleChecks() {
+        // Every 2 weeks on Mon and Wed, starting Wed 2026-03-04, ending 2026-04-15.
+        Task biweekly = new Task("biweekly", "Lab report", "", "Study", new TaskPriority(3),
+                LocalDate.of(2026, 4, 15), TaskStatus.OPEN, 0, "2:1,3", LocalDate.of(2026, 3, 4));
+        biweekly.save();
+        Task malformed = new Task("malformed", "Broken", "", "Study", new TaskPriority(3),
+                null, TaskStatus.OPEN, 0, "weekly", null);
+        malformed.save();
+        LocalDate start = LocalDate.of(2026, 3, 1);
+        LocalDate end = LocalDate.of(2026, 4, 30);
+
+        Map<LocalDate, List<Task>> byDate = taskService.getTasksForDateRange(start, end, List.of());
+
+        List<LocalDate> occurrences = byDate.entrySet().stream()
+                .filter(entry -> entry.getValue().stream().anyMatch(task -> task.getId().equals("biweekly")))
+                .map(Map.Entry::getKey)
+                .toList();
+        assertEquals(List.of(LocalDate.of(2026, 3, 4), LocalDate.of(2026, 3, 16), LocalDate.of(2026, 3, 18),
+                LocalDate.of(2026, 3, 30), LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 13),
+                LocalDate.of(2026, 4, 15)), occurrences);
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            Task stored = Task.findById("biweekly").orElseThrow();
+            assertEquals(taskService.taskSurfacesOn(stored, date), occurrences.contains(date), "rule for " + date);
+        }
+        assertTrue(byDate.values().stream().flatMap(List::stream).noneMatch(task -> task.getId().equals("malformed")));
+        assertEquals("Every 2 weeks on Mon, Wed", biweekly.getRecurringSummary());
+        assertEquals("2:1,3", biweekly.copy().getRecurrenceRule().toPattern());
+    }
+
+    @Test
+    void completingTaskCountsTowardsTodaysDailyStats() {
+        Task task = savedTask("done-1", TODAY.plusDays(1), TaskStatus.OPEN);
+
+        taskService.updateTaskStatus(task, TaskStatus.COMPLETED);
+        assertEquals(1, DailyStats.findInRange(TODAY, TODAY).get(TODAY).getTasksCompleted());
+
+        // Re-opening takes it back off today's count.
+        taskService.updateTaskStatus(Task.findById("done-1").orElseThrow(), TaskStatus.OPEN);
+        assertEquals(0, DailyStats.findInRange(TODAY, TODAY).get(TODAY).getTasksCompleted());
+    }
+
+    @Test
+    void taskCacheFollowsServiceMutationsAndReloadsAfterReset() {
+        Task first = savedTask("cached-1", TODAY.plusDays(2), TaskStatus.OPEN);
+        savedTask("cached-2", TODAY.plusDays(3), TaskStatus.OPEN);
+        assertEquals(2, taskService.getTasksByStatus(TaskStatus.OPEN).size());
+
+        taskService.updateTaskStatus(first, TaskStatus.COMPLETED);
+        assertEquals(List.of("cached-2"),
+                taskService.getTasksByStatus(TaskStatus.OPEN).stream().map(Task::getId).toList());
+        assertEquals(1, taskService.countTasksByStatus(TaskStatus.COMPLETED));
+
+        taskService.batchDeleteTasks(List.of("cached-2"));
+        assertTrue(taskService.getTasksByStatus(TaskStatus.OPEN).isEmpty());
+
+        // Writes that bypass the service only show up once the cache is rebuilt.
+        savedTask("external", null, TaskStatus.OPEN);
+        assertTrue(taskService.getTasksByStatus(TaskStatus.OPEN).isEmpty());
+        taskService.resetAfterReload();
+        assertEquals(List.of("external"),
+                taskService.getTasksByStatus(TaskStatus.OPEN).stream().map(Task::getId).toList());
+    }
+
     private Task savedTask(final String id, final LocalDate deadline, final TaskStatus status) {
         Task task = new Task(id, "Task " + id, "", "Study", new TaskPriority(3),
                 deadline, status, 0, "", null);
@@ -0,0 +1,65 @@
+package com.studysync.integration.drive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressedSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void roundTripRestoresTheDatabaseAndRecordsItsChecksum() throws Exception {
+        Path database = tempDir.resolve("studysync.mv.db");
+        byte[] content = sampleDatabase();
+        Files.write(database, content);
+        Path compressed = tempDir.resolve("studysync.mv.db" + CompressedSnapshot.FILE_SUFFIX);
+
+        CompressedSnapshot.compress(database, compressed);
+
+        assertTrue(Files.size(compressed) < content.length);
+        CompressedSnapshot.Trailer trailer = CompressedSnapshot.readTrailer(compressed);
+        assertEquals(content.length, trailer.sizeBytes());
+        assertEquals(PendingDownloadSupport.sha256Hex(database), trailer.sha256());
+
+        ByteArrayOutputStream restored = new ByteArrayOutputStream();
+        assertEquals(trailer, CompressedSnapshot.decompress(Files.newInputStream(compressed), restored));
+        assertArrayEquals(content, restored.toByteArray());
+    }
+
+    @Test
+    void decompressRejectsACorruptedTrailer() throws Exception {
+        Path database = tempDir.resolve("studysync.mv.db");
+        Files.write(database, sampleDatabase());
+        Path compressed = tempDir.resolve("snapshot" + CompressedSnapshot.FILE_SUFFIX);
+        CompressedSnapshot.compress(database, compressed);
+
+        byte[] bytes = Files.readAllBytes(compressed);
+        bytes[bytes.length - 1] ^= 1;
+
+        assertThrows(IOException.class,
+                () -> CompressedSnapshot.decompress(new ByteArrayInputStream(bytes), new ByteArrayOutputStream()));
+    }
+
+    /** Repetitive pages with some noise, roughly like an H2 file. */
+    private static byte[] sampleDatabase() {
+        Random random = new Random(42);
+        byte[] content = new byte[256 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 4096 < 3000 ? i % 61 : random.nextInt(256));
+        }
+        return content;
+    }
+}
@@ -0,0 +1,156 @@
+package com.studysync.integration.drive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs delta sync against an in-memory chunk store.
+ */
+class DeltaSyncTest {
+
+    @TempDir
+    Path tempDir;
+
+    private InMemoryChunkStore store;
+    private byte[] original;
+    private byte[] edited;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryChunkStore();
+        original = new byte[2 * 1024 * 1024];
+        new Random(11).nextBytes(original);
+        // A small insertion shifts every later byte; content-defined boundaries resynchronize after it.
+        edited = new byte[original.length + 100];
+        int at = original.length / 2;
+        System.arraycopy(original, 0, edited, 0, at);
+        for (int i = 0; i < 100; i++) {
+            edited[at + i] = (byte) i;
+        }
+        System.arraycopy(original, at, edited, at + 100, original.length - at);
+    }
+
+    @Test
+    void reuploadAfterASmallEditSendsOnlyTheTouchedChunks() throws Exception {
+        DeltaSyncManifest first = DeltaSync.upload(write("a.mv.db", original), store, DriveUploadProgressListener.NONE);
+        int chunksAfterFirst = store.puts;
+
+        DeltaSyncManifest second = DeltaSync.upload(write("b.mv.db", edited), store, DriveUploadProgressListener.NONE);
+
+        assertEquals(first.chunks().size(), chunksAfterFirst);
+        assertTrue(first.chunks().size() > 10, "2 MiB should split into many chunks");
+        assertTrue(store.puts - chunksAfterFirst <= 2, "only the chunks around the edit are uploaded");
+        assertEquals(edited.length, second.sizeBytes());
+        assertEquals(second, store.manifest);
+    }
+
+    @Test
+    void downloadReusesLocalChunksAndReassemblesTheExactFile() throws Exception {
+        DeltaSync.upload(write("remote.mv.db", edited), store, DriveUploadProgressListener.NONE);
+        Path local = write("local.mv.db", original);
+        Path destination = tempDir.resolve("pending.mv.db.partial");
+
+        DeltaSync.download(store, store.manifest, local, destination);
+
+        assertArrayEquals(edited, Files.readAllBytes(destination));
+        assertTrue(store.gets <= 2, "unchanged chunks come from the local file");
+    }
+
+    @Test
+    void downloadRejectsAChunkThatDoesNotMatchItsHash() throws Exception {
+        DeltaSync.upload(write("remote.mv.db", original), store, DriveUploadProgressListener.NONE);
+        String tampered = store.manifest.chunks().get(3).sha256();
+        store.chunks.get(tampered)[0] ^= 1;
+
+        assertThrows(IOException.class, () -> DeltaSync.download(store, store.manifest,
+                tempDir.resolve("missing.mv.db"), tempDir.resolve("pending.mv.db.partial")));
+    }
+
+    @Test
+    void uploadDeletesOnlyOldChunksNoManifestStillReferences() throws Exception {
+        DeltaSync.upload(write("a.mv.db", original), store, DriveUploadProgressListener.NONE);
+        DeltaSyncManifest previous = store.manifest;
+        store.putChunk("stale", new byte[] {1});
+        store.putChunk("in-flight", new byte[] {2});
+        store.ageAllChunks();
+        store.putChunk("in-flight", new byte[] {2}); // still inside the grace period
+
+        DeltaSync.upload(write("b.mv.db", edited), store, DriveUploadProgressListener.NONE);
+
+        assertFalse(store.chunks.containsKey("stale"));
+        assertTrue(store.chunks.containsKey("in-flight"));
+        previous.chunks().forEach(entry -> assertTrue(store.chunks.containsKey(entry.sha256())));
+    }
+
+    private Path write(String name, byte[] content) throws IOException {
+        Path path = tempDir.resolve(name);
+        Files.write(path, content);
+        return path;
+    }
+
+    private static final class InMemoryChunkStore implements RemoteChunkStore {
+        final Map<String, byte[]> chunks = new HashMap<>();
+        final Map<String, Instant> storedAt = new HashMap<>();
+        DeltaSyncManifest manifest;
+        int puts;
+        int gets;
+
+        void ageAllChunks() {
+            storedAt.replaceAll((name, time) -> time.minus(DeltaSync.ORPHAN_CHUNK_GRACE).minusSeconds(60));
+        }
+
+        @Override
+        public Map<String, Instant> listChunks() {
+            return new HashMap<>(storedAt);
+        }
+
+        @Override
+        public void putChunk(String sha256, byte[] data) {
+            chunks.put(sha256, data.clone());
+            storedAt.put(sha256, Instant.now());
+            puts++;
+        }
+
+        @Override
+        public byte[] getChunk(String sha256) throws IOException {
+            gets++;
+            byte[] data = chunks.get(sha256);
+            if (data == null) {
+                throw new IOException("missing chunk " + sha256);
+            }
+            return data.clone();
+        }
+
+        @Override
+        public void deleteChunk(String sha256) {
+            chunks.remove(sha256);
+            storedAt.remove(sha256);
+        }
+
+        @Override
+        public Optional<DeltaSyncManifest> readManifest() {
+            return Optional.ofNullable(manifest);
+        }
+
+        @Override
+        public void writeManifest(DeltaSyncManifest manifest) {
+            this.manifest = manifest;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.studysync.integration.drive;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DriveAutoSyncSchedulerTest {
+
+    private static final long QUIET_PERIOD_MS = 100;
+
+    private GoogleDriveService driveService;
+    private DriveAutoSyncScheduler scheduler;
+    private final AtomicLong generation = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        driveService = mock(GoogleDriveService.class);
+        when(driveService.isIntegrationEnabled()).thenReturn(true);
+        when(driveService.isSignedIn()).thenReturn(true);
+        when(driveService.checkSyncStatus(true)).thenReturn(GoogleDriveService.SyncStatus.LOCAL_NEWER);
+        when(driveService.getLocalMutationGeneration()).thenAnswer(invocation -> generation.get());
+        scheduler = new DriveAutoSyncScheduler(driveService, QUIET_PERIOD_MS, 400);
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void burstOfEditsIsUploadedOnceAfterTheQuietPeriod() throws Exception {
+        when(driveService.isLocalDbDirty()).thenReturn(true);
+        when(driveService.uploadDatabaseSnapshot()).thenReturn(true);
+
+        for (int i = 0; i < 3; i++) {
+            generation.incrementAndGet();
+            scheduler.onLocalMutation();
+        }
+
+        verify(driveService, timeout(2_000).times(1)).uploadDatabaseSnapshot();
+        Thread.sleep(3 * QUIET_PERIOD_MS);
+        verify(driveService, times(1)).uploadDatabaseSnapshot();
+
+        // Nothing new since that upload: a later wake-up does not upload again
+        scheduler.onLocalMutation();
+        Thread.sleep(3 * QUIET_PERIOD_MS);
+        verify(driveService, times(1)).uploadDatabaseSnapshot();
+    }
+
+    @Test
+    void failedUploadsAreRetriedWithBackoffUntilOneSucceeds() throws Exception {
+        when(driveService.isLocalDbDirty()).thenReturn(true);
+        when(driveService.uploadDatabaseSnapshot()).thenReturn(false, false, true);
+
+        generation.incrementAndGet();
+        scheduler.onLocalMutation();
+
+        verify(driveService, timeout(3_000).times(3)).uploadDatabaseSnapshot();
+        Thread.sleep(5 * QUIET_PERIOD_MS);
+        verify(driveService, times(3)).uploadDatabaseSnapshot();
+        assertEquals(0, scheduler.consecutiveFailures());
+        assertEquals(200, DriveAutoSyncScheduler.backoffDelayMs(QUIET_PERIOD_MS, 1, 400));
+        assertEquals(400, DriveAutoSyncScheduler.backoffDelayMs(QUIET_PERIOD_MS, 5, 400));
+    }
+
+    @Test
+    void conflictingDriveCopyIsNeverOverwritten() throws Exception {
+        when(driveService.isLocalDbDirty()).thenReturn(true);
+        when(driveService.checkSyncStatus(true)).thenReturn(GoogleDriveService.SyncStatus.CONFLICT);
+
+        generation.incrementAndGet();
+        scheduler.onLocalMutation();
+
+        verify(driveService, timeout(2_000)).checkSyncStatus(true);
+        Thread.sleep(2 * QUIET_PERIOD_MS);
+        verify(driveService, never()).uploadDatabaseSnapshot();
+    }
+
+    @Test
+    void uploadWaitsUntilDriveStateCanBeRead() throws Exception {
+        when(driveService.isLocalDbDirty()).thenReturn(true);
+        when(driveService.uploadDatabaseSnapshot()).thenReturn(true);
+        when(driveService.checkSyncStatus(true)).thenReturn(
+                GoogleDriveService.SyncStatus.UNKNOWN, GoogleDriveService.SyncStatus.LOCAL_NEWER);
+
+        generation.incrementAndGet();
+        scheduler.onLocalMutation();
+
+        verify(driveService, timeout(3_000).times(1)).uploadDatabaseSnapshot();
+        Thread.sleep(2 * QUIET_PERIOD_MS);
+        verify(driveService, times(2)).checkSyncStatus(true);
+        assertEquals(0, scheduler.consecutiveFailures());
+    }
+}
@@ -0,0 +1,128 @@
+package com.studysync.integration.drive;
+
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DriveFileIdStoreTest {
+
+    @TempDir
+    Path credentialsDir;
+
+    @Test
+    void idsSurviveARestartForTheSameFolderAndFileName() {
+        DriveFileIdStore store = new DriveFileIdStore(settings("StudySync"));
+        store.rememberFolder("folder-1");
+        store.rememberDatabaseFile("file-1");
+
+        DriveFileIdStore reloaded = new DriveFileIdStore(settings("StudySync"));
+        assertEquals(Optional.of("folder-1"), reloaded.folderId());
+        assertEquals(Optional.of("file-1"), reloaded.databaseFileId());
+
+        DriveFileIdStore otherFolder = new DriveFileIdStore(settings("StudySync-Work"));
+        assertEquals(Optional.empty(), otherFolder.folderId());
+        assertEquals(Optional.empty(), otherFolder.databaseFileId());
+    }
+
+    @Test
+    void newFolderForgetsTheFileAndClearDeletesTheCache() {
+        DriveFileIdStore store = new DriveFileIdStore(settings("StudySync"));
+        store.rememberFolder("folder-1");
+        store.rememberDatabaseFile("file-1");
+
+        store.rememberFolder("folder-2");
+        assertEquals(Optional.empty(), store.databaseFileId());
+
+        assertTrue(store.clear());
+        assertFalse(Files.exists(credentialsDir.resolve(DriveFileIdStore.FILE_NAME)));
+        assertFalse(store.clear());
+    }
+
+    @Test
+    void trashedCachedFolderIsFoundAgainEvenWithoutACachedFileId() throws Exception {
+        new DriveFileIdStore(settings("StudySync")).rememberFolder("trashed-folder");
+        List<String> requests = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String query = String.valueOf(exchange.getRequestURI().getQuery());
+            requests.add(path);
+            if (path.equals("/drive/v3/files/trashed-folder")) {
+                respond(exchange, "{\"id\":\"trashed-folder\",\"trashed\":true}");
+            } else if (query.contains("mimeType='application/vnd.google-apps.folder'")) {
+                respond(exchange, "{\"files\":[{\"id\":\"live-folder\"}]}");
+            } else if (query.contains("name='studysync.mv.db' and 'live-folder' in parents")) {
+                respond(exchange, "{\"files\":[{\"id\":\"file-1\",\"modifiedTime\":\"2026-01-01T00:00:00.000Z\"}]}");
+            } else {
+                respond(exchange, "{\"files\":[]}");
+            }
+        });
+        server.start();
+        try {
+            String localBase = "http://127.0.0.1:" + server.getAddress().getPort();
+            NetHttpTransport transport = new NetHttpTransport.Builder()
+                    .setConnectionFactory(url -> (HttpURLConnection) new URL(
+                            localBase + url.getFile()).openConnection())
+                    .build();
+            GoogleCredentialManager credentialManager = mock(GoogleCredentialManager.class);
+            when(credentialManager.httpTransport()).thenReturn(transport);
+            when(credentialManager.jsonFactory()).thenReturn(GsonFactory.getDefaultInstance());
+            GoogleDriveGateway gateway = new GoogleDriveGateway(settings("StudySync"), credentialManager);
+
+            Optional<Instant> remoteTime = gateway.getRemoteModifiedTime(mock(Credential.class));
+
+            assertEquals(Optional.of(Instant.parse("2026-01-01T00:00:00Z")), remoteTime);
+            DriveFileIdStore reloaded = new DriveFileIdStore(settings("StudySync"));
+            assertEquals(Optional.of("live-folder"), reloaded.folderId());
+            assertEquals(Optional.of("file-1"), reloaded.databaseFileId());
+
+            // The folder found by the search is trusted; the next probe does not check it again.
+            requests.clear();
+            gateway.getRemoteModifiedTime(mock(Credential.class));
+            assertFalse(requests.contains("/drive/v3/files/live-folder"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private GoogleDriveSettings settings(String folderName) {
+        return GoogleDriveSettings.builder(credentialsDir.resolve("studysync.mv.db"), credentialsDir)
+                .enabled(true)
+                .clientId("client-id")
+                .clientSecret("client-secret")
+                .folderName(folderName)
+                .build();
+    }
+}
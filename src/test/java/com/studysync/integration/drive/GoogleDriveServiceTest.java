@@ -1,32 +1,52 @@
 package com.studysync.integration.drive;
 
 import com.google.api.client.auth.oauth2.Credential;
+import com.studysync.bootstrap.PendingDownloadApplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javax.sql.DataSource;
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class GoogleDriveServiceTest {
 
     private GoogleDriveService googleDriveService;
+    private GoogleDriveSettings settings;
+    private GoogleCredentialManager credentialManager;
     private GoogleDriveGateway gateway;
     private DataSource dataSource;
+    private Statement statement;
     private Credential activeCredential;
     private Path localDatabasePath;
 
@@ -35,7 +55,7 @@ class GoogleDriveServiceTest {
         localDatabasePath = Files.createTempDirectory("studysync-drive-test").resolve("studysync.mv.db");
         Files.writeString(localDatabasePath, "initial");
 
-        GoogleDriveSettings settings = new GoogleDriveSettings(
+        settings = new GoogleDriveSettings(
                 true,
                 "client-id",
                 "client-secret",
@@ -45,15 +65,26 @@ class GoogleDriveServiceTest {
                 "studysync.mv.db",
                 localDatabasePath,
                 localDatabasePath.getParent().resolve("credentials"));
-        GoogleCredentialManager credentialManager = mock(GoogleCredentialManager.class);
+        credentialManager = mock(GoogleCredentialManager.class);
         gateway = mock(GoogleDriveGateway.class);
         dataSource = mock(DataSource.class);
         Connection connection = mock(Connection.class);
-        Statement statement = mock(Statement.class);
+        statement = mock(Statement.class);
 
         when(credentialManager.loadStoredCredential()).thenReturn(null);
         when(dataSource.getConnection()).thenReturn(connection);
         when(connection.createStatement()).thenReturn(statement);
+        // Stands in for H2's BACKUP TO: a zip holding the database file as it is now.
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            Path archive = Path.of(sql.substring(sql.indexOf('\'') + 1, sql.lastIndexOf('\'')).replace("''", "'"));
+            try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+                zip.putNextEntry(new ZipEntry(localDatabasePath.getFileName().toString()));
+                Files.copy(localDatabasePath, zip);
+                zip.closeEntry();
+            }
+            return false;
+        }).when(statement).execute(startsWith("BACKUP TO "));
 
         googleDriveService = new GoogleDriveService(settings, credentialManager, gateway, dataSource);
 
@@ -62,14 +93,125 @@ class GoogleDriveServiceTest {
     }
 
     @Test
-    void uploadDatabaseSnapshotAbortsWhenLocalFileStillLooksStale() throws Exception {
-        Files.setLastModifiedTime(localDatabasePath, FileTime.from(Instant.now().minusSeconds(120)));
-        setPrivateField(googleDriveService, "lastLocalMutationAt", System.currentTimeMillis());
+    void uploadDatabaseSnapshotAbortsWhenTheBackupFails() throws Exception {
+        doThrow(new SQLException("disk full")).when(statement).execute(startsWith("BACKUP TO "));
 
         boolean uploaded = googleDriveService.uploadDatabaseSnapshot();
 
         assertEquals(false, uploaded);
-        verify(gateway, never()).uploadDatabaseToDrive(activeCredential);
+        verify(gateway, never()).uploadDatabaseToDrive(any(), any());
+        verify(gateway, never()).uploadDatabaseResumable(any(), any(), any(), any(), any());
+        assertFalse(Files.exists(ResumableUploadSupport.backupArchivePath(localDatabasePath)));
+    }
+
+    @Test
+    void interruptedUploadResumesUntilTheNextLocalMutation() throws Exception {
+        when(gateway.uploadDatabaseResumable(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            Consumer<String> onSessionStarted = invocation.getArgument(3);
+            onSessionStarted.accept("https://upload.example/session-1");
+            return false; // connection dropped mid-upload
+        });
+
+        assertFalse(googleDriveService.uploadDatabaseSnapshot());
+
+        Path snapshotPath = ResumableUploadSupport.uploadSnapshotPath(localDatabasePath);
+        assertEquals("initial", Files.readString(snapshotPath));
+        assertEquals("https://upload.example/session-1",
+                ResumableUploadSupport.readVerifiedSession(localDatabasePath).orElseThrow().sessionUri());
+
+        doReturn(true).when(gateway)
+                .uploadDatabaseResumable(any(), any(), eq("https://upload.example/session-1"), any(), any());
+        assertTrue(googleDriveService.uploadDatabaseSnapshot());
+        verify(statement, times(1)).execute(startsWith("BACKUP TO ")); // the resume re-uses the snapshot
+        verify(statement, never()).execute("CHECKPOINT SYNC"); // uploads never read the live file
+        assertFalse(Files.exists(snapshotPath));
+
+        doAnswer(invocation -> {
+            Consumer<String> onSessionStarted = invocation.getArgument(3);
+            onSessionStarted.accept("https://upload.example/session-2");
+            return false;
+        }).when(gateway).uploadDatabaseResumable(any(), any(), isNull(), any(), any());
+        assertFalse(googleDriveService.uploadDatabaseSnapshot());
+        assertTrue(Files.exists(ResumableUploadSupport.uploadSessionPath(localDatabasePath)));
+
+        googleDriveService.markLocalDbDirty();
+
+        assertFalse(Files.exists(ResumableUploadSupport.uploadSessionPath(localDatabasePath)));
+    }
+
+    @Test
+    void appliedDownloadDiscardsTheInterruptedUploadItReplaced() throws Exception {
+        when(gateway.uploadDatabaseResumable(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            Consumer<String> onSessionStarted = invocation.getArgument(3);
+            onSessionStarted.accept("https://upload.example/session-1");
+            return false;
+        });
+        assertFalse(googleDriveService.uploadDatabaseSnapshot());
+        Path sessionPath = ResumableUploadSupport.uploadSessionPath(localDatabasePath);
+        byte[] sessionMarker = Files.readAllBytes(sessionPath);
+
+        when(gateway.downloadDatabaseToPath(any(), any())).thenAnswer(invocation -> {
+            Path destination = invocation.getArgument(1);
+            Files.writeString(destination, "downloaded-db");
+            return Optional.of(new RemoteDatabaseSnapshot("drive-file", Files.size(destination), 123456789L));
+        });
+        assertTrue(googleDriveService.stageDownloadFromDrive());
+        assertFalse(Files.exists(sessionPath));
+
+        // A marker that outlived staging, e.g. one left by an older build, is dropped on apply too.
+        Files.write(sessionPath, sessionMarker);
+        PendingDownloadApplier.applyIfPresent(localDatabasePath);
+        assertEquals("downloaded-db", Files.readString(localDatabasePath));
+        assertFalse(Files.exists(sessionPath));
+        assertFalse(Files.exists(ResumableUploadSupport.uploadSnapshotPath(localDatabasePath)));
+
+        GoogleDriveService restarted = new GoogleDriveService(settings, credentialManager, gateway, dataSource);
+        setPrivateField(restarted, "activeCredential", activeCredential);
+        doAnswer(invocation -> {
+            Path source = invocation.getArgument(1);
+            assertEquals("downloaded-db", Files.readString(source));
+            return true;
+        }).when(gateway).uploadDatabaseResumable(any(), any(), isNull(), any(), any());
+
+        assertTrue(restarted.uploadDatabaseSnapshot());
+        verify(gateway, never())
+                .uploadDatabaseResumable(any(), any(), eq("https://upload.example/session-1"), any(), any());
+    }
+
+    @Test
+    void accountEmailIsFetchedInTheBackgroundAndIgnoredAfterSignOut() throws Exception {
+        when(gateway.fetchAccountEmail(activeCredential)).thenReturn(Optional.of("student@example.com"));
+
+        assertEquals(Optional.of("student@example.com"), googleDriveService.refreshAccountEmailAsync().get());
+        assertEquals(Optional.of("student@example.com"), googleDriveService.getSignedInAccountEmail());
+
+        setPrivateField(googleDriveService, "cachedAccountEmail", null);
+        Credential staleCredential = activeCredential;
+        when(gateway.fetchAccountEmail(staleCredential)).thenAnswer(invocation -> {
+            setPrivateField(googleDriveService, "activeCredential", null); // signed out mid-fetch
+            return Optional.of("student@example.com");
+        });
+        googleDriveService.refreshAccountEmailAsync().get();
+        assertEquals(Optional.empty(), googleDriveService.getSignedInAccountEmail());
+    }
+
+    @Test
+    void queuedLocalSavesCoalesceIntoOneCheckpointOnFlush() throws Exception {
+        googleDriveService.requestLocalSave("task creation");
+        googleDriveService.requestLocalSave("task update");
+        googleDriveService.requestLocalSave("task deletion");
+
+        assertEquals(3, googleDriveService.getDurabilityStats().pendingRequests());
+        assertTrue(googleDriveService.flushPendingLocalSaves());
+        assertTrue(googleDriveService.flushPendingLocalSaves());
+
+        verify(statement, times(1)).execute("CHECKPOINT SYNC");
+        GoogleDriveService.DurabilityStats stats = googleDriveService.getDurabilityStats();
+        assertEquals(0, stats.pendingRequests());
+        assertEquals(0, googleDriveService.getDurabilityLagMillis());
+        assertEquals(3, stats.satisfiedRequests());
+        assertEquals(1, stats.checkpoints());
+        googleDriveService.shutdownDurabilityWriter();
     }
 
     @Test
@@ -105,6 +247,55 @@ class GoogleDriveServiceTest {
         assertEquals(GoogleDriveService.SyncStatus.CONFLICT, status);
     }
 
+    @Test
+    void syncStatusProbeIsCachedSharedAndInvalidatedByUploads() throws Exception {
+        Instant remoteTime = Instant.now().minusSeconds(600);
+        Files.setLastModifiedTime(localDatabasePath, FileTime.from(Instant.now()));
+        CountDownLatch probeStarted = new CountDownLatch(1);
+        CountDownLatch releaseProbe = new CountDownLatch(1);
+        when(gateway.getRemoteModifiedTime(activeCredential)).thenAnswer(invocation -> {
+            probeStarted.countDown();
+            releaseProbe.await(5, TimeUnit.SECONDS);
+            return Optional.of(remoteTime);
+        });
+
+        CompletableFuture<GoogleDriveService.SyncStatus> first =
+                CompletableFuture.supplyAsync(googleDriveService::checkSyncStatus);
+        assertTrue(probeStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<GoogleDriveService.SyncStatus> second =
+                CompletableFuture.supplyAsync(googleDriveService::checkSyncStatus);
+        releaseProbe.countDown();
+        assertEquals(GoogleDriveService.SyncStatus.LOCAL_NEWER, first.get(5, TimeUnit.SECONDS));
+        assertEquals(GoogleDriveService.SyncStatus.LOCAL_NEWER, second.get(5, TimeUnit.SECONDS));
+        googleDriveService.checkSyncStatus();
+        verify(gateway, times(1)).getRemoteModifiedTime(activeCredential);
+
+        // Local edits are reflected without another probe
+        googleDriveService.markLocalDbDirty();
+        assertEquals(GoogleDriveService.SyncStatus.LOCAL_NEWER, googleDriveService.checkSyncStatus());
+        verify(gateway, times(1)).getRemoteModifiedTime(activeCredential);
+
+        doReturn(true).when(gateway).uploadDatabaseResumable(any(), any(), any(), any(), any());
+        assertTrue(googleDriveService.uploadDatabaseSnapshot());
+        googleDriveService.checkSyncStatus();
+        verify(gateway, times(2)).getRemoteModifiedTime(activeCredential);
+
+        googleDriveService.checkSyncStatus(true);
+        verify(gateway, times(3)).getRemoteModifiedTime(activeCredential);
+    }
+
+    @Test
+    void failedRemoteProbeReportsUnknownAndIsNotCached() throws Exception {
+        Files.setLastModifiedTime(localDatabasePath, FileTime.from(Instant.now()));
+        when(gateway.getRemoteModifiedTime(activeCredential))
+                .thenThrow(new IOException("network unreachable"))
+                .thenReturn(Optional.empty());
+
+        assertEquals(GoogleDriveService.SyncStatus.UNKNOWN, googleDriveService.checkSyncStatus());
+        assertEquals(GoogleDriveService.SyncStatus.UP_TO_DATE, googleDriveService.checkSyncStatus());
+        verify(gateway, times(2)).getRemoteModifiedTime(activeCredential);
+    }
+
     private static void setPrivateField(Object target, String fieldName, Object value) throws Exception {
         Field field = target.getClass().getDeclaredField(fieldName);
         field.setAccessible(true);
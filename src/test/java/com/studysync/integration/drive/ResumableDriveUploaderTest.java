@@ -0,0 +1,214 @@
+package com.studysync.integration.drive;
+
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.drive.model.File;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs the uploader against a local stand-in for the Drive resumable-upload endpoint.
+ */
+class ResumableDriveUploaderTest {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private HttpServer server;
+    private FakeDriveEndpoint endpoint;
+    private String uploadUrl;
+    private Path source;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        endpoint = new FakeDriveEndpoint();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", endpoint::handle);
+        server.start();
+        uploadUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/upload/drive/v3/files";
+
+        content = new byte[3 * CHUNK_SIZE + 100];
+        new Random(7).nextBytes(content);
+        source = Files.createTempFile("studysync-upload", ".mv.db");
+        Files.write(source, content);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.stop(0);
+        Files.deleteIfExists(source);
+    }
+
+    @Test
+    void uploadsInChunksAndReportsProgress() throws Exception {
+        ResumableDriveUploader uploader = uploader();
+        List<Long> progress = new ArrayList<>();
+
+        String sessionUri = uploader.startSession(new File().setName("studysync.mv.db"), null, content.length);
+        File uploaded = uploader.upload(sessionUri, source, (done, total) -> progress.add(done));
+
+        assertEquals("drive-file-1", uploaded.getId());
+        assertArrayEquals(content, endpoint.received.toByteArray());
+        assertEquals(4, endpoint.chunkRequests);
+        assertEquals(List.of(0L, 1024L, 2048L, 3072L, (long) content.length), progress);
+        assertEquals(String.valueOf(content.length), endpoint.declaredLength);
+    }
+
+    @Test
+    void newUploaderContinuesAnInterruptedSessionFromTheAcknowledgedOffset() throws Exception {
+        String sessionUri = uploader().startSession(new File(), "drive-file-1", content.length);
+        endpoint.acceptOnly(2 * CHUNK_SIZE); // the "crash" happens after two chunks
+
+        assertThrows(IOException.class, () -> uploader().upload(sessionUri, source, null));
+        assertEquals(2 * CHUNK_SIZE, endpoint.received.size());
+
+        endpoint.acceptOnly(Integer.MAX_VALUE);
+        endpoint.chunkRequests = 0;
+        File uploaded = uploader().upload(sessionUri, source, null);
+
+        assertEquals("drive-file-1", uploaded.getId());
+        assertEquals("PATCH", endpoint.methodOverride);
+        assertEquals(2, endpoint.chunkRequests);
+        assertArrayEquals(content, endpoint.received.toByteArray());
+    }
+
+    @Test
+    void retriesTransientChunkFailuresInPlace() throws Exception {
+        ResumableDriveUploader uploader = uploader();
+        String sessionUri = uploader.startSession(new File(), null, content.length);
+        endpoint.failNextChunks = 2;
+
+        File uploaded = uploader.upload(sessionUri, source, null);
+
+        assertEquals("drive-file-1", uploaded.getId());
+        assertArrayEquals(content, endpoint.received.toByteArray());
+    }
+
+    @Test
+    void expiredSessionIsReportedSoACallerCanStartOver() throws Exception {
+        ResumableDriveUploader uploader = uploader();
+        String sessionUri = uploader.startSession(new File(), null, content.length);
+        endpoint.expired = true;
+
+        assertThrows(ResumableDriveUploader.SessionExpiredException.class,
+                () -> uploader.upload(sessionUri, source, null));
+    }
+
+    @Test
+    void chunksThatNeverAdvanceTheOffsetFailInsteadOfLoopingForever() throws Exception {
+        ResumableDriveUploader uploader = uploader();
+        String sessionUri = uploader.startSession(new File(), null, content.length);
+
+        endpoint.stuckAt = CHUNK_SIZE;
+        assertThrows(IOException.class, () -> uploader.upload(sessionUri, source, null));
+        assertEquals(1 + 4, endpoint.chunkRequests); // the status query, then one try and three retries
+
+        // Drive claims every byte but never finalizes the file
+        endpoint.stuckAt = content.length;
+        endpoint.chunkRequests = 0;
+        assertThrows(IOException.class, () -> uploader.upload(sessionUri, source, null));
+        assertEquals(1 + 4, endpoint.chunkRequests);
+    }
+
+    private ResumableDriveUploader uploader() {
+        return new ResumableDriveUploader(new NetHttpTransport(), request -> { },
+                GsonFactory.getDefaultInstance(), uploadUrl, CHUNK_SIZE, 0L);
+    }
+
+    /** Minimal in-memory model of one Drive upload session. */
+    private static final class FakeDriveEndpoint {
+        private static final String SESSION_PATH = "/upload/session-1";
+
+        final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        String declaredLength;
+        String methodOverride;
+        int chunkRequests;
+        int failNextChunks;
+        boolean expired;
+        /** When set, every request (status queries too) is answered 308 with this many bytes acknowledged. */
+        long stuckAt = -1;
+        private long acceptLimit = Integer.MAX_VALUE;
+
+        void acceptOnly(long bytes) {
+            acceptLimit = bytes;
+        }
+
+        void handle(HttpExchange exchange) throws IOException {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            String path = exchange.getRequestURI().getPath();
+            if ("POST".equals(exchange.getRequestMethod()) && path.startsWith("/upload/drive/v3/files")) {
+                declaredLength = exchange.getRequestHeaders().getFirst("X-Upload-Content-Length");
+                methodOverride = exchange.getRequestHeaders().getFirst("X-HTTP-Method-Override");
+                String base = "http://" + exchange.getRequestHeaders().getFirst("Host");
+                exchange.getResponseHeaders().add("Location", base + SESSION_PATH);
+                respond(exchange, 200, "{}");
+                return;
+            }
+            if (!"PUT".equals(exchange.getRequestMethod()) || !SESSION_PATH.equals(path) || expired) {
+                respond(exchange, 404, "");
+                return;
+            }
+            String contentRange = exchange.getRequestHeaders().getFirst("Content-Range");
+            long total = Long.parseLong(contentRange.substring(contentRange.indexOf('/') + 1));
+            if (stuckAt >= 0) {
+                chunkRequests++;
+                exchange.getResponseHeaders().add("Range", "bytes=0-" + (stuckAt - 1));
+                respond(exchange, 308, "");
+                return;
+            }
+            if (!contentRange.startsWith("bytes */")) {
+                chunkRequests++;
+                if (failNextChunks > 0) {
+                    failNextChunks--;
+                    respond(exchange, 503, "");
+                    return;
+                }
+                if (received.size() + body.length > acceptLimit) {
+                    respond(exchange, 500, "");
+                    return;
+                }
+                long start = Long.parseLong(contentRange.substring("bytes ".length(), contentRange.indexOf('-')));
+                if (start == received.size()) {
+                    received.write(body);
+                }
+            }
+            if (received.size() == total) {
+                respond(exchange, 200, "{\"id\":\"drive-file-1\"}");
+                return;
+            }
+            if (received.size() > 0) {
+                exchange.getResponseHeaders().add("Range", "bytes=0-" + (received.size() - 1));
+            }
+            respond(exchange, 308, "");
+        }
+
+        private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            if (bytes.length > 0) {
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(bytes);
+                }
+            }
+            exchange.close();
+        }
+    }
+}